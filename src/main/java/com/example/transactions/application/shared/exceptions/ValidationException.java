@@ -1,5 +1,7 @@
 package com.example.transactions.application.shared.exceptions;
 
+import java.util.List;
+
 import com.example.transactions.domain.shared.exceptions.DomainException;
 
 /**
@@ -9,11 +11,34 @@ import com.example.transactions.domain.shared.exceptions.DomainException;
  */
 public class ValidationException extends DomainException {
 
+  private final List<String> violations;
+
   public ValidationException(String message) {
     super("VALIDATION_ERROR", message);
+    this.violations = List.of(message);
   }
 
   public ValidationException(String message, Throwable cause) {
     super("VALIDATION_ERROR", message, cause);
+    this.violations = List.of(message);
+  }
+
+  /**
+   * Creates a ValidationException reporting several violations at once.
+   *
+   * @param violations the violation messages, at least one
+   */
+  public ValidationException(List<String> violations) {
+    super("VALIDATION_ERROR", String.join("; ", violations));
+    this.violations = List.copyOf(violations);
+  }
+
+  /**
+   * Gets every violation this exception reports.
+   *
+   * @return the violation messages
+   */
+  public List<String> getViolations() {
+    return violations;
   }
 }
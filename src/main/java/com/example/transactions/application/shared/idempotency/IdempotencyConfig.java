@@ -0,0 +1,27 @@
+package com.example.transactions.application.shared.idempotency;
+
+import java.time.Duration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/** Configuration of the store that deduplicates requests carrying an Idempotency-Key. */
+@ConfigMapping(prefix = "app.idempotency")
+public interface IdempotencyConfig {
+
+  /**
+   * Maximum number of remembered keys; beyond it the least valuable ones are evicted.
+   *
+   * @return the maximum number of keys
+   */
+  @WithDefault("100000")
+  long maximumSize();
+
+  /**
+   * How long the result of a request is replayed for retries carrying the same key.
+   *
+   * @return the time to live of a completed key
+   */
+  @WithDefault("24h")
+  Duration ttl();
+}
@@ -0,0 +1,122 @@
+package com.example.transactions.application.shared.idempotency;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.smallrye.mutiny.Uni;
+
+import com.example.transactions.application.shared.exceptions.ValidationException;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Remembers the outcome of requests by their Idempotency-Key so that retries are not executed
+ * twice.
+ *
+ * <p>The store is a bounded Caffeine cache of futures keyed by the idempotency key. Caffeine sits
+ * on a ConcurrentHashMap, so requests with different keys never contend on a shared lock. The first
+ * request with a key installs an incomplete future with {@code putIfAbsent} and only then runs its
+ * action, outside any map lock, completing the future when the action ends; a duplicate arriving
+ * while it is in flight receives the same future and waits for it instead of running the action
+ * again; a retry after completion gets the stored result immediately. Keys expire {@link
+ * IdempotencyConfig#ttl()} after they were first used. A failed action is dropped from the cache,
+ * so the client can retry it.
+ *
+ * <p>Each key is bound to a fingerprint of the request that used it first. Reusing a key for a
+ * different request is rejected instead of silently replaying an unrelated result.
+ */
+@ApplicationScoped
+public class IdempotencyStore {
+
+  /** Longest accepted key, enough for a UUID or a client-side composite key. */
+  static final int MAX_KEY_LENGTH = 255;
+
+  private final AsyncCache<String, Outcome> outcomes;
+
+  @Inject
+  public IdempotencyStore(IdempotencyConfig config) {
+    this.outcomes =
+        Caffeine.newBuilder()
+            .maximumSize(config.maximumSize())
+            .expireAfterWrite(config.ttl())
+            .buildAsync();
+  }
+
+  /**
+   * Runs the action once per key and replays its result for every later call with the same key.
+   *
+   * @param key the client-supplied idempotency key
+   * @param fingerprint a value equal for identical requests, compared with equals
+   * @param action the action to run if the key is new
+   * @param <T> the result type
+   * @return the result of the first successful action for this key
+   * @throws ValidationException if the key is blank or too long, or was used for another request
+   */
+  public <T> Uni<T> execute(String key, Object fingerprint, Supplier<Uni<T>> action) {
+    validateKey(key);
+    Objects.requireNonNull(fingerprint, "Fingerprint cannot be null");
+
+    return Uni.createFrom()
+        // copy() so that a cancelled caller does not cancel the future other callers share
+        .completionStage(() -> outcome(key, fingerprint, action).copy())
+        .map(outcome -> outcome.resultFor(key, fingerprint));
+  }
+
+  // Not Cache.get with a mapping function: it runs under the map's bin lock, and with a
+  // non-blocking repository the whole action would complete inside it, stalling every key that
+  // shares the bin
+  private <T> CompletableFuture<Outcome> outcome(
+      String key, Object fingerprint, Supplier<Uni<T>> action) {
+    CompletableFuture<Outcome> installed = new CompletableFuture<>();
+    CompletableFuture<Outcome> existing = outcomes.asMap().putIfAbsent(key, installed);
+    if (existing != null) {
+      return existing;
+    }
+    Uni<T> result;
+    try {
+      result = action.get();
+    } catch (RuntimeException e) {
+      fail(key, installed, e);
+      return installed;
+    }
+    result
+        .subscribe()
+        .with(
+            item -> installed.complete(new Outcome(fingerprint, item)),
+            failure -> fail(key, installed, failure));
+    return installed;
+  }
+
+  // Drops the key before failing its waiters, so a retry runs the action again
+  private void fail(String key, CompletableFuture<Outcome> installed, Throwable failure) {
+    outcomes.asMap().remove(key, installed);
+    installed.completeExceptionally(failure);
+  }
+
+  private static void validateKey(String key) {
+    if (key == null || key.isBlank()) {
+      throw new ValidationException("Idempotency-Key cannot be blank");
+    }
+    if (key.length() > MAX_KEY_LENGTH) {
+      throw new ValidationException(
+          "Idempotency-Key cannot be longer than " + MAX_KEY_LENGTH + " characters");
+    }
+  }
+
+  /** The result of the first request with a key, and that request's fingerprint. */
+  private record Outcome(Object fingerprint, Object result) {
+
+    @SuppressWarnings("unchecked")
+    <T> T resultFor(String key, Object requestFingerprint) {
+      if (!fingerprint.equals(requestFingerprint)) {
+        throw new ValidationException(
+            "Idempotency-Key " + key + " was already used for a different request");
+      }
+      return (T) result;
+    }
+  }
+}
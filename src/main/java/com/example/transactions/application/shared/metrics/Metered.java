@@ -0,0 +1,22 @@
+package com.example.transactions.application.shared.metrics;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * Records the latency of every business method of a use case in a timer.
+ *
+ * <p>A plain CDI interceptor binding, so the application layer does not depend on the metrics
+ * library; the interceptor that does the timing lives in the configuration layer. Methods returning
+ * a {@code Uni} are timed until the {@code Uni} terminates, not just until it is assembled.
+ */
+@InterceptorBinding
+@Retention(RUNTIME)
+@Target({TYPE, METHOD})
+public @interface Metered {}
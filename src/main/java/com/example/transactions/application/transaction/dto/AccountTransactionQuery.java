@@ -0,0 +1,39 @@
+package com.example.transactions.application.transaction.dto;
+
+/**
+ * Query parameters for listing the transactions of one account.
+ *
+ * <p>The history of an account is paged by cursor only: there is no offset and no total, so a page
+ * never costs more than its own rows.
+ *
+ * @param accountNumber the account, as origin or destination of the transactions
+ * @param limit the maximum number of records to return
+ * @param cursor the opaque cursor returned by a previous page, or null
+ */
+public record AccountTransactionQuery(String accountNumber, int limit, String cursor) {
+
+  /**
+   * Creates an AccountTransactionQuery with validation.
+   *
+   * @param accountNumber the account number; checked by the use case
+   * @param limit the maximum number of records to return (positive)
+   * @param cursor the opaque cursor returned by a previous page, or null
+   */
+  public AccountTransactionQuery {
+    if (limit <= 0) {
+      throw new IllegalArgumentException("Limit must be positive");
+    }
+    if (cursor != null && cursor.isBlank()) {
+      cursor = null;
+    }
+  }
+
+  /**
+   * Checks if this query continues a previous page.
+   *
+   * @return true if a cursor is present
+   */
+  public boolean hasCursor() {
+    return cursor != null;
+  }
+}
@@ -0,0 +1,43 @@
+package com.example.transactions.application.transaction.dto;
+
+import java.util.List;
+
+import com.example.transactions.domain.transaction.model.Transaction;
+
+/**
+ * Outcome of one command of a batch creation.
+ *
+ * @param transaction the created transaction, or null if the command was rejected
+ * @param violations the reasons the domain rejected the command, empty if it was created
+ */
+public record BatchItemResult(Transaction transaction, List<String> violations) {
+
+  /**
+   * Creates the result of a command that was created.
+   *
+   * @param transaction the created transaction
+   * @return the item result
+   */
+  public static BatchItemResult created(Transaction transaction) {
+    return new BatchItemResult(transaction, List.of());
+  }
+
+  /**
+   * Creates the result of a command that the domain rejected.
+   *
+   * @param violations the violation messages
+   * @return the item result
+   */
+  public static BatchItemResult rejected(List<String> violations) {
+    return new BatchItemResult(null, violations);
+  }
+
+  /**
+   * Tells whether the command was created.
+   *
+   * @return true if the command was created
+   */
+  public boolean isCreated() {
+    return transaction != null;
+  }
+}
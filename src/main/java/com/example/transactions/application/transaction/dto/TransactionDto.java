@@ -1,7 +1,8 @@
 package com.example.transactions.application.transaction.dto;
 
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.time.Instant;
+
+import com.example.transactions.domain.shared.valueobjects.Money;
 
 /**
  * Data Transfer Object for Transaction information.
@@ -11,12 +12,12 @@ import java.time.LocalDateTime;
  */
 public record TransactionDto(
     String id,
-    BigDecimal amount,
+    Money amount,
     String currency,
     String originAccountNumber,
     String destinationAccountNumber,
     String status,
-    LocalDateTime createdAt) {
+    Instant createdAt) {
 
   /**
    * Creates a builder for TransactionDto.
@@ -30,19 +31,19 @@ public record TransactionDto(
   /** Builder class for TransactionDto. */
   public static class Builder {
     private String id;
-    private BigDecimal amount;
+    private Money amount;
     private String currency;
     private String originAccountNumber;
     private String destinationAccountNumber;
     private String status;
-    private LocalDateTime createdAt;
+    private Instant createdAt;
 
     public Builder id(String id) {
       this.id = id;
       return this;
     }
 
-    public Builder amount(BigDecimal amount) {
+    public Builder amount(Money amount) {
       this.amount = amount;
       return this;
     }
@@ -67,7 +68,7 @@ public record TransactionDto(
       return this;
     }
 
-    public Builder createdAt(LocalDateTime createdAt) {
+    public Builder createdAt(Instant createdAt) {
       this.createdAt = createdAt;
       return this;
     }
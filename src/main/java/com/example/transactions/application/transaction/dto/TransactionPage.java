@@ -0,0 +1,16 @@
+package com.example.transactions.application.transaction.dto;
+
+import java.util.List;
+
+import com.example.transactions.domain.transaction.model.Transaction;
+
+/**
+ * A page of transactions returned by a listing use case.
+ *
+ * @param transactions the transactions in this page
+ * @param hasNext whether more transactions follow this page
+ * @param nextCursor the opaque cursor for the next page, or null if this is the last page
+ * @param total the total number of transactions, or null if it was not requested
+ */
+public record TransactionPage(
+    List<Transaction> transactions, boolean hasNext, String nextCursor, Long total) {}
@@ -1,18 +1,31 @@
 package com.example.transactions.application.transaction.dto;
 
+import com.example.transactions.domain.transaction.model.TransactionFilter;
+
 /**
  * Query parameters for transaction listing operations.
  *
+ * <p>When a cursor is present the listing uses keyset pagination and the offset is ignored. When
+ * the total is not requested, the repository is not asked to count. A filtered listing is paged by
+ * cursor only and never counts, whatever {@code includeTotal} says.
+ *
  * @param offset the number of records to skip
  * @param limit the maximum number of records to return
+ * @param cursor the opaque cursor returned by a previous page, or null
+ * @param includeTotal whether the total number of transactions should be computed
+ * @param filter the criteria transactions must meet, {@link TransactionFilter#none()} for all
  */
-public record TransactionQuery(int offset, int limit) {
+public record TransactionQuery(
+    int offset, int limit, String cursor, boolean includeTotal, TransactionFilter filter) {
 
   /**
    * Creates a TransactionQuery with validation.
    *
    * @param offset the number of records to skip (non-negative)
    * @param limit the maximum number of records to return (positive)
+   * @param cursor the opaque cursor returned by a previous page, or null
+   * @param includeTotal whether the total number of transactions should be computed
+   * @param filter the criteria transactions must meet, or null for none
    */
   public TransactionQuery {
     if (offset < 0) {
@@ -21,6 +34,34 @@ public record TransactionQuery(int offset, int limit) {
     if (limit <= 0) {
       throw new IllegalArgumentException("Limit must be positive");
     }
+    if (cursor != null && cursor.isBlank()) {
+      cursor = null;
+    }
+    if (filter == null) {
+      filter = TransactionFilter.none();
+    }
+  }
+
+  /**
+   * Creates an unfiltered TransactionQuery.
+   *
+   * @param offset the number of records to skip (non-negative)
+   * @param limit the maximum number of records to return (positive)
+   * @param cursor the opaque cursor returned by a previous page, or null
+   * @param includeTotal whether the total number of transactions should be computed
+   */
+  public TransactionQuery(int offset, int limit, String cursor, boolean includeTotal) {
+    this(offset, limit, cursor, includeTotal, TransactionFilter.none());
+  }
+
+  /**
+   * Creates an offset-based TransactionQuery.
+   *
+   * @param offset the number of records to skip (non-negative)
+   * @param limit the maximum number of records to return (positive)
+   */
+  public TransactionQuery(int offset, int limit) {
+    this(offset, limit, null, true);
   }
 
   /**
@@ -41,4 +82,33 @@ public record TransactionQuery(int offset, int limit) {
   public static TransactionQuery withLimit(int limit) {
     return new TransactionQuery(0, limit);
   }
+
+  /**
+   * Creates a keyset query that continues after the given cursor.
+   *
+   * @param cursor the opaque cursor returned by a previous page
+   * @param limit the maximum number of records to return
+   * @return a cursor-based TransactionQuery
+   */
+  public static TransactionQuery afterCursor(String cursor, int limit) {
+    return new TransactionQuery(0, limit, cursor, true);
+  }
+
+  /**
+   * Checks if this query uses keyset pagination.
+   *
+   * @return true if a cursor is present
+   */
+  public boolean hasCursor() {
+    return cursor != null;
+  }
+
+  /**
+   * Checks if this query restricts the transactions listed.
+   *
+   * @return true if the filter has at least one criterion
+   */
+  public boolean hasFilter() {
+    return !filter.isEmpty();
+  }
 }
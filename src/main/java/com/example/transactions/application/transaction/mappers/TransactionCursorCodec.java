@@ -0,0 +1,57 @@
+package com.example.transactions.application.transaction.mappers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.example.transactions.application.shared.exceptions.ValidationException;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionCursor;
+
+/**
+ * Encodes and decodes opaque pagination cursors.
+ *
+ * <p>A cursor is the URL-safe Base64 form of the last transaction's creation timestamp and ID.
+ * Clients must treat it as opaque; the format may change without notice.
+ */
+public final class TransactionCursorCodec {
+
+  private static final char SEPARATOR = '|';
+
+  private TransactionCursorCodec() {
+    // Utility class
+  }
+
+  /**
+   * Encodes a cursor pointing right after the given transaction.
+   *
+   * @param transaction the last transaction of a page
+   * @return the opaque cursor string
+   */
+  public static String encode(Transaction transaction) {
+    String raw = Long.toString(transaction.getCreatedAtMicros()) + SEPARATOR + transaction.getId();
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes an opaque cursor string.
+   *
+   * @param cursor the cursor string received from a client
+   * @return the decoded cursor
+   * @throws ValidationException if the cursor is malformed
+   */
+  public static TransactionCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(SEPARATOR);
+      if (separator <= 0 || separator == raw.length() - 1) {
+        throw new ValidationException("Invalid pagination cursor");
+      }
+      return new TransactionCursor(
+          Long.parseLong(raw, 0, separator, 10), raw.substring(separator + 1));
+    } catch (IllegalArgumentException e) {
+      throw new ValidationException("Invalid pagination cursor", e);
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package com.example.transactions.application.transaction.usecases;
+
+import java.util.stream.Stream;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import com.example.transactions.application.shared.exceptions.ValidationException;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.ports.TransactionRepositoryPort;
+
+/**
+ * Use case for exporting all transactions.
+ *
+ * <p>This class exposes the repository as a lazy stream so callers can write transactions out as
+ * they are read, keeping memory constant regardless of how many transactions exist.
+ */
+@ApplicationScoped
+public class ExportTransactionsUseCase {
+
+  private final TransactionRepositoryPort transactionRepository;
+
+  @Inject
+  public ExportTransactionsUseCase(TransactionRepositoryPort transactionRepository) {
+    this.transactionRepository = transactionRepository;
+  }
+
+  /**
+   * Streams every transaction, newest first. The caller must close the stream.
+   *
+   * @param chunkSize the number of transactions read from the repository at a time
+   * @return a lazy stream of transactions
+   * @throws ValidationException if the chunk size is not positive
+   */
+  public Stream<Transaction> execute(int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new ValidationException("Chunk size must be positive");
+    }
+    return transactionRepository.streamAll(chunkSize);
+  }
+}
@@ -0,0 +1,152 @@
+package com.example.transactions.application.transaction.usecases;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.smallrye.mutiny.Uni;
+
+import com.example.transactions.application.shared.idempotency.IdempotencyStore;
+import com.example.transactions.application.shared.metrics.Metered;
+import com.example.transactions.application.transaction.dto.BatchItemResult;
+import com.example.transactions.application.transaction.dto.CreateTransactionCommand;
+import com.example.transactions.domain.shared.ports.ClockPort;
+import com.example.transactions.domain.shared.ports.IdGeneratorPort;
+import com.example.transactions.domain.shared.valueobjects.Money;
+import com.example.transactions.domain.transaction.exceptions.InvalidTransactionException;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.ports.ReactiveTransactionRepositoryPort;
+
+/**
+ * Non-blocking use case for creating new transactions.
+ *
+ * <p>This class orchestrates the creation of a new transaction by generating an ID, creating the
+ * domain entity, and persisting it through the {@link ReactiveTransactionRepositoryPort}, so the
+ * caller's thread is never blocked. Batches are persisted with a single repository call.
+ *
+ * <p>The account numbers and the amount are checked by the domain when the transaction is built;
+ * an invalid one fails with an {@link InvalidTransactionException} that lists every violation.
+ */
+@Metered
+@ApplicationScoped
+public class ReactiveCreateTransactionUseCase {
+
+  private final ReactiveTransactionRepositoryPort transactionRepository;
+  private final IdGeneratorPort idGenerator;
+  private final IdempotencyStore idempotencyStore;
+  private final ClockPort clock;
+
+  @Inject
+  public ReactiveCreateTransactionUseCase(
+      ReactiveTransactionRepositoryPort transactionRepository,
+      IdGeneratorPort idGenerator,
+      IdempotencyStore idempotencyStore,
+      ClockPort clock) {
+    this.transactionRepository = transactionRepository;
+    this.idGenerator = idGenerator;
+    this.idempotencyStore = idempotencyStore;
+    this.clock = clock;
+  }
+
+  /**
+   * Creates a new transaction with the specified amount and account numbers.
+   *
+   * @param amount the transaction amount and currency
+   * @param originAccountNumber the origin account number
+   * @param destinationAccountNumber the destination account number
+   * @return the created transaction
+   * @throws InvalidTransactionException if the amount or an account number is invalid
+   */
+  public Uni<Transaction> execute(
+      Money amount, String originAccountNumber, String destinationAccountNumber) {
+    Transaction transaction =
+        Transaction.createPending(
+            idGenerator.generateId(),
+            amount,
+            originAccountNumber,
+            destinationAccountNumber,
+            clock.instant());
+
+    return transactionRepository.save(transaction);
+  }
+
+  /**
+   * Creates a new transaction at most once per idempotency key.
+   *
+   * <p>A retry with the same key returns the transaction created by the first request without
+   * touching the repository; a duplicate that arrives while the first request is still running
+   * waits for its result.
+   *
+   * @param idempotencyKey the client-supplied key identifying this creation
+   * @param amount the transaction amount and currency
+   * @param originAccountNumber the origin account number
+   * @param destinationAccountNumber the destination account number
+   * @return the transaction created for this key
+   */
+  public Uni<Transaction> execute(
+      String idempotencyKey,
+      Money amount,
+      String originAccountNumber,
+      String destinationAccountNumber) {
+    CreateTransactionCommand fingerprint =
+        new CreateTransactionCommand(amount, originAccountNumber, destinationAccountNumber);
+    return idempotencyStore.execute(
+        idempotencyKey,
+        fingerprint,
+        () -> execute(amount, originAccountNumber, destinationAccountNumber));
+  }
+
+  /**
+   * Creates a batch of transactions and persists them in one repository operation.
+   *
+   * <p>All transactions in the batch share the same creation timestamp. A command the domain
+   * rejects does not fail the batch; its result carries the violations instead.
+   *
+   * @param commands the creation commands
+   * @return one result per command, in command order
+   */
+  public Uni<List<BatchItemResult>> executeBatch(List<CreateTransactionCommand> commands) {
+    if (commands.isEmpty()) {
+      return Uni.createFrom().item(List.of());
+    }
+    Instant now = clock.instant();
+    List<Transaction> transactions = new ArrayList<>(commands.size());
+    // One entry per command: null once created, the violations once rejected
+    List<List<String>> rejections = new ArrayList<>(commands.size());
+    for (CreateTransactionCommand command : commands) {
+      try {
+        transactions.add(
+            Transaction.createPending(
+                idGenerator.generateId(),
+                command.amount(),
+                command.originAccountNumber(),
+                command.destinationAccountNumber(),
+                now));
+        rejections.add(null);
+      } catch (InvalidTransactionException e) {
+        rejections.add(e.getViolations());
+      }
+    }
+
+    Uni<List<Transaction>> saved =
+        transactions.isEmpty()
+            ? Uni.createFrom().item(List.of())
+            : transactionRepository.saveAll(transactions);
+    return saved.map(
+        created -> {
+          Iterator<Transaction> next = created.iterator();
+          List<BatchItemResult> results = new ArrayList<>(commands.size());
+          for (List<String> violations : rejections) {
+            results.add(
+                violations == null
+                    ? BatchItemResult.created(next.next())
+                    : BatchItemResult.rejected(violations));
+          }
+          return results;
+        });
+  }
+}
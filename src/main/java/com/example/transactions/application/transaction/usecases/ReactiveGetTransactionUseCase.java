@@ -0,0 +1,42 @@
+package com.example.transactions.application.transaction.usecases;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.smallrye.mutiny.Uni;
+
+import com.example.transactions.application.shared.metrics.Metered;
+import com.example.transactions.domain.transaction.exceptions.TransactionNotFoundException;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.ports.ReactiveTransactionRepositoryPort;
+
+/**
+ * Non-blocking use case for retrieving a transaction by its ID.
+ *
+ * <p>A missing transaction fails the returned {@link Uni} with a domain exception.
+ */
+@Metered
+@ApplicationScoped
+public class ReactiveGetTransactionUseCase {
+
+  private final ReactiveTransactionRepositoryPort transactionRepository;
+
+  @Inject
+  public ReactiveGetTransactionUseCase(ReactiveTransactionRepositoryPort transactionRepository) {
+    this.transactionRepository = transactionRepository;
+  }
+
+  /**
+   * Retrieves a transaction by its unique identifier.
+   *
+   * @param transactionId the transaction ID
+   * @return the transaction, or a failure with {@link TransactionNotFoundException}
+   */
+  public Uni<Transaction> execute(String transactionId) {
+    return transactionRepository
+        .findById(transactionId)
+        .map(
+            transaction ->
+                transaction.orElseThrow(() -> new TransactionNotFoundException(transactionId)));
+  }
+}
@@ -0,0 +1,89 @@
+package com.example.transactions.application.transaction.usecases;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.smallrye.mutiny.Uni;
+
+import com.example.transactions.application.shared.metrics.Metered;
+import com.example.transactions.application.transaction.dto.AccountTransactionQuery;
+import com.example.transactions.application.transaction.dto.TransactionPage;
+import com.example.transactions.application.transaction.dto.TransactionQuery;
+import com.example.transactions.domain.transaction.model.TransactionCursor;
+import com.example.transactions.domain.transaction.ports.ReactiveTransactionRepositoryPort;
+
+/**
+ * Non-blocking use case for listing transactions with pagination support.
+ *
+ * <p>If a query carries a cursor, the repository seeks directly after it (keyset pagination);
+ * otherwise the offset is used. In both cases one extra row is fetched to detect whether another
+ * page follows, and the returned cursor lets clients continue with keyset pagination. When the
+ * total is requested it is read together with the page from one repository snapshot; otherwise no
+ * count is performed.
+ *
+ * <p>A filtered query is handed to the repository, which reads its most selective index, and an
+ * account query reads the account's own indexes. Such pages are keyset only and carry no total.
+ */
+@Metered
+@ApplicationScoped
+public class ReactiveListTransactionsUseCase {
+
+  private final ReactiveTransactionRepositoryPort transactionRepository;
+
+  @Inject
+  public ReactiveListTransactionsUseCase(ReactiveTransactionRepositoryPort transactionRepository) {
+    this.transactionRepository = transactionRepository;
+  }
+
+  /**
+   * Lists a page of transactions and computes the cursor for the next page.
+   *
+   * @param query the query parameters including pagination
+   * @return the page of transactions with next-page metadata
+   * @throws com.example.transactions.application.shared.exceptions.ValidationException if the
+   *     cursor is malformed, or an offset is combined with a filter
+   */
+  public Uni<TransactionPage> executePage(TransactionQuery query) {
+    int validatedLimit = TransactionPaging.validateLimit(query.limit());
+    int fetchLimit = validatedLimit + 1;
+    TransactionCursor cursor = TransactionPaging.cursor(query);
+    int validatedOffset = Math.max(0, query.offset());
+
+    if (query.hasFilter()) {
+      TransactionPaging.checkFilteredPaging(query);
+      return transactionRepository
+          .findMatchingAfter(query.filter(), cursor, fetchLimit)
+          .map(fetched -> TransactionPaging.toPage(fetched, validatedLimit, null));
+    }
+    if (query.includeTotal()) {
+      return (cursor != null
+              ? transactionRepository.findAfterWithTotal(cursor, fetchLimit)
+              : transactionRepository.findAllWithTotal(validatedOffset, fetchLimit))
+          .map(
+              slice ->
+                  TransactionPaging.toPage(slice.transactions(), validatedLimit, slice.total()));
+    }
+    return (cursor != null
+            ? transactionRepository.findAfter(cursor, fetchLimit)
+            : transactionRepository.findAll(validatedOffset, fetchLimit))
+        .map(fetched -> TransactionPaging.toPage(fetched, validatedLimit, null));
+  }
+
+  /**
+   * Lists a page of one account's transactions, sent or received, newest first.
+   *
+   * @param query the account, page size and cursor
+   * @return the page of transactions with next-page metadata
+   * @throws com.example.transactions.application.shared.exceptions.ValidationException if the
+   *     account number or the cursor is malformed
+   */
+  public Uni<TransactionPage> executeAccountPage(AccountTransactionQuery query) {
+    int validatedLimit = TransactionPaging.validateLimit(query.limit());
+    return transactionRepository
+        .findByAccountAfter(
+            TransactionPaging.accountNumber(query),
+            TransactionPaging.accountCursor(query),
+            validatedLimit + 1)
+        .map(fetched -> TransactionPaging.toPage(fetched, validatedLimit, null));
+  }
+}
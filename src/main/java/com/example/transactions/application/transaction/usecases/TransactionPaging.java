@@ -0,0 +1,100 @@
+package com.example.transactions.application.transaction.usecases;
+
+import java.util.List;
+
+import com.example.transactions.application.shared.exceptions.ValidationException;
+import com.example.transactions.application.transaction.dto.AccountTransactionQuery;
+import com.example.transactions.application.transaction.dto.TransactionPage;
+import com.example.transactions.application.transaction.dto.TransactionQuery;
+import com.example.transactions.application.transaction.mappers.TransactionCursorCodec;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionCursor;
+import com.example.transactions.domain.transaction.model.TransactionRules;
+import com.example.transactions.domain.transaction.model.TransactionRules.AccountField;
+
+/**
+ * Paging rules of the listing use cases: page size bounds, cursors, and how a result fetched with
+ * one extra row becomes a page with next-page metadata.
+ */
+final class TransactionPaging {
+
+  private TransactionPaging() {}
+
+  /**
+   * Clamps a requested page size to the accepted range.
+   *
+   * @param limit the requested page size
+   * @return the page size to use
+   */
+  static int validateLimit(int limit) {
+    return Math.min(Math.max(1, limit), TransactionRules.MAX_LIMIT);
+  }
+
+  /**
+   * Decodes the cursor of a listing query.
+   *
+   * @param query the listing query
+   * @return the cursor, or null to start from the newest transaction
+   * @throws ValidationException if the cursor is malformed
+   */
+  static TransactionCursor cursor(TransactionQuery query) {
+    return query.hasCursor() ? TransactionCursorCodec.decode(query.cursor()) : null;
+  }
+
+  /**
+   * Decodes the cursor of an account query.
+   *
+   * @param query the account query
+   * @return the cursor, or null to start from the newest transaction
+   * @throws ValidationException if the cursor is malformed
+   */
+  static TransactionCursor accountCursor(AccountTransactionQuery query) {
+    return query.hasCursor() ? TransactionCursorCodec.decode(query.cursor()) : null;
+  }
+
+  /**
+   * Checks and normalizes the account number of a query, as {@link Transaction} stores it.
+   *
+   * @param query the account query
+   * @return the trimmed account number
+   * @throws ValidationException if the account number is malformed
+   */
+  static String accountNumber(AccountTransactionQuery query) {
+    String violation =
+        TransactionRules.checkAccountNumber(query.accountNumber(), AccountField.ACCOUNT);
+    if (violation != null) {
+      throw new ValidationException(violation);
+    }
+    return query.accountNumber().trim();
+  }
+
+  /**
+   * Rejects an offset on a filtered query: skipping rows would cost a scan of every skipped match.
+   *
+   * @param query the filtered query
+   * @throws ValidationException if the query has an offset and no cursor
+   */
+  static void checkFilteredPaging(TransactionQuery query) {
+    if (!query.hasCursor() && query.offset() > 0) {
+      throw new ValidationException(
+          "Filtered listings are paged by cursor; offset is not supported");
+    }
+  }
+
+  /**
+   * Trims a result fetched with one extra row to the page size and derives the next cursor.
+   *
+   * @param fetched the rows fetched with {@code limit + 1}
+   * @param limit the page size
+   * @param total the total count, or null if it was not requested
+   * @return the page with next-page metadata
+   */
+  static TransactionPage toPage(List<Transaction> fetched, int limit, Long total) {
+    boolean hasNext = fetched.size() > limit;
+    List<Transaction> transactions = hasNext ? fetched.subList(0, limit) : fetched;
+    String nextCursor =
+        hasNext ? TransactionCursorCodec.encode(transactions.get(transactions.size() - 1)) : null;
+
+    return new TransactionPage(transactions, hasNext, nextCursor, total);
+  }
+}
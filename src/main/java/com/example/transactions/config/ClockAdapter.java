@@ -0,0 +1,23 @@
+package com.example.transactions.config;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.inject.Qualifier;
+
+/**
+ * Qualifier for concrete {@code ClockPort} adapters.
+ *
+ * <p>Works like {@link RepositoryAdapter}: each clock also declares its lookup condition, and
+ * {@link ClockConfiguration} exposes the one matching {@code app.clock.type} as the default {@code
+ * ClockPort} bean.
+ */
+@Qualifier @Retention(RUNTIME)
+@Target({TYPE, METHOD, FIELD, PARAMETER})
+public @interface ClockAdapter {}
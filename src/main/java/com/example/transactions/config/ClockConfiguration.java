@@ -0,0 +1,24 @@
+package com.example.transactions.config;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Produces;
+
+import com.example.transactions.domain.shared.ports.ClockPort;
+
+/** Selects the clock at runtime, the same way {@link RepositoryConfiguration} does. */
+@ApplicationScoped
+public class ClockConfiguration {
+
+  /**
+   * Produces the clock selected by {@code app.clock.type}.
+   *
+   * @param clocks all clocks whose lookup condition matches the current configuration
+   * @return the active clock
+   */
+  @Produces
+  @ApplicationScoped
+  public ClockPort clock(@ClockAdapter Instance<ClockPort> clocks) {
+    return clocks.get();
+  }
+}
@@ -0,0 +1,128 @@
+package com.example.transactions.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * A pre-serialized JSON error body for one kind of error.
+ *
+ * <p>The fields that never change for the kind, {@code error}, {@code code} and {@code status}, are
+ * serialized once when the template is created. Rendering a response only appends the escaped
+ * message, the violations if any, and the timestamp, and hands the resulting bytes to the server:
+ * no map, no reflection and no Jackson on the error path.
+ */
+final class ErrorResponseTemplate {
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private final Response.Status status;
+  private final String code;
+  private final String head;
+
+  private ErrorResponseTemplate(Response.Status status, String code, String head) {
+    this.status = status;
+    this.code = code;
+    this.head = head;
+  }
+
+  /**
+   * Creates the template of an error kind.
+   *
+   * @param status the HTTP status of the responses
+   * @param error the human-readable error title
+   * @param code the machine-readable error code
+   * @return the template
+   */
+  static ErrorResponseTemplate of(Response.Status status, String error, String code) {
+    StringBuilder head = new StringBuilder(64).append("{\"error\":");
+    appendString(head, error);
+    head.append(",\"code\":");
+    appendString(head, code);
+    head.append(",\"status\":").append(status.getStatusCode()).append(",\"message\":");
+    return new ErrorResponseTemplate(status, code, head.toString());
+  }
+
+  /**
+   * Gets the HTTP status of the responses.
+   *
+   * @return the status
+   */
+  Response.Status status() {
+    return status;
+  }
+
+  /**
+   * Gets the machine-readable error code.
+   *
+   * @return the code
+   */
+  String code() {
+    return code;
+  }
+
+  /**
+   * Renders a response for this kind of error.
+   *
+   * @param message the error message, may be null
+   * @param violations the violation messages, or null to omit the field
+   * @param timestamp the ISO-8601 timestamp of the error
+   * @return the response, with a JSON body
+   */
+  Response render(String message, List<String> violations, String timestamp) {
+    StringBuilder json = new StringBuilder(head.length() + 64 + length(message));
+    json.append(head);
+    appendString(json, message);
+    if (violations != null) {
+      json.append(",\"violations\":[");
+      for (int i = 0; i < violations.size(); i++) {
+        if (i > 0) {
+          json.append(',');
+        }
+        appendString(json, violations.get(i));
+      }
+      json.append(']');
+    }
+    json.append(",\"timestamp\":");
+    appendString(json, timestamp);
+    json.append('}');
+
+    return Response.status(status)
+        .type(MediaType.APPLICATION_JSON_TYPE)
+        .entity(json.toString().getBytes(StandardCharsets.UTF_8))
+        .build();
+  }
+
+  private static int length(String value) {
+    return value == null ? 4 : value.length();
+  }
+
+  // Quotes and escapes a string as RFC 8259 requires; null becomes the JSON null literal
+  private static void appendString(StringBuilder json, String value) {
+    if (value == null) {
+      json.append("null");
+      return;
+    }
+    json.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"' -> json.append("\\\"");
+        case '\\' -> json.append("\\\\");
+        case '\n' -> json.append("\\n");
+        case '\r' -> json.append("\\r");
+        case '\t' -> json.append("\\t");
+        default -> {
+          if (c < 0x20) {
+            json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+          } else {
+            json.append(c);
+          }
+        }
+      }
+    }
+    json.append('"');
+  }
+}
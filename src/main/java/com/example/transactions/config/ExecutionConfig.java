@@ -0,0 +1,17 @@
+package com.example.transactions.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/** Configuration of how request work that blocks is executed. */
+@ConfigMapping(prefix = "app.execution")
+public interface ExecutionConfig {
+
+  /**
+   * Where blocking repository calls run. Non-blocking adapters are always served inline.
+   *
+   * @return the execution mode
+   */
+  @WithDefault("worker")
+  ExecutionMode mode();
+}
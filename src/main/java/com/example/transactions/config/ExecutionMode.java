@@ -0,0 +1,10 @@
+package com.example.transactions.config;
+
+/** Where blocking repository work is executed when a request needs it. */
+public enum ExecutionMode {
+  /** The bounded Quarkus worker pool; its size caps how many blocking calls run at once. */
+  WORKER,
+
+  /** One virtual thread per call; a thread blocked on I/O releases its carrier thread. */
+  VIRTUAL_THREADS
+}
@@ -1,17 +1,25 @@
 package com.example.transactions.config;
 
-import java.time.LocalDateTime;
-import java.util.Map;
+import java.time.Duration;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.ExceptionMapper;
 import jakarta.ws.rs.ext.Provider;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
 import com.example.transactions.application.shared.exceptions.ValidationException;
 import com.example.transactions.domain.shared.exceptions.DomainException;
+import com.example.transactions.domain.shared.ports.ClockPort;
+import com.example.transactions.domain.transaction.exceptions.InvalidTransactionException;
 import com.example.transactions.domain.transaction.exceptions.TransactionNotFoundException;
+import com.example.transactions.infrastructure.jfr.ExceptionMappedEvent;
+import com.example.transactions.presentation.json.IsoInstantFormat;
 
 /**
  * Manejador global de excepciones para el API REST del servicio de transacciones.
@@ -20,6 +28,18 @@ import com.example.transactions.domain.transaction.exceptions.TransactionNotFoun
  * procesamiento de las solicitudes REST, proporcionando respuestas HTTP consistentes y bien
  * estructuradas.
  *
+ * <p>El camino de error está pensado para costar casi lo mismo que una respuesta correcta: las
+ * excepciones de dominio no capturan la traza de pila, cada tipo de error tiene su cuerpo JSON
+ * pre-serializado en un {@link ErrorResponseTemplate} del que solo se completan el mensaje y la
+ * fecha, y el registro en el log está limitado por un {@link RateLimitedLogger}. Los errores del
+ * cliente (4xx) se registran a nivel FINE; los errores internos (5xx), a nivel SEVERE con la traza.
+ *
+ * <p>Cada respuesta incrementa el contador {@code transactions.errors}, etiquetado con el código y
+ * el estado HTTP del error. Los contadores se registran una vez al crear el componente. Mientras
+ * una grabación de Flight Recorder esté activa, cada respuesta emite además un {@link
+ * ExceptionMappedEvent}; sin grabación el evento no cuesta nada. En las solicitudes con {@link
+ * ServerTiming}, el tiempo de la conversión se informa como {@code error}.
+ *
  * @author Sistema de Transacciones BPD
  * @version 1.0
  * @since 2024-09-24
@@ -30,132 +50,131 @@ public class GlobalExceptionMapper implements ExceptionMapper<Throwable> {
 
   private static final Logger logger = Logger.getLogger(GlobalExceptionMapper.class.getName());
 
-  // Constructor para debug
-  public GlobalExceptionMapper() {
-    logger.info("***** GlobalExceptionMapper configurado y registrado *****");
-    System.out.println("***** GlobalExceptionMapper configurado y registrado *****");
+  /** Máximo de registros de log por segundo, para cada una de las dos familias de errores. */
+  static final int MAX_LOGS_PER_SECOND = 10;
+
+  private static final ErrorResponseTemplate NOT_FOUND =
+      ErrorResponseTemplate.of(
+          Response.Status.NOT_FOUND, "Transacción no encontrada", "TRANSACTION_NOT_FOUND");
+  private static final ErrorResponseTemplate VALIDATION_ERROR =
+      ErrorResponseTemplate.of(
+          Response.Status.BAD_REQUEST, "Error de validación", "VALIDATION_ERROR");
+  private static final ErrorResponseTemplate DOMAIN_ERROR =
+      ErrorResponseTemplate.of(Response.Status.BAD_REQUEST, "Error del dominio", "DOMAIN_ERROR");
+  private static final ErrorResponseTemplate BAD_REQUEST =
+      ErrorResponseTemplate.of(Response.Status.BAD_REQUEST, "Solicitud inválida", "BAD_REQUEST");
+  private static final ErrorResponseTemplate INTERNAL_ERROR =
+      ErrorResponseTemplate.of(
+          Response.Status.INTERNAL_SERVER_ERROR,
+          "Error interno del servidor",
+          "INTERNAL_SERVER_ERROR");
+
+  private final RateLimitedLogger clientErrorLog =
+      new RateLimitedLogger(logger, MAX_LOGS_PER_SECOND, Duration.ofSeconds(1));
+  private final RateLimitedLogger serverErrorLog =
+      new RateLimitedLogger(logger, MAX_LOGS_PER_SECOND, Duration.ofSeconds(1));
+
+  private final ClockPort clock;
+  private volatile CachedTimestamp lastTimestamp = new CachedTimestamp(Long.MIN_VALUE, "");
+
+  private final Counter notFoundErrors;
+  private final Counter validationErrors;
+  private final Counter domainErrors;
+  private final Counter badRequestErrors;
+  private final Counter internalErrors;
+
+  @Inject
+  public GlobalExceptionMapper(ClockPort clock, MeterRegistry registry) {
+    this.clock = clock;
+    this.notFoundErrors = errors(registry, NOT_FOUND);
+    this.validationErrors = errors(registry, VALIDATION_ERROR);
+    this.domainErrors = errors(registry, DOMAIN_ERROR);
+    this.badRequestErrors = errors(registry, BAD_REQUEST);
+    this.internalErrors = errors(registry, INTERNAL_ERROR);
   }
 
   @Override
   public Response toResponse(Throwable exception) {
-    logger.info("GlobalExceptionMapper procesando: " + exception.getClass().getSimpleName());
-    System.out.println("GlobalExceptionMapper procesando: " + exception.getClass().getSimpleName());
-
-    // Log de la excepción
-    logger.severe(
-        "Excepción capturada: "
-            + exception.getClass().getSimpleName()
-            + " - "
-            + exception.getMessage());
-
-    // Manejar TransactionNotFoundException específicamente
-    if (exception instanceof TransactionNotFoundException) {
-      return handleTransactionNotFound((TransactionNotFoundException) exception);
+    ServerTiming timing = ServerTiming.current();
+    if (timing == null) {
+      return map(exception);
     }
+    long start = timing.errorMappingStarted();
+    Response response = map(exception);
+    timing.errorMapped(start);
+    return response;
+  }
 
-    // Manejar ValidationException
-    if (exception instanceof ValidationException) {
-      return handleValidationError((ValidationException) exception);
+  private Response map(Throwable exception) {
+    if (exception instanceof TransactionNotFoundException notFound) {
+      mapped(notFoundErrors, exception, NOT_FOUND);
+      clientErrorLog.log(Level.FINE, notFound, false);
+      return NOT_FOUND.render(notFound.getMessage(), null, timestamp());
     }
 
-    // Manejar DomainException
-    if (exception instanceof DomainException) {
-      return handleDomainError((DomainException) exception);
+    if (exception instanceof ValidationException validation) {
+      mapped(validationErrors, exception, VALIDATION_ERROR);
+      clientErrorLog.log(Level.FINE, validation, false);
+      return VALIDATION_ERROR.render(
+          validation.getMessage(), validation.getViolations(), timestamp());
     }
 
-    // Manejar IllegalArgumentException
-    if (exception instanceof IllegalArgumentException) {
-      return handleBadRequest((IllegalArgumentException) exception);
+    if (exception instanceof InvalidTransactionException invalid) {
+      mapped(validationErrors, exception, VALIDATION_ERROR);
+      clientErrorLog.log(Level.FINE, invalid, false);
+      return VALIDATION_ERROR.render(invalid.getMessage(), invalid.getViolations(), timestamp());
     }
 
-    // Cualquier otra excepción
-    return handleGenericError(exception);
-  }
+    if (exception instanceof DomainException domain) {
+      mapped(domainErrors, exception, DOMAIN_ERROR);
+      clientErrorLog.log(Level.FINE, domain, false);
+      return DOMAIN_ERROR.render(domain.getMessage(), null, timestamp());
+    }
 
-  private Response handleTransactionNotFound(TransactionNotFoundException ex) {
-    logger.info("Manejando TransactionNotFoundException: " + ex.getMessage());
-
-    Map<String, Object> errorResponse =
-        Map.of(
-            "error",
-            "Transacción no encontrada",
-            "message",
-            ex.getMessage(),
-            "code",
-            "TRANSACTION_NOT_FOUND",
-            "timestamp",
-            LocalDateTime.now().toString(),
-            "status",
-            404);
-
-    return Response.status(Response.Status.NOT_FOUND).entity(errorResponse).build();
-  }
+    if (exception instanceof IllegalArgumentException badRequest) {
+      mapped(badRequestErrors, exception, BAD_REQUEST);
+      clientErrorLog.log(Level.FINE, badRequest, false);
+      return BAD_REQUEST.render(badRequest.getMessage(), null, timestamp());
+    }
 
-  private Response handleValidationError(ValidationException ex) {
-    Map<String, Object> errorResponse =
-        Map.of(
-            "error",
-            "Error de validación",
-            "message",
-            ex.getMessage(),
-            "code",
-            "VALIDATION_ERROR",
-            "timestamp",
-            LocalDateTime.now().toString(),
-            "status",
-            400);
-
-    return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
+    // Cualquier otra excepción es un fallo del servicio: se registra con su traza
+    mapped(internalErrors, exception, INTERNAL_ERROR);
+    serverErrorLog.log(Level.SEVERE, exception, true);
+    String message = exception.getMessage() != null ? exception.getMessage() : "Error desconocido";
+    return INTERNAL_ERROR.render(message, null, timestamp());
   }
 
-  private Response handleDomainError(DomainException ex) {
-    Map<String, Object> errorResponse =
-        Map.of(
-            "error",
-            "Error del dominio",
-            "message",
-            ex.getMessage(),
-            "code",
-            "DOMAIN_ERROR",
-            "timestamp",
-            LocalDateTime.now().toString(),
-            "status",
-            400);
-
-    return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
+  /**
+   * Fecha y hora actuales en formato ISO-8601 UTC, con precisión de milisegundos.
+   *
+   * <p>Se formatea una vez por milisegundo; las respuestas de error del mismo milisegundo
+   * reutilizan el texto.
+   */
+  private String timestamp() {
+    long millis = Math.floorDiv(clock.currentTimeMicros(), 1000L);
+    CachedTimestamp cached = lastTimestamp;
+    if (cached.millis() != millis) {
+      String text = IsoInstantFormat.format(millis * 1000L);
+      cached = new CachedTimestamp(millis, text);
+      lastTimestamp = cached;
+    }
+    return cached.text();
   }
 
-  private Response handleBadRequest(IllegalArgumentException ex) {
-    Map<String, Object> errorResponse =
-        Map.of(
-            "error",
-            "Solicitud inválida",
-            "message",
-            ex.getMessage(),
-            "code",
-            "BAD_REQUEST",
-            "timestamp",
-            LocalDateTime.now().toString(),
-            "status",
-            400);
-
-    return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
+  // Cuenta la respuesta y, si una grabación de Flight Recorder lo pide, emite su evento
+  private static void mapped(Counter counter, Throwable exception, ErrorResponseTemplate template) {
+    counter.increment();
+    new ExceptionMappedEvent()
+        .complete(exception, template.code(), template.status().getStatusCode());
   }
 
-  private Response handleGenericError(Throwable ex) {
-    Map<String, Object> errorResponse =
-        Map.of(
-            "error",
-            "Error interno del servidor",
-            "message",
-            ex.getMessage() != null ? ex.getMessage() : "Error desconocido",
-            "code",
-            "INTERNAL_SERVER_ERROR",
-            "timestamp",
-            LocalDateTime.now().toString(),
-            "status",
-            500);
-
-    return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(errorResponse).build();
+  private static Counter errors(MeterRegistry registry, ErrorResponseTemplate template) {
+    return Counter.builder("transactions.errors")
+        .description("Respuestas de error del API, por código")
+        .tag("code", template.code())
+        .tag("status", Integer.toString(template.status().getStatusCode()))
+        .register(registry);
   }
+
+  private record CachedTimestamp(long millis, String text) {}
 }
@@ -0,0 +1,23 @@
+package com.example.transactions.config;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.inject.Qualifier;
+
+/**
+ * Qualifier for concrete {@code IdGeneratorPort} adapters.
+ *
+ * <p>Works like {@link RepositoryAdapter}: each generator also declares its lookup condition, and
+ * {@link IdGeneratorConfiguration} exposes the one matching {@code app.id-generator.type} as the
+ * default {@code IdGeneratorPort} bean.
+ */
+@Qualifier @Retention(RUNTIME)
+@Target({TYPE, METHOD, FIELD, PARAMETER})
+public @interface IdGeneratorAdapter {}
@@ -0,0 +1,24 @@
+package com.example.transactions.config;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Produces;
+
+import com.example.transactions.domain.shared.ports.IdGeneratorPort;
+
+/** Selects the ID generator at runtime, the same way {@link RepositoryConfiguration} does. */
+@ApplicationScoped
+public class IdGeneratorConfiguration {
+
+  /**
+   * Produces the ID generator selected by {@code app.id-generator.type}.
+   *
+   * @param generators all generators whose lookup condition matches the current configuration
+   * @return the active ID generator
+   */
+  @Produces
+  @ApplicationScoped
+  public IdGeneratorPort idGenerator(@IdGeneratorAdapter Instance<IdGeneratorPort> generators) {
+    return generators.get();
+  }
+}
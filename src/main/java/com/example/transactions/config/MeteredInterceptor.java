@@ -0,0 +1,136 @@
+package com.example.transactions.config;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.smallrye.mutiny.Uni;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.example.transactions.application.shared.metrics.Metered;
+import com.example.transactions.infrastructure.jfr.UseCaseExecutionEvent;
+
+import jdk.jfr.EventType;
+
+/**
+ * Times the use cases annotated with {@link Metered} into {@code transactions.usecase}, tagged with
+ * the use case, the method and the repository adapter, with a latency histogram. A method that
+ * returns a {@link Uni} is timed from subscription until its item or failure, since the Uni only
+ * describes the work when it is returned; each subscription is timed separately. While a Flight
+ * Recorder recording is running, each execution also emits a {@link UseCaseExecutionEvent}, and for
+ * requests timed by {@link ServerTiming} its duration is reported as {@code usecase}.
+ *
+ * <p>Micrometer's own {@code @Timed} builds its tags and looks the timer up on every call. Here
+ * each method gets its timer the first time it runs and later calls find it with a single map read
+ * keyed by the {@link Method}. The event is created only while a recording enables it: a reactive
+ * execution keeps it in a callback, so the JIT could not remove it the way it removes an unused
+ * event. While no recording runs, timing a call allocates nothing for synchronous methods and, for
+ * reactive ones, the deferred Uni and its callbacks.
+ */
+@Metered
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION)
+public class MeteredInterceptor {
+
+  /** Name of the use case timers. */
+  static final String TIMER_NAME = "transactions.usecase";
+
+  private static final EventType EXECUTION_EVENT =
+      EventType.getEventType(UseCaseExecutionEvent.class);
+
+  private final MeterRegistry registry;
+  private final String adapterType;
+  private final ConcurrentMap<Method, UseCaseMeter> meters = new ConcurrentHashMap<>();
+
+  @Inject
+  public MeteredInterceptor(
+      MeterRegistry registry,
+      @ConfigProperty(name = "app.repository.type", defaultValue = "in-memory")
+          String adapterType) {
+    this.registry = registry;
+    this.adapterType = adapterType;
+  }
+
+  @AroundInvoke
+  Object time(InvocationContext context) throws Exception {
+    UseCaseMeter meter = meter(context.getMethod());
+    UseCaseExecutionEvent event = beginEvent();
+    ServerTiming timing = ServerTiming.current();
+    long start = timing == null ? System.nanoTime() : timing.useCaseEntered();
+    Object result;
+    try {
+      result = context.proceed();
+    } catch (Exception e) {
+      meter.record(start, event, timing, true);
+      throw e;
+    }
+    if (result instanceof Uni<?> uni) {
+      // Building the Uni is not the execution: time each subscription instead
+      return Uni.createFrom().deferred(() -> meter.timed(uni, timing));
+    }
+    meter.record(start, event, timing, false);
+    return result;
+  }
+
+  /** Begins an execution event, or returns null while no recording enables it. */
+  private static UseCaseExecutionEvent beginEvent() {
+    if (!EXECUTION_EVENT.isEnabled()) {
+      return null;
+    }
+    UseCaseExecutionEvent event = new UseCaseExecutionEvent();
+    event.begin();
+    return event;
+  }
+
+  private UseCaseMeter meter(Method method) {
+    UseCaseMeter meter = meters.get(method);
+    return meter != null ? meter : meters.computeIfAbsent(method, this::register);
+  }
+
+  private UseCaseMeter register(Method method) {
+    String useCase = method.getDeclaringClass().getSimpleName();
+    Timer timer =
+        Timer.builder(TIMER_NAME)
+            .description("Latency of the transaction use cases")
+            .tag("usecase", useCase)
+            .tag("method", method.getName())
+            .tag("adapter", adapterType)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofNanos(1_000))
+            .maximumExpectedValue(Duration.ofSeconds(10))
+            .register(registry);
+    return new UseCaseMeter(timer, useCase, method.getName());
+  }
+
+  /** The timer of a use case method, with the names its events carry. */
+  private record UseCaseMeter(Timer timer, String useCase, String method) {
+
+    <T> Uni<T> timed(Uni<T> uni, ServerTiming timing) {
+      UseCaseExecutionEvent event = beginEvent();
+      long start = timing == null ? System.nanoTime() : timing.useCaseEntered();
+      return uni.onItemOrFailure()
+          .invoke((item, failure) -> record(start, event, timing, failure != null));
+    }
+
+    void record(long start, UseCaseExecutionEvent event, ServerTiming timing, boolean failed) {
+      timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      if (event != null) {
+        event.complete(useCase, method, failed);
+      }
+      if (timing != null) {
+        timing.useCaseExited(start);
+      }
+    }
+  }
+}
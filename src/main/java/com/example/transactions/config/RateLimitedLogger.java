@@ -0,0 +1,67 @@
+package com.example.transactions.config;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Logs at most a fixed number of records per time window and drops the rest.
+ *
+ * <p>A burst of failing requests would otherwise spend more time formatting and writing log lines
+ * than serving responses. The first record written after a dropped stretch says how many were
+ * dropped, so the log still shows the volume. The message is only built once a record is allowed
+ * through and the level is enabled.
+ */
+final class RateLimitedLogger {
+
+  private final Logger logger;
+  private final int maxPerWindow;
+  private final long windowNanos;
+
+  private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+  private final AtomicInteger usedInWindow = new AtomicInteger();
+  private final AtomicLong suppressed = new AtomicLong();
+
+  RateLimitedLogger(Logger logger, int maxPerWindow, Duration window) {
+    this.logger = logger;
+    this.maxPerWindow = maxPerWindow;
+    this.windowNanos = window.toNanos();
+  }
+
+  /**
+   * Logs an exception, unless the limit of the current window is reached.
+   *
+   * @param level the level to log at
+   * @param exception the exception to describe
+   * @param withStackTrace whether to attach the exception to the record
+   * @return whether the record was written
+   */
+  boolean log(Level level, Throwable exception, boolean withStackTrace) {
+    if (!logger.isLoggable(level) || !tryAcquire()) {
+      return false;
+    }
+    String message = exception.getClass().getSimpleName() + " - " + exception.getMessage();
+    long dropped = suppressed.getAndSet(0);
+    if (dropped > 0) {
+      message += " (" + dropped + " registros similares omitidos)";
+    }
+    logger.log(level, message, withStackTrace ? exception : null);
+    return true;
+  }
+
+  private boolean tryAcquire() {
+    long now = System.nanoTime();
+    long start = windowStart.get();
+    // Only the thread that wins the compare-and-set opens the new window
+    if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+      usedInWindow.set(0);
+    }
+    if (usedInWindow.incrementAndGet() > maxPerWindow) {
+      suppressed.incrementAndGet();
+      return false;
+    }
+    return true;
+  }
+}
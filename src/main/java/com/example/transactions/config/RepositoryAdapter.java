@@ -0,0 +1,23 @@
+package com.example.transactions.config;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.inject.Qualifier;
+
+/**
+ * Qualifier for concrete {@code TransactionRepositoryPort} adapters.
+ *
+ * <p>Adapters carry this qualifier together with {@code @LookupIfProperty}, so they are never
+ * injected directly. {@link RepositoryConfiguration} looks up the one matching {@code
+ * app.repository.type} and exposes it as the default {@code TransactionRepositoryPort} bean.
+ */
+@Qualifier @Retention(RUNTIME)
+@Target({TYPE, METHOD, FIELD, PARAMETER})
+public @interface RepositoryAdapter {}
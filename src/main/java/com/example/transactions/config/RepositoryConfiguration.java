@@ -0,0 +1,68 @@
+package com.example.transactions.config;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Produces;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.StartupEvent;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.example.transactions.domain.transaction.ports.TransactionRepositoryPort;
+import com.example.transactions.infrastructure.repositories.cache.CacheConfig;
+import com.example.transactions.infrastructure.repositories.cache.CachingTransactionRepositoryAdapter;
+import com.example.transactions.infrastructure.repositories.jfr.FlightRecorderTransactionRepositoryAdapter;
+import com.example.transactions.infrastructure.repositories.metrics.MeteredTransactionRepositoryAdapter;
+
+/**
+ * Selects the repository adapter at runtime.
+ *
+ * <p>{@code @LookupIfProperty} only filters programmatic lookups, so the adapters are qualified
+ * with {@link RepositoryAdapter} and resolved here through {@link Instance}. Use cases keep
+ * injecting a plain {@link TransactionRepositoryPort}.
+ */
+@ApplicationScoped
+public class RepositoryConfiguration {
+
+  /**
+   * Produces the repository adapter selected by {@code app.repository.type}, wrapped in the
+   * read-through cache when {@code app.repository.cache.enabled=true}, and measured by a {@link
+   * MeteredTransactionRepositoryAdapter} and a {@link FlightRecorderTransactionRepositoryAdapter}
+   * on the outside so cache hits are timed and recorded too.
+   *
+   * @param adapters all adapters whose lookup condition matches the current configuration
+   * @param cacheConfig the cache configuration
+   * @param registry the registry the repository metrics are published to
+   * @param adapterType the configured adapter type, used to tag the metrics
+   * @return the active repository adapter
+   */
+  @Produces
+  @ApplicationScoped
+  public TransactionRepositoryPort transactionRepository(
+      @RepositoryAdapter Instance<TransactionRepositoryPort> adapters,
+      CacheConfig cacheConfig,
+      MeterRegistry registry,
+      @ConfigProperty(name = "app.repository.type", defaultValue = "in-memory")
+          String adapterType) {
+    TransactionRepositoryPort adapter = adapters.get();
+    TransactionRepositoryPort repository =
+        cacheConfig.enabled()
+            ? new CachingTransactionRepositoryAdapter(adapter, cacheConfig)
+            : adapter;
+    return new FlightRecorderTransactionRepositoryAdapter(
+        new MeteredTransactionRepositoryAdapter(repository, registry, adapterType), adapterType);
+  }
+
+  /**
+   * Initializes the active adapter at boot, so journal recovery and storage allocation happen
+   * before the first request instead of during it.
+   *
+   * @param event the startup event
+   * @param repository the active repository
+   */
+  void initializeOnStartup(@Observes StartupEvent event, TransactionRepositoryPort repository) {
+    repository.count();
+  }
+}
@@ -0,0 +1,193 @@
+package com.example.transactions.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Time spent by one request in each layer, rendered as a {@code Server-Timing} header.
+ *
+ * <p>{@link ServerTimingFilter} creates an instance for the requests that ask for it and keeps it
+ * in the local data of the request's Vert.x context, where the use case interceptor, the reactive
+ * repository and the exception mapper find it through {@link #current()}. Every repository call
+ * issued while the request is handled counts, on whichever thread it then runs.
+ *
+ * <p>The layers are reported as separate metrics, and they nest: {@code usecase} includes {@code
+ * repo}, and {@code total} includes everything. {@code parse} runs from the request filter to the
+ * first use case or exception mapping, so it covers reading and deserializing the body plus the
+ * validation done in the resource.
+ *
+ * <p>While no timed request is in flight, {@link #current()} returns after one volatile read, so
+ * the instrumented code pays nothing for requests that are not timed. A request leaves the
+ * in-flight count when its exchange ends, from an end handler of its routing context, so requests
+ * whose response filter never runs (a dropped connection, a failure written by the server) are
+ * released too. The fields are written by the stages of one request in sequence, and the reactive
+ * pipeline orders those hand-offs.
+ */
+public final class ServerTiming {
+
+  /** Name of the response header. */
+  public static final String HEADER = "Server-Timing";
+
+  static final String CONTEXT_KEY = ServerTiming.class.getName();
+
+  private static final AtomicInteger IN_FLIGHT = new AtomicInteger();
+
+  private final long requestStart;
+  private long parsedAt;
+  private long useCaseNanos;
+  private long repositoryNanos;
+  private int repositoryCalls;
+  private long errorNanos;
+  private long serializationNanos;
+
+  private ServerTiming(long requestStart) {
+    this.requestStart = requestStart;
+  }
+
+  /**
+   * Starts timing a request, from the calling thread's Vert.x context.
+   *
+   * @param context the duplicated context of the request
+   * @param routingContext the routing context of the request, whose end releases the timing
+   * @return the timing of the request
+   */
+  static ServerTiming start(Context context, RoutingContext routingContext) {
+    ServerTiming timing = new ServerTiming(System.nanoTime());
+    context.putLocal(CONTEXT_KEY, timing);
+    IN_FLIGHT.incrementAndGet();
+    routingContext.addEndHandler(ended -> IN_FLIGHT.decrementAndGet());
+    return timing;
+  }
+
+  /**
+   * Gets the timing of the request handled by the calling thread.
+   *
+   * @return the timing, or null if the request is not timed or the thread handles no request
+   */
+  public static ServerTiming current() {
+    if (IN_FLIGHT.get() == 0) {
+      return null;
+    }
+    Context context = Vertx.currentContext();
+    return context == null ? null : context.getLocal(CONTEXT_KEY);
+  }
+
+  /**
+   * Marks the start of a use case execution.
+   *
+   * @return the start time, to pass to {@link #useCaseExited(long)}
+   */
+  public long useCaseEntered() {
+    long now = System.nanoTime();
+    markParsed(now);
+    return now;
+  }
+
+  /**
+   * Marks the end of a use case execution. Nested executions count once, through the outermost.
+   *
+   * @param start the value returned by {@link #useCaseEntered()}
+   */
+  public void useCaseExited(long start) {
+    useCaseNanos = Math.max(useCaseNanos, System.nanoTime() - start);
+  }
+
+  /**
+   * Adds one repository call.
+   *
+   * @param nanos the duration of the call
+   */
+  public void repositoryCalled(long nanos) {
+    repositoryNanos += nanos;
+    repositoryCalls++;
+  }
+
+  /**
+   * Marks the start of the mapping of an exception into an error response.
+   *
+   * @return the start time, to pass to {@link #errorMapped(long)}
+   */
+  long errorMappingStarted() {
+    long now = System.nanoTime();
+    markParsed(now);
+    return now;
+  }
+
+  /**
+   * Marks the end of the mapping of an exception into an error response.
+   *
+   * @param start the value returned by {@link #errorMappingStarted()}
+   */
+  void errorMapped(long start) {
+    errorNanos += System.nanoTime() - start;
+  }
+
+  /**
+   * Records the serialization of the response body.
+   *
+   * @param nanos the duration of the serialization
+   */
+  void serialized(long nanos) {
+    serializationNanos += nanos;
+  }
+
+  /**
+   * Renders the header value, with the total measured up to now.
+   *
+   * @return the {@code Server-Timing} header value
+   */
+  String finish() {
+    long total = System.nanoTime() - requestStart;
+    StringBuilder header = new StringBuilder(160);
+    if (parsedAt != 0) {
+      append(header, "parse", parsedAt - requestStart, "Deserialization and validation");
+    }
+    if (useCaseNanos != 0) {
+      append(header, "usecase", useCaseNanos, null);
+    }
+    if (repositoryCalls != 0) {
+      append(
+          header,
+          "repo",
+          repositoryNanos,
+          repositoryCalls == 1 ? "1 call" : repositoryCalls + " calls");
+    }
+    if (errorNanos != 0) {
+      append(header, "error", errorNanos, "Exception mapping");
+    }
+    if (serializationNanos != 0) {
+      append(header, "ser", serializationNanos, "Serialization");
+    }
+    append(header, "total", total, null);
+    return header.toString();
+  }
+
+  private void markParsed(long now) {
+    if (parsedAt == 0) {
+      parsedAt = now;
+    }
+  }
+
+  // name;dur=<milliseconds with microsecond precision>[;desc="..."]
+  private static void append(StringBuilder header, String name, long nanos, String description) {
+    if (!header.isEmpty()) {
+      header.append(", ");
+    }
+    long micros = nanos / 1_000;
+    header.append(name).append(";dur=").append(micros / 1_000).append('.');
+    long fraction = micros % 1_000;
+    if (fraction < 100) {
+      header.append('0');
+    }
+    if (fraction < 10) {
+      header.append('0');
+    }
+    header.append(fraction);
+    if (description != null) {
+      header.append(";desc=\"").append(description).append('"');
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package com.example.transactions.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/** Configuration of the {@code Server-Timing} response header. */
+@ConfigMapping(prefix = "app.server-timing")
+public interface ServerTimingConfig {
+
+  /**
+   * Master switch; when off no request is ever timed, whatever it asks for. Off by default: the
+   * header tells any client how the server spends its time.
+   *
+   * @return true if requests may be timed
+   */
+  @WithDefault("false")
+  boolean enabled();
+
+  /**
+   * Request header that asks for the breakdown of that one request, with any value.
+   *
+   * @return the header name
+   */
+  @WithDefault("X-Server-Timing")
+  String requestHeader();
+
+  /**
+   * Fraction of the other requests timed anyway, between 0 (none) and 1 (all).
+   *
+   * @return the sample rate
+   */
+  @WithDefault("0")
+  double sampleRate();
+}
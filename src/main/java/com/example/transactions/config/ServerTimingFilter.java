@@ -0,0 +1,95 @@
+package com.example.transactions.config;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.ext.Provider;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.RoutingContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Adds a {@code Server-Timing} header to the requests that ask for it, or are sampled.
+ *
+ * <p>A request is timed if it carries {@link ServerTimingConfig#requestHeader()} or falls in {@link
+ * ServerTimingConfig#sampleRate()}. For a timed request with a JSON body, the body is serialized
+ * here, while the headers can still be changed, so the header can report the serialization time;
+ * the server then writes the bytes as they are. Other requests go through both filters untouched.
+ */
+@Provider
+@ApplicationScoped
+public class ServerTimingFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+  private final ServerTimingConfig config;
+  private final ObjectMapper objectMapper;
+  // Request-scoped client proxy: resolves to the routing context of the request being filtered
+  private final RoutingContext routingContext;
+
+  @Inject
+  public ServerTimingFilter(
+      ServerTimingConfig config, ObjectMapper objectMapper, RoutingContext routingContext) {
+    this.config = config;
+    this.objectMapper = objectMapper;
+    this.routingContext = routingContext;
+  }
+
+  @Override
+  public void filter(ContainerRequestContext request) {
+    if (!config.enabled() || !(asked(request) || sampled())) {
+      return;
+    }
+    Context context = Vertx.currentContext();
+    if (context != null) {
+      request.setProperty(ServerTiming.CONTEXT_KEY, ServerTiming.start(context, routingContext));
+    }
+  }
+
+  @Override
+  public void filter(ContainerRequestContext request, ContainerResponseContext response)
+      throws IOException {
+    if (!(request.getProperty(ServerTiming.CONTEXT_KEY) instanceof ServerTiming timing)) {
+      return;
+    }
+    Object entity = response.getEntity();
+    MediaType mediaType = response.getMediaType();
+    if (entity != null && serializable(entity, mediaType)) {
+      long start = System.nanoTime();
+      byte[] body = objectMapper.writeValueAsBytes(entity);
+      timing.serialized(System.nanoTime() - start);
+      response.setEntity(
+          body,
+          response.getEntityAnnotations(),
+          mediaType == null ? MediaType.APPLICATION_JSON_TYPE : mediaType);
+    }
+    response.getHeaders().add(ServerTiming.HEADER, timing.finish());
+  }
+
+  private boolean asked(ContainerRequestContext request) {
+    return request.getHeaderString(config.requestHeader()) != null;
+  }
+
+  private boolean sampled() {
+    double rate = config.sampleRate();
+    return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+  }
+
+  // Bodies already in bytes (error responses) or streamed (exports) are left alone; a body without
+  // a media type gets the JSON the resources produce
+  private static boolean serializable(Object entity, MediaType mediaType) {
+    return (mediaType == null || MediaType.APPLICATION_JSON_TYPE.isCompatible(mediaType))
+        && !(entity instanceof byte[])
+        && !(entity instanceof CharSequence)
+        && !(entity instanceof StreamingOutput);
+  }
+}
@@ -0,0 +1,56 @@
+package com.example.transactions.domain.shared.ports;
+
+import java.time.Instant;
+
+/**
+ * Port (interface) for reading the current time.
+ *
+ * <p>The domain counts time in microseconds since the Unix epoch, in UTC: a single {@code long}
+ * that sorts, compares and indexes as a primitive. Implementations are plugged in via the
+ * infrastructure layer, and tests can pass a lambda for a fixed or stepped clock.
+ */
+@FunctionalInterface
+public interface ClockPort {
+
+  /** Microseconds in one second. */
+  long MICROS_PER_SECOND = 1_000_000L;
+
+  /**
+   * Reads the current time.
+   *
+   * @return the microseconds elapsed since 1970-01-01T00:00:00Z
+   */
+  long currentTimeMicros();
+
+  /**
+   * Reads the current time as an instant.
+   *
+   * @return the current instant, with microsecond precision
+   */
+  default Instant instant() {
+    return toInstant(currentTimeMicros());
+  }
+
+  /**
+   * Converts an instant to epoch microseconds, dropping any finer digits.
+   *
+   * @param instant the instant
+   * @return the microseconds elapsed since the epoch, negative before it
+   * @throws ArithmeticException if the instant does not fit in a long of microseconds
+   */
+  static long toMicros(Instant instant) {
+    return Math.addExact(
+        Math.multiplyExact(instant.getEpochSecond(), MICROS_PER_SECOND), instant.getNano() / 1_000);
+  }
+
+  /**
+   * Converts epoch microseconds to an instant.
+   *
+   * @param micros the microseconds elapsed since the epoch
+   * @return the instant
+   */
+  static Instant toInstant(long micros) {
+    return Instant.ofEpochSecond(
+        Math.floorDiv(micros, MICROS_PER_SECOND), Math.floorMod(micros, MICROS_PER_SECOND) * 1_000);
+  }
+}
@@ -0,0 +1,287 @@
+package com.example.transactions.domain.shared.valueobjects;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An immutable amount of money: a currency plus a whole number of its minor units.
+ *
+ * <p>The amount is a {@code long} counted in the smallest unit of the currency (cents for USD, yen
+ * for JPY, fils for BHD), so comparing and adding amounts are primitive operations and a stored
+ * amount costs eight bytes instead of a {@link BigDecimal}. The number of decimal places of each
+ * currency comes from ISO 4217 through {@link Currency}; codes it does not know get {@value
+ * #DEFAULT_FRACTION_DIGITS}.
+ *
+ * <p>Conversion from {@link BigDecimal} is exact: an amount with more decimal places than its
+ * currency allows, or too large for a {@code long} of minor units, is rejected rather than rounded.
+ * Currency codes are normalized to upper case and shared, so the transactions of one currency all
+ * reference the same string.
+ */
+public final class Money implements Comparable<Money> {
+
+  /** Decimal places of a currency code unknown to ISO 4217. */
+  public static final int DEFAULT_FRACTION_DIGITS = 2;
+
+  /** Largest number of digits an amount may have in minor units, so that it fits a long. */
+  public static final int MAX_DIGITS = 18;
+
+  /** Length of an ISO 4217 currency code. */
+  public static final int CURRENCY_LENGTH = 3;
+
+  private static final long[] POWERS_OF_TEN = new long[MAX_DIGITS + 1];
+  private static final String[] PRECISION_MESSAGES = new String[MAX_DIGITS + 1];
+
+  /** Canonical code and decimal places per normalized code: at most 26^3 three-letter entries. */
+  private static final ConcurrentMap<String, CurrencyUnit> UNITS = new ConcurrentHashMap<>();
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 0; i <= MAX_DIGITS; i++) {
+      if (i > 0) {
+        POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+      }
+      PRECISION_MESSAGES[i] =
+          "Amount cannot have more than " + i + " decimal places for its currency";
+    }
+  }
+
+  private final String currency;
+  private final long minorUnits;
+  private final int scale;
+
+  private Money(CurrencyUnit unit, long minorUnits) {
+    this.currency = unit.code();
+    this.minorUnits = minorUnits;
+    this.scale = unit.fractionDigits();
+  }
+
+  /**
+   * Converts a decimal amount exactly.
+   *
+   * @param amount the amount in major units, e.g. {@code 100.50}
+   * @param currency the currency code, in either case
+   * @return the money
+   * @throws IllegalArgumentException if the amount or the currency is invalid, or the amount has
+   *     more decimal places than the currency or too many digits
+   */
+  public static Money of(BigDecimal amount, String currency) {
+    if (amount == null) {
+      throw new IllegalArgumentException("Amount cannot be null");
+    }
+    CurrencyUnit unit = unit(currency);
+    String violation = checkPrecision(amount, unit.fractionDigits());
+    if (violation != null) {
+      throw new IllegalArgumentException(violation);
+    }
+    // Exact: the precision check guarantees no fractional digit is dropped and no overflow
+    return new Money(unit, amount.movePointRight(unit.fractionDigits()).longValue());
+  }
+
+  /**
+   * Creates money from a number of minor units.
+   *
+   * @param minorUnits the amount in minor units, e.g. {@code 10050} for 100.50 USD
+   * @param currency the currency code, in either case
+   * @return the money
+   * @throws IllegalArgumentException if the currency is invalid
+   */
+  public static Money ofMinor(long minorUnits, String currency) {
+    return new Money(unit(currency), minorUnits);
+  }
+
+  /**
+   * Gets the number of decimal places of a currency.
+   *
+   * @param currency a currency code, in either case
+   * @return the ISO 4217 minor unit digits, or {@value #DEFAULT_FRACTION_DIGITS} for unknown codes
+   * @throws IllegalArgumentException if the currency is invalid
+   */
+  public static int fractionDigits(String currency) {
+    return unit(currency).fractionDigits();
+  }
+
+  /**
+   * Checks a currency code: three ASCII letters in either case, surrounding whitespace ignored.
+   *
+   * @param currency the currency code
+   * @return null if valid, otherwise the violation message
+   */
+  public static String checkCurrency(String currency) {
+    if (currency == null) {
+      return "Currency cannot be null or empty";
+    }
+    int start = 0;
+    int end = currency.length();
+    // Same notion of whitespace as String.trim()
+    while (start < end && currency.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && currency.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    if (start == end) {
+      return "Currency cannot be null or empty";
+    }
+    if (end - start != CURRENCY_LENGTH) {
+      return "Currency must be a 3-character code";
+    }
+    for (int i = start; i < end; i++) {
+      char c = currency.charAt(i);
+      if (!((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z'))) {
+        return "Currency can only contain letters";
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Checks that an amount converts exactly to minor units: no more decimal places than the currency
+   * has, trailing zeros aside, and few enough digits for a {@code long}.
+   *
+   * @param amount the amount, not null
+   * @param fractionDigits the decimal places of the currency, from {@link #fractionDigits}
+   * @return null if valid, otherwise the violation message
+   */
+  public static String checkPrecision(BigDecimal amount, int fractionDigits) {
+    // The scale test alone settles the common case without allocating
+    if (amount.scale() > fractionDigits && amount.stripTrailingZeros().scale() > fractionDigits) {
+      return PRECISION_MESSAGES[fractionDigits];
+    }
+    if (amount.precision() - amount.scale() + fractionDigits > MAX_DIGITS) {
+      return "Amount is too large";
+    }
+    return null;
+  }
+
+  /**
+   * Gets the currency code, upper case.
+   *
+   * @return the currency code
+   */
+  public String currency() {
+    return currency;
+  }
+
+  /**
+   * Gets the amount in minor units of the currency.
+   *
+   * @return the amount in minor units
+   */
+  public long minorUnits() {
+    return minorUnits;
+  }
+
+  /**
+   * Gets the number of decimal places of the currency.
+   *
+   * @return the scale of {@link #toBigDecimal()}
+   */
+  public int scale() {
+    return scale;
+  }
+
+  /**
+   * Gets the number of minor units in one major unit of the currency.
+   *
+   * @return 10 to the power of {@link #scale()}, e.g. 100 for USD
+   */
+  public long minorUnitsPerMajorUnit() {
+    return POWERS_OF_TEN[scale];
+  }
+
+  /**
+   * Gets the sign of the amount.
+   *
+   * @return -1, 0 or 1 as the amount is negative, zero or positive
+   */
+  public int signum() {
+    return Long.signum(minorUnits);
+  }
+
+  /**
+   * Adds money of the same currency.
+   *
+   * @param other the money to add
+   * @return the sum
+   * @throws IllegalArgumentException if the currencies differ
+   * @throws ArithmeticException if the sum overflows
+   */
+  public Money plus(Money other) {
+    requireSameCurrency(other);
+    return new Money(UNITS.get(currency), Math.addExact(minorUnits, other.minorUnits));
+  }
+
+  /**
+   * Converts the amount back to major units, with exactly {@link #scale()} decimal places.
+   *
+   * @return the amount as a decimal
+   */
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(minorUnits, scale);
+  }
+
+  /**
+   * Compares two amounts of the same currency.
+   *
+   * @throws IllegalArgumentException if the currencies differ
+   */
+  @Override
+  public int compareTo(Money other) {
+    requireSameCurrency(other);
+    return Long.compare(minorUnits, other.minorUnits);
+  }
+
+  private void requireSameCurrency(Money other) {
+    if (!currency.equals(other.currency)) {
+      throw new IllegalArgumentException(
+          "Currency mismatch: " + currency + " and " + other.currency);
+    }
+  }
+
+  private static CurrencyUnit unit(String currency) {
+    // Canonical codes, the common case, are found without any check or copy
+    CurrencyUnit unit = currency == null ? null : UNITS.get(currency);
+    if (unit != null) {
+      return unit;
+    }
+    String violation = checkCurrency(currency);
+    if (violation != null) {
+      throw new IllegalArgumentException(violation);
+    }
+    return UNITS.computeIfAbsent(currency.trim().toUpperCase(Locale.ROOT), Money::lookUp);
+  }
+
+  private static CurrencyUnit lookUp(String code) {
+    try {
+      Currency iso = Currency.getInstance(code);
+      int digits = iso.getDefaultFractionDigits();
+      // Pseudo-currencies such as XAU have no minor unit
+      return new CurrencyUnit(code, digits < 0 ? DEFAULT_FRACTION_DIGITS : digits);
+    } catch (IllegalArgumentException e) {
+      return new CurrencyUnit(code, DEFAULT_FRACTION_DIGITS);
+    }
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) return true;
+    if (!(obj instanceof Money that)) return false;
+    return minorUnits == that.minorUnits && currency.equals(that.currency);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(currency, minorUnits);
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString() + " " + currency;
+  }
+
+  private record CurrencyUnit(String code, int fractionDigits) {}
+}
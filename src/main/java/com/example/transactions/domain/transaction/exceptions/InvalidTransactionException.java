@@ -0,0 +1,33 @@
+package com.example.transactions.domain.transaction.exceptions;
+
+import java.util.List;
+
+/**
+ * Exception thrown when the fields of a new transaction break its invariants.
+ *
+ * <p>It reports every invalid field at once, so the API can return them all to the client. It is
+ * an {@link IllegalArgumentException}, like the other argument checks of the domain model.
+ */
+public class InvalidTransactionException extends IllegalArgumentException {
+
+  private final List<String> violations;
+
+  /**
+   * Creates an InvalidTransactionException.
+   *
+   * @param violations the violation messages, at least one
+   */
+  public InvalidTransactionException(List<String> violations) {
+    super(String.join("; ", violations));
+    this.violations = List.copyOf(violations);
+  }
+
+  /**
+   * Gets every violation this exception reports.
+   *
+   * @return the violation messages, in field order
+   */
+  public List<String> getViolations() {
+    return violations;
+  }
+}
@@ -1,77 +1,100 @@
 package com.example.transactions.domain.transaction.model;
 
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 
+import com.example.transactions.domain.shared.ports.ClockPort;
+import com.example.transactions.domain.shared.valueobjects.Money;
+import com.example.transactions.domain.transaction.exceptions.InvalidTransactionException;
+
 /**
  * Transaction aggregate root representing a financial transaction.
  *
  * <p>This is a pure domain entity with no framework dependencies, following Domain-Driven Design
- * principles.
+ * principles. Its fields are checked by {@link TransactionRules}. The amount is held as a {@code
+ * long} of minor units next to the shared currency code, see {@link Money}, and the creation time
+ * as a {@code long} of epoch microseconds, see {@link ClockPort}.
  */
 public class Transaction {
 
   private final String id;
-  private final BigDecimal amount;
   private final String currency;
+  private final long amountMinorUnits;
   private final String originAccountNumber;
   private final String destinationAccountNumber;
   private final TransactionStatus status;
-  private final LocalDateTime createdAt;
+  private final long createdAtMicros;
 
   /**
    * Creates a new Transaction.
    *
    * @param id the unique transaction identifier
-   * @param amount the transaction amount (must be positive)
-   * @param currency the currency code (e.g., "USD", "EUR")
+   * @param amount the transaction amount and currency (must be positive)
    * @param originAccountNumber the origin account number
    * @param destinationAccountNumber the destination account number
    * @param status the current transaction status
-   * @param createdAt the transaction creation timestamp
-   * @throws IllegalArgumentException if any parameter is invalid
+   * @param createdAt the transaction creation timestamp, kept to the microsecond
+   * @throws InvalidTransactionException if the amount or an account number is invalid, reporting
+   *     every invalid one
+   * @throws IllegalArgumentException if the ID is invalid
+   * @throws NullPointerException if the status or the creation timestamp is null
    */
   public Transaction(
       String id,
-      BigDecimal amount,
-      String currency,
+      Money amount,
       String originAccountNumber,
       String destinationAccountNumber,
       TransactionStatus status,
-      LocalDateTime createdAt) {
+      Instant createdAt) {
     this.id = validateId(id);
-    this.amount = validateAmount(amount);
-    this.currency = validateCurrency(currency);
-    this.originAccountNumber = validateAccountNumber(originAccountNumber, "Origin account number");
-    this.destinationAccountNumber =
-        validateAccountNumber(destinationAccountNumber, "Destination account number");
+    List<String> violations =
+        TransactionRules.validate(amount, originAccountNumber, destinationAccountNumber);
+    if (!violations.isEmpty()) {
+      throw new InvalidTransactionException(violations);
+    }
+    // The amount is kept as primitives: no Money object is retained per transaction
+    this.currency = amount.currency();
+    this.amountMinorUnits = amount.minorUnits();
+    // trim() returns the same instance when there is nothing to strip
+    this.originAccountNumber = originAccountNumber.trim();
+    this.destinationAccountNumber = destinationAccountNumber.trim();
     this.status = Objects.requireNonNull(status, "Status cannot be null");
-    this.createdAt = Objects.requireNonNull(createdAt, "CreatedAt cannot be null");
+    this.createdAtMicros =
+        ClockPort.toMicros(Objects.requireNonNull(createdAt, "CreatedAt cannot be null"));
+  }
+
+  /** Copies an already validated transaction with another status. */
+  private Transaction(Transaction source, TransactionStatus status) {
+    this.id = source.id;
+    this.currency = source.currency;
+    this.amountMinorUnits = source.amountMinorUnits;
+    this.originAccountNumber = source.originAccountNumber;
+    this.destinationAccountNumber = source.destinationAccountNumber;
+    this.status = status;
+    this.createdAtMicros = source.createdAtMicros;
   }
 
   /**
    * Factory method to create a new pending transaction.
    *
    * @param id the transaction ID
-   * @param amount the transaction amount
-   * @param currency the currency code
+   * @param amount the transaction amount and currency
    * @param originAccountNumber the origin account number
    * @param destinationAccountNumber the destination account number
    * @param createdAt the creation timestamp
    * @return a new pending transaction
+   * @throws InvalidTransactionException if the amount or an account number is invalid
    */
   public static Transaction createPending(
       String id,
-      BigDecimal amount,
-      String currency,
+      Money amount,
       String originAccountNumber,
       String destinationAccountNumber,
-      LocalDateTime createdAt) {
+      Instant createdAt) {
     return new Transaction(
         id,
         amount,
-        currency,
         originAccountNumber,
         destinationAccountNumber,
         TransactionStatus.PENDING,
@@ -87,14 +110,7 @@ public class Transaction {
     if (status == TransactionStatus.COMPLETED) {
       return this;
     }
-    return new Transaction(
-        id,
-        amount,
-        currency,
-        originAccountNumber,
-        destinationAccountNumber,
-        TransactionStatus.COMPLETED,
-        createdAt);
+    return new Transaction(this, TransactionStatus.COMPLETED);
   }
 
   /**
@@ -106,14 +122,7 @@ public class Transaction {
     if (status == TransactionStatus.FAILED) {
       return this;
     }
-    return new Transaction(
-        id,
-        amount,
-        currency,
-        originAccountNumber,
-        destinationAccountNumber,
-        TransactionStatus.FAILED,
-        createdAt);
+    return new Transaction(this, TransactionStatus.FAILED);
   }
 
   /**
@@ -129,8 +138,17 @@ public class Transaction {
     return id;
   }
 
-  public BigDecimal getAmount() {
-    return amount;
+  public Money getAmount() {
+    return Money.ofMinor(amountMinorUnits, currency);
+  }
+
+  /**
+   * Gets the amount in minor units of the currency, without creating a {@link Money}.
+   *
+   * @return the amount in minor units
+   */
+  public long getAmountMinorUnits() {
+    return amountMinorUnits;
   }
 
   public String getCurrency() {
@@ -149,52 +167,28 @@ public class Transaction {
     return status;
   }
 
-  public LocalDateTime getCreatedAt() {
-    return createdAt;
+  public Instant getCreatedAt() {
+    return ClockPort.toInstant(createdAtMicros);
   }
 
-  private String validateId(String id) {
-    if (id == null || id.trim().isEmpty()) {
-      throw new IllegalArgumentException("Transaction ID cannot be null or empty");
-    }
-    return id.trim();
-  }
-
-  private BigDecimal validateAmount(BigDecimal amount) {
-    if (amount == null) {
-      throw new IllegalArgumentException("Amount cannot be null");
-    }
-    if (amount.compareTo(BigDecimal.ZERO) <= 0) {
-      throw new IllegalArgumentException("Amount must be positive");
-    }
-    return amount;
+  /**
+   * Gets the creation time as epoch microseconds, the key transactions are sorted and indexed by.
+   *
+   * @return the microseconds elapsed since the epoch
+   */
+  public long getCreatedAtMicros() {
+    return createdAtMicros;
   }
 
-  private String validateCurrency(String currency) {
-    if (currency == null || currency.trim().isEmpty()) {
-      throw new IllegalArgumentException("Currency cannot be null or empty");
-    }
-    String trimmedCurrency = currency.trim().toUpperCase();
-    if (trimmedCurrency.length() != 3) {
-      throw new IllegalArgumentException("Currency must be a 3-character code");
-    }
-    return trimmedCurrency;
+  private String validateId(String id) {
+    return require(TransactionRules.checkId(id), id).trim();
   }
 
-  private String validateAccountNumber(String accountNumber, String fieldName) {
-    if (accountNumber == null || accountNumber.trim().isEmpty()) {
-      throw new IllegalArgumentException(fieldName + " cannot be null or empty");
-    }
-    String trimmedAccount = accountNumber.trim();
-    if (trimmedAccount.length() < 8 || trimmedAccount.length() > 20) {
-      throw new IllegalArgumentException(fieldName + " must be between 8 and 20 characters");
+  private static <T> T require(String violation, T value) {
+    if (violation != null) {
+      throw new IllegalArgumentException(violation);
     }
-    // Basic validation: only alphanumeric characters and hyphens
-    if (!trimmedAccount.matches("^[A-Za-z0-9-]+$")) {
-      throw new IllegalArgumentException(
-          fieldName + " can only contain letters, numbers, and hyphens");
-    }
-    return trimmedAccount;
+    return value;
   }
 
   @Override
@@ -217,10 +211,7 @@ public class Transaction {
         + id
         + '\''
         + ", amount="
-        + amount
-        + ", currency='"
-        + currency
-        + '\''
+        + getAmount()
         + ", originAccountNumber='"
         + originAccountNumber
         + '\''
@@ -230,7 +221,7 @@ public class Transaction {
         + ", status="
         + status
         + ", createdAt="
-        + createdAt
+        + getCreatedAt()
         + '}';
   }
 }
@@ -0,0 +1,50 @@
+package com.example.transactions.domain.transaction.model;
+
+import java.util.Objects;
+
+/**
+ * Position in the transaction listing order (creation date descending, then ID descending).
+ *
+ * <p>A cursor identifies the last transaction of a page; the next page starts strictly after it.
+ * Because the position is a key rather than a row count, pages stay stable while new transactions
+ * are inserted and page N costs the same as page 1.
+ *
+ * @param createdAtMicros the creation time of the last transaction seen, in epoch microseconds
+ * @param id the ID of the last transaction seen
+ */
+public record TransactionCursor(long createdAtMicros, String id) {
+
+  /**
+   * Creates a TransactionCursor with validation.
+   *
+   * @param createdAtMicros the creation time, in epoch microseconds
+   * @param id the transaction ID (not null)
+   */
+  public TransactionCursor {
+    Objects.requireNonNull(id, "ID cannot be null");
+  }
+
+  /**
+   * Creates a cursor positioned at the given transaction.
+   *
+   * @param transaction the last transaction of a page
+   * @return a cursor pointing right after the transaction
+   */
+  public static TransactionCursor after(Transaction transaction) {
+    return new TransactionCursor(transaction.getCreatedAtMicros(), transaction.getId());
+  }
+
+  /**
+   * Checks whether a transaction sorts strictly after this cursor in listing order.
+   *
+   * @param transaction the transaction to compare
+   * @return true if the transaction belongs to a later page
+   */
+  public boolean precedes(Transaction transaction) {
+    long createdAt = transaction.getCreatedAtMicros();
+    if (createdAt != createdAtMicros) {
+      return createdAt < createdAtMicros;
+    }
+    return transaction.getId().compareTo(id) < 0;
+  }
+}
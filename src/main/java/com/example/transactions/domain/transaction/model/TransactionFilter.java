@@ -0,0 +1,220 @@
+package com.example.transactions.domain.transaction.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.example.transactions.domain.shared.ports.ClockPort;
+import com.example.transactions.domain.shared.valueobjects.Money;
+
+/**
+ * Criteria that listed transactions must meet; a criterion left unset matches every transaction.
+ *
+ * <p>Bounds are inclusive. Amount bounds are minor units of {@link #currency()} and require it,
+ * since amounts in different currencies cannot be compared. Unbounded ends are {@link
+ * Long#MIN_VALUE} and {@link Long#MAX_VALUE}, so {@link #matches(Transaction)} is a few primitive
+ * comparisons.
+ *
+ * @param statuses the accepted statuses, empty for any status
+ * @param currency the canonical currency code, or null for any currency
+ * @param minAmountMinor the smallest amount in minor units
+ * @param maxAmountMinor the largest amount in minor units
+ * @param createdFromMicros the earliest creation time, in epoch microseconds
+ * @param createdToMicros the latest creation time, in epoch microseconds
+ */
+public record TransactionFilter(
+    Set<TransactionStatus> statuses,
+    String currency,
+    long minAmountMinor,
+    long maxAmountMinor,
+    long createdFromMicros,
+    long createdToMicros) {
+
+  private static final TransactionFilter NONE =
+      new TransactionFilter(
+          Set.of(), null, Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE);
+
+  /**
+   * Creates a TransactionFilter with validation.
+   *
+   * @throws IllegalArgumentException if the currency is invalid, an amount bound is set without a
+   *     currency, or a range is empty
+   */
+  public TransactionFilter {
+    statuses =
+        statuses == null || statuses.isEmpty()
+            ? Set.of()
+            : Collections.unmodifiableSet(EnumSet.copyOf(statuses));
+    if (currency != null) {
+      currency = Money.ofMinor(0, currency).currency();
+    } else if (minAmountMinor != Long.MIN_VALUE || maxAmountMinor != Long.MAX_VALUE) {
+      throw new IllegalArgumentException("Amount range requires a currency");
+    }
+    if (minAmountMinor > maxAmountMinor) {
+      throw new IllegalArgumentException("Minimum amount cannot be greater than maximum amount");
+    }
+    if (createdFromMicros > createdToMicros) {
+      throw new IllegalArgumentException("Creation range cannot start after it ends");
+    }
+  }
+
+  /**
+   * Gets the filter that matches every transaction.
+   *
+   * @return the empty filter
+   */
+  public static TransactionFilter none() {
+    return NONE;
+  }
+
+  /**
+   * Creates a builder for TransactionFilter.
+   *
+   * @return a new builder instance
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Checks whether no criterion is set.
+   *
+   * @return true if every transaction matches
+   */
+  public boolean isEmpty() {
+    return statuses.isEmpty() && currency == null && !hasCreatedRange();
+  }
+
+  /**
+   * Checks whether an amount bound is set.
+   *
+   * @return true if the amount is bounded on either side
+   */
+  public boolean hasAmountRange() {
+    return minAmountMinor != Long.MIN_VALUE || maxAmountMinor != Long.MAX_VALUE;
+  }
+
+  /**
+   * Checks whether a creation time bound is set.
+   *
+   * @return true if the creation time is bounded on either side
+   */
+  public boolean hasCreatedRange() {
+    return createdFromMicros != Long.MIN_VALUE || createdToMicros != Long.MAX_VALUE;
+  }
+
+  /**
+   * Gets the position a scan in listing order should start after: the later of a cursor and the end
+   * of the creation range.
+   *
+   * @param cursor the position of the previous page, or null
+   * @return the position to seek to, or null to start from the newest transaction
+   */
+  public TransactionCursor seekFrom(TransactionCursor cursor) {
+    if (createdToMicros == Long.MAX_VALUE
+        || (cursor != null && cursor.createdAtMicros() <= createdToMicros)) {
+      return cursor;
+    }
+    // No ID sorts before "", so this precedes exactly the transactions created up to the bound
+    return new TransactionCursor(createdToMicros + 1, "");
+  }
+
+  /**
+   * Checks whether a transaction is older than the creation range, so that no transaction after it
+   * in listing order can match.
+   *
+   * @param transaction the transaction reached by a scan
+   * @return true if the scan can stop
+   */
+  public boolean endsScan(Transaction transaction) {
+    return transaction.getCreatedAtMicros() < createdFromMicros;
+  }
+
+  /**
+   * Checks a transaction against every criterion.
+   *
+   * @param transaction the transaction to test
+   * @return true if the transaction meets the filter
+   */
+  public boolean matches(Transaction transaction) {
+    long createdAt = transaction.getCreatedAtMicros();
+    if (createdAt < createdFromMicros || createdAt > createdToMicros) {
+      return false;
+    }
+    if (!statuses.isEmpty() && !statuses.contains(transaction.getStatus())) {
+      return false;
+    }
+    if (currency == null) {
+      return true;
+    }
+    // Codes are canonical and shared, so reference equality settles the common case
+    String actual = transaction.getCurrency();
+    if (actual != currency && !actual.equals(currency)) {
+      return false;
+    }
+    long amount = transaction.getAmountMinorUnits();
+    return amount >= minAmountMinor && amount <= maxAmountMinor;
+  }
+
+  /** Builder class for TransactionFilter, taking amounts and times as clients express them. */
+  public static class Builder {
+    private Collection<TransactionStatus> statuses;
+    private String currency;
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+    private Instant createdFrom;
+    private Instant createdTo;
+
+    public Builder statuses(Collection<TransactionStatus> statuses) {
+      this.statuses = statuses;
+      return this;
+    }
+
+    public Builder currency(String currency) {
+      this.currency = currency;
+      return this;
+    }
+
+    public Builder minAmount(BigDecimal minAmount) {
+      this.minAmount = minAmount;
+      return this;
+    }
+
+    public Builder maxAmount(BigDecimal maxAmount) {
+      this.maxAmount = maxAmount;
+      return this;
+    }
+
+    public Builder createdFrom(Instant createdFrom) {
+      this.createdFrom = createdFrom;
+      return this;
+    }
+
+    public Builder createdTo(Instant createdTo) {
+      this.createdTo = createdTo;
+      return this;
+    }
+
+    /**
+     * Builds the filter, converting amounts exactly to minor units of the currency.
+     *
+     * @return the filter
+     * @throws IllegalArgumentException if a criterion is invalid
+     */
+    public TransactionFilter build() {
+      if ((minAmount != null || maxAmount != null) && currency == null) {
+        throw new IllegalArgumentException("Amount range requires a currency");
+      }
+      return new TransactionFilter(
+          statuses == null ? null : Set.copyOf(statuses),
+          currency,
+          minAmount == null ? Long.MIN_VALUE : Money.of(minAmount, currency).minorUnits(),
+          maxAmount == null ? Long.MAX_VALUE : Money.of(maxAmount, currency).minorUnits(),
+          createdFrom == null ? Long.MIN_VALUE : ClockPort.toMicros(createdFrom),
+          createdTo == null ? Long.MAX_VALUE : ClockPort.toMicros(createdTo));
+    }
+  }
+}
@@ -0,0 +1,278 @@
+package com.example.transactions.domain.transaction.model;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.transactions.domain.shared.valueobjects.Money;
+
+/**
+ * The validation rules of a transaction, shared by the domain model and the API boundary.
+ *
+ * <p>Every check is a hand-rolled scan over the characters of the input: no regular expression, no
+ * trimmed or upper-cased copy. A check returns {@code null} when the value is valid and a constant
+ * message otherwise, so validating a valid transaction allocates nothing. Surrounding whitespace is
+ * ignored, matching the normalization the {@link Transaction} constructor applies.
+ *
+ * <p>The {@link Transaction} constructor enforces the rules on every transaction it builds and
+ * reports every invalid field. The API boundary only checks what it needs to build the {@link
+ * Money} of a request, with {@link #checkMoney}, and leaves the rest to the constructor; {@link
+ * #validate(BigDecimal, String, String, String)} reports every field of a request whose amount
+ * cannot be built. {@link #checkOffset} and {@link #checkLimit} cover the paging parameters of the
+ * listing endpoints.
+ */
+public final class TransactionRules {
+
+  /** Smallest accepted amount. */
+  public static final BigDecimal MIN_AMOUNT = new BigDecimal("0.01");
+
+  /** Shortest accepted account number, after trimming. */
+  public static final int MIN_ACCOUNT_LENGTH = 8;
+
+  /** Longest accepted account number, after trimming. */
+  public static final int MAX_ACCOUNT_LENGTH = 20;
+
+  /** Length of an ISO 4217 currency code. */
+  public static final int CURRENCY_LENGTH = 3;
+
+  /** Largest accepted page size. */
+  public static final int MAX_LIMIT = 100;
+
+  /**
+   * The two account fields of a transaction, and an account looked up on its own, with their
+   * precomputed messages.
+   */
+  public enum AccountField {
+    ORIGIN("Origin account number"),
+    DESTINATION("Destination account number"),
+    ACCOUNT("Account number");
+
+    private final String required;
+    private final String length;
+    private final String characters;
+
+    AccountField(String name) {
+      this.required = name + " cannot be null or empty";
+      this.length =
+          name
+              + " must be between "
+              + MIN_ACCOUNT_LENGTH
+              + " and "
+              + MAX_ACCOUNT_LENGTH
+              + " characters";
+      this.characters = name + " can only contain letters, numbers, and hyphens";
+    }
+  }
+
+  private TransactionRules() {
+    throw new UnsupportedOperationException("Utility class cannot be instantiated");
+  }
+
+  /**
+   * Validates all the client-supplied fields of a new transaction.
+   *
+   * @param amount the amount
+   * @param currency the currency code
+   * @param originAccountNumber the origin account number
+   * @param destinationAccountNumber the destination account number
+   * @return one message per invalid field, in field order; an empty immutable list if all are valid
+   */
+  public static List<String> validate(
+      BigDecimal amount,
+      String currency,
+      String originAccountNumber,
+      String destinationAccountNumber) {
+    String amountViolation = checkAmount(amount);
+    String currencyViolation = checkCurrency(currency);
+    if (amountViolation == null && currencyViolation == null) {
+      amountViolation = Money.checkPrecision(amount, Money.fractionDigits(currency));
+    }
+    String originViolation = checkAccountNumber(originAccountNumber, AccountField.ORIGIN);
+    String destinationViolation =
+        checkAccountNumber(destinationAccountNumber, AccountField.DESTINATION);
+    if (amountViolation == null
+        && currencyViolation == null
+        && originViolation == null
+        && destinationViolation == null) {
+      return List.of();
+    }
+
+    List<String> violations = new ArrayList<>(4);
+    addIfPresent(violations, amountViolation);
+    addIfPresent(violations, currencyViolation);
+    addIfPresent(violations, originViolation);
+    addIfPresent(violations, destinationViolation);
+    return violations;
+  }
+
+  /**
+   * Validates the fields of a new transaction whose amount is already {@link Money}.
+   *
+   * @param amount the amount
+   * @param originAccountNumber the origin account number
+   * @param destinationAccountNumber the destination account number
+   * @return one message per invalid field, in field order; an empty immutable list if all are valid
+   */
+  public static List<String> validate(
+      Money amount, String originAccountNumber, String destinationAccountNumber) {
+    String amountViolation = checkAmount(amount);
+    String originViolation = checkAccountNumber(originAccountNumber, AccountField.ORIGIN);
+    String destinationViolation =
+        checkAccountNumber(destinationAccountNumber, AccountField.DESTINATION);
+    if (amountViolation == null && originViolation == null && destinationViolation == null) {
+      return List.of();
+    }
+
+    List<String> violations = new ArrayList<>(3);
+    addIfPresent(violations, amountViolation);
+    addIfPresent(violations, originViolation);
+    addIfPresent(violations, destinationViolation);
+    return violations;
+  }
+
+  /**
+   * Checks that an amount and a currency code make a {@link Money}: a valid amount, a valid
+   * currency, and no more decimal places than the currency allows.
+   *
+   * @param amount the amount
+   * @param currency the currency code
+   * @return null if valid, otherwise the first violation message
+   */
+  public static String checkMoney(BigDecimal amount, String currency) {
+    String violation = checkAmount(amount);
+    if (violation == null) {
+      violation = checkCurrency(currency);
+    }
+    if (violation == null) {
+      violation = Money.checkPrecision(amount, Money.fractionDigits(currency));
+    }
+    return violation;
+  }
+
+  /**
+   * Checks a transaction ID.
+   *
+   * @param id the ID
+   * @return null if valid, otherwise the violation message
+   */
+  public static String checkId(String id) {
+    return isBlank(id) ? "Transaction ID cannot be null or empty" : null;
+  }
+
+  /**
+   * Checks an amount.
+   *
+   * @param amount the amount
+   * @return null if valid, otherwise the violation message
+   */
+  public static String checkAmount(BigDecimal amount) {
+    if (amount == null) {
+      return "Amount cannot be null";
+    }
+    if (amount.signum() <= 0) {
+      return "Amount must be positive";
+    }
+    if (amount.compareTo(MIN_AMOUNT) < 0) {
+      return "Amount must be at least 0.01";
+    }
+    return null;
+  }
+
+  /**
+   * Checks the amount of a transaction.
+   *
+   * @param amount the amount
+   * @return null if valid, otherwise the violation message
+   */
+  public static String checkAmount(Money amount) {
+    if (amount == null) {
+      return "Amount cannot be null";
+    }
+    return amount.signum() <= 0 ? "Amount must be positive" : null;
+  }
+
+  /**
+   * Checks a currency code: three ASCII letters in either case.
+   *
+   * @param currency the currency code
+   * @return null if valid, otherwise the violation message
+   */
+  public static String checkCurrency(String currency) {
+    return Money.checkCurrency(currency);
+  }
+
+  /**
+   * Checks an account number: 8 to 20 ASCII letters, digits or hyphens.
+   *
+   * @param accountNumber the account number
+   * @param field which account the number is for, used in the message
+   * @return null if valid, otherwise the violation message
+   */
+  public static String checkAccountNumber(String accountNumber, AccountField field) {
+    if (isBlank(accountNumber)) {
+      return field.required;
+    }
+    int start = start(accountNumber);
+    int end = end(accountNumber);
+    if (end - start < MIN_ACCOUNT_LENGTH || end - start > MAX_ACCOUNT_LENGTH) {
+      return field.length;
+    }
+    for (int i = start; i < end; i++) {
+      char c = accountNumber.charAt(i);
+      if (!((c >= 'A' && c <= 'Z')
+          || (c >= 'a' && c <= 'z')
+          || (c >= '0' && c <= '9')
+          || c == '-')) {
+        return field.characters;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Checks the number of records a listing skips.
+   *
+   * @param offset the offset
+   * @return null if valid, otherwise the violation message
+   */
+  public static String checkOffset(int offset) {
+    return offset < 0 ? "Offset cannot be negative" : null;
+  }
+
+  /**
+   * Checks the page size of a listing.
+   *
+   * @param limit the page size
+   * @return null if valid, otherwise the violation message
+   */
+  public static String checkLimit(int limit) {
+    return limit < 1 || limit > MAX_LIMIT ? "Limit must be between 1 and " + MAX_LIMIT : null;
+  }
+
+  private static boolean isBlank(String value) {
+    return value == null || start(value) == value.length();
+  }
+
+  // Same notion of whitespace as String.trim(), so the checks agree with the normalized value
+  private static int start(String value) {
+    int start = 0;
+    while (start < value.length() && value.charAt(start) <= ' ') {
+      start++;
+    }
+    return start;
+  }
+
+  private static int end(String value) {
+    int end = value.length();
+    while (end > 0 && value.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    return end;
+  }
+
+  private static void addIfPresent(List<String> violations, String violation) {
+    if (violation != null) {
+      violations.add(violation);
+    }
+  }
+}
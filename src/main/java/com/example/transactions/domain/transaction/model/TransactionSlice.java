@@ -0,0 +1,12 @@
+package com.example.transactions.domain.transaction.model;
+
+import java.util.List;
+
+/**
+ * A page of transactions together with the total number of stored transactions, both read from the
+ * same consistent snapshot of the repository.
+ *
+ * @param transactions the transactions in the page
+ * @param total the total number of transactions when the page was read
+ */
+public record TransactionSlice(List<Transaction> transactions, long total) {}
@@ -0,0 +1,129 @@
+package com.example.transactions.domain.transaction.ports;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionCursor;
+import com.example.transactions.domain.transaction.model.TransactionFilter;
+import com.example.transactions.domain.transaction.model.TransactionSlice;
+
+/**
+ * Non-blocking port (interface) for transaction repository operations.
+ *
+ * <p>This is the Mutiny counterpart of {@link TransactionRepositoryPort}: every operation returns a
+ * lazy {@link Uni} or {@link Multi} that does nothing until subscribed. Implementations must not
+ * block the subscribing thread, which may be an event loop; blocking backends have to move their
+ * work to a worker pool.
+ */
+public interface ReactiveTransactionRepositoryPort {
+
+  /**
+   * Saves a transaction.
+   *
+   * @param transaction the transaction to save
+   * @return the saved transaction
+   */
+  Uni<Transaction> save(Transaction transaction);
+
+  /**
+   * Saves many transactions in one repository operation.
+   *
+   * @param transactions the transactions to save
+   * @return the saved transactions, in iteration order
+   */
+  Uni<List<Transaction>> saveAll(Collection<Transaction> transactions);
+
+  /**
+   * Finds a transaction by its unique identifier.
+   *
+   * @param id the transaction ID
+   * @return the transaction if found, empty otherwise
+   */
+  Uni<Optional<Transaction>> findById(String id);
+
+  /**
+   * Finds all transactions with pagination support.
+   *
+   * @param offset the number of transactions to skip
+   * @param limit the maximum number of transactions to return
+   * @return a list of transactions
+   */
+  Uni<List<Transaction>> findAll(int offset, int limit);
+
+  /**
+   * Finds the transactions that follow a cursor, newest first (keyset pagination).
+   *
+   * @param cursor the position to start after, or null to start from the newest transaction
+   * @param limit the maximum number of transactions to return
+   * @return a list of transactions sorted by creation date descending, then ID descending
+   */
+  Uni<List<Transaction>> findAfter(TransactionCursor cursor, int limit);
+
+  /**
+   * Finds the transactions of one account, as origin or destination, that follow a cursor.
+   *
+   * @param accountNumber the account number, as stored (trimmed)
+   * @param cursor the position to start after, or null to start from the newest transaction
+   * @param limit the maximum number of transactions to return
+   * @return a list of transactions sorted by creation date descending, then ID descending
+   */
+  Uni<List<Transaction>> findByAccountAfter(
+      String accountNumber, TransactionCursor cursor, int limit);
+
+  /**
+   * Finds the transactions that meet a filter and follow a cursor, newest first.
+   *
+   * @param filter the criteria, possibly {@link TransactionFilter#none()}
+   * @param cursor the position to start after, or null to start from the newest transaction
+   * @param limit the maximum number of transactions to return
+   * @return a list of matching transactions sorted by creation date descending, then ID descending
+   */
+  Uni<List<Transaction>> findMatchingAfter(
+      TransactionFilter filter, TransactionCursor cursor, int limit);
+
+  /**
+   * Finds a page of transactions and the total count in one repository trip.
+   *
+   * @param offset the number of transactions to skip
+   * @param limit the maximum number of transactions to return
+   * @return the page and the total count
+   */
+  Uni<TransactionSlice> findAllWithTotal(int offset, int limit);
+
+  /**
+   * Finds the transactions that follow a cursor and the total count in one repository trip.
+   *
+   * @param cursor the position to start after, or null to start from the newest transaction
+   * @param limit the maximum number of transactions to return
+   * @return the page and the total count
+   */
+  Uni<TransactionSlice> findAfterWithTotal(TransactionCursor cursor, int limit);
+
+  /**
+   * Streams every transaction, newest first, honoring downstream demand.
+   *
+   * @param chunkSize the number of transactions fetched per repository call
+   * @return a stream sorted by creation date descending, then ID descending
+   */
+  Multi<Transaction> streamAll(int chunkSize);
+
+  /**
+   * Counts the total number of transactions.
+   *
+   * @return the total count
+   */
+  Uni<Long> count();
+
+  /**
+   * Checks if a transaction exists with the given ID.
+   *
+   * @param id the transaction ID
+   * @return true if the transaction exists, false otherwise
+   */
+  Uni<Boolean> existsById(String id);
+}
@@ -1,9 +1,15 @@
 package com.example.transactions.domain.transaction.ports;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionCursor;
+import com.example.transactions.domain.transaction.model.TransactionFilter;
+import com.example.transactions.domain.transaction.model.TransactionSlice;
 
 /**
  * Port (interface) for transaction repository operations.
@@ -21,6 +27,24 @@ public interface TransactionRepositoryPort {
    */
   Transaction save(Transaction transaction);
 
+  /**
+   * Saves many transactions in one repository operation.
+   *
+   * <p>The default implementation calls {@link #save(Transaction)} once per transaction. Adapters
+   * should override it to write the whole batch at once (a single lock acquisition, JDBC batch or
+   * log flush).
+   *
+   * @param transactions the transactions to save
+   * @return the saved transactions, in iteration order
+   */
+  default List<Transaction> saveAll(Collection<Transaction> transactions) {
+    List<Transaction> saved = new ArrayList<>(transactions.size());
+    for (Transaction transaction : transactions) {
+      saved.add(save(transaction));
+    }
+    return saved;
+  }
+
   /**
    * Finds a transaction by its unique identifier.
    *
@@ -38,6 +62,123 @@ public interface TransactionRepositoryPort {
    */
   List<Transaction> findAll(int offset, int limit);
 
+  /**
+   * Finds the transactions that follow a cursor, newest first (keyset pagination).
+   *
+   * <p>Implementations should seek directly to the cursor position (for example through an index on
+   * creation date and ID) instead of skipping rows, so every page costs the same.
+   *
+   * @param cursor the position to start after, or null to start from the newest transaction
+   * @param limit the maximum number of transactions to return
+   * @return a list of transactions sorted by creation date descending, then ID descending
+   */
+  List<Transaction> findAfter(TransactionCursor cursor, int limit);
+
+  /**
+   * Finds the transactions of one account that follow a cursor, newest first (keyset pagination).
+   *
+   * <p>A transaction belongs to the account when the account is its origin or its destination.
+   * Implementations should read per-account indexes on both account numbers, so that a page costs
+   * in proportion to the account's own history rather than to the whole store.
+   *
+   * @param accountNumber the account number, as stored (trimmed)
+   * @param cursor the position to start after, or null to start from the newest transaction
+   * @param limit the maximum number of transactions to return
+   * @return a list of transactions sorted by creation date descending, then ID descending
+   */
+  List<Transaction> findByAccountAfter(String accountNumber, TransactionCursor cursor, int limit);
+
+  /**
+   * Finds the transactions that meet a filter and follow a cursor, newest first (keyset
+   * pagination).
+   *
+   * <p>The default implementation reads {@link #findAfter(TransactionCursor, int)} in chunks from
+   * the end of the creation range and tests each transaction, stopping at the start of the range.
+   * Its cost grows with the transactions skipped, so adapters with secondary indexes should
+   * override it to read the most selective index first.
+   *
+   * @param filter the criteria, possibly {@link TransactionFilter#none()}
+   * @param cursor the position to start after, or null to start from the newest transaction
+   * @param limit the maximum number of transactions to return
+   * @return a list of matching transactions sorted by creation date descending, then ID descending
+   */
+  default List<Transaction> findMatchingAfter(
+      TransactionFilter filter, TransactionCursor cursor, int limit) {
+    if (filter.isEmpty()) {
+      return findAfter(cursor, limit);
+    }
+    int chunkSize = Math.max(limit, 100);
+    List<Transaction> matches = new ArrayList<>(Math.min(limit, chunkSize));
+    TransactionCursor position = filter.seekFrom(cursor);
+    while (true) {
+      List<Transaction> chunk = findAfter(position, chunkSize);
+      for (Transaction transaction : chunk) {
+        if (filter.endsScan(transaction)) {
+          return matches;
+        }
+        if (filter.matches(transaction)) {
+          matches.add(transaction);
+          if (matches.size() == limit) {
+            return matches;
+          }
+        }
+      }
+      if (chunk.size() < chunkSize) {
+        return matches;
+      }
+      position = TransactionCursor.after(chunk.get(chunk.size() - 1));
+    }
+  }
+
+  /**
+   * Streams every transaction, newest first, without loading them all at once.
+   *
+   * <p>The default implementation pulls {@code chunkSize} rows at a time through {@link
+   * #findAfter(TransactionCursor, int)}, so memory stays bounded by one chunk and each chunk costs
+   * the same. Rows are read lazily as the stream is consumed; a transaction saved during the stream
+   * shows up only if it sorts after the current position. Callers should close the stream.
+   *
+   * @param chunkSize the number of transactions fetched per repository call
+   * @return a lazy stream sorted by creation date descending, then ID descending
+   */
+  default Stream<Transaction> streamAll(int chunkSize) {
+    return Stream.iterate(
+            findAfter(null, chunkSize),
+            chunk -> !chunk.isEmpty(),
+            chunk ->
+                chunk.size() < chunkSize
+                    ? List.of()
+                    : findAfter(TransactionCursor.after(chunk.get(chunk.size() - 1)), chunkSize))
+        .flatMap(List::stream);
+  }
+
+  /**
+   * Finds a page of transactions and the total count in one repository trip.
+   *
+   * <p>The default implementation issues two separate calls, so the total may disagree with the
+   * page if writes land in between. Adapters that can read both from one snapshot (a single lock
+   * acquisition, a window function, etc.) should override it.
+   *
+   * @param offset the number of transactions to skip
+   * @param limit the maximum number of transactions to return
+   * @return the page and the total count
+   */
+  default TransactionSlice findAllWithTotal(int offset, int limit) {
+    return new TransactionSlice(findAll(offset, limit), count());
+  }
+
+  /**
+   * Finds the transactions that follow a cursor and the total count in one repository trip.
+   *
+   * @param cursor the position to start after, or null to start from the newest transaction
+   * @param limit the maximum number of transactions to return
+   * @return the page and the total count
+   * @see #findAllWithTotal(int, int)
+   */
+  default TransactionSlice findAfterWithTotal(TransactionCursor cursor, int limit) {
+    return new TransactionSlice(findAfter(cursor, limit), count());
+  }
+
   /**
    * Counts the total number of transactions.
    *
@@ -52,4 +193,16 @@ public interface TransactionRepositoryPort {
    * @return true if the transaction exists, false otherwise
    */
   boolean existsById(String id);
+
+  /**
+   * Tells whether every operation completes without blocking I/O.
+   *
+   * <p>Non-blocking adapters (for example a purely in-memory store) can be called directly from an
+   * event loop; the others are moved to a worker pool by the reactive adapter.
+   *
+   * @return true if operations never block on I/O, false otherwise
+   */
+  default boolean isNonBlocking() {
+    return false;
+  }
 }
@@ -0,0 +1,47 @@
+package com.example.transactions.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event marking an exception turned into an error response.
+ *
+ * <p>An instant event: it has no duration, and it records no stack trace, since the domain
+ * exceptions carry none either.
+ */
+@Name("com.example.transactions.ExceptionMapped")
+@Label("Exception Mapped")
+@Category({"Transactions", "Presentation"})
+@Description("Exception turned into an error response")
+@StackTrace(false)
+public final class ExceptionMappedEvent extends Event {
+
+  @Label("Exception")
+  private Class<?> exceptionType;
+
+  @Label("Code")
+  private String code;
+
+  @Label("Status")
+  private int status;
+
+  /**
+   * Commits the event if a recording wants it.
+   *
+   * @param exception the mapped exception
+   * @param code the error code of the response
+   * @param status the HTTP status of the response
+   */
+  public void complete(Throwable exception, String code, int status) {
+    if (shouldCommit()) {
+      this.exceptionType = exception.getClass();
+      this.code = code;
+      this.status = status;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package com.example.transactions.infrastructure.jfr;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Starts, stops and dumps one Flight Recorder recording at a time.
+ *
+ * <p>Every recording is bounded: it runs for at most {@link ProfilingConfig#maxDuration()}, after
+ * which the JVM stops it, and keeps at most {@link ProfilingConfig#maxSizeBytes()} of data. A
+ * stopped recording keeps its data until the next one starts, so it can still be downloaded.
+ */
+@ApplicationScoped
+public class FlightRecorderService {
+
+  private static final String RECORDING_NAME = "transactions";
+
+  private final ProfilingConfig config;
+  private Recording recording;
+
+  @Inject
+  public FlightRecorderService(ProfilingConfig config) {
+    this.config = config;
+  }
+
+  /**
+   * Starts a recording, discarding the data of the previous one.
+   *
+   * @param duration how long to record; capped at the configured maximum
+   * @return the state of the new recording, or empty if one is already running
+   * @throws IllegalArgumentException if the duration is not positive
+   */
+  public synchronized Optional<RecordingStatus> start(Duration duration) {
+    if (duration.isNegative() || duration.isZero()) {
+      throw new IllegalArgumentException("Recording duration must be positive");
+    }
+    if (recording != null && recording.getState() == RecordingState.RUNNING) {
+      return Optional.empty();
+    }
+    close();
+
+    Recording started = new Recording(settings());
+    started.setName(RECORDING_NAME);
+    started.enable(UseCaseExecutionEvent.class);
+    started.enable(RepositoryCallEvent.class);
+    started.enable(ExceptionMappedEvent.class);
+    started.setDuration(
+        duration.compareTo(config.maxDuration()) > 0 ? config.maxDuration() : duration);
+    started.setMaxSize(config.maxSizeBytes());
+    started.setToDisk(true);
+    started.start();
+    recording = started;
+    return Optional.of(status(started));
+  }
+
+  /**
+   * Stops the running recording, keeping its data for download.
+   *
+   * @return the state of the stopped recording, or empty if none is running
+   */
+  public synchronized Optional<RecordingStatus> stop() {
+    if (recording == null || recording.getState() != RecordingState.RUNNING) {
+      return Optional.empty();
+    }
+    recording.stop();
+    return Optional.of(status(recording));
+  }
+
+  /**
+   * Gets the state of the current or last recording.
+   *
+   * @return the recording state, or empty if none was started
+   */
+  public synchronized Optional<RecordingStatus> status() {
+    return Optional.ofNullable(recording).map(FlightRecorderService::status);
+  }
+
+  /**
+   * Writes the data of the current or last recording to a temporary file; a running recording keeps
+   * running. The caller owns the file and must delete it.
+   *
+   * @return the file, in JFR format, or empty if there is no recording
+   */
+  public synchronized Optional<Path> dump() {
+    if (recording == null) {
+      return Optional.empty();
+    }
+    try {
+      Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+      recording.dump(file);
+      return Optional.of(file);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not dump the flight recording", e);
+    }
+  }
+
+  @PreDestroy
+  synchronized void close() {
+    if (recording != null) {
+      recording.close();
+      recording = null;
+    }
+  }
+
+  private Configuration settings() {
+    try {
+      return Configuration.getConfiguration(config.settings());
+    } catch (IOException | ParseException e) {
+      throw new IllegalStateException("Unknown flight recorder settings: " + config.settings(), e);
+    }
+  }
+
+  private static RecordingStatus status(Recording recording) {
+    return new RecordingStatus(
+        recording.getName(),
+        recording.getState().name(),
+        recording.getStartTime(),
+        recording.getStopTime(),
+        recording.getDuration(),
+        recording.getMaxSize());
+  }
+
+  /**
+   * State of a recording.
+   *
+   * @param name the recording name
+   * @param state the JFR state: RUNNING, STOPPED or CLOSED
+   * @param startedAt when it started
+   * @param stoppedAt when it stopped, or null while running
+   * @param duration how long it records before stopping by itself
+   * @param maxSizeBytes how much data it keeps at most
+   */
+  public record RecordingStatus(
+      String name,
+      String state,
+      Instant startedAt,
+      Instant stoppedAt,
+      Duration duration,
+      long maxSizeBytes) {}
+}
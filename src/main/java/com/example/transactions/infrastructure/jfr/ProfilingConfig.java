@@ -0,0 +1,45 @@
+package com.example.transactions.infrastructure.jfr;
+
+import java.time.Duration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/** Configuration of the on-demand Flight Recorder recordings. */
+@ConfigMapping(prefix = "app.profiling")
+public interface ProfilingConfig {
+
+  /**
+   * Whether the profiling routes are registered on the management interface; when off they answer
+   * 404.
+   *
+   * @return true if recordings can be started
+   */
+  @WithDefault("false")
+  boolean enabled();
+
+  /**
+   * Longest a recording may run; it stops by itself when this elapses.
+   *
+   * @return the maximum recording duration
+   */
+  @WithDefault("5m")
+  Duration maxDuration();
+
+  /**
+   * Most data a recording may keep, in bytes; older chunks are dropped beyond it.
+   *
+   * @return the maximum recording size
+   */
+  @WithDefault("104857600")
+  long maxSizeBytes();
+
+  /**
+   * Built-in JDK settings the recording starts from: {@code default} (below 1% overhead) or {@code
+   * profile} (more detail, around 2%). The events of this service are always enabled.
+   *
+   * @return the settings name
+   */
+  @WithDefault("profile")
+  String settings();
+}
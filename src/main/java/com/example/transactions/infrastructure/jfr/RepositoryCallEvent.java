@@ -0,0 +1,52 @@
+package com.example.transactions.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Flight Recorder event spanning one call to the transaction repository port. */
+@Name("com.example.transactions.RepositoryCall")
+@Label("Repository Call")
+@Category({"Transactions", "Repository"})
+@Description("Call to the transaction repository port, with the number of rows read or written")
+@StackTrace(false)
+public final class RepositoryCallEvent extends Event {
+
+  /** Row count of the calls that do not return rows. */
+  public static final int NO_ROWS = -1;
+
+  @Label("Adapter")
+  private String adapter;
+
+  @Label("Method")
+  private String method;
+
+  @Label("Rows")
+  @Description("Rows returned or saved, -1 for calls that do not return rows")
+  private int rows;
+
+  @Label("Failed")
+  private boolean failed;
+
+  /**
+   * Ends the event and commits it if a recording wants it.
+   *
+   * @param adapter the configured adapter type
+   * @param method the port method called
+   * @param rows the rows returned or saved, or {@link #NO_ROWS}
+   * @param failed whether the call ended with an exception
+   */
+  public void complete(String adapter, String method, int rows, boolean failed) {
+    end();
+    if (shouldCommit()) {
+      this.adapter = adapter;
+      this.method = method;
+      this.rows = rows;
+      this.failed = failed;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.example.transactions.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning one use case execution, from the call until the result, or the
+ * {@code Uni} returned, completes.
+ *
+ * <p>Unlike the other events of this package it is not created unconditionally: it outlives the
+ * call when it waits for a {@code Uni}, so the allocation escapes and the JIT cannot remove it. The
+ * interceptor checks its {@link jdk.jfr.EventType} first and creates one only while a recording
+ * enables it.
+ */
+@Name("com.example.transactions.UseCaseExecution")
+@Label("Use Case Execution")
+@Category({"Transactions", "Application"})
+@Description("Execution of a transaction use case")
+@StackTrace(false)
+public final class UseCaseExecutionEvent extends Event {
+
+  @Label("Use Case")
+  private String useCase;
+
+  @Label("Method")
+  private String method;
+
+  @Label("Failed")
+  private boolean failed;
+
+  /**
+   * Ends the event and commits it if a recording wants it.
+   *
+   * @param useCase the simple name of the use case class
+   * @param method the method executed
+   * @param failed whether the execution ended with an exception
+   */
+  public void complete(String useCase, String method, boolean failed) {
+    end();
+    if (shouldCommit()) {
+      this.useCase = useCase;
+      this.method = method;
+      this.failed = failed;
+      commit();
+    }
+  }
+}
@@ -1,17 +1,27 @@
 package com.example.transactions.infrastructure.repositories;
 
-import java.util.ArrayList;
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 
 import io.quarkus.arc.lookup.LookupIfProperty;
 
+import com.example.transactions.config.RepositoryAdapter;
 import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionCursor;
+import com.example.transactions.domain.transaction.model.TransactionFilter;
+import com.example.transactions.domain.transaction.model.TransactionSlice;
 import com.example.transactions.domain.transaction.ports.TransactionRepositoryPort;
+import com.example.transactions.infrastructure.repositories.journal.JournalConfig;
+import com.example.transactions.infrastructure.repositories.journal.TransactionJournal;
 
 /**
  * In-memory implementation of TransactionRepositoryPort for development and testing.
@@ -19,19 +29,131 @@ import com.example.transactions.domain.transaction.ports.TransactionRepositoryPo
  * <p>This adapter provides a simple in-memory storage mechanism using a ConcurrentHashMap. It is
  * activated when the profile is set to 'dev' or 'test', or when no database configuration is
  * provided.
+ *
+ * <p>Lookups by ID go straight to the map. Listing is served by a {@link TransactionCreatedAtIndex}
+ * kept in sync on every write, so a page is found in O(log n + limit) instead of sorting the whole
+ * store per request. A {@link TransactionAccountIndex} keeps the same order per origin and per
+ * destination account, so an account's history is paged without touching other accounts. Filtered
+ * listings go through a {@link TransactionFilterIndex}, whose planner reads either the listing
+ * order or the bitmap of the most selective criterion.
+ *
+ * <p>Writers take a {@link StampedLock} in write mode, so writes are applied one at a time. That is
+ * deliberate: the journal must record writes in the order they are applied for replay to rebuild
+ * the same store, and an insert only copies the O(log n) nodes of its path, so the critical section
+ * is short. Readers stay off that lock: the created-at and account trees are persistent, so listing
+ * pages read a published version with no lock at all, and account pages, which read two trees, use
+ * an optimistic read that is retried under the read lock only if a write overlapped it. Filtered
+ * listings take the read lock, as the bitmaps are updated in place.
+ *
+ * <p>When {@code app.repository.in-memory.journal.enabled=true}, every save is also appended to a
+ * {@link TransactionJournal} and the store is rebuilt from its snapshot and log tail on startup.
+ * The record is logged under the write lock, but the fsync wait (if any) happens after releasing it
+ * so concurrent saves share one group commit. {@link #saveAll(Collection)} logs and indexes a whole
+ * batch under one lock acquisition and waits for a single flush. A due snapshot hands the journal a
+ * frozen version of the created-at index, so the store is not copied under the lock.
  */
 @ApplicationScoped
+@RepositoryAdapter
 @LookupIfProperty(name = "app.repository.type", stringValue = "in-memory", lookupIfMissing = true)
-public class InMemoryTransactionRepositoryAdapter implements TransactionRepositoryPort {
+public class InMemoryTransactionRepositoryAdapter
+    implements TransactionRepositoryPort, IndexedRepository {
+
+  private static final List<String> INDEXES =
+      List.of(
+          "id",
+          "created-at",
+          "origin-account",
+          "destination-account",
+          "status",
+          "currency",
+          "amount");
 
   private final Map<String, Transaction> transactions = new ConcurrentHashMap<>();
+  private final TransactionCreatedAtIndex createdAtIndex = new TransactionCreatedAtIndex();
+  private final TransactionAccountIndex accountIndex = new TransactionAccountIndex();
+  private final TransactionFilterIndex filterIndex = new TransactionFilterIndex(createdAtIndex);
+  private final StampedLock lock = new StampedLock();
+  private final TransactionJournal journal;
+
+  /** Creates a volatile store without persistence. */
+  public InMemoryTransactionRepositoryAdapter() {
+    this((TransactionJournal) null);
+  }
+
+  /**
+   * Creates the store, opening and replaying the journal if persistence is enabled.
+   *
+   * @param journalConfig the journal configuration
+   */
+  @Inject
+  public InMemoryTransactionRepositoryAdapter(JournalConfig journalConfig) {
+    this(
+        journalConfig.enabled()
+            ? TransactionJournal.open(
+                Path.of(journalConfig.directory()),
+                journalConfig.durability(),
+                journalConfig.flushInterval(),
+                journalConfig.snapshotEvery())
+            : null);
+  }
+
+  /**
+   * Creates the store backed by the given journal and replays it.
+   *
+   * @param journal the journal to recover from and append to, or null for a volatile store
+   */
+  public InMemoryTransactionRepositoryAdapter(TransactionJournal journal) {
+    this.journal = journal;
+    if (journal != null) {
+      journal.recover(this::apply);
+    }
+  }
 
   @Override
   public Transaction save(Transaction transaction) {
-    transactions.put(transaction.getId(), transaction);
+    long durabilityToken = 0;
+    long stamp = lock.writeLock();
+    try {
+      if (journal != null) {
+        durabilityToken = journal.append(transaction);
+      }
+      apply(transaction);
+      if (journal != null && journal.snapshotDue()) {
+        takeSnapshot();
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+    if (journal != null) {
+      journal.awaitDurable(durabilityToken);
+    }
     return transaction;
   }
 
+  @Override
+  public List<Transaction> saveAll(Collection<Transaction> batch) {
+    long durabilityToken = 0;
+    long stamp = lock.writeLock();
+    try {
+      for (Transaction transaction : batch) {
+        if (journal != null) {
+          durabilityToken = journal.append(transaction);
+        }
+        apply(transaction);
+      }
+      if (journal != null && journal.snapshotDue()) {
+        takeSnapshot();
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+    if (journal != null) {
+      // Tokens grow with each append, so waiting for the last one covers the whole batch
+      journal.awaitDurable(durabilityToken);
+    }
+    return List.copyOf(batch);
+  }
+
   @Override
   public Optional<Transaction> findById(String id) {
     return Optional.ofNullable(transactions.get(id));
@@ -39,15 +161,54 @@ public class InMemoryTransactionRepositoryAdapter implements TransactionReposito
 
   @Override
   public List<Transaction> findAll(int offset, int limit) {
-    List<Transaction> allTransactions = new ArrayList<>(transactions.values());
+    return createdAtIndex.page(offset, limit);
+  }
 
-    // Sort by creation date (newest first) for consistent ordering
-    allTransactions.sort((t1, t2) -> t2.getCreatedAt().compareTo(t1.getCreatedAt()));
+  @Override
+  public List<Transaction> findAfter(TransactionCursor cursor, int limit) {
+    return seek(createdAtIndex, cursor, limit);
+  }
+
+  @Override
+  public List<Transaction> findByAccountAfter(
+      String accountNumber, TransactionCursor cursor, int limit) {
+    long stamp = lock.tryOptimisticRead();
+    List<Transaction> page = accountIndex.after(accountNumber, cursor, limit);
+    if (lock.validate(stamp)) {
+      return page;
+    }
+    stamp = lock.readLock();
+    try {
+      return accountIndex.after(accountNumber, cursor, limit);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public List<Transaction> findMatchingAfter(
+      TransactionFilter filter, TransactionCursor cursor, int limit) {
+    if (filter.isEmpty()) {
+      return seek(createdAtIndex, cursor, limit);
+    }
+    long stamp = lock.readLock();
+    try {
+      return filterIndex.find(filter, cursor, limit);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
 
-    int start = Math.min(offset, allTransactions.size());
-    int end = Math.min(offset + limit, allTransactions.size());
+  @Override
+  public TransactionSlice findAllWithTotal(int offset, int limit) {
+    TransactionCreatedAtIndex version = createdAtIndex.snapshot();
+    return new TransactionSlice(version.page(offset, limit), version.size());
+  }
 
-    return allTransactions.subList(start, end);
+  @Override
+  public TransactionSlice findAfterWithTotal(TransactionCursor cursor, int limit) {
+    TransactionCreatedAtIndex version = createdAtIndex.snapshot();
+    return new TransactionSlice(seek(version, cursor, limit), version.size());
   }
 
   @Override
@@ -60,9 +221,100 @@ public class InMemoryTransactionRepositoryAdapter implements TransactionReposito
     return transactions.containsKey(id);
   }
 
+  /** Non-blocking unless a journal is attached, since appends and fsyncs are file I/O. */
+  @Override
+  public boolean isNonBlocking() {
+    return journal == null;
+  }
+
+  private void apply(Transaction transaction) {
+    Transaction previous = transactions.put(transaction.getId(), transaction);
+    if (previous != null) {
+      createdAtIndex.remove(previous);
+      accountIndex.remove(previous);
+    }
+    createdAtIndex.insert(transaction);
+    accountIndex.insert(transaction);
+    filterIndex.insert(transaction);
+  }
+
+  // The persistent index freezes the current state in O(1); the journal writes it out in the
+  // background, so only the segment rotation happens under the write lock. Oldest first, so that
+  // recovery replays in creation order and the filter index keeps its rows in listing order
+  private void takeSnapshot() {
+    journal.snapshot(createdAtIndex.snapshot().valuesOldestFirst());
+  }
+
+  private static List<Transaction> seek(
+      TransactionCreatedAtIndex index, TransactionCursor cursor, int limit) {
+    return cursor == null ? index.page(0, limit) : index.after(cursor, limit);
+  }
+
+  /**
+   * Gets the number of rows the filter index holds out of listing order, which every filtered probe
+   * tests one by one. Useful for testing.
+   */
+  long displacedRows() {
+    long stamp = lock.readLock();
+    try {
+      return filterIndex.displacedRows();
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
   /** Clears all transactions. Useful for testing. */
   public void clear() {
-    transactions.clear();
+    long stamp = lock.writeLock();
+    try {
+      transactions.clear();
+      createdAtIndex.clear();
+      accountIndex.clear();
+      filterIndex.clear();
+      if (journal != null) {
+        journal.reset();
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /** Flushes and closes the journal, if any. */
+  @PreDestroy
+  public void close() {
+    if (journal != null) {
+      journal.close();
+    }
+  }
+
+  @Override
+  public List<String> indexNames() {
+    return INDEXES;
+  }
+
+  /**
+   * Sizes in entries, except the account indexes, which report their number of accounts, and the
+   * filter indexes, which report their number of distinct keys.
+   */
+  @Override
+  public long indexSize(String name) {
+    if (name.equals("id")) {
+      return transactions.size();
+    }
+    long stamp = lock.readLock();
+    try {
+      return switch (name) {
+        case "created-at" -> createdAtIndex.size();
+        case "origin-account" -> accountIndex.originAccounts();
+        case "destination-account" -> accountIndex.destinationAccounts();
+        case "status" -> filterIndex.keys(TransactionFilterIndex.Access.STATUS);
+        case "currency" -> filterIndex.keys(TransactionFilterIndex.Access.CURRENCY);
+        case "amount" -> filterIndex.keys(TransactionFilterIndex.Access.AMOUNT);
+        default -> throw new IllegalArgumentException("Unknown index: " + name);
+      };
+    } finally {
+      lock.unlockRead(stamp);
+    }
   }
 
   /**
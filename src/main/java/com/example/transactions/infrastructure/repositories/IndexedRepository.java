@@ -0,0 +1,28 @@
+package com.example.transactions.infrastructure.repositories;
+
+import java.util.List;
+
+/**
+ * A repository adapter that keeps its indexes in memory and can report their sizes for monitoring.
+ *
+ * <p>Sizes are read on metric scrapes, not on the request path, so implementations may take their
+ * read lock.
+ */
+public interface IndexedRepository {
+
+  /**
+   * Gets the names of the indexes, the same on every call.
+   *
+   * @return the index names
+   */
+  List<String> indexNames();
+
+  /**
+   * Gets the number of entries of an index.
+   *
+   * @param name one of {@link #indexNames()}
+   * @return the number of entries
+   * @throws IllegalArgumentException if there is no such index
+   */
+  long indexSize(String name);
+}
@@ -0,0 +1,176 @@
+package com.example.transactions.infrastructure.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+import com.example.transactions.config.ExecutionConfig;
+import com.example.transactions.config.ExecutionMode;
+import com.example.transactions.config.ServerTiming;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionCursor;
+import com.example.transactions.domain.transaction.model.TransactionFilter;
+import com.example.transactions.domain.transaction.model.TransactionSlice;
+import com.example.transactions.domain.transaction.ports.ReactiveTransactionRepositoryPort;
+import com.example.transactions.domain.transaction.ports.TransactionRepositoryPort;
+
+/**
+ * Reactive implementation of ReactiveTransactionRepositoryPort on top of the active blocking
+ * adapter.
+ *
+ * <p>If the adapter reports {@link TransactionRepositoryPort#isNonBlocking()}, operations run
+ * directly on the subscribing thread, so in-memory and off-heap stores are served on the event loop
+ * without a thread hop. Otherwise (Oracle, journaled in-memory store) each operation is subscribed
+ * on an executor chosen by {@code app.execution.mode}: the bounded Quarkus worker pool, or one
+ * virtual thread per call so that thousands of concurrent requests can wait on I/O without
+ * exhausting platform threads.
+ *
+ * <p>For requests timed by {@link ServerTiming}, the time spent in each operation, excluding the
+ * wait for a worker, is reported as {@code repo}.
+ */
+@ApplicationScoped
+public class ReactiveTransactionRepositoryAdapter implements ReactiveTransactionRepositoryPort {
+
+  private final TransactionRepositoryPort delegate;
+  private final Executor workerPool;
+  private final ExecutorService ownedPool;
+  private final boolean inline;
+
+  @Inject
+  public ReactiveTransactionRepositoryAdapter(
+      TransactionRepositoryPort delegate, ExecutionConfig executionConfig) {
+    this.delegate = delegate;
+    this.inline = delegate.isNonBlocking();
+    if (executionConfig.mode() == ExecutionMode.VIRTUAL_THREADS) {
+      this.ownedPool =
+          Executors.newThreadPerTaskExecutor(
+              Thread.ofVirtual().name("repository-vt-", 0).factory());
+      this.workerPool = ownedPool;
+    } else {
+      this.ownedPool = null;
+      this.workerPool = Infrastructure.getDefaultWorkerPool();
+    }
+  }
+
+  /**
+   * Creates the adapter with an explicit executor for blocking delegates.
+   *
+   * @param delegate the blocking adapter to wrap
+   * @param workerPool the executor that runs operations of blocking delegates
+   */
+  public ReactiveTransactionRepositoryAdapter(
+      TransactionRepositoryPort delegate, Executor workerPool) {
+    this.delegate = delegate;
+    this.workerPool = workerPool;
+    this.ownedPool = null;
+    this.inline = delegate.isNonBlocking();
+  }
+
+  @Override
+  public Uni<Transaction> save(Transaction transaction) {
+    return call(() -> delegate.save(transaction));
+  }
+
+  @Override
+  public Uni<List<Transaction>> saveAll(Collection<Transaction> transactions) {
+    return call(() -> delegate.saveAll(transactions));
+  }
+
+  @Override
+  public Uni<Optional<Transaction>> findById(String id) {
+    return call(() -> delegate.findById(id));
+  }
+
+  @Override
+  public Uni<List<Transaction>> findAll(int offset, int limit) {
+    return call(() -> delegate.findAll(offset, limit));
+  }
+
+  @Override
+  public Uni<List<Transaction>> findAfter(TransactionCursor cursor, int limit) {
+    return call(() -> delegate.findAfter(cursor, limit));
+  }
+
+  @Override
+  public Uni<List<Transaction>> findByAccountAfter(
+      String accountNumber, TransactionCursor cursor, int limit) {
+    return call(() -> delegate.findByAccountAfter(accountNumber, cursor, limit));
+  }
+
+  @Override
+  public Uni<List<Transaction>> findMatchingAfter(
+      TransactionFilter filter, TransactionCursor cursor, int limit) {
+    return call(() -> delegate.findMatchingAfter(filter, cursor, limit));
+  }
+
+  @Override
+  public Uni<TransactionSlice> findAllWithTotal(int offset, int limit) {
+    return call(() -> delegate.findAllWithTotal(offset, limit));
+  }
+
+  @Override
+  public Uni<TransactionSlice> findAfterWithTotal(TransactionCursor cursor, int limit) {
+    return call(() -> delegate.findAfterWithTotal(cursor, limit));
+  }
+
+  @Override
+  public Multi<Transaction> streamAll(int chunkSize) {
+    // Items are pulled from the lazy stream only as downstream requests them
+    Multi<Transaction> multi =
+        Multi.createFrom()
+            .resource(
+                () -> delegate.streamAll(chunkSize),
+                stream -> Multi.createFrom().iterable(stream::iterator))
+            .withFinalizer((Stream<Transaction> stream) -> stream.close());
+    return inline ? multi : multi.runSubscriptionOn(workerPool);
+  }
+
+  @Override
+  public Uni<Long> count() {
+    return call(delegate::count);
+  }
+
+  @Override
+  public Uni<Boolean> existsById(String id) {
+    return call(() -> delegate.existsById(id));
+  }
+
+  /** Stops accepting work on the virtual-thread executor, if this adapter created one. */
+  @PreDestroy
+  public void close() {
+    if (ownedPool != null) {
+      ownedPool.shutdown();
+    }
+  }
+
+  private <T> Uni<T> call(Supplier<T> operation) {
+    // Looked up here, on the request's thread: the operation may run on a worker
+    ServerTiming timing = ServerTiming.current();
+    Uni<T> uni = Uni.createFrom().item(timing == null ? operation : timed(operation, timing));
+    return inline ? uni : uni.runSubscriptionOn(workerPool);
+  }
+
+  private static <T> Supplier<T> timed(Supplier<T> operation, ServerTiming timing) {
+    return () -> {
+      long start = System.nanoTime();
+      try {
+        return operation.get();
+      } finally {
+        timing.repositoryCalled(System.nanoTime() - start);
+      }
+    };
+  }
+}
@@ -0,0 +1,14 @@
+package com.example.transactions.infrastructure.repositories;
+
+/**
+ * Exception thrown when a repository adapter cannot reach or query its backing store.
+ *
+ * <p>This is an infrastructure failure, not a business rule violation, so it is not a domain
+ * exception and surfaces as an internal server error.
+ */
+public class RepositoryAccessException extends RuntimeException {
+
+  public RepositoryAccessException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,131 @@
+package com.example.transactions.infrastructure.repositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionCursor;
+
+/**
+ * Secondary indexes of transactions by origin account and by destination account.
+ *
+ * <p>Each account has one {@link TransactionCreatedAtIndex} of the transactions it sent and one of
+ * those it received. A page of an account's history seeks into both trees and merges the two sorted
+ * runs, so it costs O(log h + limit) for an account with {@code h} transactions, whatever the size
+ * of the store.
+ *
+ * <p>Writes must come from one thread at a time. Reads take no lock, since the maps are concurrent
+ * and the trees persistent, but the two trees of an account are read one after the other: a reader
+ * racing a write may see it in one tree and not yet in the other, so callers that need a consistent
+ * page validate it against the writer (see {@link InMemoryTransactionRepositoryAdapter}).
+ */
+public final class TransactionAccountIndex {
+
+  private final Map<String, TransactionCreatedAtIndex> byOrigin = new ConcurrentHashMap<>();
+  private final Map<String, TransactionCreatedAtIndex> byDestination = new ConcurrentHashMap<>();
+
+  /**
+   * Adds a transaction under both of its accounts.
+   *
+   * @param transaction the transaction to index
+   */
+  public void insert(Transaction transaction) {
+    tree(byOrigin, transaction.getOriginAccountNumber()).insert(transaction);
+    tree(byDestination, transaction.getDestinationAccountNumber()).insert(transaction);
+  }
+
+  /**
+   * Removes a transaction from both of its accounts, matching on creation date and ID.
+   *
+   * @param transaction the transaction to remove
+   */
+  public void remove(Transaction transaction) {
+    remove(byOrigin, transaction.getOriginAccountNumber(), transaction);
+    remove(byDestination, transaction.getDestinationAccountNumber(), transaction);
+  }
+
+  /**
+   * Returns the transactions of an account, as origin or destination, that sort after a cursor.
+   *
+   * @param accountNumber the account number
+   * @param cursor the position to start after, or null to start from the newest transaction
+   * @param limit the maximum number of transactions to return
+   * @return the transactions in listing order
+   */
+  public List<Transaction> after(String accountNumber, TransactionCursor cursor, int limit) {
+    List<Transaction> asOrigin = seek(byOrigin.get(accountNumber), cursor, limit);
+    List<Transaction> asDestination = seek(byDestination.get(accountNumber), cursor, limit);
+    if (asDestination.isEmpty()) {
+      return asOrigin;
+    }
+    if (asOrigin.isEmpty()) {
+      return asDestination;
+    }
+    List<Transaction> result =
+        new ArrayList<>(Math.min(limit, asOrigin.size() + asDestination.size()));
+    int i = 0;
+    int j = 0;
+    while (result.size() < limit && (i < asOrigin.size() || j < asDestination.size())) {
+      int cmp =
+          i == asOrigin.size()
+              ? 1
+              : j == asDestination.size()
+                  ? -1
+                  : TransactionCreatedAtIndex.ORDER.compare(asOrigin.get(i), asDestination.get(j));
+      if (cmp == 0) {
+        // A transfer to the same account is in both trees
+        j++;
+        continue;
+      }
+      result.add(cmp < 0 ? asOrigin.get(i++) : asDestination.get(j++));
+    }
+    return result;
+  }
+
+  /**
+   * Gets the number of accounts that sent at least one indexed transaction.
+   *
+   * @return the number of origin accounts
+   */
+  public int originAccounts() {
+    return byOrigin.size();
+  }
+
+  /**
+   * Gets the number of accounts that received at least one indexed transaction.
+   *
+   * @return the number of destination accounts
+   */
+  public int destinationAccounts() {
+    return byDestination.size();
+  }
+
+  /** Removes every entry from the index. */
+  public void clear() {
+    byOrigin.clear();
+    byDestination.clear();
+  }
+
+  private static TransactionCreatedAtIndex tree(
+      Map<String, TransactionCreatedAtIndex> trees, String accountNumber) {
+    return trees.computeIfAbsent(accountNumber, account -> new TransactionCreatedAtIndex());
+  }
+
+  private static void remove(
+      Map<String, TransactionCreatedAtIndex> trees, String accountNumber, Transaction transaction) {
+    TransactionCreatedAtIndex tree = trees.get(accountNumber);
+    if (tree != null && tree.remove(transaction) && tree.size() == 0) {
+      trees.remove(accountNumber);
+    }
+  }
+
+  private static List<Transaction> seek(
+      TransactionCreatedAtIndex tree, TransactionCursor cursor, int limit) {
+    if (tree == null) {
+      return List.of();
+    }
+    return cursor == null ? tree.page(0, limit) : tree.after(cursor, limit);
+  }
+}
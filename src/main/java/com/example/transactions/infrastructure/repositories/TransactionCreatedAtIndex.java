@@ -0,0 +1,353 @@
+package com.example.transactions.infrastructure.repositories;
+
+import java.util.AbstractCollection;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionCursor;
+
+/**
+ * Order-statistic index of transactions sorted by creation date (newest first), then by ID.
+ *
+ * <p>The index is a size-augmented treap: every node knows how many nodes live in its subtree, so
+ * seeking to an arbitrary offset costs O(log n) and returning a page costs O(log n + limit) without
+ * touching the rest of the data set.
+ *
+ * <p>The treap is persistent: a write copies the O(log n) nodes on its path and publishes the new
+ * root through a volatile field, and no published node is ever modified. Reads therefore need no
+ * lock and each one sees a consistent version of the index, and {@link #snapshot()} freezes the
+ * current version in O(1). Writes must still come from one thread at a time (see {@link
+ * InMemoryTransactionRepositoryAdapter}).
+ */
+public final class TransactionCreatedAtIndex {
+
+  /**
+   * Listing order: newest first, ties broken by descending ID for a stable total order. IDs are
+   * time-ordered UUIDv7s, so transactions that share a clock tick still come newest first.
+   */
+  public static final Comparator<Transaction> ORDER =
+      Comparator.comparingLong(Transaction::getCreatedAtMicros)
+          .reversed()
+          .thenComparing(Transaction::getId, Comparator.reverseOrder());
+
+  private volatile Node root;
+
+  /** Creates an empty index. */
+  public TransactionCreatedAtIndex() {}
+
+  private TransactionCreatedAtIndex(Node root) {
+    this.root = root;
+  }
+
+  /**
+   * Adds a transaction to the index.
+   *
+   * @param transaction the transaction to index
+   */
+  public void insert(Transaction transaction) {
+    root = insert(root, transaction, ThreadLocalRandom.current().nextInt());
+  }
+
+  /**
+   * Removes a transaction from the index, matching on creation date and ID.
+   *
+   * @param transaction the transaction to remove
+   * @return true if the transaction was indexed and has been removed
+   */
+  public boolean remove(Transaction transaction) {
+    Node before = root;
+    root = remove(before, transaction);
+    return root != before;
+  }
+
+  /**
+   * Freezes the current version of the index, sharing its nodes.
+   *
+   * @return a read-only copy that later writes to this index do not affect
+   */
+  public TransactionCreatedAtIndex snapshot() {
+    return new TransactionCreatedAtIndex(root);
+  }
+
+  /**
+   * Gets every indexed transaction as a read-only collection in index order.
+   *
+   * @return a view of the current version, which later writes to this index do not affect
+   */
+  public Collection<Transaction> values() {
+    return values(false);
+  }
+
+  /**
+   * Gets every indexed transaction as a read-only collection in reverse index order, oldest first.
+   *
+   * @return a view of the current version, which later writes to this index do not affect
+   */
+  public Collection<Transaction> valuesOldestFirst() {
+    return values(true);
+  }
+
+  private Collection<Transaction> values(boolean reversed) {
+    Node current = root;
+    return new AbstractCollection<>() {
+      @Override
+      public Iterator<Transaction> iterator() {
+        return new InOrderIterator(current, reversed);
+      }
+
+      @Override
+      public int size() {
+        return TransactionCreatedAtIndex.size(current);
+      }
+    };
+  }
+
+  /**
+   * Returns a page of transactions in index order.
+   *
+   * @param offset the number of transactions to skip
+   * @param limit the maximum number of transactions to return
+   * @return the transactions in the requested page
+   */
+  public List<Transaction> page(int offset, int limit) {
+    Node current = root;
+    int available = Math.max(0, size(current) - offset);
+    List<Transaction> result = new ArrayList<>(Math.min(limit, available));
+    if (available > 0) {
+      collect(current, offset, limit, result);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the transactions that sort strictly after a cursor, seeking in O(log n).
+   *
+   * @param cursor the position to start after
+   * @param limit the maximum number of transactions to return
+   * @return the transactions following the cursor
+   */
+  public List<Transaction> after(TransactionCursor cursor, int limit) {
+    Node current = root;
+    List<Transaction> result = new ArrayList<>(Math.min(limit, size(current)));
+    collectAfter(current, cursor, limit, result);
+    return result;
+  }
+
+  /**
+   * Visits the transactions after a cursor in index order until the visitor asks to stop.
+   *
+   * @param cursor the position to start after, or null to start from the first transaction
+   * @param visitor called with each transaction; returns false to stop the scan
+   */
+  public void scan(TransactionCursor cursor, Predicate<Transaction> visitor) {
+    scanAfter(root, cursor, visitor);
+  }
+
+  /**
+   * Counts the transactions that sort strictly after a cursor, in O(log n).
+   *
+   * @param cursor the position to count from
+   * @return the number of transactions following the cursor
+   */
+  public int countAfter(TransactionCursor cursor) {
+    int count = 0;
+    Node node = root;
+    while (node != null) {
+      if (cursor.precedes(node.transaction)) {
+        count += 1 + size(node.right);
+        node = node.left;
+      } else {
+        node = node.right;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Gets the number of indexed transactions.
+   *
+   * @return the index size
+   */
+  public int size() {
+    return size(root);
+  }
+
+  /** Removes every entry from the index. */
+  public void clear() {
+    root = null;
+  }
+
+  private static Node insert(Node node, Transaction transaction, int priority) {
+    if (node == null) {
+      return new Node(transaction, priority, null, null);
+    }
+    if (priority > node.priority) {
+      // The new node becomes the root of this subtree, taking the smaller keys to its left
+      Split parts = split(node, transaction);
+      return new Node(transaction, priority, parts.left(), parts.right());
+    }
+    if (ORDER.compare(transaction, node.transaction) < 0) {
+      return node.withLeft(insert(node.left, transaction, priority));
+    }
+    return node.withRight(insert(node.right, transaction, priority));
+  }
+
+  // Splits a subtree into the nodes that sort before a key and the others, copying the split path
+  private static Split split(Node node, Transaction key) {
+    if (node == null) {
+      return new Split(null, null);
+    }
+    if (ORDER.compare(node.transaction, key) < 0) {
+      Split parts = split(node.right, key);
+      return new Split(node.withRight(parts.left()), parts.right());
+    }
+    Split parts = split(node.left, key);
+    return new Split(parts.left(), node.withLeft(parts.right()));
+  }
+
+  // Returns the node itself when the transaction is not in its subtree
+  private static Node remove(Node node, Transaction transaction) {
+    if (node == null) {
+      return null;
+    }
+    int cmp = ORDER.compare(transaction, node.transaction);
+    if (cmp < 0) {
+      Node left = remove(node.left, transaction);
+      return left == node.left ? node : node.withLeft(left);
+    }
+    if (cmp > 0) {
+      Node right = remove(node.right, transaction);
+      return right == node.right ? node : node.withRight(right);
+    }
+    return merge(node.left, node.right);
+  }
+
+  private static Node merge(Node left, Node right) {
+    if (left == null) {
+      return right;
+    }
+    if (right == null) {
+      return left;
+    }
+    if (left.priority > right.priority) {
+      return left.withRight(merge(left.right, right));
+    }
+    return right.withLeft(merge(left, right.left));
+  }
+
+  private static void collect(Node node, int offset, int limit, List<Transaction> out) {
+    if (node == null || out.size() >= limit) {
+      return;
+    }
+    int leftSize = size(node.left);
+    if (offset < leftSize) {
+      collect(node.left, offset, limit, out);
+    }
+    if (offset <= leftSize && out.size() < limit) {
+      out.add(node.transaction);
+    }
+    if (out.size() < limit) {
+      collect(node.right, Math.max(0, offset - leftSize - 1), limit, out);
+    }
+  }
+
+  private static void collectAfter(
+      Node node, TransactionCursor cursor, int limit, List<Transaction> out) {
+    if (node == null || out.size() >= limit) {
+      return;
+    }
+    if (!cursor.precedes(node.transaction)) {
+      collectAfter(node.right, cursor, limit, out);
+      return;
+    }
+    collectAfter(node.left, cursor, limit, out);
+    if (out.size() < limit) {
+      out.add(node.transaction);
+    }
+    collect(node.right, 0, limit, out);
+  }
+
+  // Returns false once the visitor has asked to stop
+  private static boolean scanAfter(
+      Node node, TransactionCursor cursor, Predicate<Transaction> visitor) {
+    if (node == null) {
+      return true;
+    }
+    if (cursor != null && !cursor.precedes(node.transaction)) {
+      return scanAfter(node.right, cursor, visitor);
+    }
+    return scanAfter(node.left, cursor, visitor)
+        && visitor.test(node.transaction)
+        && scanAfter(node.right, null, visitor);
+  }
+
+  private static int size(Node node) {
+    return node == null ? 0 : node.size;
+  }
+
+  private static final class InOrderIterator implements Iterator<Transaction> {
+    private final Deque<Node> path = new ArrayDeque<>();
+    private final boolean reversed;
+
+    private InOrderIterator(Node root, boolean reversed) {
+      this.reversed = reversed;
+      descend(root);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !path.isEmpty();
+    }
+
+    @Override
+    public Transaction next() {
+      if (path.isEmpty()) {
+        throw new NoSuchElementException();
+      }
+      Node node = path.pop();
+      descend(reversed ? node.left : node.right);
+      return node.transaction;
+    }
+
+    private void descend(Node node) {
+      for (Node next = node; next != null; next = reversed ? next.right : next.left) {
+        path.push(next);
+      }
+    }
+  }
+
+  private record Split(Node left, Node right) {}
+
+  private static final class Node {
+    private final Transaction transaction;
+    private final int priority;
+    private final Node left;
+    private final Node right;
+    private final int size;
+
+    private Node(Transaction transaction, int priority, Node left, Node right) {
+      this.transaction = transaction;
+      this.priority = priority;
+      this.left = left;
+      this.right = right;
+      this.size = 1 + TransactionCreatedAtIndex.size(left) + TransactionCreatedAtIndex.size(right);
+    }
+
+    private Node withLeft(Node newLeft) {
+      return new Node(transaction, priority, newLeft, right);
+    }
+
+    private Node withRight(Node newRight) {
+      return new Node(transaction, priority, left, newRight);
+    }
+  }
+}
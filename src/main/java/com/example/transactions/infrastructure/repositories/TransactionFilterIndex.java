@@ -0,0 +1,405 @@
+package com.example.transactions.infrastructure.repositories;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionCursor;
+import com.example.transactions.domain.transaction.model.TransactionFilter;
+import com.example.transactions.domain.transaction.model.TransactionStatus;
+
+/**
+ * Secondary indexes for filtered listings, and the planner that picks which one a page reads.
+ *
+ * <p>Every transaction gets a dense row number. The low-cardinality columns are indexed as one
+ * compressed {@link RoaringBitmap} of rows per status and per currency; amounts are indexed per
+ * currency as a sorted map from minor units to the bitmap of rows with that amount, so a range is a
+ * sub-map. A filtered page is then read in one of two ways:
+ *
+ * <ul>
+ *   <li>{@link Access#CREATED_AT}: walk the {@link TransactionCreatedAtIndex} from the cursor or
+ *       the end of the creation range, test each transaction, and stop after {@code limit} matches
+ *       or at the start of the range. Cheap when matches are dense.
+ *   <li>{@link Access#STATUS}, {@link Access#CURRENCY} or {@link Access#AMOUNT}: take the rows of
+ *       that criterion, intersect the other bitmaps, and walk what remains in listing order from
+ *       the cursor, testing each row, until {@code limit} match. Cheap when matches are rare.
+ * </ul>
+ *
+ * <p>Rows are numbered as transactions arrive, which is mostly creation order, so for most rows a
+ * higher number means a newer transaction, earlier in listing order. Those rows are kept in the
+ * {@code ordered} bitmap: a probe finds the cursor among them by binary search, then steps down
+ * through the candidates with {@link RoaringBitmap#previousValue}, so a page costs its {@code
+ * limit} matches plus the candidates that fail the filter, however deep the cursor. A transaction
+ * saved after a newer one gets a row out of that order and goes to the {@code displaced} bitmap,
+ * whose few candidates every probe tests one by one.
+ *
+ * <p>{@link #plan} estimates the rows each way reads: bitmap cardinalities for the bitmap accesses,
+ * and for the walk the rows of the creation window it must visit before {@code limit} matches turn
+ * up, assuming the most selective criterion is spread evenly over time.
+ *
+ * <p>This class is not thread-safe on its own; callers must guard mutations and reads with an
+ * external lock (see {@link InMemoryTransactionRepositoryAdapter}).
+ */
+public final class TransactionFilterIndex {
+
+  /** The index a filtered page is read from. */
+  public enum Access {
+    CREATED_AT,
+    STATUS,
+    CURRENCY,
+    AMOUNT
+  }
+
+  /**
+   * The access chosen for a filtered page.
+   *
+   * @param access the index to read
+   * @param estimatedRows the number of rows it is expected to read
+   */
+  public record Plan(Access access, long estimatedRows) {}
+
+  private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+  private final TransactionCreatedAtIndex createdAtIndex;
+  private final List<Transaction> rows = new ArrayList<>();
+  private final Map<String, Integer> rowIds = new HashMap<>();
+  private final Map<TransactionStatus, RoaringBitmap> byStatus =
+      new EnumMap<>(TransactionStatus.class);
+  private final Map<String, RoaringBitmap> byCurrency = new HashMap<>();
+  private final Map<String, TreeMap<Long, RoaringBitmap>> byAmount = new HashMap<>();
+  // Rows whose numbers follow the listing order, newest highest, and the rows that do not
+  private final RoaringBitmap ordered = new RoaringBitmap();
+  private final RoaringBitmap displaced = new RoaringBitmap();
+  // The newest transaction given an ordered row, as of when it was given one
+  private Transaction newestOrdered;
+
+  /**
+   * Creates the indexes.
+   *
+   * @param createdAtIndex the listing order index, kept in sync by the caller
+   */
+  public TransactionFilterIndex(TransactionCreatedAtIndex createdAtIndex) {
+    this.createdAtIndex = createdAtIndex;
+  }
+
+  /**
+   * Adds a transaction, replacing the indexed values of an earlier version with the same ID.
+   *
+   * @param transaction the transaction to index
+   */
+  public void insert(Transaction transaction) {
+    Integer existing = rowIds.get(transaction.getId());
+    int row;
+    if (existing == null) {
+      row = rows.size();
+      rows.add(transaction);
+      rowIds.put(transaction.getId(), row);
+      if (newestOrdered == null
+          || TransactionCreatedAtIndex.ORDER.compare(transaction, newestOrdered) < 0) {
+        ordered.add(row);
+        newestOrdered = transaction;
+      } else {
+        displaced.add(row);
+      }
+    } else {
+      row = existing;
+      Transaction previous = rows.get(row);
+      unindex(row, previous);
+      rows.set(row, transaction);
+      if (TransactionCreatedAtIndex.ORDER.compare(transaction, previous) != 0
+          && ordered.checkedRemove(row)) {
+        displaced.add(row);
+      }
+    }
+    byStatus.computeIfAbsent(transaction.getStatus(), status -> new RoaringBitmap()).add(row);
+    byCurrency.computeIfAbsent(transaction.getCurrency(), currency -> new RoaringBitmap()).add(row);
+    byAmount
+        .computeIfAbsent(transaction.getCurrency(), currency -> new TreeMap<>())
+        .computeIfAbsent(transaction.getAmountMinorUnits(), amount -> new RoaringBitmap())
+        .add(row);
+  }
+
+  /**
+   * Chooses how to read a filtered page.
+   *
+   * @param filter the criteria
+   * @param cursor the position to start after, or null to start from the newest transaction
+   * @param limit the maximum number of transactions to return
+   * @return the cheapest access by estimated rows read
+   */
+  public Plan plan(TransactionFilter filter, TransactionCursor cursor, int limit) {
+    Access best = Access.CREATED_AT;
+    long bestRows = Long.MAX_VALUE;
+    if (!filter.statuses().isEmpty()) {
+      best = Access.STATUS;
+      bestRows = 0;
+      for (TransactionStatus status : filter.statuses()) {
+        bestRows += byStatus.getOrDefault(status, EMPTY).getLongCardinality();
+      }
+    }
+    if (filter.currency() != null) {
+      long currencyRows = currencyRows(filter.currency()).getLongCardinality();
+      if (currencyRows < bestRows) {
+        best = Access.CURRENCY;
+        bestRows = currencyRows;
+      }
+      if (filter.hasAmountRange()) {
+        long amountRows = countAmountRows(filter, bestRows);
+        if (amountRows < bestRows) {
+          best = Access.AMOUNT;
+          bestRows = amountRows;
+        }
+      }
+    }
+
+    long window = windowRows(filter, cursor);
+    if (best == Access.CREATED_AT) {
+      return new Plan(Access.CREATED_AT, Math.min(window, limit));
+    }
+    // Rows visited before limit matches turn up, if matches are spread evenly over time
+    long scanRows =
+        bestRows == 0 ? window : Math.min(window, (long) limit * rows.size() / bestRows);
+    return scanRows <= bestRows ? new Plan(Access.CREATED_AT, scanRows) : new Plan(best, bestRows);
+  }
+
+  /**
+   * Returns the transactions that meet a filter and sort after a cursor, reading the index chosen
+   * by {@link #plan}.
+   *
+   * @param filter the criteria
+   * @param cursor the position to start after, or null to start from the newest transaction
+   * @param limit the maximum number of transactions to return
+   * @return the matching transactions in listing order
+   */
+  public List<Transaction> find(TransactionFilter filter, TransactionCursor cursor, int limit) {
+    if (limit <= 0) {
+      return new ArrayList<>();
+    }
+    Access access = plan(filter, cursor, limit).access();
+    return access == Access.CREATED_AT
+        ? scan(filter, cursor, limit)
+        : probe(access, filter, cursor, limit);
+  }
+
+  /**
+   * Gets the number of distinct values of an indexed column.
+   *
+   * @param access the index
+   * @return the number of statuses, currencies or amounts per currency, or 0 for the listing index
+   */
+  public int keys(Access access) {
+    return switch (access) {
+      case STATUS -> byStatus.size();
+      case CURRENCY -> byCurrency.size();
+      case AMOUNT -> byAmount.values().stream().mapToInt(Map::size).sum();
+      case CREATED_AT -> 0;
+    };
+  }
+
+  /**
+   * Gets the number of rows numbered out of listing order.
+   *
+   * @return the size of the displaced bitmap
+   */
+  public int displacedRows() {
+    return displaced.getCardinality();
+  }
+
+  /** Removes every entry from the indexes. */
+  public void clear() {
+    rows.clear();
+    rowIds.clear();
+    byStatus.clear();
+    byCurrency.clear();
+    byAmount.clear();
+    ordered.clear();
+    displaced.clear();
+    newestOrdered = null;
+  }
+
+  private List<Transaction> scan(TransactionFilter filter, TransactionCursor cursor, int limit) {
+    List<Transaction> matches = new ArrayList<>(Math.min(limit, rows.size()));
+    createdAtIndex.scan(
+        filter.seekFrom(cursor),
+        transaction -> {
+          if (filter.endsScan(transaction)) {
+            return false;
+          }
+          if (filter.matches(transaction)) {
+            matches.add(transaction);
+          }
+          return matches.size() < limit;
+        });
+    return matches;
+  }
+
+  private List<Transaction> probe(
+      Access access, TransactionFilter filter, TransactionCursor cursor, int limit) {
+    RoaringBitmap candidates =
+        switch (access) {
+          case STATUS -> statusRows(filter.statuses());
+          case CURRENCY -> currencyRows(filter.currency());
+          case AMOUNT -> amountRows(filter);
+          case CREATED_AT -> throw new IllegalArgumentException("Not a bitmap index: " + access);
+        };
+    // Intersecting the other bitmaps is cheaper than testing their rows one by one
+    if (access != Access.STATUS && !filter.statuses().isEmpty()) {
+      candidates = RoaringBitmap.and(candidates, statusRows(filter.statuses()));
+    } else if (access == Access.STATUS && filter.currency() != null) {
+      candidates = RoaringBitmap.and(candidates, currencyRows(filter.currency()));
+    }
+
+    TransactionCursor start = filter.seekFrom(cursor);
+    // Bounded heap whose head is the latest of the newest matches seen so far
+    PriorityQueue<Transaction> newest =
+        new PriorityQueue<>(limit, TransactionCreatedAtIndex.ORDER.reversed());
+    IntIterator iterator = displaced.getIntIterator();
+    while (iterator.hasNext()) {
+      int row = iterator.next();
+      if (candidates.contains(row)) {
+        offer(newest, rows.get(row), filter, start, limit);
+      }
+    }
+    // Every ordered row below a match is later in listing order, so limit matches end the walk
+    int matches = 0;
+    int seek = seekRow(start);
+    long row = seek < 0 ? -1 : candidates.previousValue(seek);
+    while (row >= 0 && matches < limit) {
+      int current = (int) row;
+      if (ordered.contains(current)) {
+        Transaction transaction = rows.get(current);
+        if (filter.endsScan(transaction)) {
+          break;
+        }
+        if (filter.matches(transaction)) {
+          matches++;
+          offer(newest, transaction, filter, start, limit);
+        }
+      }
+      row = current == 0 ? -1 : candidates.previousValue(current - 1);
+    }
+    List<Transaction> page = new ArrayList<>(newest);
+    page.sort(TransactionCreatedAtIndex.ORDER);
+    return page;
+  }
+
+  // Adds a transaction that sorts after the start and meets the filter, if among the newest
+  private static void offer(
+      PriorityQueue<Transaction> newest,
+      Transaction transaction,
+      TransactionFilter filter,
+      TransactionCursor start,
+      int limit) {
+    if ((start != null && !start.precedes(transaction)) || !filter.matches(transaction)) {
+      return;
+    }
+    if (newest.size() < limit) {
+      newest.add(transaction);
+    } else if (TransactionCreatedAtIndex.ORDER.compare(transaction, newest.peek()) < 0) {
+      newest.poll();
+      newest.add(transaction);
+    }
+  }
+
+  // Highest ordered row that sorts after the start, found by binary search over the ordered rows
+  private int seekRow(TransactionCursor start) {
+    int count = ordered.getCardinality();
+    if (start == null) {
+      return count == 0 ? -1 : ordered.last();
+    }
+    int low = 0;
+    int high = count;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (start.precedes(rows.get(ordered.select(mid)))) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low == 0 ? -1 : ordered.select(low - 1);
+  }
+
+  private RoaringBitmap statusRows(Set<TransactionStatus> statuses) {
+    if (statuses.size() == 1) {
+      return byStatus.getOrDefault(statuses.iterator().next(), EMPTY);
+    }
+    RoaringBitmap union = new RoaringBitmap();
+    for (TransactionStatus status : statuses) {
+      union.or(byStatus.getOrDefault(status, EMPTY));
+    }
+    return union;
+  }
+
+  private RoaringBitmap currencyRows(String currency) {
+    return byCurrency.getOrDefault(currency, EMPTY);
+  }
+
+  private RoaringBitmap amountRows(TransactionFilter filter) {
+    TreeMap<Long, RoaringBitmap> amounts = byAmount.get(filter.currency());
+    if (amounts == null) {
+      return EMPTY;
+    }
+    return FastAggregation.or(
+        amounts
+            .subMap(filter.minAmountMinor(), true, filter.maxAmountMinor(), true)
+            .values()
+            .iterator());
+  }
+
+  // Stops counting once the range is known to be no better than the current best
+  private long countAmountRows(TransactionFilter filter, long cap) {
+    TreeMap<Long, RoaringBitmap> amounts = byAmount.get(filter.currency());
+    if (amounts == null) {
+      return 0;
+    }
+    long count = 0;
+    for (RoaringBitmap bitmap :
+        amounts.subMap(filter.minAmountMinor(), true, filter.maxAmountMinor(), true).values()) {
+      count += bitmap.getLongCardinality();
+      if (count >= cap) {
+        return count;
+      }
+    }
+    return count;
+  }
+
+  // Transactions between the scan start and the start of the creation range
+  private long windowRows(TransactionFilter filter, TransactionCursor cursor) {
+    TransactionCursor start = filter.seekFrom(cursor);
+    long window = start == null ? createdAtIndex.size() : createdAtIndex.countAfter(start);
+    if (filter.createdFromMicros() != Long.MIN_VALUE) {
+      // No ID sorts before "", so this precedes exactly the transactions older than the range
+      window -= createdAtIndex.countAfter(new TransactionCursor(filter.createdFromMicros(), ""));
+    }
+    return Math.max(0, window);
+  }
+
+  private void unindex(int row, Transaction transaction) {
+    removeRow(byStatus, transaction.getStatus(), row);
+    removeRow(byCurrency, transaction.getCurrency(), row);
+    TreeMap<Long, RoaringBitmap> amounts = byAmount.get(transaction.getCurrency());
+    removeRow(amounts, transaction.getAmountMinorUnits(), row);
+    if (amounts.isEmpty()) {
+      byAmount.remove(transaction.getCurrency());
+    }
+  }
+
+  private static <K> void removeRow(Map<K, RoaringBitmap> index, K key, int row) {
+    RoaringBitmap bitmap = index.get(key);
+    bitmap.remove(row);
+    if (bitmap.isEmpty()) {
+      index.remove(key);
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.example.transactions.infrastructure.repositories.cache;
+
+import java.time.Duration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/** Configuration of the read-through cache in front of the repository's lookups by ID. */
+@ConfigMapping(prefix = "app.repository.cache")
+public interface CacheConfig {
+
+  /**
+   * Whether lookups by ID go through the cache.
+   *
+   * @return true to decorate the active adapter with the cache
+   */
+  @WithDefault("false")
+  boolean enabled();
+
+  /**
+   * Maximum number of cached transactions; beyond it entries are evicted by W-TinyLFU.
+   *
+   * @return the maximum cache size
+   */
+  @WithDefault("10000")
+  long maximumSize();
+
+  /**
+   * How long a transaction that can still change stays cached after it was loaded.
+   *
+   * @return the time to live of non-final transactions
+   */
+  @WithDefault("30s")
+  Duration ttl();
+
+  /**
+   * How long a final (completed or failed) transaction stays cached after it was loaded.
+   *
+   * @return the time to live of final transactions
+   */
+  @WithDefault("10m")
+  Duration finalTtl();
+}
@@ -0,0 +1,187 @@
+package com.example.transactions.infrastructure.repositories.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionCursor;
+import com.example.transactions.domain.transaction.model.TransactionFilter;
+import com.example.transactions.domain.transaction.model.TransactionSlice;
+import com.example.transactions.domain.transaction.ports.TransactionRepositoryPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Read-through cache decorator for any TransactionRepositoryPort.
+ *
+ * <p>Lookups by ID are served from a bounded Caffeine cache (W-TinyLFU admission and eviction), so
+ * the repeated reads of a freshly created transaction hit the adapter once. Transactions that can
+ * still change expire after {@link CacheConfig#ttl()}; final ones never change again and live for
+ * {@link CacheConfig#finalTtl()}. Missing IDs are not cached.
+ *
+ * <p>Writes go to the adapter first and then invalidate the cached entry. A load racing with the
+ * write either completes before the invalidation (and is discarded) or starts after it (and sees
+ * the new state), so the cache never keeps a stale transaction. Every other operation is delegated
+ * unchanged.
+ */
+public class CachingTransactionRepositoryAdapter implements TransactionRepositoryPort {
+
+  private final TransactionRepositoryPort delegate;
+  private final Cache<String, Transaction> cache;
+
+  /**
+   * Wraps an adapter with a cache sized and timed by the given configuration.
+   *
+   * @param delegate the adapter to cache
+   * @param config the cache bounds
+   */
+  public CachingTransactionRepositoryAdapter(
+      TransactionRepositoryPort delegate, CacheConfig config) {
+    this(delegate, config, Ticker.systemTicker());
+  }
+
+  CachingTransactionRepositoryAdapter(
+      TransactionRepositoryPort delegate, CacheConfig config, Ticker ticker) {
+    this.delegate = delegate;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(config.maximumSize())
+            .expireAfter(new StatusAwareExpiry(config.ttl(), config.finalTtl()))
+            .ticker(ticker)
+            .recordStats()
+            .build();
+  }
+
+  @Override
+  public Transaction save(Transaction transaction) {
+    Transaction saved = delegate.save(transaction);
+    cache.invalidate(transaction.getId());
+    return saved;
+  }
+
+  @Override
+  public List<Transaction> saveAll(Collection<Transaction> transactions) {
+    List<Transaction> saved = delegate.saveAll(transactions);
+    cache.invalidateAll(transactions.stream().map(Transaction::getId).toList());
+    return saved;
+  }
+
+  @Override
+  public Optional<Transaction> findById(String id) {
+    return Optional.ofNullable(cache.get(id, key -> delegate.findById(key).orElse(null)));
+  }
+
+  @Override
+  public List<Transaction> findAll(int offset, int limit) {
+    return delegate.findAll(offset, limit);
+  }
+
+  @Override
+  public List<Transaction> findAfter(TransactionCursor cursor, int limit) {
+    return delegate.findAfter(cursor, limit);
+  }
+
+  @Override
+  public List<Transaction> findByAccountAfter(
+      String accountNumber, TransactionCursor cursor, int limit) {
+    return delegate.findByAccountAfter(accountNumber, cursor, limit);
+  }
+
+  @Override
+  public List<Transaction> findMatchingAfter(
+      TransactionFilter filter, TransactionCursor cursor, int limit) {
+    return delegate.findMatchingAfter(filter, cursor, limit);
+  }
+
+  @Override
+  public Stream<Transaction> streamAll(int chunkSize) {
+    return delegate.streamAll(chunkSize);
+  }
+
+  @Override
+  public TransactionSlice findAllWithTotal(int offset, int limit) {
+    return delegate.findAllWithTotal(offset, limit);
+  }
+
+  @Override
+  public TransactionSlice findAfterWithTotal(TransactionCursor cursor, int limit) {
+    return delegate.findAfterWithTotal(cursor, limit);
+  }
+
+  @Override
+  public long count() {
+    return delegate.count();
+  }
+
+  @Override
+  public boolean existsById(String id) {
+    return cache.getIfPresent(id) != null || delegate.existsById(id);
+  }
+
+  @Override
+  public boolean isNonBlocking() {
+    return delegate.isNonBlocking();
+  }
+
+  /**
+   * Gets the adapter behind the cache.
+   *
+   * @return the cached adapter
+   */
+  public TransactionRepositoryPort delegate() {
+    return delegate;
+  }
+
+  /**
+   * Gets the hit, miss, load and eviction counters of the cache.
+   *
+   * @return a snapshot of the cache statistics
+   */
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  /**
+   * Gets the approximate number of cached transactions.
+   *
+   * @return the estimated cache size
+   */
+  public long estimatedSize() {
+    return cache.estimatedSize();
+  }
+
+  /** Expires final transactions after the long TTL and the others after the short one. */
+  private static final class StatusAwareExpiry implements Expiry<String, Transaction> {
+
+    private final long ttlNanos;
+    private final long finalTtlNanos;
+
+    StatusAwareExpiry(Duration ttl, Duration finalTtl) {
+      this.ttlNanos = ttl.toNanos();
+      this.finalTtlNanos = finalTtl.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(String id, Transaction transaction, long currentTime) {
+      return transaction.isFinal() ? finalTtlNanos : ttlNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String id, Transaction transaction, long currentTime, long currentDuration) {
+      return expireAfterCreate(id, transaction, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String id, Transaction transaction, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
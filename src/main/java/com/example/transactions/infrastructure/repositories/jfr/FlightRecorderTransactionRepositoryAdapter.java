@@ -0,0 +1,206 @@
+package com.example.transactions.infrastructure.repositories.jfr;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionCursor;
+import com.example.transactions.domain.transaction.model.TransactionFilter;
+import com.example.transactions.domain.transaction.model.TransactionSlice;
+import com.example.transactions.domain.transaction.ports.TransactionRepositoryPort;
+import com.example.transactions.infrastructure.jfr.RepositoryCallEvent;
+
+/**
+ * Flight Recorder decorator for any TransactionRepositoryPort.
+ *
+ * <p>Each port call emits a {@link RepositoryCallEvent} carrying the method, the adapter type and,
+ * for the calls that read or save transactions, the number of rows. While no recording enables the
+ * event it is never committed and the JIT eliminates its allocation, so the decorator can stay in
+ * place in production. {@link #streamAll(int)} is delegated without an event, because its cost is
+ * paid while the caller consumes the stream.
+ */
+public class FlightRecorderTransactionRepositoryAdapter implements TransactionRepositoryPort {
+
+  private final TransactionRepositoryPort delegate;
+  private final String adapterType;
+
+  /**
+   * Wraps an adapter.
+   *
+   * @param delegate the adapter to record
+   * @param adapterType the configured adapter type, carried by the events
+   */
+  public FlightRecorderTransactionRepositoryAdapter(
+      TransactionRepositoryPort delegate, String adapterType) {
+    this.delegate = delegate;
+    this.adapterType = adapterType;
+  }
+
+  @Override
+  public Transaction save(Transaction transaction) {
+    RepositoryCallEvent event = begin();
+    boolean failed = true;
+    try {
+      Transaction saved = delegate.save(transaction);
+      failed = false;
+      return saved;
+    } finally {
+      event.complete(adapterType, "save", failed ? RepositoryCallEvent.NO_ROWS : 1, failed);
+    }
+  }
+
+  @Override
+  public List<Transaction> saveAll(Collection<Transaction> transactions) {
+    RepositoryCallEvent event = begin();
+    List<Transaction> saved = null;
+    try {
+      saved = delegate.saveAll(transactions);
+      return saved;
+    } finally {
+      complete(event, "saveAll", saved);
+    }
+  }
+
+  @Override
+  public Optional<Transaction> findById(String id) {
+    RepositoryCallEvent event = begin();
+    Optional<Transaction> found = null;
+    try {
+      found = delegate.findById(id);
+      return found;
+    } finally {
+      event.complete(
+          adapterType,
+          "findById",
+          found == null ? RepositoryCallEvent.NO_ROWS : found.isPresent() ? 1 : 0,
+          found == null);
+    }
+  }
+
+  @Override
+  public List<Transaction> findAll(int offset, int limit) {
+    RepositoryCallEvent event = begin();
+    List<Transaction> found = null;
+    try {
+      found = delegate.findAll(offset, limit);
+      return found;
+    } finally {
+      complete(event, "findAll", found);
+    }
+  }
+
+  @Override
+  public List<Transaction> findAfter(TransactionCursor cursor, int limit) {
+    RepositoryCallEvent event = begin();
+    List<Transaction> found = null;
+    try {
+      found = delegate.findAfter(cursor, limit);
+      return found;
+    } finally {
+      complete(event, "findAfter", found);
+    }
+  }
+
+  @Override
+  public List<Transaction> findByAccountAfter(
+      String accountNumber, TransactionCursor cursor, int limit) {
+    RepositoryCallEvent event = begin();
+    List<Transaction> found = null;
+    try {
+      found = delegate.findByAccountAfter(accountNumber, cursor, limit);
+      return found;
+    } finally {
+      complete(event, "findByAccountAfter", found);
+    }
+  }
+
+  @Override
+  public List<Transaction> findMatchingAfter(
+      TransactionFilter filter, TransactionCursor cursor, int limit) {
+    RepositoryCallEvent event = begin();
+    List<Transaction> found = null;
+    try {
+      found = delegate.findMatchingAfter(filter, cursor, limit);
+      return found;
+    } finally {
+      complete(event, "findMatchingAfter", found);
+    }
+  }
+
+  @Override
+  public Stream<Transaction> streamAll(int chunkSize) {
+    return delegate.streamAll(chunkSize);
+  }
+
+  @Override
+  public TransactionSlice findAllWithTotal(int offset, int limit) {
+    RepositoryCallEvent event = begin();
+    TransactionSlice slice = null;
+    try {
+      slice = delegate.findAllWithTotal(offset, limit);
+      return slice;
+    } finally {
+      complete(event, "findAllWithTotal", slice == null ? null : slice.transactions());
+    }
+  }
+
+  @Override
+  public TransactionSlice findAfterWithTotal(TransactionCursor cursor, int limit) {
+    RepositoryCallEvent event = begin();
+    TransactionSlice slice = null;
+    try {
+      slice = delegate.findAfterWithTotal(cursor, limit);
+      return slice;
+    } finally {
+      complete(event, "findAfterWithTotal", slice == null ? null : slice.transactions());
+    }
+  }
+
+  @Override
+  public long count() {
+    RepositoryCallEvent event = begin();
+    boolean failed = true;
+    try {
+      long count = delegate.count();
+      failed = false;
+      return count;
+    } finally {
+      event.complete(adapterType, "count", RepositoryCallEvent.NO_ROWS, failed);
+    }
+  }
+
+  @Override
+  public boolean existsById(String id) {
+    RepositoryCallEvent event = begin();
+    boolean failed = true;
+    try {
+      boolean exists = delegate.existsById(id);
+      failed = false;
+      return exists;
+    } finally {
+      event.complete(adapterType, "existsById", RepositoryCallEvent.NO_ROWS, failed);
+    }
+  }
+
+  @Override
+  public boolean isNonBlocking() {
+    return delegate.isNonBlocking();
+  }
+
+  private static RepositoryCallEvent begin() {
+    RepositoryCallEvent event = new RepositoryCallEvent();
+    event.begin();
+    return event;
+  }
+
+  // A null result means the delegate threw
+  private void complete(RepositoryCallEvent event, String method, List<Transaction> rows) {
+    event.complete(
+        adapterType,
+        method,
+        rows == null ? RepositoryCallEvent.NO_ROWS : rows.size(),
+        rows == null);
+  }
+}
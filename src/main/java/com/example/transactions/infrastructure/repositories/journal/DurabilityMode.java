@@ -0,0 +1,13 @@
+package com.example.transactions.infrastructure.repositories.journal;
+
+/** How eagerly the transaction journal forces appended records to stable storage. */
+public enum DurabilityMode {
+  /** Never fsync explicitly; the OS flushes the page cache on its own schedule. */
+  NONE,
+
+  /** Fsync periodically in the background; a crash may lose the last flush interval. */
+  ASYNC,
+
+  /** Each save waits for an fsync covering its record; concurrent saves share one fsync. */
+  SYNC
+}
@@ -0,0 +1,51 @@
+package com.example.transactions.infrastructure.repositories.journal;
+
+import java.time.Duration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/** Configuration of the in-memory repository's write-ahead journal. */
+@ConfigMapping(prefix = "app.repository.in-memory.journal")
+public interface JournalConfig {
+
+  /**
+   * Whether the in-memory repository persists its writes.
+   *
+   * @return true to journal writes and recover them on startup
+   */
+  @WithDefault("false")
+  boolean enabled();
+
+  /**
+   * Directory holding log segments and snapshots.
+   *
+   * @return the journal directory
+   */
+  @WithDefault("data/journal")
+  String directory();
+
+  /**
+   * When appended records are forced to disk.
+   *
+   * @return the durability mode
+   */
+  @WithDefault("sync")
+  DurabilityMode durability();
+
+  /**
+   * Interval between background fsyncs in {@link DurabilityMode#ASYNC} mode.
+   *
+   * @return the flush interval
+   */
+  @WithDefault("10ms")
+  Duration flushInterval();
+
+  /**
+   * Number of logged writes after which a compact snapshot is taken and older segments dropped.
+   *
+   * @return the snapshot threshold
+   */
+  @WithDefault("100000")
+  int snapshotEvery();
+}
@@ -0,0 +1,580 @@
+package com.example.transactions.infrastructure.repositories.journal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import com.example.transactions.domain.transaction.model.Transaction;
+
+/**
+ * Append-only write-ahead log with periodic compact snapshots.
+ *
+ * <p>Writes go to the current log segment ({@code wal-<seq>.log}) through a {@link FileChannel}.
+ * Depending on the {@link DurabilityMode}, callers wait for an fsync covering their record; in
+ * {@link DurabilityMode#SYNC} mode concurrent waiters elect one leader that fsyncs on behalf of all
+ * of them (group commit).
+ *
+ * <p>A snapshot rotates to a new segment and, in the background, forces and closes the retired
+ * segment, writes the captured state to {@code snapshot-<seq>.dat} and deletes the files it
+ * supersedes. Rotation itself does no I/O beyond opening the new file and never waits for an fsync,
+ * so it is cheap to call under the repository's write lock. Until the retired segment is closed,
+ * every group commit forces it along with the current one. Recovery loads the newest snapshot and
+ * replays the segments from its sequence onwards, truncating a torn tail.
+ *
+ * <p>{@link #append(Transaction)}, {@link #snapshot(Collection)} and {@link #reset()} must be
+ * called by one writer at a time (the repository's write lock); {@link #awaitDurable(long)} is
+ * meant to be called after releasing that lock so waiters can share an fsync.
+ */
+public final class TransactionJournal implements Closeable {
+
+  private static final Logger logger = Logger.getLogger(TransactionJournal.class.getName());
+  private static final Pattern SEGMENT = Pattern.compile("wal-(\\d{12})\\.log");
+  private static final Pattern SNAPSHOT = Pattern.compile("snapshot-(\\d{12})\\.dat");
+  private static final long SNAPSHOT_MAGIC = 0x54584e534e415031L;
+  private static final int IO_BUFFER_BYTES = 1 << 20;
+
+  private final Path directory;
+  private final DurabilityMode durability;
+  private final int snapshotEvery;
+  // A j.u.c. lock rather than a monitor: waiting on a monitor pins virtual threads to their carrier
+  private final ReentrantLock flushLock = new ReentrantLock();
+  private final Condition flushDone = flushLock.newCondition();
+  private final ExecutorService snapshotWriter;
+  private final ScheduledExecutorService flusher;
+
+  private FileChannel segment;
+  private long segmentSequence;
+  // Guarded by flushLock; only the flush leader may force or close it
+  private FileChannel retiredSegment;
+  private long retiredBytes;
+  private ByteBuffer scratch;
+  private long appendsSinceSnapshot;
+  private volatile boolean snapshotInProgress;
+  private volatile long writtenBytes;
+  private volatile long durableBytes;
+  private boolean flushing;
+
+  private TransactionJournal(
+      Path directory, DurabilityMode durability, Duration flushInterval, int snapshotEvery) {
+    this.directory = directory;
+    this.durability = durability;
+    this.snapshotEvery = snapshotEvery;
+    this.snapshotWriter = Executors.newSingleThreadExecutor(daemon("journal-snapshot"));
+    if (durability == DurabilityMode.ASYNC) {
+      this.flusher = Executors.newSingleThreadScheduledExecutor(daemon("journal-flush"));
+      long nanos = Math.max(1, flushInterval.toNanos());
+      flusher.scheduleWithFixedDelay(this::flushQuietly, nanos, nanos, TimeUnit.NANOSECONDS);
+    } else {
+      this.flusher = null;
+    }
+  }
+
+  /**
+   * Opens the journal stored in a directory, creating the directory if needed.
+   *
+   * <p>Call {@link #recover(Consumer)} before the first append.
+   *
+   * @param directory the directory holding segments and snapshots
+   * @param durability when appended records are forced to disk
+   * @param flushInterval the background fsync interval for {@link DurabilityMode#ASYNC}
+   * @param snapshotEvery the number of appends after which a snapshot is due
+   * @return the opened journal
+   */
+  public static TransactionJournal open(
+      Path directory, DurabilityMode durability, Duration flushInterval, int snapshotEvery) {
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot create journal directory " + directory, e);
+    }
+    return new TransactionJournal(directory, durability, flushInterval, snapshotEvery);
+  }
+
+  /**
+   * Replays the newest snapshot and the log tail, then opens a fresh segment for appends.
+   *
+   * @param sink receives every recovered transaction in write order (later writes win)
+   * @return the number of records replayed
+   */
+  public long recover(Consumer<Transaction> sink) {
+    try {
+      deleteTemporaryFiles();
+      long snapshotSequence = latest(SNAPSHOT);
+      long replayed = 0;
+      if (snapshotSequence >= 0) {
+        replayed += readSnapshot(snapshotFile(snapshotSequence), sink);
+      }
+      long lastSegment = -1;
+      for (long sequence : sequences(SEGMENT)) {
+        if (sequence >= snapshotSequence) {
+          replayed += replaySegment(segmentFile(sequence), sink);
+        }
+        lastSegment = sequence;
+      }
+      openSegment(Math.max(lastSegment, snapshotSequence) + 1);
+      logger.info("Journal recovered " + replayed + " records from " + directory);
+      return replayed;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Journal recovery failed in " + directory, e);
+    }
+  }
+
+  /**
+   * Appends a record to the current segment (written to the OS, not yet forced).
+   *
+   * @param transaction the transaction to log
+   * @return a token to pass to {@link #awaitDurable(long)}
+   */
+  public long append(Transaction transaction) {
+    scratch = TransactionRecordCodec.encode(transaction, scratch);
+    int length = scratch.remaining();
+    try {
+      while (scratch.hasRemaining()) {
+        segment.write(scratch);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Journal append failed", e);
+    }
+    appendsSinceSnapshot++;
+    writtenBytes += length;
+    return writtenBytes;
+  }
+
+  /**
+   * Blocks until the record behind a token is durable, if the durability mode requires it.
+   *
+   * @param token the value returned by {@link #append(Transaction)}
+   */
+  public void awaitDurable(long token) {
+    if (durability != DurabilityMode.SYNC) {
+      return;
+    }
+    while (durableBytes < token) {
+      flushLock.lock();
+      try {
+        if (durableBytes >= token) {
+          return;
+        }
+        if (flushing) {
+          waitForFlush();
+          continue;
+        }
+        flushing = true;
+      } finally {
+        flushLock.unlock();
+      }
+      force();
+    }
+  }
+
+  /**
+   * Checks whether enough writes accumulated to take a snapshot.
+   *
+   * @return true if {@link #snapshot(Collection)} should be called
+   */
+  public boolean snapshotDue() {
+    return appendsSinceSnapshot >= snapshotEvery && !snapshotInProgress;
+  }
+
+  /**
+   * Rotates to a new segment and writes the given state as a snapshot in the background.
+   *
+   * @param state every stored transaction at the rotation point, as a view that later writes do
+   *     not change; it is iterated on the snapshot thread, and recovery replays it in that order
+   */
+  public void snapshot(Collection<Transaction> state) {
+    long sequence = rotate();
+    appendsSinceSnapshot = 0;
+    snapshotInProgress = true;
+    snapshotWriter.execute(
+        () -> {
+          try {
+            closeRetiredSegment();
+            writeSnapshot(sequence, state);
+            deleteBefore(sequence);
+          } catch (IOException | UncheckedIOException e) {
+            logger.log(Level.WARNING, "Journal snapshot " + sequence + " failed", e);
+          } finally {
+            snapshotInProgress = false;
+          }
+        });
+  }
+
+  /** Deletes every segment and snapshot and starts an empty log. */
+  public void reset() {
+    try {
+      awaitSnapshotWriter();
+      closeSegment();
+      try (Stream<Path> files = Files.list(directory)) {
+        for (Path file : files.toList()) {
+          String name = file.getFileName().toString();
+          if (SEGMENT.matcher(name).matches() || SNAPSHOT.matcher(name).matches()) {
+            Files.deleteIfExists(file);
+          }
+        }
+      }
+      appendsSinceSnapshot = 0;
+      openSegment(0);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Journal reset failed", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (flusher != null) {
+      flusher.shutdownNow();
+    }
+    awaitSnapshotWriter();
+    try {
+      closeSegment();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Journal close failed", e);
+    }
+  }
+
+  // Swaps in a new segment without closing the old one, which an fsync may be using
+  private long rotate() {
+    FileChannel next;
+    try {
+      next = openChannel(segmentSequence + 1);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Journal rotation failed", e);
+    }
+    flushLock.lock();
+    try {
+      retiredSegment = segment;
+      retiredBytes = writtenBytes;
+      segment = next;
+      segmentSequence++;
+      return segmentSequence;
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  // Runs on the snapshot thread, taking the flush leader role so no fsync is using the channel
+  private void closeRetiredSegment() throws IOException {
+    FileChannel retired;
+    flushLock.lock();
+    try {
+      while (flushing) {
+        waitForFlush();
+      }
+      retired = retiredSegment;
+      if (retired == null) {
+        return;
+      }
+      flushing = true;
+    } finally {
+      flushLock.unlock();
+    }
+    boolean closed = false;
+    try {
+      retired.force(false);
+      retired.close();
+      closed = true;
+    } finally {
+      flushLock.lock();
+      try {
+        if (closed) {
+          durableBytes = Math.max(durableBytes, retiredBytes);
+          retiredSegment = null;
+        }
+        flushing = false;
+        flushDone.signalAll();
+      } finally {
+        flushLock.unlock();
+      }
+    }
+  }
+
+  private void force() {
+    FileChannel retired;
+    FileChannel current;
+    long target;
+    flushLock.lock();
+    try {
+      retired = retiredSegment;
+      current = segment;
+      target = writtenBytes;
+    } finally {
+      flushLock.unlock();
+    }
+    boolean forced = false;
+    try {
+      // Records up to the rotation point live in the retired segment until it is closed
+      if (retired != null) {
+        retired.force(false);
+      }
+      current.force(false);
+      forced = true;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Journal fsync failed", e);
+    } finally {
+      flushLock.lock();
+      try {
+        if (forced) {
+          durableBytes = Math.max(durableBytes, target);
+        }
+        flushing = false;
+        flushDone.signalAll();
+      } finally {
+        flushLock.unlock();
+      }
+    }
+  }
+
+  private void flushQuietly() {
+    flushLock.lock();
+    try {
+      if (flushing || segment == null || durableBytes >= writtenBytes) {
+        return;
+      }
+      flushing = true;
+    } finally {
+      flushLock.unlock();
+    }
+    try {
+      force();
+    } catch (UncheckedIOException e) {
+      logger.log(Level.WARNING, "Background journal fsync failed", e);
+    }
+  }
+
+  private void waitForFlush() {
+    try {
+      flushDone.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for journal fsync", e);
+    }
+  }
+
+  private void openSegment(long sequence) throws IOException {
+    segment = openChannel(sequence);
+    segmentSequence = sequence;
+  }
+
+  private FileChannel openChannel(long sequence) throws IOException {
+    return FileChannel.open(
+        segmentFile(sequence),
+        StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE,
+        StandardOpenOption.APPEND);
+  }
+
+  private void closeSegment() throws IOException {
+    if (retiredSegment != null) {
+      retiredSegment.close();
+      retiredSegment = null;
+    }
+    if (segment != null && segment.isOpen()) {
+      segment.force(false);
+      segment.close();
+      durableBytes = writtenBytes;
+    }
+  }
+
+  private long replaySegment(Path file, Consumer<Transaction> sink) throws IOException {
+    long size = Files.size(file);
+    long position = 0;
+    long count = 0;
+    try (CountingDataInputStream in = input(file)) {
+      Transaction transaction;
+      while ((transaction = TransactionRecordCodec.read(in, size - position)) != null) {
+        sink.accept(transaction);
+        position = in.position();
+        count++;
+      }
+    }
+    if (position < size) {
+      logger.warning("Truncating torn journal tail of " + file + " at byte " + position);
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+        channel.truncate(position);
+      }
+    }
+    return count;
+  }
+
+  private long readSnapshot(Path file, Consumer<Transaction> sink) throws IOException {
+    long size = Files.size(file);
+    try (CountingDataInputStream in = input(file)) {
+      if (in.readLong() != SNAPSHOT_MAGIC) {
+        throw new IOException("Not a journal snapshot: " + file);
+      }
+      long count = in.readLong();
+      for (long i = 0; i < count; i++) {
+        Transaction transaction = TransactionRecordCodec.read(in, size - in.position());
+        if (transaction == null) {
+          throw new IOException("Corrupt journal snapshot: " + file);
+        }
+        sink.accept(transaction);
+      }
+      return count;
+    }
+  }
+
+  private void writeSnapshot(long sequence, Collection<Transaction> state) throws IOException {
+    Path target = snapshotFile(sequence);
+    Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+    try (FileChannel channel =
+            FileChannel.open(
+                temporary,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        DataOutputStream out =
+            new DataOutputStream(
+                new BufferedOutputStream(Channels.newOutputStream(channel), IO_BUFFER_BYTES))) {
+      out.writeLong(SNAPSHOT_MAGIC);
+      out.writeLong(state.size());
+      ByteBuffer buffer = null;
+      for (Transaction transaction : state) {
+        buffer = TransactionRecordCodec.encode(transaction, buffer);
+        out.write(buffer.array(), 0, buffer.limit());
+      }
+      out.flush();
+      channel.force(true);
+    }
+    Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private void deleteBefore(long sequence) throws IOException {
+    for (long older : sequences(SEGMENT)) {
+      if (older < sequence) {
+        Files.deleteIfExists(segmentFile(older));
+      }
+    }
+    for (long older : sequences(SNAPSHOT)) {
+      if (older < sequence) {
+        Files.deleteIfExists(snapshotFile(older));
+      }
+    }
+  }
+
+  private void deleteTemporaryFiles() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path file : files.toList()) {
+        if (file.getFileName().toString().endsWith(".tmp")) {
+          Files.deleteIfExists(file);
+        }
+      }
+    }
+  }
+
+  private void awaitSnapshotWriter() {
+    try {
+      snapshotWriter.submit(() -> {}).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      logger.log(Level.WARNING, "Journal snapshot writer failed", e);
+    }
+  }
+
+  private long latest(Pattern pattern) throws IOException {
+    List<Long> found = sequences(pattern);
+    return found.isEmpty() ? -1 : found.get(found.size() - 1);
+  }
+
+  private List<Long> sequences(Pattern pattern) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files
+          .map(file -> pattern.matcher(file.getFileName().toString()))
+          .filter(Matcher::matches)
+          .map(matcher -> Long.parseLong(matcher.group(1)))
+          .sorted()
+          .toList();
+    }
+  }
+
+  private Path segmentFile(long sequence) {
+    return directory.resolve(String.format("wal-%012d.log", sequence));
+  }
+
+  private Path snapshotFile(long sequence) {
+    return directory.resolve(String.format("snapshot-%012d.dat", sequence));
+  }
+
+  private static CountingDataInputStream input(Path file) throws IOException {
+    return new CountingDataInputStream(
+        new BufferedInputStream(Files.newInputStream(file), IO_BUFFER_BYTES));
+  }
+
+  private static ThreadFactory daemon(String name) {
+    return runnable -> {
+      Thread thread = new Thread(runnable, name);
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /** DataInputStream that tracks how many bytes have been consumed. */
+  private static final class CountingDataInputStream extends DataInputStream {
+
+    private CountingDataInputStream(InputStream in) {
+      super(new CountingStream(in));
+    }
+
+    private long position() {
+      return ((CountingStream) in).count;
+    }
+  }
+
+  private static final class CountingStream extends FilterInputStream {
+    private long count;
+
+    private CountingStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+      int value = super.read();
+      if (value >= 0) {
+        count++;
+      }
+      return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      int read = super.read(buffer, offset, length);
+      if (read > 0) {
+        count += read;
+      }
+      return read;
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package com.example.transactions.infrastructure.repositories.journal;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.zip.CRC32C;
+
+import com.example.transactions.domain.shared.valueobjects.Money;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionStatus;
+
+/**
+ * Binary framing of transactions for log segments and snapshots.
+ *
+ * <p>Each frame is {@code [int payloadLength][int crc32c][payload]}. A frame whose length or
+ * checksum does not match marks the torn tail of a segment.
+ *
+ * <p>The amount is written as a {@code long} of minor units; the currency that follows it fixes
+ * the scale.
+ */
+final class TransactionRecordCodec {
+
+  static final int HEADER_BYTES = 2 * Integer.BYTES;
+  static final int MAX_PAYLOAD_BYTES = 1 << 20;
+
+  private static final TransactionStatus[] STATUSES = TransactionStatus.values();
+
+  private TransactionRecordCodec() {
+    // Utility class
+  }
+
+  /**
+   * Encodes a transaction as a complete frame.
+   *
+   * @param transaction the transaction to encode
+   * @param buffer a reusable scratch buffer, or null
+   * @return a flipped buffer holding the frame (possibly a new, larger one)
+   */
+  static ByteBuffer encode(Transaction transaction, ByteBuffer buffer) {
+    byte[] id = utf8(transaction.getId());
+    byte[] currency = utf8(transaction.getCurrency());
+    byte[] origin = utf8(transaction.getOriginAccountNumber());
+    byte[] destination = utf8(transaction.getDestinationAccountNumber());
+    int payload =
+        4 * Short.BYTES
+            + id.length
+            + currency.length
+            + origin.length
+            + destination.length
+            + Long.BYTES
+            + Byte.BYTES
+            + Long.BYTES
+            + Integer.BYTES;
+    if (payload > MAX_PAYLOAD_BYTES) {
+      throw new IllegalArgumentException("Transaction record is too large to journal");
+    }
+    if (buffer == null || buffer.capacity() < HEADER_BYTES + payload) {
+      int capacity = Integer.highestOneBit(HEADER_BYTES + payload) << 1;
+      buffer = ByteBuffer.allocate(Math.max(256, capacity));
+    }
+    buffer.clear();
+    buffer.position(HEADER_BYTES);
+    putBytes(buffer, id);
+    buffer.putLong(transaction.getAmountMinorUnits());
+    putBytes(buffer, currency);
+    putBytes(buffer, origin);
+    putBytes(buffer, destination);
+    buffer.put((byte) transaction.getStatus().ordinal());
+    Instant createdAt = transaction.getCreatedAt();
+    buffer.putLong(createdAt.getEpochSecond());
+    buffer.putInt(createdAt.getNano());
+
+    CRC32C crc = new CRC32C();
+    crc.update(buffer.array(), HEADER_BYTES, payload);
+    buffer.putInt(0, payload);
+    buffer.putInt(Integer.BYTES, (int) crc.getValue());
+    buffer.flip();
+    return buffer;
+  }
+
+  /**
+   * Reads the next frame.
+   *
+   * @param in the input positioned at a frame boundary
+   * @param remaining the number of bytes left in the input
+   * @return the decoded transaction, or null if the remaining bytes do not hold a valid frame
+   * @throws IOException if reading fails
+   */
+  static Transaction read(DataInput in, long remaining) throws IOException {
+    if (remaining < HEADER_BYTES) {
+      return null;
+    }
+    int payload = in.readInt();
+    int checksum = in.readInt();
+    if (payload <= 0 || payload > MAX_PAYLOAD_BYTES || payload > remaining - HEADER_BYTES) {
+      return null;
+    }
+    byte[] bytes = new byte[payload];
+    in.readFully(bytes);
+    CRC32C crc = new CRC32C();
+    crc.update(bytes);
+    if ((int) crc.getValue() != checksum) {
+      return null;
+    }
+    return decode(ByteBuffer.wrap(bytes));
+  }
+
+  private static Transaction decode(ByteBuffer payload) {
+    String id = getString(payload);
+    long amountMinorUnits = payload.getLong();
+    String currency = getString(payload);
+    String origin = getString(payload);
+    String destination = getString(payload);
+    TransactionStatus status = STATUSES[payload.get()];
+    Instant createdAt = Instant.ofEpochSecond(payload.getLong(), payload.getInt());
+    return new Transaction(
+        id, Money.ofMinor(amountMinorUnits, currency), origin, destination, status, createdAt);
+  }
+
+  private static byte[] utf8(String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length > Short.MAX_VALUE) {
+      throw new IllegalArgumentException("Field is too long to journal");
+    }
+    return bytes;
+  }
+
+  private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+    buffer.putShort((short) bytes.length);
+    buffer.put(bytes);
+  }
+
+  private static byte[] getBytes(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.getShort()];
+    buffer.get(bytes);
+    return bytes;
+  }
+
+  private static String getString(ByteBuffer buffer) {
+    return new String(getBytes(buffer), StandardCharsets.UTF_8);
+  }
+}
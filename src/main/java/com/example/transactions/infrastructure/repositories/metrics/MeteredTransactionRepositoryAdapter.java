@@ -0,0 +1,259 @@
+package com.example.transactions.infrastructure.repositories.metrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionCursor;
+import com.example.transactions.domain.transaction.model.TransactionFilter;
+import com.example.transactions.domain.transaction.model.TransactionSlice;
+import com.example.transactions.domain.transaction.ports.TransactionRepositoryPort;
+import com.example.transactions.infrastructure.repositories.IndexedRepository;
+import com.example.transactions.infrastructure.repositories.cache.CachingTransactionRepositoryAdapter;
+
+/**
+ * Metrics decorator for any TransactionRepositoryPort.
+ *
+ * <p>Every port method is timed into {@code transactions.repository}, tagged with the method and
+ * the adapter type, with a latency histogram. The timers are registered once, when the decorator is
+ * created, so a call costs two {@link System#nanoTime()} reads and a timer update: no tag list, no
+ * registry lookup. {@link #streamAll(int)} is delegated untimed, because its cost is paid while the
+ * caller consumes the stream.
+ *
+ * <p>When the adapter keeps indexes in memory ({@link IndexedRepository}), gauges report the number
+ * of stored transactions and the size of each index; both are counters the adapter already holds.
+ * Other adapters get no size gauge, since their {@code count()} is a query (a full {@code COUNT(*)}
+ * on Oracle) that a scrape would run every time. When the adapter is behind the read-through
+ * cache, the cache size and its hit, miss and eviction counts are reported too. Gauges are read on
+ * scrapes, never on the request path.
+ */
+public class MeteredTransactionRepositoryAdapter implements TransactionRepositoryPort {
+
+  /** Name of the port method timers. */
+  public static final String TIMER_NAME = "transactions.repository";
+
+  private final TransactionRepositoryPort delegate;
+  private final Timer save;
+  private final Timer saveAll;
+  private final Timer findById;
+  private final Timer findAll;
+  private final Timer findAfter;
+  private final Timer findByAccountAfter;
+  private final Timer findMatchingAfter;
+  private final Timer findAllWithTotal;
+  private final Timer findAfterWithTotal;
+  private final Timer count;
+  private final Timer existsById;
+
+  /**
+   * Wraps an adapter and registers its meters.
+   *
+   * @param delegate the adapter to measure, possibly behind the read-through cache
+   * @param registry the registry to publish to
+   * @param adapterType the configured adapter type, used as the {@code adapter} tag
+   */
+  public MeteredTransactionRepositoryAdapter(
+      TransactionRepositoryPort delegate, MeterRegistry registry, String adapterType) {
+    this.delegate = delegate;
+    this.save = timer(registry, adapterType, "save");
+    this.saveAll = timer(registry, adapterType, "saveAll");
+    this.findById = timer(registry, adapterType, "findById");
+    this.findAll = timer(registry, adapterType, "findAll");
+    this.findAfter = timer(registry, adapterType, "findAfter");
+    this.findByAccountAfter = timer(registry, adapterType, "findByAccountAfter");
+    this.findMatchingAfter = timer(registry, adapterType, "findMatchingAfter");
+    this.findAllWithTotal = timer(registry, adapterType, "findAllWithTotal");
+    this.findAfterWithTotal = timer(registry, adapterType, "findAfterWithTotal");
+    this.count = timer(registry, adapterType, "count");
+    this.existsById = timer(registry, adapterType, "existsById");
+
+    TransactionRepositoryPort adapter = delegate;
+    if (adapter instanceof CachingTransactionRepositoryAdapter cache) {
+      bindCache(registry, adapterType, cache);
+      adapter = cache.delegate();
+    }
+    if (adapter instanceof IndexedRepository indexed) {
+      Gauge.builder("transactions.repository.size", adapter, TransactionRepositoryPort::count)
+          .description("Number of stored transactions")
+          .tag("adapter", adapterType)
+          .register(registry);
+      for (String index : indexed.indexNames()) {
+        Gauge.builder("transactions.repository.index.size", indexed, i -> i.indexSize(index))
+            .description("Number of entries of a repository index")
+            .tag("adapter", adapterType)
+            .tag("index", index)
+            .register(registry);
+      }
+    }
+  }
+
+  @Override
+  public Transaction save(Transaction transaction) {
+    long start = System.nanoTime();
+    try {
+      return delegate.save(transaction);
+    } finally {
+      save.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public List<Transaction> saveAll(Collection<Transaction> transactions) {
+    long start = System.nanoTime();
+    try {
+      return delegate.saveAll(transactions);
+    } finally {
+      saveAll.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public Optional<Transaction> findById(String id) {
+    long start = System.nanoTime();
+    try {
+      return delegate.findById(id);
+    } finally {
+      findById.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public List<Transaction> findAll(int offset, int limit) {
+    long start = System.nanoTime();
+    try {
+      return delegate.findAll(offset, limit);
+    } finally {
+      findAll.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public List<Transaction> findAfter(TransactionCursor cursor, int limit) {
+    long start = System.nanoTime();
+    try {
+      return delegate.findAfter(cursor, limit);
+    } finally {
+      findAfter.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public List<Transaction> findByAccountAfter(
+      String accountNumber, TransactionCursor cursor, int limit) {
+    long start = System.nanoTime();
+    try {
+      return delegate.findByAccountAfter(accountNumber, cursor, limit);
+    } finally {
+      findByAccountAfter.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public List<Transaction> findMatchingAfter(
+      TransactionFilter filter, TransactionCursor cursor, int limit) {
+    long start = System.nanoTime();
+    try {
+      return delegate.findMatchingAfter(filter, cursor, limit);
+    } finally {
+      findMatchingAfter.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public Stream<Transaction> streamAll(int chunkSize) {
+    return delegate.streamAll(chunkSize);
+  }
+
+  @Override
+  public TransactionSlice findAllWithTotal(int offset, int limit) {
+    long start = System.nanoTime();
+    try {
+      return delegate.findAllWithTotal(offset, limit);
+    } finally {
+      findAllWithTotal.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public TransactionSlice findAfterWithTotal(TransactionCursor cursor, int limit) {
+    long start = System.nanoTime();
+    try {
+      return delegate.findAfterWithTotal(cursor, limit);
+    } finally {
+      findAfterWithTotal.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public long count() {
+    long start = System.nanoTime();
+    try {
+      return delegate.count();
+    } finally {
+      count.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public boolean existsById(String id) {
+    long start = System.nanoTime();
+    try {
+      return delegate.existsById(id);
+    } finally {
+      existsById.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public boolean isNonBlocking() {
+    return delegate.isNonBlocking();
+  }
+
+  private static Timer timer(MeterRegistry registry, String adapterType, String method) {
+    return Timer.builder(TIMER_NAME)
+        .description("Latency of the transaction repository port")
+        .tag("adapter", adapterType)
+        .tag("method", method)
+        .publishPercentileHistogram()
+        .minimumExpectedValue(Duration.ofNanos(1_000))
+        .maximumExpectedValue(Duration.ofSeconds(10))
+        .register(registry);
+  }
+
+  private static void bindCache(
+      MeterRegistry registry, String adapterType, CachingTransactionRepositoryAdapter cache) {
+    Gauge.builder(
+            "transactions.repository.cache.size",
+            cache,
+            CachingTransactionRepositoryAdapter::estimatedSize)
+        .description("Approximate number of cached transactions")
+        .tag("adapter", adapterType)
+        .register(registry);
+    FunctionCounter.builder(
+            "transactions.repository.cache.requests", cache, c -> c.stats().hitCount())
+        .description("Lookups by ID served by the cache, by result")
+        .tag("adapter", adapterType)
+        .tag("result", "hit")
+        .register(registry);
+    FunctionCounter.builder(
+            "transactions.repository.cache.requests", cache, c -> c.stats().missCount())
+        .description("Lookups by ID served by the cache, by result")
+        .tag("adapter", adapterType)
+        .tag("result", "miss")
+        .register(registry);
+    FunctionCounter.builder(
+            "transactions.repository.cache.evictions", cache, c -> c.stats().evictionCount())
+        .description("Transactions evicted from the cache")
+        .tag("adapter", adapterType)
+        .register(registry);
+  }
+}
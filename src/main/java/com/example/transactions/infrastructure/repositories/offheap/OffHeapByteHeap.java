@@ -0,0 +1,94 @@
+package com.example.transactions.infrastructure.repositories.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only store for variable-length byte strings in direct memory.
+ *
+ * <p>Each value is addressed by a {@code long} made of the chunk index (high 32 bits) and the
+ * offset inside the chunk (low 32 bits). Values never span chunks.
+ */
+final class OffHeapByteHeap {
+
+  private final int chunkSize;
+  private final List<ByteBuffer> chunks = new ArrayList<>();
+  private int position;
+
+  OffHeapByteHeap(int chunkSize) {
+    this.chunkSize = chunkSize;
+    this.position = chunkSize;
+  }
+
+  /**
+   * Appends a value.
+   *
+   * @param value the bytes to store (at most one chunk long)
+   * @return the address of the stored value
+   */
+  long append(byte[] value) {
+    if (value.length > chunkSize) {
+      throw new IllegalArgumentException("Value exceeds off-heap chunk size");
+    }
+    if (position + value.length > chunkSize) {
+      chunks.add(ByteBuffer.allocateDirect(chunkSize));
+      position = 0;
+    }
+    int chunk = chunks.size() - 1;
+    chunks.get(chunk).put(position, value);
+    long address = ((long) chunk << 32) | position;
+    position += value.length;
+    return address;
+  }
+
+  /**
+   * Reads a value.
+   *
+   * @param address the address returned by {@link #append(byte[])}
+   * @param length the value length in bytes
+   * @return a copy of the stored bytes
+   */
+  byte[] read(long address, int length) {
+    byte[] value = new byte[length];
+    chunks.get((int) (address >>> 32)).get((int) address, value);
+    return value;
+  }
+
+  /**
+   * Compares a stored value with the given bytes without copying it on-heap.
+   *
+   * @param address the address of the stored value
+   * @param length the stored value length
+   * @param other the bytes to compare with
+   * @return true if both byte strings are identical
+   */
+  boolean matches(long address, int length, byte[] other) {
+    if (length != other.length) {
+      return false;
+    }
+    ByteBuffer chunk = chunks.get((int) (address >>> 32));
+    int offset = (int) address;
+    for (int i = 0; i < length; i++) {
+      if (chunk.get(offset + i) != other[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Gets the direct memory held by this heap.
+   *
+   * @return the allocated size in bytes
+   */
+  long allocatedBytes() {
+    return (long) chunks.size() * chunkSize;
+  }
+
+  /** Releases every chunk. */
+  void release() {
+    chunks.clear();
+    position = chunkSize;
+  }
+}
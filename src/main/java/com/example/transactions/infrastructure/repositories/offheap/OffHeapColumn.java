@@ -0,0 +1,106 @@
+package com.example.transactions.infrastructure.repositories.offheap;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Fixed-width column stored in direct (off-heap) memory.
+ *
+ * <p>Values are laid out in chunks of {@code 2^chunkShift} rows so the column can grow without
+ * copying existing data and without hitting the 2 GB limit of a single {@link ByteBuffer}.
+ * Synchronization is left to the owner.
+ */
+final class OffHeapColumn {
+
+  private final int width;
+  private final int chunkShift;
+  private final int chunkMask;
+  private ByteBuffer[] chunks = new ByteBuffer[0];
+
+  OffHeapColumn(int width, int chunkShift) {
+    this.width = width;
+    this.chunkShift = chunkShift;
+    this.chunkMask = (1 << chunkShift) - 1;
+  }
+
+  /**
+   * Makes sure rows {@code [0, rows)} are addressable, allocating chunks as needed.
+   *
+   * @param rows the number of rows that must fit
+   */
+  void ensureCapacity(int rows) {
+    int needed = rows == 0 ? 0 : ((rows - 1) >>> chunkShift) + 1;
+    if (needed <= chunks.length) {
+      return;
+    }
+    int previous = chunks.length;
+    chunks = Arrays.copyOf(chunks, needed);
+    for (int i = previous; i < needed; i++) {
+      chunks[i] = ByteBuffer.allocateDirect(width << chunkShift).order(ByteOrder.nativeOrder());
+    }
+  }
+
+  /**
+   * Gets the number of rows addressable without allocating.
+   *
+   * @return the current capacity in rows
+   */
+  long capacity() {
+    return (long) chunks.length << chunkShift;
+  }
+
+  /**
+   * Gets the direct memory held by this column.
+   *
+   * @return the allocated size in bytes
+   */
+  long allocatedBytes() {
+    return capacity() * width;
+  }
+
+  /** Releases every chunk; the memory is returned once the buffers are collected. */
+  void release() {
+    chunks = new ByteBuffer[0];
+  }
+
+  long getLong(int row) {
+    return chunk(row).getLong(offset(row));
+  }
+
+  void putLong(int row, long value) {
+    chunk(row).putLong(offset(row), value);
+  }
+
+  int getInt(int row) {
+    return chunk(row).getInt(offset(row));
+  }
+
+  void putInt(int row, int value) {
+    chunk(row).putInt(offset(row), value);
+  }
+
+  short getShort(int row) {
+    return chunk(row).getShort(offset(row));
+  }
+
+  void putShort(int row, short value) {
+    chunk(row).putShort(offset(row), value);
+  }
+
+  byte getByte(int row) {
+    return chunk(row).get(offset(row));
+  }
+
+  void putByte(int row, byte value) {
+    chunk(row).put(offset(row), value);
+  }
+
+  private ByteBuffer chunk(int row) {
+    return chunks[row >>> chunkShift];
+  }
+
+  private int offset(int row) {
+    return (row & chunkMask) * width;
+  }
+}
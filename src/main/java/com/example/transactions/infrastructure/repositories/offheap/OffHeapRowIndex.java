@@ -0,0 +1,315 @@
+package com.example.transactions.infrastructure.repositories.offheap;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Order-statistic treap over row numbers, with its node links kept off-heap.
+ *
+ * <p>This is the off-heap counterpart of {@code TransactionCreatedAtIndex}: nodes are row numbers,
+ * child links and subtree sizes live in {@link OffHeapColumn}s, and the ordering is supplied by the
+ * owner so that keys are read straight from the data columns. Priorities are derived from the row
+ * number, so no per-node priority is stored. Synchronization is left to the owner.
+ *
+ * <p>The index can also hold a forest of disjoint trees, one per key (for example one per account):
+ * the methods taking a {@code tree} number work on that tree alone, whose root is kept in an
+ * off-heap column, so every tree costs in proportion to its own size. A row belongs to at most one
+ * tree of an index; the methods without a tree number use tree 0.
+ */
+final class OffHeapRowIndex {
+
+  /** Ordering between two rows. */
+  @FunctionalInterface
+  interface RowOrder {
+    int compare(int leftRow, int rightRow);
+  }
+
+  /** Receives the rows of a page in index order. */
+  @FunctionalInterface
+  interface RowSink {
+    /**
+     * Accepts a row.
+     *
+     * @param row the row number
+     * @return true to keep receiving rows, false to stop
+     */
+    boolean accept(int row);
+  }
+
+  private static final int NONE = -1;
+
+  private final RowOrder order;
+  private final OffHeapColumn left;
+  private final OffHeapColumn right;
+  private final OffHeapColumn size;
+
+  /** Root row plus one per tree, so that the zeroed memory of a new chunk reads as empty trees. */
+  private final OffHeapColumn roots;
+
+  private int treeCount;
+
+  OffHeapRowIndex(RowOrder order, int chunkShift) {
+    this.order = order;
+    this.left = new OffHeapColumn(Integer.BYTES, chunkShift);
+    this.right = new OffHeapColumn(Integer.BYTES, chunkShift);
+    this.size = new OffHeapColumn(Integer.BYTES, chunkShift);
+    this.roots = new OffHeapColumn(Integer.BYTES, chunkShift);
+  }
+
+  void insert(int row) {
+    insert(0, row);
+  }
+
+  void insert(int tree, int row) {
+    left.ensureCapacity(row + 1);
+    right.ensureCapacity(row + 1);
+    size.ensureCapacity(row + 1);
+    left.putInt(row, NONE);
+    right.putInt(row, NONE);
+    size.putInt(row, 1);
+    if (tree >= treeCount) {
+      roots.ensureCapacity(tree + 1);
+      treeCount = tree + 1;
+    }
+    setRoot(tree, insertUnder(root(tree), row));
+  }
+
+  void remove(int row) {
+    remove(0, row);
+  }
+
+  void remove(int tree, int row) {
+    setRoot(tree, removeUnder(root(tree), row));
+  }
+
+  int size() {
+    return size(0);
+  }
+
+  /**
+   * Gets the number of rows of one tree.
+   *
+   * @param tree the tree number
+   * @return the tree size, 0 for a tree never inserted into
+   */
+  int size(int tree) {
+    return sizeOf(root(tree));
+  }
+
+  /**
+   * Gets the number of trees that have ever held a row.
+   *
+   * @return one more than the highest tree number inserted into
+   */
+  int treeCount() {
+    return treeCount;
+  }
+
+  /**
+   * Streams the rows at positions {@code [offset, offset + limit)} in index order.
+   *
+   * @param offset the number of rows to skip
+   * @param limit the maximum number of rows to emit
+   * @param sink the receiver of the rows
+   */
+  void page(int offset, int limit, RowSink sink) {
+    if (offset < size()) {
+      collect(root(0), offset, new Budget(limit, sink));
+    }
+  }
+
+  /**
+   * Streams the rows that sort after a position, in index order.
+   *
+   * @param isAfter predicate that is false for every row up to the position and true after it
+   * @param limit the maximum number of rows to emit
+   * @param sink the receiver of the rows
+   */
+  void after(IntPredicate isAfter, int limit, RowSink sink) {
+    after(0, isAfter, limit, sink);
+  }
+
+  /**
+   * Streams the rows of one tree that sort after a position, in index order.
+   *
+   * @param tree the tree number
+   * @param isAfter predicate that is false for every row up to the position and true after it
+   * @param limit the maximum number of rows to emit
+   * @param sink the receiver of the rows
+   */
+  void after(int tree, IntPredicate isAfter, int limit, RowSink sink) {
+    collectAfter(root(tree), isAfter, new Budget(limit, sink));
+  }
+
+  /**
+   * Streams the first rows of one tree, in index order.
+   *
+   * @param tree the tree number
+   * @param limit the maximum number of rows to emit
+   * @param sink the receiver of the rows
+   */
+  void first(int tree, int limit, RowSink sink) {
+    collect(root(tree), 0, new Budget(limit, sink));
+  }
+
+  long allocatedBytes() {
+    return left.allocatedBytes()
+        + right.allocatedBytes()
+        + size.allocatedBytes()
+        + roots.allocatedBytes();
+  }
+
+  void clear() {
+    treeCount = 0;
+    left.release();
+    right.release();
+    size.release();
+    roots.release();
+  }
+
+  private int root(int tree) {
+    return tree < treeCount ? roots.getInt(tree) - 1 : NONE;
+  }
+
+  private void setRoot(int tree, int row) {
+    roots.putInt(tree, row + 1);
+  }
+
+  private int insertUnder(int node, int row) {
+    if (node == NONE) {
+      return row;
+    }
+    if (order.compare(row, node) < 0) {
+      left.putInt(node, insertUnder(left.getInt(node), row));
+      if (priority(left.getInt(node)) > priority(node)) {
+        node = rotateRight(node);
+      }
+    } else {
+      right.putInt(node, insertUnder(right.getInt(node), row));
+      if (priority(right.getInt(node)) > priority(node)) {
+        node = rotateLeft(node);
+      }
+    }
+    update(node);
+    return node;
+  }
+
+  private int removeUnder(int node, int row) {
+    if (node == NONE) {
+      return NONE;
+    }
+    if (node == row) {
+      return merge(left.getInt(node), right.getInt(node));
+    }
+    if (order.compare(row, node) < 0) {
+      left.putInt(node, removeUnder(left.getInt(node), row));
+    } else {
+      right.putInt(node, removeUnder(right.getInt(node), row));
+    }
+    update(node);
+    return node;
+  }
+
+  private int merge(int a, int b) {
+    if (a == NONE) {
+      return b;
+    }
+    if (b == NONE) {
+      return a;
+    }
+    if (priority(a) > priority(b)) {
+      right.putInt(a, merge(right.getInt(a), b));
+      update(a);
+      return a;
+    }
+    left.putInt(b, merge(a, left.getInt(b)));
+    update(b);
+    return b;
+  }
+
+  private void collect(int node, int offset, Budget budget) {
+    if (node == NONE || budget.exhausted()) {
+      return;
+    }
+    int leftSize = sizeOf(left.getInt(node));
+    if (offset < leftSize) {
+      collect(left.getInt(node), offset, budget);
+    }
+    if (offset <= leftSize) {
+      budget.emit(node);
+    }
+    collect(right.getInt(node), Math.max(0, offset - leftSize - 1), budget);
+  }
+
+  private void collectAfter(int node, IntPredicate isAfter, Budget budget) {
+    if (node == NONE || budget.exhausted()) {
+      return;
+    }
+    if (!isAfter.test(node)) {
+      collectAfter(right.getInt(node), isAfter, budget);
+      return;
+    }
+    collectAfter(left.getInt(node), isAfter, budget);
+    budget.emit(node);
+    collect(right.getInt(node), 0, budget);
+  }
+
+  private int rotateRight(int node) {
+    int pivot = left.getInt(node);
+    left.putInt(node, right.getInt(pivot));
+    right.putInt(pivot, node);
+    update(node);
+    update(pivot);
+    return pivot;
+  }
+
+  private int rotateLeft(int node) {
+    int pivot = right.getInt(node);
+    right.putInt(node, left.getInt(pivot));
+    left.putInt(pivot, node);
+    update(node);
+    update(pivot);
+    return pivot;
+  }
+
+  private void update(int node) {
+    size.putInt(node, 1 + sizeOf(left.getInt(node)) + sizeOf(right.getInt(node)));
+  }
+
+  private int sizeOf(int node) {
+    return node == NONE ? 0 : size.getInt(node);
+  }
+
+  private static int priority(int row) {
+    // Murmur3 finalizer: spreads sequential row numbers into pseudo-random priorities
+    int h = row;
+    h ^= h >>> 16;
+    h *= 0x85ebca6b;
+    h ^= h >>> 13;
+    h *= 0xc2b2ae35;
+    h ^= h >>> 16;
+    return h;
+  }
+
+  private static final class Budget {
+    private int remaining;
+    private boolean stopped;
+    private final RowSink sink;
+
+    private Budget(int remaining, RowSink sink) {
+      this.remaining = remaining;
+      this.sink = sink;
+    }
+
+    private boolean exhausted() {
+      return stopped || remaining <= 0;
+    }
+
+    private void emit(int row) {
+      if (exhausted()) {
+        return;
+      }
+      remaining--;
+      stopped = !sink.accept(row);
+    }
+  }
+}
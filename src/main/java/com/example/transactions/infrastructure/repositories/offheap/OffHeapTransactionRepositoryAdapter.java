@@ -0,0 +1,201 @@
+package com.example.transactions.infrastructure.repositories.offheap;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkus.arc.lookup.LookupIfProperty;
+
+import com.example.transactions.config.RepositoryAdapter;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionCursor;
+import com.example.transactions.domain.transaction.model.TransactionFilter;
+import com.example.transactions.domain.transaction.model.TransactionSlice;
+import com.example.transactions.domain.transaction.ports.TransactionRepositoryPort;
+import com.example.transactions.infrastructure.repositories.IndexedRepository;
+
+/**
+ * Off-heap columnar implementation of TransactionRepositoryPort.
+ *
+ * <p>Transactions are stored as fixed-width columns in direct memory (see {@link
+ * OffHeapTransactionStore}) and materialized only when read, so heap usage and GC pauses stay flat
+ * as the data set grows. Activated with {@code app.repository.type=offheap}; size the direct memory
+ * with {@code -XX:MaxDirectMemorySize} (roughly 80 bytes per row plus ID bytes).
+ */
+@ApplicationScoped
+@RepositoryAdapter
+@LookupIfProperty(name = "app.repository.type", stringValue = "offheap")
+public class OffHeapTransactionRepositoryAdapter
+    implements TransactionRepositoryPort, IndexedRepository {
+
+  private static final List<String> INDEXES =
+      List.of(
+          "id", "created-at", "currencies", "accounts", "origin-account", "destination-account");
+
+  private final OffHeapTransactionStore store = new OffHeapTransactionStore();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  @Override
+  public Transaction save(Transaction transaction) {
+    lock.writeLock().lock();
+    try {
+      store.put(transaction);
+    } finally {
+      lock.writeLock().unlock();
+    }
+    return transaction;
+  }
+
+  @Override
+  public List<Transaction> saveAll(Collection<Transaction> transactions) {
+    lock.writeLock().lock();
+    try {
+      for (Transaction transaction : transactions) {
+        store.put(transaction);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+    return List.copyOf(transactions);
+  }
+
+  @Override
+  public Optional<Transaction> findById(String id) {
+    lock.readLock().lock();
+    try {
+      return Optional.ofNullable(store.get(id));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public List<Transaction> findAll(int offset, int limit) {
+    lock.readLock().lock();
+    try {
+      return store.page(offset, limit);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public List<Transaction> findAfter(TransactionCursor cursor, int limit) {
+    lock.readLock().lock();
+    try {
+      return store.after(cursor, limit);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public List<Transaction> findByAccountAfter(
+      String accountNumber, TransactionCursor cursor, int limit) {
+    lock.readLock().lock();
+    try {
+      return store.byAccount(accountNumber, cursor, limit);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public List<Transaction> findMatchingAfter(
+      TransactionFilter filter, TransactionCursor cursor, int limit) {
+    lock.readLock().lock();
+    try {
+      return filter.isEmpty() ? store.after(cursor, limit) : store.matching(filter, cursor, limit);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public TransactionSlice findAllWithTotal(int offset, int limit) {
+    lock.readLock().lock();
+    try {
+      return new TransactionSlice(store.page(offset, limit), store.size());
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public TransactionSlice findAfterWithTotal(TransactionCursor cursor, int limit) {
+    lock.readLock().lock();
+    try {
+      return new TransactionSlice(store.after(cursor, limit), store.size());
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public long count() {
+    lock.readLock().lock();
+    try {
+      return store.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean existsById(String id) {
+    lock.readLock().lock();
+    try {
+      return store.contains(id);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean isNonBlocking() {
+    return true;
+  }
+
+  @Override
+  public List<String> indexNames() {
+    return INDEXES;
+  }
+
+  @Override
+  public long indexSize(String name) {
+    lock.readLock().lock();
+    try {
+      return store.indexSize(name);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Clears all transactions and releases the off-heap memory. Useful for testing. */
+  public void clear() {
+    lock.writeLock().lock();
+    try {
+      store.clear();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Gets the direct memory currently reserved by the store.
+   *
+   * @return the off-heap footprint in bytes
+   */
+  public long offHeapBytes() {
+    lock.readLock().lock();
+    try {
+      return store.offHeapBytes();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+}
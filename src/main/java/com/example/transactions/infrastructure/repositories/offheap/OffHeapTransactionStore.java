@@ -0,0 +1,438 @@
+package com.example.transactions.infrastructure.repositories.offheap;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.example.transactions.domain.shared.ports.ClockPort;
+import com.example.transactions.domain.shared.valueobjects.Money;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionCursor;
+import com.example.transactions.domain.transaction.model.TransactionFilter;
+import com.example.transactions.domain.transaction.model.TransactionStatus;
+
+/**
+ * Columnar transaction storage in direct memory.
+ *
+ * <p>Every field is kept in a fixed-width off-heap column:
+ *
+ * <ul>
+ *   <li>amount as a {@code long} of minor units; the currency implies the scale
+ *   <li>currency and account numbers as dictionary codes
+ *   <li>status as its ordinal byte
+ *   <li>creation time as epoch microseconds
+ *   <li>ID bytes in an append-only byte heap, located through an off-heap hash table
+ * </ul>
+ *
+ * <p>Rows are ordered by creation time in one {@link OffHeapRowIndex}, and by creation time within
+ * each origin account and each destination account in two more, whose trees are numbered by the
+ * account's dictionary code. A page of one account's history is merged from its two trees and costs
+ * in proportion to that history. A filtered page walks the creation-time tree over the creation
+ * range and tests the status, currency and amount columns in place, materializing only matches.
+ *
+ * <p>{@link Transaction} objects are only materialized on read, so the Java heap holds nothing per
+ * row except the dictionary entries. This class is not thread-safe; the adapter guards it with a
+ * read/write lock.
+ */
+final class OffHeapTransactionStore {
+
+  private static final int CHUNK_SHIFT = 16;
+  private static final int ID_HEAP_CHUNK_SIZE = 1 << 20;
+  private static final int INITIAL_TABLE_SIZE = 1 << 16;
+  private static final int EMPTY_SLOT = 0;
+  private static final TransactionStatus[] STATUSES = TransactionStatus.values();
+
+  private final OffHeapColumn idAddress = new OffHeapColumn(Long.BYTES, CHUNK_SHIFT);
+  private final OffHeapColumn idLength = new OffHeapColumn(Short.BYTES, CHUNK_SHIFT);
+  private final OffHeapColumn idHash = new OffHeapColumn(Integer.BYTES, CHUNK_SHIFT);
+  private final OffHeapColumn amountMinorUnits = new OffHeapColumn(Long.BYTES, CHUNK_SHIFT);
+  private final OffHeapColumn currency = new OffHeapColumn(Short.BYTES, CHUNK_SHIFT);
+  private final OffHeapColumn originAccount = new OffHeapColumn(Integer.BYTES, CHUNK_SHIFT);
+  private final OffHeapColumn destinationAccount = new OffHeapColumn(Integer.BYTES, CHUNK_SHIFT);
+  private final OffHeapColumn status = new OffHeapColumn(Byte.BYTES, CHUNK_SHIFT);
+  private final OffHeapColumn createdAtMicros = new OffHeapColumn(Long.BYTES, CHUNK_SHIFT);
+  private final List<OffHeapColumn> columns =
+      List.of(
+          idAddress,
+          idLength,
+          idHash,
+          amountMinorUnits,
+          currency,
+          originAccount,
+          destinationAccount,
+          status,
+          createdAtMicros);
+
+  private final OffHeapByteHeap ids = new OffHeapByteHeap(ID_HEAP_CHUNK_SIZE);
+  private final StringDictionary currencies;
+  private final StringDictionary accounts;
+  private final OffHeapRowIndex createdAtIndex =
+      new OffHeapRowIndex(this::compareRows, CHUNK_SHIFT);
+  private final OffHeapRowIndex originIndex = new OffHeapRowIndex(this::compareRows, CHUNK_SHIFT);
+  private final OffHeapRowIndex destinationIndex =
+      new OffHeapRowIndex(this::compareRows, CHUNK_SHIFT);
+
+  /** Open-addressing table of {@code row + 1}, keyed by ID hash; 0 marks an empty slot. */
+  private OffHeapColumn idTable;
+
+  private int idTableSize;
+  private int rowCount;
+
+  OffHeapTransactionStore() {
+    this(Short.MAX_VALUE, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a store whose dictionaries hold at most the given number of values.
+   *
+   * @param maxCurrencies the capacity of the currency dictionary, at most {@link Short#MAX_VALUE}
+   * @param maxAccounts the capacity of the account dictionary
+   */
+  OffHeapTransactionStore(int maxCurrencies, int maxAccounts) {
+    this.currencies = new StringDictionary(maxCurrencies);
+    this.accounts = new StringDictionary(maxAccounts);
+    resetIdTable(INITIAL_TABLE_SIZE);
+  }
+
+  /**
+   * Inserts a transaction, or overwrites the row of the transaction with the same ID.
+   *
+   * <p>The dictionary codes are assigned before any index or column is touched, so a full
+   * dictionary leaves the store as it was.
+   *
+   * @param transaction the transaction to store
+   * @throws IllegalStateException if a dictionary has no room for a new currency or account
+   */
+  void put(Transaction transaction) {
+    byte[] idBytes = transaction.getId().getBytes(StandardCharsets.UTF_8);
+    if (idBytes.length > Short.MAX_VALUE) {
+      throw new IllegalArgumentException("Transaction ID is too long for off-heap storage");
+    }
+    short currencyCode = (short) currencies.encode(transaction.getCurrency());
+    int originCode = accounts.encode(transaction.getOriginAccountNumber());
+    int destinationCode = accounts.encode(transaction.getDestinationAccountNumber());
+    int hash = mix(transaction.getId().hashCode());
+    int row = findRow(idBytes, hash);
+    if (row >= 0) {
+      boolean reorder = createdAtMicros.getLong(row) != transaction.getCreatedAtMicros();
+      boolean moved =
+          reorder
+              || originAccount.getInt(row) != originCode
+              || destinationAccount.getInt(row) != destinationCode;
+      // Removal navigates by the stored key, so it must happen before the fields are overwritten
+      if (reorder) {
+        createdAtIndex.remove(row);
+      }
+      if (moved) {
+        removeFromAccountIndexes(row);
+      }
+      writeFields(row, transaction, currencyCode, originCode, destinationCode);
+      if (reorder) {
+        createdAtIndex.insert(row);
+      }
+      if (moved) {
+        insertIntoAccountIndexes(row);
+      }
+      return;
+    }
+    row = rowCount;
+    for (OffHeapColumn column : columns) {
+      column.ensureCapacity(row + 1);
+    }
+    idAddress.putLong(row, ids.append(idBytes));
+    idLength.putShort(row, (short) idBytes.length);
+    idHash.putInt(row, hash);
+    writeFields(row, transaction, currencyCode, originCode, destinationCode);
+    rowCount++;
+    insertIntoIdTable(row, hash);
+    createdAtIndex.insert(row);
+    insertIntoAccountIndexes(row);
+  }
+
+  Transaction get(String id) {
+    int row = findRow(id.getBytes(StandardCharsets.UTF_8), mix(id.hashCode()));
+    return row >= 0 ? materialize(row) : null;
+  }
+
+  boolean contains(String id) {
+    return findRow(id.getBytes(StandardCharsets.UTF_8), mix(id.hashCode())) >= 0;
+  }
+
+  List<Transaction> page(int offset, int limit) {
+    List<Transaction> result = new ArrayList<>(Math.min(limit, Math.max(0, rowCount - offset)));
+    createdAtIndex.page(offset, limit, row -> result.add(materialize(row)));
+    return result;
+  }
+
+  List<Transaction> after(TransactionCursor cursor, int limit) {
+    if (cursor == null) {
+      return page(0, limit);
+    }
+    List<Transaction> result = new ArrayList<>(Math.min(limit, rowCount));
+    createdAtIndex.after(
+        row -> compareRowToKey(row, cursor.createdAtMicros(), cursor.id()) > 0,
+        limit,
+        row -> result.add(materialize(row)));
+    return result;
+  }
+
+  /**
+   * Gets the transactions of one account, as origin or destination, that sort after a cursor.
+   *
+   * @param accountNumber the account number
+   * @param cursor the position to start after, or null to start from the newest transaction
+   * @param limit the maximum number of transactions to return
+   * @return the transactions in listing order
+   */
+  List<Transaction> byAccount(String accountNumber, TransactionCursor cursor, int limit) {
+    int account = accounts.find(accountNumber);
+    if (account < 0) {
+      return List.of();
+    }
+    int[] asOrigin = accountRows(originIndex, account, cursor, limit);
+    int[] asDestination = accountRows(destinationIndex, account, cursor, limit);
+    List<Transaction> result =
+        new ArrayList<>(Math.min(limit, asOrigin.length + asDestination.length));
+    int i = 0;
+    int j = 0;
+    while (result.size() < limit && (i < asOrigin.length || j < asDestination.length)) {
+      int cmp =
+          i == asOrigin.length
+              ? 1
+              : j == asDestination.length ? -1 : compareRows(asOrigin[i], asDestination[j]);
+      if (cmp == 0) {
+        // A transfer to the same account is in both trees
+        j++;
+        continue;
+      }
+      result.add(materialize(cmp < 0 ? asOrigin[i++] : asDestination[j++]));
+    }
+    return result;
+  }
+
+  /**
+   * Gets the transactions that meet a filter and sort after a cursor.
+   *
+   * @param filter the criteria
+   * @param cursor the position to start after, or null to start from the newest transaction
+   * @param limit the maximum number of transactions to return
+   * @return the matching transactions in listing order
+   */
+  List<Transaction> matching(TransactionFilter filter, TransactionCursor cursor, int limit) {
+    if (limit <= 0) {
+      return List.of();
+    }
+    int currencyCode = -1;
+    if (filter.currency() != null) {
+      currencyCode = currencies.find(filter.currency());
+      if (currencyCode < 0) {
+        return List.of();
+      }
+    }
+    boolean[] statusWanted = new boolean[STATUSES.length];
+    for (TransactionStatus wanted : filter.statuses()) {
+      statusWanted[wanted.ordinal()] = true;
+    }
+    boolean anyStatus = filter.statuses().isEmpty();
+    int wantedCurrency = currencyCode;
+
+    List<Transaction> result = new ArrayList<>(Math.min(limit, rowCount));
+    OffHeapRowIndex.RowSink sink =
+        row -> {
+          long createdAt = createdAtMicros.getLong(row);
+          if (createdAt < filter.createdFromMicros()) {
+            return false;
+          }
+          if (createdAt <= filter.createdToMicros()
+              && (anyStatus || statusWanted[status.getByte(row)])
+              && (wantedCurrency < 0 || currency.getShort(row) == wantedCurrency)) {
+            long amount = amountMinorUnits.getLong(row);
+            if (amount >= filter.minAmountMinor() && amount <= filter.maxAmountMinor()) {
+              result.add(materialize(row));
+            }
+          }
+          return result.size() < limit;
+        };
+    TransactionCursor start = filter.seekFrom(cursor);
+    if (start == null) {
+      createdAtIndex.page(0, Integer.MAX_VALUE, sink);
+    } else {
+      createdAtIndex.after(
+          row -> compareRowToKey(row, start.createdAtMicros(), start.id()) > 0,
+          Integer.MAX_VALUE,
+          sink);
+    }
+    return result;
+  }
+
+  int size() {
+    return rowCount;
+  }
+
+  /**
+   * Gets the number of entries of an index: the ID hash table, the creation-time tree, one of the
+   * string dictionaries, or the number of account trees of an account index.
+   *
+   * @param name {@code id}, {@code created-at}, {@code currencies}, {@code accounts}, {@code
+   *     origin-account} or {@code destination-account}
+   * @return the number of entries
+   * @throws IllegalArgumentException if there is no such index
+   */
+  long indexSize(String name) {
+    return switch (name) {
+      case "id" -> rowCount;
+      case "created-at" -> createdAtIndex.size();
+      case "currencies" -> currencies.size();
+      case "accounts" -> accounts.size();
+      case "origin-account" -> originIndex.treeCount();
+      case "destination-account" -> destinationIndex.treeCount();
+      default -> throw new IllegalArgumentException("Unknown index: " + name);
+    };
+  }
+
+  /**
+   * Gets the direct memory currently reserved by columns, indexes and the ID heap.
+   *
+   * @return the off-heap footprint in bytes
+   */
+  long offHeapBytes() {
+    long total =
+        ids.allocatedBytes()
+            + idTable.allocatedBytes()
+            + createdAtIndex.allocatedBytes()
+            + originIndex.allocatedBytes()
+            + destinationIndex.allocatedBytes();
+    for (OffHeapColumn column : columns) {
+      total += column.allocatedBytes();
+    }
+    return total;
+  }
+
+  void clear() {
+    for (OffHeapColumn column : columns) {
+      column.release();
+    }
+    ids.release();
+    currencies.clear();
+    accounts.clear();
+    createdAtIndex.clear();
+    originIndex.clear();
+    destinationIndex.clear();
+    rowCount = 0;
+    resetIdTable(INITIAL_TABLE_SIZE);
+  }
+
+  private void insertIntoAccountIndexes(int row) {
+    originIndex.insert(originAccount.getInt(row), row);
+    destinationIndex.insert(destinationAccount.getInt(row), row);
+  }
+
+  private void removeFromAccountIndexes(int row) {
+    originIndex.remove(originAccount.getInt(row), row);
+    destinationIndex.remove(destinationAccount.getInt(row), row);
+  }
+
+  private int[] accountRows(
+      OffHeapRowIndex index, int account, TransactionCursor cursor, int limit) {
+    int[] rows = new int[Math.min(limit, index.size(account))];
+    int[] filled = new int[1];
+    OffHeapRowIndex.RowSink sink =
+        row -> {
+          rows[filled[0]++] = row;
+          return true;
+        };
+    if (cursor == null) {
+      index.first(account, limit, sink);
+    } else {
+      index.after(
+          account,
+          row -> compareRowToKey(row, cursor.createdAtMicros(), cursor.id()) > 0,
+          limit,
+          sink);
+    }
+    return filled[0] == rows.length ? rows : Arrays.copyOf(rows, filled[0]);
+  }
+
+  private void writeFields(
+      int row, Transaction transaction, short currencyCode, int originCode, int destinationCode) {
+    amountMinorUnits.putLong(row, transaction.getAmountMinorUnits());
+    currency.putShort(row, currencyCode);
+    originAccount.putInt(row, originCode);
+    destinationAccount.putInt(row, destinationCode);
+    status.putByte(row, (byte) transaction.getStatus().ordinal());
+    createdAtMicros.putLong(row, transaction.getCreatedAtMicros());
+  }
+
+  private Transaction materialize(int row) {
+    return new Transaction(
+        readId(row),
+        Money.ofMinor(amountMinorUnits.getLong(row), currencies.decode(currency.getShort(row))),
+        accounts.decode(originAccount.getInt(row)),
+        accounts.decode(destinationAccount.getInt(row)),
+        STATUSES[status.getByte(row)],
+        ClockPort.toInstant(createdAtMicros.getLong(row)));
+  }
+
+  private String readId(int row) {
+    byte[] bytes = ids.read(idAddress.getLong(row), idLength.getShort(row));
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /** Listing order: newest first, ties broken by descending ID. */
+  private int compareRows(int a, int b) {
+    int cmp = Long.compare(createdAtMicros.getLong(b), createdAtMicros.getLong(a));
+    return cmp != 0 ? cmp : readId(b).compareTo(readId(a));
+  }
+
+  private int compareRowToKey(int row, long micros, String id) {
+    int cmp = Long.compare(micros, createdAtMicros.getLong(row));
+    return cmp != 0 ? cmp : id.compareTo(readId(row));
+  }
+
+  private int findRow(byte[] idBytes, int hash) {
+    int mask = idTableSize - 1;
+    for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+      int entry = idTable.getInt(slot);
+      if (entry == EMPTY_SLOT) {
+        return -1;
+      }
+      int row = entry - 1;
+      if (idHash.getInt(row) == hash
+          && ids.matches(idAddress.getLong(row), idLength.getShort(row), idBytes)) {
+        return row;
+      }
+    }
+  }
+
+  private void insertIntoIdTable(int row, int hash) {
+    // Keep the load factor at or below 0.5 so probe sequences stay short
+    if ((long) rowCount * 2 > idTableSize) {
+      resetIdTable(idTableSize * 2);
+      for (int existing = 0; existing < rowCount; existing++) {
+        placeInIdTable(existing, idHash.getInt(existing));
+      }
+      return;
+    }
+    placeInIdTable(row, hash);
+  }
+
+  private void placeInIdTable(int row, int hash) {
+    int mask = idTableSize - 1;
+    int slot = hash & mask;
+    while (idTable.getInt(slot) != EMPTY_SLOT) {
+      slot = (slot + 1) & mask;
+    }
+    idTable.putInt(slot, row + 1);
+  }
+
+  private void resetIdTable(int size) {
+    idTable = new OffHeapColumn(Integer.BYTES, CHUNK_SHIFT);
+    idTable.ensureCapacity(size);
+    idTableSize = size;
+  }
+
+  private static int mix(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+}
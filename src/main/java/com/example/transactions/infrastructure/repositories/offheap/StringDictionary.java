@@ -0,0 +1,79 @@
+package com.example.transactions.infrastructure.repositories.offheap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary encoding for low-cardinality string columns (account numbers, currencies).
+ *
+ * <p>Each distinct value is kept once on-heap and rows store only its integer code. Synchronization
+ * is left to the owner.
+ */
+final class StringDictionary {
+
+  private final int maxSize;
+  private final Map<String, Integer> codes = new HashMap<>();
+  private final List<String> values = new ArrayList<>();
+
+  StringDictionary(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Gets the code of a value, assigning a new one if the value was never seen.
+   *
+   * @param value the value to encode
+   * @return the value's code
+   */
+  int encode(String value) {
+    Integer code = codes.get(value);
+    if (code != null) {
+      return code;
+    }
+    if (values.size() >= maxSize) {
+      throw new IllegalStateException("Off-heap dictionary is full (" + maxSize + " entries)");
+    }
+    int assigned = values.size();
+    values.add(value);
+    codes.put(value, assigned);
+    return assigned;
+  }
+
+  /**
+   * Gets the code of a value without assigning one.
+   *
+   * @param value the value to look up
+   * @return the value's code, or -1 if the value was never seen
+   */
+  int find(String value) {
+    Integer code = codes.get(value);
+    return code == null ? -1 : code;
+  }
+
+  /**
+   * Gets the value for a code.
+   *
+   * @param code a code returned by {@link #encode(String)}
+   * @return the decoded value
+   */
+  String decode(int code) {
+    return values.get(code);
+  }
+
+  /**
+   * Gets the number of distinct values.
+   *
+   * @return the dictionary size
+   */
+  int size() {
+    return values.size();
+  }
+
+  /** Removes every entry. */
+  void clear() {
+    codes.clear();
+    values.clear();
+  }
+}
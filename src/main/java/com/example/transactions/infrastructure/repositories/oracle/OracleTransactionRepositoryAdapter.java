@@ -1,108 +1,466 @@
 package com.example.transactions.infrastructure.repositories.oracle;
 
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import javax.sql.DataSource;
 
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.quarkus.arc.lookup.LookupIfProperty;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.example.transactions.config.RepositoryAdapter;
+import com.example.transactions.domain.shared.ports.ClockPort;
+import com.example.transactions.domain.shared.valueobjects.Money;
 import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionCursor;
+import com.example.transactions.domain.transaction.model.TransactionFilter;
+import com.example.transactions.domain.transaction.model.TransactionSlice;
+import com.example.transactions.domain.transaction.model.TransactionStatus;
 import com.example.transactions.domain.transaction.ports.TransactionRepositoryPort;
+import com.example.transactions.infrastructure.repositories.RepositoryAccessException;
 
 /**
  * Oracle database implementation of TransactionRepositoryPort.
  *
- * <p>This adapter provides Oracle database persistence for transactions using Hibernate ORM and
- * JDBC. It is activated when the application profile is set to 'prod' and database configuration is
- * provided.
- *
- * <p><strong>TODO:</strong> This is a placeholder implementation. To complete:
+ * <p>This adapter talks plain JDBC to the Quarkus datasource (Agroal pool). It is activated with
+ * {@code app.repository.type=oracle}; the schema is created by the migration script in {@code
+ * db/migration}. Performance notes:
  *
- * <ol>
- *   <li>Uncomment Oracle dependencies in pom.xml
- *   <li>Add JPA entity mapping annotations to Transaction class or create a separate entity
- *   <li>Implement the actual database operations using EntityManager or Panache
- *   <li>Add database migration scripts in src/main/resources/db/migration/
- *   <li>Configure datasource properties in application-prod.properties
- * </ol>
+ * <ul>
+ *   <li>Every statement is a constant SQL string with bind variables, so the Oracle driver's
+ *       implicit statement cache (enabled per pooled connection in application.properties) reuses
+ *       parsed cursors.
+ *   <li>Listing uses keyset queries backed by the {@code (created_at DESC, id DESC)} index;
+ *       offset queries are kept for compatibility.
+ *   <li>An account's history is the union of two bounded keyset queries, one per account index
+ *       {@code (origin_account_number | destination_account_number, created_at DESC, id DESC)}, so
+ *       it reads at most twice the page size whatever the table size.
+ *   <li>A filtered listing adds one predicate per criterion present, so its SQL has one shape per
+ *       combination of criteria (and number of statuses) rather than being constant; each shape is
+ *       still cached. The optimizer picks among the {@code (status, created_at DESC, id DESC)},
+ *       {@code (currency, amount)} and listing indexes.
+ *   <li>The result set fetch size is tuned via {@code app.repository.oracle.fetch-size} so a page
+ *       arrives in one round trip.
+ *   <li>{@link #saveAll(Collection)} sends many upserts as one JDBC batch.
+ *   <li>A page with its total reads both in one statement with {@code COUNT(*) OVER ()}, so they
+ *       come from the same snapshot.
+ *   <li>Existence checks stop at the first matching row instead of counting.
+ * </ul>
  *
- * <p>Example configuration keys needed in application-prod.properties:
- *
- * <pre>
- * quarkus.datasource.db-kind=oracle
- * quarkus.datasource.username=${DB_USERNAME:transactions_user}
- * quarkus.datasource.password=${DB_PASSWORD}
- * quarkus.datasource.jdbc.url=${DB_URL:jdbc:oracle:thin:@localhost:1521:XE}
- * quarkus.datasource.jdbc.max-size=20
- * quarkus.datasource.jdbc.min-size=5
- *
- * quarkus.hibernate-orm.database.generation=validate
- * quarkus.hibernate-orm.sql-load-script=no-file
- * quarkus.flyway.migrate-at-start=true
- * quarkus.flyway.locations=classpath:db/migration
- * </pre>
+ * <p>The SQL is kept to the subset H2 also accepts in Oracle compatibility mode, so the adapter can
+ * be tested without an Oracle instance.
  */
-// TODO: Temporarily disabled to avoid CDI conflicts - enable when Oracle integration is ready
-// @ApplicationScoped
-// @LookupIfProperty(name = "app.repository.type", stringValue = "oracle")
+@ApplicationScoped
+@RepositoryAdapter
+@LookupIfProperty(name = "app.repository.type", stringValue = "oracle")
 public class OracleTransactionRepositoryAdapter implements TransactionRepositoryPort {
 
-  // TODO: Inject EntityManager or use Panache Repository pattern
-  // @Inject
-  // EntityManager entityManager;
+  private static final String COLUMNS =
+      "id, amount, currency, origin_account_number, destination_account_number, status, created_at";
+
+  private static final String UPSERT_SQL =
+      "MERGE INTO transactions t"
+          + " USING (SELECT CAST(? AS VARCHAR2(64)) id, CAST(? AS NUMBER) amount,"
+          + " CAST(? AS VARCHAR2(3)) currency, CAST(? AS VARCHAR2(20)) origin_account_number,"
+          + " CAST(? AS VARCHAR2(20)) destination_account_number, CAST(? AS VARCHAR2(16)) status,"
+          + " CAST(? AS TIMESTAMP(9)) created_at FROM dual) s"
+          + " ON (t.id = s.id)"
+          + " WHEN MATCHED THEN UPDATE SET t.amount = s.amount, t.currency = s.currency,"
+          + " t.origin_account_number = s.origin_account_number,"
+          + " t.destination_account_number = s.destination_account_number,"
+          + " t.status = s.status, t.created_at = s.created_at"
+          + " WHEN NOT MATCHED THEN INSERT ("
+          + COLUMNS
+          + ") VALUES (s.id, s.amount, s.currency, s.origin_account_number,"
+          + " s.destination_account_number, s.status, s.created_at)";
+
+  private static final String FIND_BY_ID_SQL =
+      "SELECT " + COLUMNS + " FROM transactions WHERE id = ?";
+
+  private static final String FIND_PAGE_SQL =
+      "SELECT "
+          + COLUMNS
+          + " FROM transactions ORDER BY created_at DESC, id DESC"
+          + " OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
+
+  private static final String FIND_FIRST_SQL =
+      "SELECT "
+          + COLUMNS
+          + " FROM transactions ORDER BY created_at DESC, id DESC FETCH FIRST ? ROWS ONLY";
+
+  private static final String FIND_AFTER_SQL =
+      "SELECT "
+          + COLUMNS
+          + " FROM transactions"
+          + " WHERE created_at < ? OR (created_at = ? AND id < ?)"
+          + " ORDER BY created_at DESC, id DESC FETCH FIRST ? ROWS ONLY";
+
+  private static final String PAGE_ORDER =
+      " ORDER BY created_at DESC, id DESC FETCH FIRST ? ROWS ONLY";
+
+  private static final String KEYSET = " AND (created_at < ? OR (created_at = ? AND id < ?))";
+
+  private static final String FIND_MATCHING_SQL = "SELECT " + COLUMNS + " FROM transactions WHERE ";
+
+  private static final String FIND_BY_ACCOUNT_FIRST_SQL = findByAccountSql("");
+
+  private static final String FIND_BY_ACCOUNT_AFTER_SQL = findByAccountSql(KEYSET);
+
+  // COUNT(*) OVER () is evaluated before FETCH, so each row carries the total of the same snapshot
+  private static final String FIND_PAGE_WITH_TOTAL_SQL =
+      "SELECT "
+          + COLUMNS
+          + ", COUNT(*) OVER () total_count FROM transactions ORDER BY created_at DESC, id DESC"
+          + " OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
+
+  private static final String FIND_FIRST_WITH_TOTAL_SQL =
+      "SELECT " + COLUMNS + ", COUNT(*) OVER () total_count FROM transactions" + PAGE_ORDER;
+
+  // The window runs in the inline view, so it counts the whole table and not only the rows after
+  // the cursor
+  private static final String FIND_AFTER_WITH_TOTAL_SQL =
+      "SELECT "
+          + COLUMNS
+          + ", total_count FROM (SELECT "
+          + COLUMNS
+          + ", COUNT(*) OVER () total_count FROM transactions)"
+          + " WHERE created_at < ? OR (created_at = ? AND id < ?)"
+          + PAGE_ORDER;
+
+  private static final String COUNT_SQL = "SELECT COUNT(*) FROM transactions";
+
+  private static final String EXISTS_SQL =
+      "SELECT 1 FROM transactions WHERE id = ? FETCH FIRST 1 ROWS ONLY";
+
+  private final DataSource dataSource;
+  private final int fetchSize;
+
+  @Inject
+  public OracleTransactionRepositoryAdapter(
+      DataSource dataSource,
+      @ConfigProperty(name = "app.repository.oracle.fetch-size", defaultValue = "200")
+          int fetchSize) {
+    this.dataSource = dataSource;
+    this.fetchSize = fetchSize;
+  }
 
   @Override
   public Transaction save(Transaction transaction) {
-    // TODO: Implement Oracle persistence
-    // Example with EntityManager:
-    // TransactionEntity entity = TransactionMapper.toEntity(transaction);
-    // entityManager.persist(entity);
-    // return TransactionMapper.toDomain(entity);
-    throw new UnsupportedOperationException("Oracle repository not yet implemented");
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(UPSERT_SQL)) {
+      bindUpsert(statement, transaction);
+      statement.executeUpdate();
+      return transaction;
+    } catch (SQLException e) {
+      throw new RepositoryAccessException("Failed to save transaction " + transaction.getId(), e);
+    }
+  }
+
+  /** Saves the whole batch as a single JDBC batch in one database transaction. */
+  @Override
+  public List<Transaction> saveAll(Collection<Transaction> transactions) {
+    if (transactions.isEmpty()) {
+      return List.of();
+    }
+    try (Connection connection = dataSource.getConnection()) {
+      boolean autoCommit = connection.getAutoCommit();
+      connection.setAutoCommit(false);
+      try (PreparedStatement statement = connection.prepareStatement(UPSERT_SQL)) {
+        for (Transaction transaction : transactions) {
+          bindUpsert(statement, transaction);
+          statement.addBatch();
+        }
+        statement.executeBatch();
+        connection.commit();
+      } catch (SQLException e) {
+        connection.rollback();
+        throw e;
+      } finally {
+        connection.setAutoCommit(autoCommit);
+      }
+      return List.copyOf(transactions);
+    } catch (SQLException e) {
+      throw new RepositoryAccessException(
+          "Failed to save batch of " + transactions.size() + " transactions", e);
+    }
   }
 
   @Override
   public Optional<Transaction> findById(String id) {
-    // TODO: Implement Oracle query
-    // Example with EntityManager:
-    // TransactionEntity entity = entityManager.find(TransactionEntity.class, id);
-    // return entity != null ? Optional.of(TransactionMapper.toDomain(entity)) :
-    // Optional.empty();
-    throw new UnsupportedOperationException("Oracle repository not yet implemented");
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(FIND_BY_ID_SQL)) {
+      statement.setString(1, id);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return resultSet.next() ? Optional.of(map(resultSet)) : Optional.empty();
+      }
+    } catch (SQLException e) {
+      throw new RepositoryAccessException("Failed to find transaction " + id, e);
+    }
   }
 
   @Override
   public List<Transaction> findAll(int offset, int limit) {
-    // TODO: Implement Oracle query with pagination
-    // Example with EntityManager:
-    // TypedQuery<TransactionEntity> query = entityManager
-    //     .createQuery("SELECT t FROM TransactionEntity t ORDER BY t.createdAt DESC",
-    // TransactionEntity.class)
-    //     .setFirstResult(offset)
-    //     .setMaxResults(limit);
-    // return query.getResultStream()
-    //     .map(TransactionMapper::toDomain)
-    //     .toList();
-    throw new UnsupportedOperationException("Oracle repository not yet implemented");
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(FIND_PAGE_SQL)) {
+      statement.setInt(1, offset);
+      statement.setInt(2, limit);
+      return query(statement, limit);
+    } catch (SQLException e) {
+      throw new RepositoryAccessException("Failed to list transactions", e);
+    }
+  }
+
+  @Override
+  public List<Transaction> findAfter(TransactionCursor cursor, int limit) {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement =
+            connection.prepareStatement(cursor == null ? FIND_FIRST_SQL : FIND_AFTER_SQL)) {
+      if (cursor == null) {
+        statement.setInt(1, limit);
+      } else {
+        statement.setObject(1, toTimestamp(cursor.createdAtMicros()));
+        statement.setObject(2, toTimestamp(cursor.createdAtMicros()));
+        statement.setString(3, cursor.id());
+        statement.setInt(4, limit);
+      }
+      return query(statement, limit);
+    } catch (SQLException e) {
+      throw new RepositoryAccessException("Failed to list transactions after cursor", e);
+    }
+  }
+
+  @Override
+  public List<Transaction> findByAccountAfter(
+      String accountNumber, TransactionCursor cursor, int limit) {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement =
+            connection.prepareStatement(
+                cursor == null ? FIND_BY_ACCOUNT_FIRST_SQL : FIND_BY_ACCOUNT_AFTER_SQL)) {
+      int index = 1;
+      // Same binds for the origin and the destination branch, then the outer limit
+      for (int branch = 0; branch < 2; branch++) {
+        statement.setString(index++, accountNumber);
+        if (cursor != null) {
+          statement.setObject(index++, toTimestamp(cursor.createdAtMicros()));
+          statement.setObject(index++, toTimestamp(cursor.createdAtMicros()));
+          statement.setString(index++, cursor.id());
+        }
+        statement.setInt(index++, limit);
+      }
+      statement.setInt(index, limit);
+      return query(statement, limit);
+    } catch (SQLException e) {
+      throw new RepositoryAccessException(
+          "Failed to list transactions of account " + accountNumber, e);
+    }
+  }
+
+  @Override
+  public List<Transaction> findMatchingAfter(
+      TransactionFilter filter, TransactionCursor cursor, int limit) {
+    if (filter.isEmpty()) {
+      return findAfter(cursor, limit);
+    }
+    List<String> conditions = new ArrayList<>();
+    List<Object> binds = new ArrayList<>();
+    if (!filter.statuses().isEmpty()) {
+      StringBuilder in = new StringBuilder("status IN (");
+      for (TransactionStatus status : filter.statuses()) {
+        in.append(binds.isEmpty() ? "?" : ", ?");
+        binds.add(status.name());
+      }
+      conditions.add(in.append(')').toString());
+    }
+    if (filter.currency() != null) {
+      conditions.add("currency = ?");
+      binds.add(filter.currency());
+      int scale = Money.fractionDigits(filter.currency());
+      if (filter.minAmountMinor() != Long.MIN_VALUE) {
+        conditions.add("amount >= ?");
+        binds.add(BigDecimal.valueOf(filter.minAmountMinor(), scale));
+      }
+      if (filter.maxAmountMinor() != Long.MAX_VALUE) {
+        conditions.add("amount <= ?");
+        binds.add(BigDecimal.valueOf(filter.maxAmountMinor(), scale));
+      }
+    }
+    if (filter.createdFromMicros() != Long.MIN_VALUE) {
+      conditions.add("created_at >= ?");
+      binds.add(toTimestamp(filter.createdFromMicros()));
+    }
+    if (filter.createdToMicros() != Long.MAX_VALUE) {
+      conditions.add("created_at <= ?");
+      binds.add(toTimestamp(filter.createdToMicros()));
+    }
+    if (cursor != null) {
+      conditions.add("(created_at < ? OR (created_at = ? AND id < ?))");
+      binds.add(toTimestamp(cursor.createdAtMicros()));
+      binds.add(toTimestamp(cursor.createdAtMicros()));
+      binds.add(cursor.id());
+    }
+    String sql = FIND_MATCHING_SQL + String.join(" AND ", conditions) + PAGE_ORDER;
+
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(sql)) {
+      int index = 1;
+      for (Object bind : binds) {
+        statement.setObject(index++, bind);
+      }
+      statement.setInt(index, limit);
+      return query(statement, limit);
+    } catch (SQLException e) {
+      throw new RepositoryAccessException("Failed to list filtered transactions", e);
+    }
+  }
+
+  @Override
+  public TransactionSlice findAllWithTotal(int offset, int limit) {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(FIND_PAGE_WITH_TOTAL_SQL)) {
+      statement.setInt(1, offset);
+      statement.setInt(2, limit);
+      return querySlice(connection, statement, limit);
+    } catch (SQLException e) {
+      throw new RepositoryAccessException("Failed to list transactions", e);
+    }
+  }
+
+  @Override
+  public TransactionSlice findAfterWithTotal(TransactionCursor cursor, int limit) {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement =
+            connection.prepareStatement(
+                cursor == null ? FIND_FIRST_WITH_TOTAL_SQL : FIND_AFTER_WITH_TOTAL_SQL)) {
+      if (cursor == null) {
+        statement.setInt(1, limit);
+      } else {
+        statement.setObject(1, toTimestamp(cursor.createdAtMicros()));
+        statement.setObject(2, toTimestamp(cursor.createdAtMicros()));
+        statement.setString(3, cursor.id());
+        statement.setInt(4, limit);
+      }
+      return querySlice(connection, statement, limit);
+    } catch (SQLException e) {
+      throw new RepositoryAccessException("Failed to list transactions after cursor", e);
+    }
   }
 
   @Override
   public long count() {
-    // TODO: Implement Oracle count query
-    // Example with EntityManager:
-    // return entityManager.createQuery("SELECT COUNT(t) FROM TransactionEntity t",
-    // Long.class)
-    //     .getSingleResult();
-    throw new UnsupportedOperationException("Oracle repository not yet implemented");
+    try (Connection connection = dataSource.getConnection()) {
+      return count(connection);
+    } catch (SQLException e) {
+      throw new RepositoryAccessException("Failed to count transactions", e);
+    }
   }
 
   @Override
   public boolean existsById(String id) {
-    // TODO: Implement Oracle exists query
-    // Example with EntityManager:
-    // Long count = entityManager
-    //     .createQuery("SELECT COUNT(t) FROM TransactionEntity t WHERE t.id = :id",
-    // Long.class)
-    //     .setParameter("id", id)
-    //     .getSingleResult();
-    // return count > 0;
-    throw new UnsupportedOperationException("Oracle repository not yet implemented");
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(EXISTS_SQL)) {
+      statement.setString(1, id);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return resultSet.next();
+      }
+    } catch (SQLException e) {
+      throw new RepositoryAccessException("Failed to check transaction " + id, e);
+    }
+  }
+
+  // UNION drops the second copy of a transfer from an account to itself
+  private static String findByAccountSql(String keyset) {
+    return "SELECT "
+        + COLUMNS
+        + " FROM ("
+        + accountBranch("origin_account_number", keyset)
+        + " UNION "
+        + accountBranch("destination_account_number", keyset)
+        + ")"
+        + PAGE_ORDER;
+  }
+
+  private static String accountBranch(String accountColumn, String keyset) {
+    return "SELECT "
+        + COLUMNS
+        + " FROM (SELECT "
+        + COLUMNS
+        + " FROM transactions WHERE "
+        + accountColumn
+        + " = ?"
+        + keyset
+        + PAGE_ORDER
+        + ")";
+  }
+
+  private long count(Connection connection) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(COUNT_SQL);
+        ResultSet resultSet = statement.executeQuery()) {
+      resultSet.next();
+      return resultSet.getLong(1);
+    }
+  }
+
+  private List<Transaction> query(PreparedStatement statement, int limit) throws SQLException {
+    statement.setFetchSize(Math.min(limit, fetchSize));
+    List<Transaction> transactions = new ArrayList<>(Math.min(limit, fetchSize));
+    try (ResultSet resultSet = statement.executeQuery()) {
+      while (resultSet.next()) {
+        transactions.add(map(resultSet));
+      }
+    }
+    return transactions;
+  }
+
+  private TransactionSlice querySlice(Connection connection, PreparedStatement statement, int limit)
+      throws SQLException {
+    statement.setFetchSize(Math.min(limit, fetchSize));
+    List<Transaction> page = new ArrayList<>(Math.min(limit, fetchSize));
+    long total = -1;
+    try (ResultSet resultSet = statement.executeQuery()) {
+      while (resultSet.next()) {
+        page.add(map(resultSet));
+        total = resultSet.getLong("total_count");
+      }
+    }
+    // An empty page (past the end) carries no total; fall back to counting
+    return new TransactionSlice(page, total >= 0 ? total : count(connection));
+  }
+
+  private static void bindUpsert(PreparedStatement statement, Transaction transaction)
+      throws SQLException {
+    statement.setString(1, transaction.getId());
+    statement.setBigDecimal(2, transaction.getAmount().toBigDecimal());
+    statement.setString(3, transaction.getCurrency());
+    statement.setString(4, transaction.getOriginAccountNumber());
+    statement.setString(5, transaction.getDestinationAccountNumber());
+    statement.setString(6, transaction.getStatus().name());
+    statement.setObject(7, toTimestamp(transaction.getCreatedAtMicros()));
+  }
+
+  private static Transaction map(ResultSet resultSet) throws SQLException {
+    return new Transaction(
+        resultSet.getString(1),
+        Money.of(resultSet.getBigDecimal(2), resultSet.getString(3)),
+        resultSet.getString(4),
+        resultSet.getString(5),
+        TransactionStatus.valueOf(resultSet.getString(6)),
+        resultSet.getObject(7, LocalDateTime.class).toInstant(ZoneOffset.UTC));
+  }
+
+  // created_at holds UTC wall-clock time; a TIMESTAMP without zone keeps index order simple
+  private static LocalDateTime toTimestamp(long micros) {
+    return LocalDateTime.ofInstant(ClockPort.toInstant(micros), ZoneOffset.UTC);
   }
 }
@@ -0,0 +1,92 @@
+package com.example.transactions.infrastructure.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.quarkus.arc.lookup.LookupIfProperty;
+
+import com.example.transactions.config.ClockAdapter;
+import com.example.transactions.domain.shared.ports.ClockPort;
+
+/**
+ * Coarse-grained implementation of ClockPort for high call rates.
+ *
+ * <p>A daemon thread reads the system clock once per tick ({@code app.clock.tick}, 1 ms by default)
+ * and publishes it in a volatile field; {@link #currentTimeMicros()} is a plain volatile read, with
+ * no system call and no allocation, however many request threads ask. A reading is at most one tick
+ * old, and the published time never goes backwards even if the system clock does.
+ */
+@ApplicationScoped
+@ClockAdapter
+@LookupIfProperty(name = "app.clock.type", stringValue = "cached", lookupIfMissing = true)
+public class CachedClockAdapter implements ClockPort {
+
+  private final LongSupplier source;
+  private final long tickNanos;
+
+  private volatile long currentMicros;
+  private volatile boolean running;
+  private Thread ticker;
+
+  @Inject
+  public CachedClockAdapter(ClockConfig config) {
+    this(() -> ClockPort.toMicros(Instant.now()), config.tick());
+  }
+
+  /**
+   * Creates a clock over the given time source, not ticking until {@link #start()}.
+   *
+   * @param source the time source, in epoch microseconds
+   * @param tick how often to read the source
+   * @throws IllegalArgumentException if the tick is not positive
+   */
+  CachedClockAdapter(LongSupplier source, Duration tick) {
+    if (tick.isNegative() || tick.isZero()) {
+      throw new IllegalArgumentException("Clock tick must be positive");
+    }
+    this.source = source;
+    this.tickNanos = tick.toNanos();
+    this.currentMicros = source.getAsLong();
+  }
+
+  @PostConstruct
+  void start() {
+    running = true;
+    ticker = Thread.ofPlatform().name("cached-clock").daemon().start(this::run);
+  }
+
+  @PreDestroy
+  void stop() {
+    running = false;
+    if (ticker != null) {
+      LockSupport.unpark(ticker);
+    }
+  }
+
+  @Override
+  public long currentTimeMicros() {
+    return currentMicros;
+  }
+
+  /** Reads the source once; only the ticker thread, or a test, calls this. */
+  void refresh() {
+    long now = source.getAsLong();
+    if (now > currentMicros) {
+      currentMicros = now;
+    }
+  }
+
+  private void run() {
+    while (running) {
+      LockSupport.parkNanos(tickNanos);
+      refresh();
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.example.transactions.infrastructure.services;
+
+import java.time.Duration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/** Configuration of the clock that timestamps transactions. */
+@ConfigMapping(prefix = "app.clock")
+public interface ClockConfig {
+
+  /**
+   * Which clock to use: {@code cached} (read from a field refreshed in the background) or {@code
+   * system} (read from the operating system on every call).
+   *
+   * @return the clock type
+   */
+  @WithDefault("cached")
+  String type();
+
+  /**
+   * How often the cached clock is refreshed, which is also how stale a reading may be.
+   *
+   * @return the refresh interval
+   */
+  @WithDefault("1ms")
+  Duration tick();
+}
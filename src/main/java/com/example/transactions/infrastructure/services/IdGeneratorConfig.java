@@ -0,0 +1,28 @@
+package com.example.transactions.infrastructure.services;
+
+import java.util.Optional;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/** Configuration of transaction ID generation. */
+@ConfigMapping(prefix = "app.id-generator")
+public interface IdGeneratorConfig {
+
+  /**
+   * Which generator to use: {@code uuid-v7} (time-ordered) or {@code uuid} (random).
+   *
+   * @return the generator type
+   */
+  @WithDefault("uuid-v7")
+  String type();
+
+  /**
+   * Identifier of this instance, embedded in every time-ordered ID so that instances never collide.
+   * Must be unique per running instance, from 0 to 65535. When absent, a random one is picked at
+   * startup and uniqueness becomes probabilistic.
+   *
+   * @return the node ID, if configured
+   */
+  Optional<Integer> nodeId();
+}
@@ -0,0 +1,27 @@
+package com.example.transactions.infrastructure.services;
+
+import java.time.Instant;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkus.arc.lookup.LookupIfProperty;
+
+import com.example.transactions.config.ClockAdapter;
+import com.example.transactions.domain.shared.ports.ClockPort;
+
+/**
+ * Implementation of ClockPort that asks the operating system on every call.
+ *
+ * <p>Precise to the microsecond where the platform allows it, at the cost of a system clock read
+ * per call. {@link CachedClockAdapter} is the default.
+ */
+@ApplicationScoped
+@ClockAdapter
+@LookupIfProperty(name = "app.clock.type", stringValue = "system")
+public class SystemClockAdapter implements ClockPort {
+
+  @Override
+  public long currentTimeMicros() {
+    return ClockPort.toMicros(Instant.now());
+  }
+}
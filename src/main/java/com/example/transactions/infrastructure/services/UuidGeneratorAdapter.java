@@ -4,15 +4,21 @@ import java.util.UUID;
 
 import jakarta.enterprise.context.ApplicationScoped;
 
+import io.quarkus.arc.lookup.LookupIfProperty;
+
+import com.example.transactions.config.IdGeneratorAdapter;
 import com.example.transactions.domain.shared.ports.IdGeneratorPort;
 
 /**
  * UUID-based implementation of IdGeneratorPort.
  *
  * <p>This adapter generates random UUIDs as transaction identifiers, providing globally unique IDs
- * suitable for distributed systems.
+ * suitable for distributed systems. Selected with {@code app.id-generator.type=uuid}; random keys
+ * scatter index inserts, so {@link UuidV7GeneratorAdapter} is the default.
  */
 @ApplicationScoped
+@IdGeneratorAdapter
+@LookupIfProperty(name = "app.id-generator.type", stringValue = "uuid")
 public class UuidGeneratorAdapter implements IdGeneratorPort {
 
   @Override
@@ -0,0 +1,25 @@
+package com.example.transactions.presentation.dto;
+
+import java.util.List;
+
+/**
+ * Response DTO for a batch create request.
+ *
+ * @param created the number of transactions created
+ * @param rejected the number of items rejected by validation
+ * @param results the outcome of every item, in request order
+ */
+public record BatchCreateTransactionResponse(
+    int created, int rejected, List<BatchItemResponse> results) {
+
+  /**
+   * Creates a BatchCreateTransactionResponse, counting the outcomes.
+   *
+   * @param results the outcome of every item, in request order
+   * @return the batch response
+   */
+  public static BatchCreateTransactionResponse of(List<BatchItemResponse> results) {
+    int created = (int) results.stream().filter(result -> result.transaction() != null).count();
+    return new BatchCreateTransactionResponse(created, results.size() - created, results);
+  }
+}
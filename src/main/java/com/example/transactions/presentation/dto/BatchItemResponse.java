@@ -0,0 +1,40 @@
+package com.example.transactions.presentation.dto;
+
+import java.util.List;
+
+import com.example.transactions.domain.transaction.model.Transaction;
+
+/**
+ * Outcome of one item of a batch create request.
+ *
+ * @param index the position of the item in the request array
+ * @param status the HTTP status the item would have received on its own (201 or 400)
+ * @param transaction the created transaction, or null if the item was rejected
+ * @param errors the validation messages, empty if the item was created
+ */
+public record BatchItemResponse(
+    int index, int status, TransactionResponse transaction, List<String> errors) {
+
+  /**
+   * Creates the result of an item that was created.
+   *
+   * @param index the position of the item in the request
+   * @param transaction the created transaction
+   * @return the item result
+   */
+  public static BatchItemResponse created(int index, Transaction transaction) {
+    return new BatchItemResponse(
+        index, 201, TransactionResponse.fromDomain(transaction), List.of());
+  }
+
+  /**
+   * Creates the result of an item that failed validation.
+   *
+   * @param index the position of the item in the request
+   * @param errors the validation messages
+   * @return the item result
+   */
+  public static BatchItemResponse rejected(int index, List<String> errors) {
+    return new BatchItemResponse(index, 400, null, errors);
+  }
+}
@@ -10,6 +10,12 @@ import jakarta.validation.constraints.Size;
 /**
  * Request DTO for creating a new transaction.
  *
+ * <p>The constraint annotations describe the contract in the OpenAPI schema. The resource does not
+ * run Bean Validation on this record; it checks the fields with {@code TransactionRules}, which
+ * applies the same limits plus the character rules, in one allocation-free pass. The amount is read
+ * as an exact decimal and converted once to minor units of the currency; an amount with more
+ * decimal places than the currency allows is rejected, never rounded.
+ *
  * @param amount the transaction amount (must be positive)
  * @param currency the currency code (must be 3 characters)
  * @param originAccountNumber the origin account number (8-20 characters)
@@ -0,0 +1,42 @@
+package com.example.transactions.presentation.dto;
+
+import java.time.Instant;
+
+import com.example.transactions.infrastructure.jfr.FlightRecorderService.RecordingStatus;
+import com.example.transactions.presentation.json.IsoInstantSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * State of an on-demand Flight Recorder recording.
+ *
+ * @param name the recording name
+ * @param state RUNNING, STOPPED or CLOSED
+ * @param startedAt when the recording started, in UTC
+ * @param stoppedAt when it stopped, or null while it runs
+ * @param durationSeconds how long it records before stopping by itself
+ * @param maxSizeBytes how much data it keeps at most
+ */
+public record RecordingResponse(
+    String name,
+    String state,
+    @JsonSerialize(using = IsoInstantSerializer.class) Instant startedAt,
+    @JsonSerialize(using = IsoInstantSerializer.class) Instant stoppedAt,
+    long durationSeconds,
+    long maxSizeBytes) {
+
+  /**
+   * Converts the state reported by the recorder service.
+   *
+   * @param status the recording state
+   * @return the response
+   */
+  public static RecordingResponse from(RecordingStatus status) {
+    return new RecordingResponse(
+        status.name(),
+        status.state(),
+        status.startedAt(),
+        status.stoppedAt(),
+        status.duration() == null ? 0 : status.duration().toSeconds(),
+        status.maxSizeBytes());
+  }
+}
@@ -6,13 +6,19 @@ import java.util.List;
  * Response DTO for paginated transaction lists.
  *
  * @param transactions the list of transactions
- * @param total the total number of transactions available
- * @param offset the offset used for this page
+ * @param total the total number of transactions available, or null if it was not requested
+ * @param offset the offset used for this page (0 when paginating by cursor)
  * @param limit the limit used for this page
  * @param hasNext whether there are more transactions available
+ * @param nextCursor opaque cursor to fetch the next page, or null if this is the last page
  */
 public record TransactionListResponse(
-    List<TransactionResponse> transactions, long total, int offset, int limit, boolean hasNext) {
+    List<TransactionResponse> transactions,
+    Long total,
+    int offset,
+    int limit,
+    boolean hasNext,
+    String nextCursor) {
 
   /**
    * Creates a TransactionListResponse with pagination metadata.
@@ -26,6 +32,27 @@ public record TransactionListResponse(
   public static TransactionListResponse of(
       List<TransactionResponse> transactions, long total, int offset, int limit) {
     boolean hasNext = (offset + limit) < total;
-    return new TransactionListResponse(transactions, total, offset, limit, hasNext);
+    return new TransactionListResponse(transactions, total, offset, limit, hasNext, null);
+  }
+
+  /**
+   * Creates a TransactionListResponse with keyset pagination metadata.
+   *
+   * @param transactions the list of transaction responses
+   * @param total the total count of transactions, or null if it was not requested
+   * @param offset the current offset
+   * @param limit the current limit
+   * @param hasNext whether more transactions follow this page
+   * @param nextCursor the cursor for the next page, or null
+   * @return the paginated response
+   */
+  public static TransactionListResponse of(
+      List<TransactionResponse> transactions,
+      Long total,
+      int offset,
+      int limit,
+      boolean hasNext,
+      String nextCursor) {
+    return new TransactionListResponse(transactions, total, offset, limit, hasNext, nextCursor);
   }
 }
@@ -1,21 +1,27 @@
 package com.example.transactions.presentation.dto;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.time.Instant;
 
 import com.example.transactions.domain.transaction.model.Transaction;
 import com.example.transactions.domain.transaction.model.TransactionStatus;
+import com.example.transactions.presentation.json.IsoInstantSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 /**
  * Response DTO for transaction data.
  *
+ * <p>The amount is written as a JSON number with exactly the decimal places of its currency,
+ * converted from the minor units the domain stores. The creation time is written as ISO-8601 UTC
+ * text with six fraction digits, by {@link IsoInstantSerializer}.
+ *
  * @param id the transaction ID
  * @param amount the transaction amount
  * @param currency the currency code
  * @param originAccountNumber the origin account number
  * @param destinationAccountNumber the destination account number
  * @param status the transaction status
- * @param createdAt the creation timestamp
+ * @param createdAt the creation timestamp, in UTC
  */
 public record TransactionResponse(
     String id,
@@ -24,7 +30,7 @@ public record TransactionResponse(
     String originAccountNumber,
     String destinationAccountNumber,
     TransactionStatus status,
-    LocalDateTime createdAt) {
+    @JsonSerialize(using = IsoInstantSerializer.class) Instant createdAt) {
 
   /**
    * Creates a TransactionResponse from a domain Transaction.
@@ -35,7 +41,7 @@ public record TransactionResponse(
   public static TransactionResponse fromDomain(Transaction transaction) {
     return new TransactionResponse(
         transaction.getId(),
-        transaction.getAmount(),
+        transaction.getAmount().toBigDecimal(),
         transaction.getCurrency(),
         transaction.getOriginAccountNumber(),
         transaction.getDestinationAccountNumber(),
@@ -0,0 +1,92 @@
+package com.example.transactions.presentation.json;
+
+import com.example.transactions.domain.shared.ports.ClockPort;
+
+/**
+ * Formats epoch microseconds as fixed-width ISO-8601 UTC text, e.g. {@code
+ * 2025-01-01T12:00:00.123456Z}.
+ *
+ * <p>The date is computed with integer arithmetic straight from the epoch day and every field is
+ * written as digits into a char array: no {@code ZonedDateTime}, no {@code DateTimeFormatter}, no
+ * intermediate strings. The fraction always has six digits, so timestamps sort as text. Years
+ * outside 0000-9999 fall back to {@link java.time.Instant#toString()}.
+ */
+public final class IsoInstantFormat {
+
+  /** Length of a formatted timestamp. */
+  public static final int LENGTH = 27;
+
+  private static final long SECONDS_PER_DAY = 86_400;
+
+  /** Days from 0000-03-01 to 1970-01-01, the origin of the civil-from-days algorithm. */
+  private static final long DAYS_0000_TO_1970 = 719_468;
+
+  private static final long DAYS_PER_ERA = 146_097;
+
+  private IsoInstantFormat() {
+    throw new UnsupportedOperationException("Utility class cannot be instantiated");
+  }
+
+  /**
+   * Formats a timestamp.
+   *
+   * @param micros the microseconds elapsed since the epoch
+   * @return the ISO-8601 text
+   */
+  public static String format(long micros) {
+    char[] out = new char[LENGTH];
+    int length = format(micros, out);
+    return length < 0 ? ClockPort.toInstant(micros).toString() : new String(out);
+  }
+
+  /**
+   * Formats a timestamp into a buffer.
+   *
+   * @param micros the microseconds elapsed since the epoch
+   * @param out a buffer of at least {@link #LENGTH} chars
+   * @return {@link #LENGTH}, or -1 if the year is out of range and nothing was written
+   */
+  public static int format(long micros, char[] out) {
+    long seconds = Math.floorDiv(micros, ClockPort.MICROS_PER_SECOND);
+    int fraction = (int) Math.floorMod(micros, ClockPort.MICROS_PER_SECOND);
+    long epochDay = Math.floorDiv(seconds, SECONDS_PER_DAY);
+    int secondOfDay = (int) Math.floorMod(seconds, SECONDS_PER_DAY);
+
+    // Civil-from-days over 400-year eras, with years starting in March so leap days come last
+    long shifted = epochDay + DAYS_0000_TO_1970;
+    long era = Math.floorDiv(shifted, DAYS_PER_ERA);
+    int dayOfEra = (int) (shifted - era * DAYS_PER_ERA);
+    int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    int monthFromMarch = (5 * dayOfYear + 2) / 153;
+    int day = dayOfYear - (153 * monthFromMarch + 2) / 5 + 1;
+    int month = monthFromMarch < 10 ? monthFromMarch + 3 : monthFromMarch - 9;
+    long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+    if (year < 0 || year > 9999) {
+      return -1;
+    }
+
+    digits(out, 0, (int) year, 4);
+    out[4] = '-';
+    digits(out, 5, month, 2);
+    out[7] = '-';
+    digits(out, 8, day, 2);
+    out[10] = 'T';
+    digits(out, 11, secondOfDay / 3600, 2);
+    out[13] = ':';
+    digits(out, 14, secondOfDay / 60 % 60, 2);
+    out[16] = ':';
+    digits(out, 17, secondOfDay % 60, 2);
+    out[19] = '.';
+    digits(out, 20, fraction, 6);
+    out[26] = 'Z';
+    return LENGTH;
+  }
+
+  private static void digits(char[] out, int offset, int value, int width) {
+    for (int i = offset + width - 1; i >= offset; i--) {
+      out[i] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.example.transactions.presentation.json;
+
+import java.io.IOException;
+import java.time.Instant;
+
+import com.example.transactions.domain.shared.ports.ClockPort;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Writes an {@link Instant} as fixed-width ISO-8601 UTC text through {@link IsoInstantFormat},
+ * handing the generator a char array instead of a formatted string.
+ */
+public class IsoInstantSerializer extends StdSerializer<Instant> {
+
+  public IsoInstantSerializer() {
+    super(Instant.class);
+  }
+
+  @Override
+  public void serialize(Instant value, JsonGenerator generator, SerializerProvider provider)
+      throws IOException {
+    char[] text = new char[IsoInstantFormat.LENGTH];
+    int length = IsoInstantFormat.format(ClockPort.toMicros(value), text);
+    if (length < 0) {
+      generator.writeString(value.toString());
+    } else {
+      generator.writeString(text, 0, length);
+    }
+  }
+}
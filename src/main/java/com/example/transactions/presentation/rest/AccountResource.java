@@ -0,0 +1,116 @@
+package com.example.transactions.presentation.rest;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+
+import io.smallrye.mutiny.Uni;
+
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import com.example.transactions.application.shared.exceptions.ValidationException;
+import com.example.transactions.application.transaction.dto.AccountTransactionQuery;
+import com.example.transactions.application.transaction.dto.TransactionPage;
+import com.example.transactions.application.transaction.usecases.ReactiveListTransactionsUseCase;
+import com.example.transactions.domain.transaction.model.TransactionRules;
+import com.example.transactions.presentation.dto.TransactionListResponse;
+import com.example.transactions.presentation.dto.TransactionResponse;
+import com.example.transactions.shared.constants.ApiConstants;
+
+/**
+ * REST API for the transactions of one account.
+ *
+ * <p>The history of an account, sent and received, is served from per-account indexes and paged by
+ * cursor only, so every page costs in proportion to the account's own history. Like the main
+ * listing, pages carry an entity tag and answer {@code If-None-Match} with 304.
+ */
+@Path(ApiConstants.ACCOUNTS_PATH)
+@Produces(MediaType.APPLICATION_JSON)
+@Tag(name = "Accounts", description = "Per-account transaction history")
+public class AccountResource {
+
+  private final ReactiveListTransactionsUseCase listTransactionsUseCase;
+
+  @Inject
+  public AccountResource(ReactiveListTransactionsUseCase listTransactionsUseCase) {
+    this.listTransactionsUseCase = listTransactionsUseCase;
+  }
+
+  @GET
+  @Path("/{accountNumber}/transactions")
+  @Operation(
+      summary = "List the transactions of an account",
+      description =
+          "Retrieves the transactions sent or received by an account, newest first. Pass the"
+              + " nextCursor of a page as cursor to fetch the following page. No total is"
+              + " computed.")
+  @APIResponses({
+    @APIResponse(
+        responseCode = "200",
+        description = "Transactions retrieved successfully",
+        content = @Content(schema = @Schema(implementation = TransactionListResponse.class))),
+    @APIResponse(responseCode = "304", description = "Page unchanged since the given ETag"),
+    @APIResponse(responseCode = "400", description = "Invalid account number or query parameters"),
+    @APIResponse(responseCode = "500", description = "Internal server error")
+  })
+  public Uni<Response> listAccountTransactions(
+      @Parameter(description = "Account number, as origin or destination", required = true)
+          @PathParam("accountNumber")
+          String accountNumber,
+      @Parameter(
+              description = "Maximum number of records to return",
+              schema = @Schema(minimum = "1", maximum = "100"))
+          @QueryParam("limit")
+          @DefaultValue("20")
+          int limit,
+      @Parameter(description = "Opaque cursor from a previous page") @QueryParam("cursor")
+          String cursor,
+      @Context Request request) {
+
+    String limitViolation = TransactionRules.checkLimit(limit);
+    if (limitViolation != null) {
+      throw new ValidationException(limitViolation);
+    }
+    AccountTransactionQuery query = new AccountTransactionQuery(accountNumber, limit, cursor);
+    return listTransactionsUseCase
+        .executeAccountPage(query)
+        .map(
+            page -> {
+              EntityTag tag = TransactionEntityTags.of(page);
+              Response.ResponseBuilder notModified = request.evaluatePreconditions(tag);
+              Response.ResponseBuilder builder =
+                  notModified != null ? notModified : Response.ok(toListResponse(query, page));
+              return builder
+                  .tag(tag)
+                  .header(HttpHeaders.CACHE_CONTROL, TransactionEntityTags.pageCacheControl())
+                  .build();
+            });
+  }
+
+  private static TransactionListResponse toListResponse(
+      AccountTransactionQuery query, TransactionPage page) {
+    List<TransactionResponse> responses =
+        page.transactions().stream().map(TransactionResponse::fromDomain).toList();
+
+    return TransactionListResponse.of(
+        responses, null, 0, query.limit(), page.hasNext(), page.nextCursor());
+  }
+}
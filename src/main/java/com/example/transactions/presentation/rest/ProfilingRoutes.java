@@ -0,0 +1,146 @@
+package com.example.transactions.presentation.rest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import io.quarkus.vertx.http.ManagementInterface;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+import com.example.transactions.infrastructure.jfr.FlightRecorderService;
+import com.example.transactions.infrastructure.jfr.FlightRecorderService.RecordingStatus;
+import com.example.transactions.infrastructure.jfr.ProfilingConfig;
+import com.example.transactions.presentation.dto.RecordingResponse;
+import com.example.transactions.shared.constants.ApiConstants;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Admin API to record the service with JDK Flight Recorder while it runs, without attaching a
+ * profiler.
+ *
+ * <p>A recording collects the JDK's own events plus the use case, repository and exception events
+ * of the service, and stops by itself after the configured maximum duration. It can be downloaded
+ * while running or after it stopped, and opened with JDK Mission Control or {@code jfr print}.
+ *
+ * <p>The routes are served on the management interface ({@code quarkus.management.port}), never on
+ * the public HTTP port, and are only registered when {@code app.profiling.enabled=true}. They run
+ * on a worker thread, since starting and dumping a recording touch the disk.
+ */
+@ApplicationScoped
+public class ProfilingRoutes {
+
+  private static final String RECORDING = ApiConstants.PROFILING_PATH + "/recording";
+  private static final String JFR_MEDIA_TYPE = "application/octet-stream";
+
+  private final FlightRecorderService recorder;
+  private final ProfilingConfig config;
+  private final ObjectMapper objectMapper;
+
+  @Inject
+  public ProfilingRoutes(
+      FlightRecorderService recorder, ProfilingConfig config, ObjectMapper objectMapper) {
+    this.recorder = recorder;
+    this.config = config;
+    this.objectMapper = objectMapper;
+  }
+
+  void register(@Observes ManagementInterface management) {
+    if (!config.enabled()) {
+      return;
+    }
+    Router router = management.router();
+    router.post(RECORDING).blockingHandler(this::start);
+    router.post(RECORDING + "/stop").blockingHandler(this::stop);
+    router.get(RECORDING).blockingHandler(this::status);
+    router.get(RECORDING + "/file").blockingHandler(this::download);
+  }
+
+  /**
+   * Starts a recording that stops by itself after {@code durationSeconds} (60 by default), capped
+   * by the configured maximum. The data of the previous recording is discarded. Answers 201, 400
+   * for a duration that is not a positive number, or 409 if a recording is already running.
+   */
+  private void start(RoutingContext context) {
+    Optional<RecordingStatus> started;
+    try {
+      String durationSeconds = context.queryParams().get("durationSeconds");
+      started =
+          recorder.start(
+              Duration.ofSeconds(durationSeconds == null ? 60 : Long.parseLong(durationSeconds)));
+    } catch (IllegalArgumentException e) {
+      // NumberFormatException included
+      context.response().setStatusCode(Response.Status.BAD_REQUEST.getStatusCode()).end();
+      return;
+    }
+    if (started.isPresent()) {
+      respond(context, Response.Status.CREATED, RecordingResponse.from(started.get()));
+    } else {
+      respond(context, Response.Status.CONFLICT, current());
+    }
+  }
+
+  /** Stops the running recording and keeps its data for download; 409 if none is running. */
+  private void stop(RoutingContext context) {
+    Optional<RecordingStatus> stopped = recorder.stop();
+    if (stopped.isPresent()) {
+      respond(context, Response.Status.OK, RecordingResponse.from(stopped.get()));
+    } else {
+      respond(context, Response.Status.CONFLICT, current());
+    }
+  }
+
+  /** Reports the state of the current or last recording; 404 if none was started. */
+  private void status(RoutingContext context) {
+    RecordingResponse current = current();
+    respond(context, current != null ? Response.Status.OK : Response.Status.NOT_FOUND, current);
+  }
+
+  /**
+   * Sends the data recorded so far in JFR format, and a running recording goes on; 404 if none
+   * was started.
+   */
+  private void download(RoutingContext context) {
+    Optional<Path> dumped = recorder.dump();
+    if (dumped.isEmpty()) {
+      respond(context, Response.Status.NOT_FOUND, null);
+      return;
+    }
+    String file = dumped.get().toString();
+    context
+        .response()
+        .putHeader(HttpHeaders.CONTENT_TYPE, JFR_MEDIA_TYPE)
+        .putHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions.jfr\"")
+        .sendFile(file)
+        .onComplete(sent -> context.vertx().fileSystem().delete(file));
+  }
+
+  private RecordingResponse current() {
+    return recorder.status().map(RecordingResponse::from).orElse(null);
+  }
+
+  private void respond(RoutingContext context, Response.Status status, RecordingResponse body) {
+    context.response().setStatusCode(status.getStatusCode());
+    if (body == null) {
+      context.response().end();
+      return;
+    }
+    try {
+      context
+          .response()
+          .putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
+          .end(Buffer.buffer(objectMapper.writeValueAsBytes(body)));
+    } catch (JsonProcessingException e) {
+      context.fail(e);
+    }
+  }
+}
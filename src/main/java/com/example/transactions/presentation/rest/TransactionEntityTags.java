@@ -0,0 +1,90 @@
+package com.example.transactions.presentation.rest;
+
+import jakarta.ws.rs.core.EntityTag;
+
+import com.example.transactions.application.transaction.dto.TransactionPage;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.shared.constants.ApiConstants;
+
+/**
+ * Validators and cache directives for transaction representations.
+ *
+ * <p>Apart from its status, a transaction never changes after it is created, so the pair (id,
+ * status) identifies its JSON representation exactly and is used as a strong entity tag. A page is
+ * tagged with a 64-bit FNV-1a hash of the (id, status) pairs it contains plus its total and
+ * continuation flag. Both tags are computed from the domain objects, before any response DTO is
+ * built, so a matching {@code If-None-Match} is answered without serializing anything.
+ */
+final class TransactionEntityTags {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private static final String REVALIDATE = "private, no-cache";
+
+  private static final String IMMUTABLE =
+      "private, max-age=" + ApiConstants.FINAL_TRANSACTION_MAX_AGE_SECONDS + ", immutable";
+
+  private TransactionEntityTags() {
+    throw new UnsupportedOperationException("Utility class cannot be instantiated");
+  }
+
+  /**
+   * Gets the entity tag of a single transaction.
+   *
+   * @param transaction the transaction
+   * @return a strong tag that changes when the status changes
+   */
+  static EntityTag of(Transaction transaction) {
+    return new EntityTag(transaction.getId() + "-" + transaction.getStatus().name());
+  }
+
+  /**
+   * Gets the entity tag of a page of transactions.
+   *
+   * @param page the page
+   * @return a strong tag that changes when any listed transaction, the total or hasNext changes
+   */
+  static EntityTag of(TransactionPage page) {
+    long hash = FNV_OFFSET_BASIS;
+    for (Transaction transaction : page.transactions()) {
+      hash = hash(hash, transaction.getId());
+      hash = mix(hash, transaction.getStatus().ordinal());
+    }
+    hash = mix(hash, page.total() == null ? -1 : page.total());
+    hash = mix(hash, page.hasNext() ? 1 : 0);
+    return new EntityTag(Long.toHexString(hash));
+  }
+
+  /**
+   * Gets the cache directives for a single transaction.
+   *
+   * @param transaction the transaction
+   * @return the Cache-Control value, long-lived once the transaction is final
+   */
+  static String cacheControl(Transaction transaction) {
+    return transaction.isFinal() ? IMMUTABLE : REVALIDATE;
+  }
+
+  /**
+   * Gets the cache directives for a page, whose content changes as transactions are created.
+   *
+   * @return the Cache-Control value, requiring revalidation on every use
+   */
+  static String pageCacheControl() {
+    return REVALIDATE;
+  }
+
+  private static long hash(long hash, String value) {
+    // Length first, so that ("ab", "c") and ("a", "bc") hash differently
+    hash = mix(hash, value.length());
+    for (int i = 0; i < value.length(); i++) {
+      hash = mix(hash, value.charAt(i));
+    }
+    return hash;
+  }
+
+  private static long mix(long hash, long value) {
+    return (hash ^ value) * FNV_PRIME;
+  }
+}
@@ -1,22 +1,37 @@
 package com.example.transactions.presentation.rest;
 
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
 import java.net.URI;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
 
 import jakarta.inject.Inject;
-import jakarta.validation.Valid;
-import jakarta.validation.constraints.Max;
-import jakarta.validation.constraints.Min;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import io.smallrye.mutiny.Uni;
 
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
@@ -26,21 +41,48 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
+import com.example.transactions.application.shared.exceptions.ValidationException;
+import com.example.transactions.application.transaction.dto.BatchItemResult;
+import com.example.transactions.application.transaction.dto.CreateTransactionCommand;
+import com.example.transactions.application.transaction.dto.TransactionPage;
 import com.example.transactions.application.transaction.dto.TransactionQuery;
-import com.example.transactions.application.transaction.usecases.CreateTransactionUseCase;
-import com.example.transactions.application.transaction.usecases.GetTransactionUseCase;
-import com.example.transactions.application.transaction.usecases.ListTransactionsUseCase;
+import com.example.transactions.application.transaction.usecases.ExportTransactionsUseCase;
+import com.example.transactions.application.transaction.usecases.ReactiveCreateTransactionUseCase;
+import com.example.transactions.application.transaction.usecases.ReactiveGetTransactionUseCase;
+import com.example.transactions.application.transaction.usecases.ReactiveListTransactionsUseCase;
+import com.example.transactions.domain.shared.valueobjects.Money;
 import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionFilter;
+import com.example.transactions.domain.transaction.model.TransactionRules;
+import com.example.transactions.domain.transaction.model.TransactionStatus;
+import com.example.transactions.presentation.dto.BatchCreateTransactionResponse;
+import com.example.transactions.presentation.dto.BatchItemResponse;
 import com.example.transactions.presentation.dto.CreateTransactionRequest;
 import com.example.transactions.presentation.dto.TransactionListResponse;
 import com.example.transactions.presentation.dto.TransactionResponse;
 import com.example.transactions.shared.constants.ApiConstants;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 /**
  * REST API for transaction operations.
  *
  * <p>This resource provides endpoints for creating, retrieving, and listing transactions following
  * RESTful principles.
+ *
+ * <p>Create, get and list return {@link Uni} and are dispatched on the event loop; the reactive
+ * repository decides whether the work stays there (in-memory, off-heap) or moves to a worker thread
+ * (blocking backends). The export endpoint streams through blocking I/O and keeps running on a
+ * worker thread.
+ *
+ * <p>A create request is checked here only as far as building its {@link Money} needs; the domain
+ * checks the transaction when it is built and reports every invalid field. The constraint
+ * annotations on the request DTO only document the contract in OpenAPI. The paging parameters are
+ * checked by {@link TransactionRules} rather than by Bean Validation.
+ *
+ * <p>Get and list answer conditional requests: the entity tag is computed from the domain objects
+ * and a matching {@code If-None-Match} gets 304 before any response body is built.
  */
 @Path(ApiConstants.TRANSACTIONS_PATH)
 @Produces(MediaType.APPLICATION_JSON)
@@ -48,94 +90,371 @@ import com.example.transactions.shared.constants.ApiConstants;
 @Tag(name = "Transactions", description = "Transaction management operations")
 public class TransactionResource {
 
-  private final CreateTransactionUseCase createTransactionUseCase;
-  private final GetTransactionUseCase getTransactionUseCase;
-  private final ListTransactionsUseCase listTransactionsUseCase;
+  private final ReactiveCreateTransactionUseCase createTransactionUseCase;
+  private final ReactiveGetTransactionUseCase getTransactionUseCase;
+  private final ReactiveListTransactionsUseCase listTransactionsUseCase;
+  private final ExportTransactionsUseCase exportTransactionsUseCase;
+  private final ObjectWriter ndjsonWriter;
 
   @Inject
   public TransactionResource(
-      CreateTransactionUseCase createTransactionUseCase,
-      GetTransactionUseCase getTransactionUseCase,
-      ListTransactionsUseCase listTransactionsUseCase) {
+      ReactiveCreateTransactionUseCase createTransactionUseCase,
+      ReactiveGetTransactionUseCase getTransactionUseCase,
+      ReactiveListTransactionsUseCase listTransactionsUseCase,
+      ExportTransactionsUseCase exportTransactionsUseCase,
+      ObjectMapper objectMapper) {
     this.createTransactionUseCase = createTransactionUseCase;
     this.getTransactionUseCase = getTransactionUseCase;
     this.listTransactionsUseCase = listTransactionsUseCase;
+    this.exportTransactionsUseCase = exportTransactionsUseCase;
+    this.ndjsonWriter =
+        objectMapper
+            .writerFor(TransactionResponse.class)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
   }
 
   @POST
   @Operation(
       summary = "Create a new transaction",
-      description = "Creates a new pending transaction")
+      description =
+          "Creates a new pending transaction. With an Idempotency-Key header the transaction is"
+              + " created at most once: retries get the original 201 response, and a duplicate"
+              + " sent while the first request is in flight waits for it.")
   @APIResponses({
     @APIResponse(
         responseCode = "201",
         description = "Transaction created successfully",
         content = @Content(schema = @Schema(implementation = TransactionResponse.class))),
-    @APIResponse(responseCode = "400", description = "Invalid request data"),
+    @APIResponse(
+        responseCode = "400",
+        description = "Invalid request data, or Idempotency-Key reused for a different request"),
     @APIResponse(responseCode = "500", description = "Internal server error")
   })
-  public Response createTransaction(@Valid CreateTransactionRequest request) {
-    Transaction transaction =
-        createTransactionUseCase.execute(
-            request.amount(),
-            request.currency(),
-            request.originAccountNumber(),
-            request.destinationAccountNumber());
-    TransactionResponse response = TransactionResponse.fromDomain(transaction);
-
-    URI location = URI.create(ApiConstants.TRANSACTIONS_PATH + "/" + transaction.getId());
-    return Response.created(location).entity(response).build();
+  public Uni<Response> createTransaction(
+      @Parameter(
+              description =
+                  "Client-chosen key; retries with the same key return the original transaction")
+          @HeaderParam(ApiConstants.IDEMPOTENCY_KEY_HEADER)
+          String idempotencyKey,
+      CreateTransactionRequest request) {
+    List<String> violations = validate(request);
+    if (!violations.isEmpty()) {
+      throw new ValidationException(violations);
+    }
+    Uni<Transaction> created =
+        idempotencyKey == null
+            ? createTransactionUseCase.execute(
+                amount(request), request.originAccountNumber(), request.destinationAccountNumber())
+            : createTransactionUseCase.execute(
+                idempotencyKey,
+                amount(request),
+                request.originAccountNumber(),
+                request.destinationAccountNumber());
+    return created.map(
+        transaction -> {
+          TransactionResponse response = TransactionResponse.fromDomain(transaction);
+          URI location = URI.create(ApiConstants.TRANSACTIONS_PATH + "/" + transaction.getId());
+          return Response.created(location)
+              .tag(TransactionEntityTags.of(transaction))
+              .entity(response)
+              .build();
+        });
+  }
+
+  @POST
+  @Path("/batch")
+  @Operation(
+      summary = "Create transactions in batch",
+      description =
+          "Creates up to "
+              + ApiConstants.MAX_BATCH_SIZE
+              + " pending transactions in one request. Each item is validated on its own and"
+              + " reported with its own status; valid items are persisted together.")
+  @APIResponses({
+    @APIResponse(
+        responseCode = "200",
+        description = "Batch processed; see the status of each item",
+        content =
+            @Content(schema = @Schema(implementation = BatchCreateTransactionResponse.class))),
+    @APIResponse(responseCode = "400", description = "Empty or oversized batch"),
+    @APIResponse(responseCode = "500", description = "Internal server error")
+  })
+  public Uni<Response> createTransactions(List<CreateTransactionRequest> requests) {
+    if (requests == null || requests.isEmpty()) {
+      throw new ValidationException("Batch must contain at least one transaction");
+    }
+    if (requests.size() > ApiConstants.MAX_BATCH_SIZE) {
+      throw new ValidationException(
+          "Batch cannot contain more than " + ApiConstants.MAX_BATCH_SIZE + " transactions");
+    }
+
+    List<BatchItemResponse> results = new ArrayList<>(requests.size());
+    List<Integer> acceptedIndexes = new ArrayList<>(requests.size());
+    List<CreateTransactionCommand> commands = new ArrayList<>(requests.size());
+    for (int index = 0; index < requests.size(); index++) {
+      CreateTransactionRequest request = requests.get(index);
+      List<String> errors = validate(request);
+      if (errors.isEmpty()) {
+        acceptedIndexes.add(index);
+        commands.add(
+            new CreateTransactionCommand(
+                amount(request),
+                request.originAccountNumber(),
+                request.destinationAccountNumber()));
+      } else {
+        results.add(BatchItemResponse.rejected(index, errors));
+      }
+    }
+
+    return createTransactionUseCase
+        .executeBatch(commands)
+        .map(
+            items -> {
+              for (int i = 0; i < items.size(); i++) {
+                BatchItemResult item = items.get(i);
+                int index = acceptedIndexes.get(i);
+                results.add(
+                    item.isCreated()
+                        ? BatchItemResponse.created(index, item.transaction())
+                        : BatchItemResponse.rejected(index, item.violations()));
+              }
+              results.sort(Comparator.comparingInt(BatchItemResponse::index));
+              return Response.ok(BatchCreateTransactionResponse.of(results)).build();
+            });
+  }
+
+  @GET
+  @Path("/export")
+  @Produces(ApiConstants.NDJSON)
+  @Operation(
+      summary = "Export all transactions",
+      description =
+          "Streams every transaction, newest first, as newline-delimited JSON. Rows are read from"
+              + " the repository in chunks while the response is written, so memory stays"
+              + " constant and a slow client slows down the reads.")
+  @APIResponses({
+    @APIResponse(
+        responseCode = "200",
+        description = "Transactions streamed, one TransactionResponse per line",
+        content =
+            @Content(
+                mediaType = ApiConstants.NDJSON,
+                schema = @Schema(implementation = TransactionResponse.class))),
+    @APIResponse(responseCode = "500", description = "Internal server error")
+  })
+  public Response exportTransactions() {
+    StreamingOutput body =
+        output -> {
+          try (Stream<Transaction> transactions =
+                  exportTransactionsUseCase.execute(ApiConstants.EXPORT_CHUNK_SIZE);
+              OutputStream buffered = new BufferedOutputStream(output)) {
+            // Writes block once the socket buffer is full, which in turn pauses the reads
+            for (Transaction transaction : (Iterable<Transaction>) transactions::iterator) {
+              ndjsonWriter.writeValue(buffered, TransactionResponse.fromDomain(transaction));
+              buffered.write('\n');
+            }
+          }
+        };
+    return Response.ok(body, ApiConstants.NDJSON).build();
   }
 
   @GET
   @Path("/{id}")
-  @Operation(summary = "Get transaction by ID", description = "Retrieves a specific transaction")
+  @Operation(
+      summary = "Get transaction by ID",
+      description =
+          "Retrieves a specific transaction. The response carries an ETag that changes with the"
+              + " status; send it back in If-None-Match to get 304 while nothing changed."
+              + " Completed and failed transactions are cacheable for a day.")
   @APIResponses({
     @APIResponse(
         responseCode = "200",
         description = "Transaction found",
         content = @Content(schema = @Schema(implementation = TransactionResponse.class))),
+    @APIResponse(responseCode = "304", description = "Transaction unchanged since the given ETag"),
     @APIResponse(responseCode = "404", description = "Transaction not found"),
     @APIResponse(responseCode = "500", description = "Internal server error")
   })
-  public Response getTransaction(
-      @Parameter(description = "Transaction ID", required = true) @PathParam("id") String id) {
-    Transaction transaction = getTransactionUseCase.execute(id);
-    TransactionResponse response = TransactionResponse.fromDomain(transaction);
-    return Response.ok(response).build();
+  public Uni<Response> getTransaction(
+      @Parameter(description = "Transaction ID", required = true) @PathParam("id") String id,
+      @Context Request request) {
+    return getTransactionUseCase
+        .execute(id)
+        .map(
+            transaction -> {
+              EntityTag tag = TransactionEntityTags.of(transaction);
+              Response.ResponseBuilder notModified = request.evaluatePreconditions(tag);
+              Response.ResponseBuilder builder =
+                  notModified != null
+                      ? notModified
+                      : Response.ok(TransactionResponse.fromDomain(transaction));
+              return builder
+                  .tag(tag)
+                  .header(
+                      HttpHeaders.CACHE_CONTROL, TransactionEntityTags.cacheControl(transaction))
+                  .build();
+            });
   }
 
   @GET
   @Operation(
       summary = "List transactions",
-      description = "Retrieves a paginated list of transactions")
+      description =
+          "Retrieves a paginated list of transactions, newest first. Pass the nextCursor of a"
+              + " page as cursor to fetch the following page with constant cost. Status, currency,"
+              + " amount range and creation range filters are answered from secondary indexes;"
+              + " filtered pages are paged by cursor and carry no total. The response carries an"
+              + " ETag; send it back in If-None-Match to get 304 while the page is unchanged.")
   @APIResponses({
     @APIResponse(
         responseCode = "200",
         description = "Transactions retrieved successfully",
         content = @Content(schema = @Schema(implementation = TransactionListResponse.class))),
+    @APIResponse(responseCode = "304", description = "Page unchanged since the given ETag"),
     @APIResponse(responseCode = "400", description = "Invalid query parameters"),
     @APIResponse(responseCode = "500", description = "Internal server error")
   })
-  public Response listTransactions(
-      @Parameter(description = "Number of records to skip")
+  public Uni<Response> listTransactions(
+      @Parameter(description = "Number of records to skip", schema = @Schema(minimum = "0"))
           @QueryParam("offset")
           @DefaultValue("0")
-          @Min(0) int offset,
-      @Parameter(description = "Maximum number of records to return")
+          int offset,
+      @Parameter(
+              description = "Maximum number of records to return",
+              schema = @Schema(minimum = "1", maximum = "100"))
           @QueryParam("limit")
           @DefaultValue("20")
-          @Min(1) @Max(100) int limit) {
+          int limit,
+      @Parameter(description = "Opaque cursor from a previous page; takes precedence over offset")
+          @QueryParam("cursor")
+          String cursor,
+      @Parameter(description = "Whether to compute the total; false skips the count entirely")
+          @QueryParam("includeTotal")
+          @DefaultValue("true")
+          boolean includeTotal,
+      @Parameter(description = "Statuses to include; repeat the parameter for several")
+          @QueryParam("status")
+          List<String> statuses,
+      @Parameter(description = "Currency code to include") @QueryParam("currency") String currency,
+      @Parameter(description = "Smallest amount to include, in major units; needs a currency")
+          @QueryParam("minAmount")
+          String minAmount,
+      @Parameter(description = "Largest amount to include, in major units; needs a currency")
+          @QueryParam("maxAmount")
+          String maxAmount,
+      @Parameter(description = "Earliest creation time to include, ISO-8601 instant")
+          @QueryParam("createdFrom")
+          String createdFrom,
+      @Parameter(description = "Latest creation time to include, ISO-8601 instant")
+          @QueryParam("createdTo")
+          String createdTo,
+      @Context Request request) {
 
-    TransactionQuery query = new TransactionQuery(offset, limit);
-    List<Transaction> transactions = listTransactionsUseCase.execute(query);
-    long totalCount = listTransactionsUseCase.getTotalCount();
+    checkPaging(offset, limit);
+    TransactionFilter filter =
+        toFilter(statuses, currency, minAmount, maxAmount, createdFrom, createdTo);
+    TransactionQuery query = new TransactionQuery(offset, limit, cursor, includeTotal, filter);
+    return listTransactionsUseCase
+        .executePage(query)
+        .map(
+            page -> {
+              EntityTag tag = TransactionEntityTags.of(page);
+              Response.ResponseBuilder notModified = request.evaluatePreconditions(tag);
+              Response.ResponseBuilder builder =
+                  notModified != null ? notModified : Response.ok(toListResponse(query, page));
+              return builder
+                  .tag(tag)
+                  .header(HttpHeaders.CACHE_CONTROL, TransactionEntityTags.pageCacheControl())
+                  .build();
+            });
+  }
 
+  private static TransactionListResponse toListResponse(
+      TransactionQuery query, TransactionPage page) {
     List<TransactionResponse> responses =
-        transactions.stream().map(TransactionResponse::fromDomain).toList();
+        page.transactions().stream().map(TransactionResponse::fromDomain).toList();
+
+    return TransactionListResponse.of(
+        responses,
+        page.total(),
+        query.hasCursor() ? 0 : query.offset(),
+        query.limit(),
+        page.hasNext(),
+        page.nextCursor());
+  }
+
+  // Query parameters arrive as text so that a malformed value is a validation error, not a 404
+  private static TransactionFilter toFilter(
+      List<String> statuses,
+      String currency,
+      String minAmount,
+      String maxAmount,
+      String createdFrom,
+      String createdTo) {
+    EnumSet<TransactionStatus> wanted = EnumSet.noneOf(TransactionStatus.class);
+    if (statuses != null) {
+      for (String status : statuses) {
+        try {
+          wanted.add(TransactionStatus.valueOf(status.trim().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+          throw new ValidationException("Unknown status: " + status, e);
+        }
+      }
+    }
+    try {
+      return TransactionFilter.builder()
+          .statuses(wanted)
+          .currency(blankToNull(currency))
+          .minAmount(minAmount == null ? null : new BigDecimal(minAmount.trim()))
+          .maxAmount(maxAmount == null ? null : new BigDecimal(maxAmount.trim()))
+          .createdFrom(createdFrom == null ? null : Instant.parse(createdFrom.trim()))
+          .createdTo(createdTo == null ? null : Instant.parse(createdTo.trim()))
+          .build();
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new ValidationException("Invalid filter: " + e.getMessage(), e);
+    }
+  }
+
+  private static void checkPaging(int offset, int limit) {
+    List<String> violations = new ArrayList<>(2);
+    String offsetViolation = TransactionRules.checkOffset(offset);
+    if (offsetViolation != null) {
+      violations.add(offsetViolation);
+    }
+    String limitViolation = TransactionRules.checkLimit(limit);
+    if (limitViolation != null) {
+      violations.add(limitViolation);
+    }
+    if (!violations.isEmpty()) {
+      throw new ValidationException(violations);
+    }
+  }
+
+  private static String blankToNull(String value) {
+    return value == null || value.isBlank() ? null : value;
+  }
+
+  /**
+   * Checks what the resource needs to build the {@link Money} of a request. The account numbers
+   * are left to the domain, which checks them when the transaction is built; they are checked here
+   * only when the amount already failed, so the client still hears about every invalid field.
+   */
+  private static List<String> validate(CreateTransactionRequest request) {
+    if (request == null) {
+      return List.of("Transaction is required");
+    }
+    if (TransactionRules.checkMoney(request.amount(), request.currency()) == null) {
+      return List.of();
+    }
+    return TransactionRules.validate(
+        request.amount(),
+        request.currency(),
+        request.originAccountNumber(),
+        request.destinationAccountNumber());
+  }
 
-    TransactionListResponse response =
-        TransactionListResponse.of(responses, totalCount, offset, limit);
-    return Response.ok(response).build();
+  // Exact, since validate() has checked the amount against the decimal places of the currency
+  private static Money amount(CreateTransactionRequest request) {
+    return Money.of(request.amount(), request.currency());
   }
 }
@@ -14,6 +14,27 @@ public final class ApiConstants {
   /** Base path for transaction endpoints. */
   public static final String TRANSACTIONS_PATH = API_VERSION_V1 + "/transactions";
 
+  /** Base path for account endpoints. */
+  public static final String ACCOUNTS_PATH = API_VERSION_V1 + "/accounts";
+
+  /** Base path of the on-demand Flight Recorder endpoints, on the management interface. */
+  public static final String PROFILING_PATH = "/admin/profiling";
+
+  /** Request header that makes a transaction creation safe to retry. */
+  public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+  /** Maximum number of transactions accepted by one batch create request. */
+  public static final int MAX_BATCH_SIZE = 1000;
+
+  /** Media type of the streaming export: one JSON document per line. */
+  public static final String NDJSON = "application/x-ndjson";
+
+  /** Number of transactions read from the repository per chunk while exporting. */
+  public static final int EXPORT_CHUNK_SIZE = 500;
+
+  /** How long clients may reuse a completed or failed transaction without revalidating it. */
+  public static final long FINAL_TRANSACTION_MAX_AGE_SECONDS = 86_400;
+
   /** Private constructor to prevent instantiation. */
   private ApiConstants() {
     throw new UnsupportedOperationException("Utility class cannot be instantiated");
@@ -0,0 +1,19 @@
+-- Transactions table for the Oracle repository adapter.
+-- Written in the subset of Oracle SQL that H2 also accepts in MODE=Oracle.
+-- Apply with Flyway or any SQL client before starting with app.repository.type=oracle.
+
+CREATE TABLE transactions (
+    id                         VARCHAR2(64)  NOT NULL,
+    amount                     NUMBER        NOT NULL,
+    currency                   VARCHAR2(3)   NOT NULL,
+    origin_account_number      VARCHAR2(20)  NOT NULL,
+    destination_account_number VARCHAR2(20)  NOT NULL,
+    status                     VARCHAR2(16)  NOT NULL,
+    created_at                 TIMESTAMP(9)  NOT NULL,
+    CONSTRAINT pk_transactions PRIMARY KEY (id)
+);
+
+-- Backs the listing order and keyset pagination: ORDER BY created_at DESC, id DESC. Ties are broken
+-- by descending ID (IDs are time-ordered UUIDv7s, so the newest transaction of a clock tick comes
+-- first); both columns share a direction so the index serves that order.
+CREATE INDEX idx_transactions_created_at_id ON transactions (created_at DESC, id DESC);
@@ -0,0 +1,7 @@
+-- Per-account history: WHERE origin_account_number = ? (or destination)
+-- ORDER BY created_at DESC, id DESC.
+-- The account leads each index, so a page of one account reads only that account's entries.
+
+CREATE INDEX idx_transactions_origin_created_at ON transactions (origin_account_number, created_at DESC, id DESC);
+
+CREATE INDEX idx_transactions_destination_created_at ON transactions (destination_account_number, created_at DESC, id DESC);
@@ -0,0 +1,7 @@
+-- Filtered listings: WHERE status IN (...) ORDER BY created_at DESC, id DESC reads the first index in
+-- listing order; WHERE currency = ? AND amount BETWEEN ? AND ? reads a range of the second.
+-- Plain B-tree indexes: bitmap indexes would serialize the concurrent inserts of an OLTP table.
+
+CREATE INDEX idx_transactions_status_created_at ON transactions (status, created_at DESC, id DESC);
+
+CREATE INDEX idx_transactions_currency_amount ON transactions (currency, amount);
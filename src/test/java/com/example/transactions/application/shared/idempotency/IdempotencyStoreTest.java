@@ -0,0 +1,202 @@
+package com.example.transactions.application.shared.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.transactions.application.shared.exceptions.ValidationException;
+
+class IdempotencyStoreTest {
+
+  private IdempotencyStore store;
+  private AtomicInteger executions;
+
+  @BeforeEach
+  void setUp() {
+    store = new IdempotencyStore(new TestIdempotencyConfig(100, Duration.ofMinutes(1)));
+    executions = new AtomicInteger();
+  }
+
+  @Test
+  void shouldReplayResultWithoutRunningActionAgain() {
+    // When
+    String first = store.execute("key-1", "request", this::createResult).await().indefinitely();
+    String retry = store.execute("key-1", "request", this::createResult).await().indefinitely();
+
+    // Then
+    assertThat(retry).isEqualTo(first);
+    assertThat(executions.get()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRunActionOncePerKey() {
+    // When
+    String first = store.execute("key-1", "request", this::createResult).await().indefinitely();
+    String second = store.execute("key-2", "request", this::createResult).await().indefinitely();
+
+    // Then
+    assertThat(second).isNotEqualTo(first);
+    assertThat(executions.get()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldMakeInFlightDuplicateWaitForFirstRequest() {
+    // Given
+    AtomicReference<UniEmitter<? super String>> pending = new AtomicReference<>();
+    Uni<String> first =
+        store.execute(
+            "key-1",
+            "request",
+            () -> {
+              executions.incrementAndGet();
+              return Uni.createFrom().<String>emitter(pending::set);
+            });
+    Uni<String> duplicate = store.execute("key-1", "request", this::createResult);
+
+    // When
+    var firstResult = first.subscribe().asCompletionStage();
+    var duplicateResult = duplicate.subscribe().asCompletionStage();
+
+    // Then
+    assertThat(duplicateResult).isNotDone();
+    pending.get().complete("tx-first");
+    assertThat(firstResult.join()).isEqualTo("tx-first");
+    assertThat(duplicateResult.join()).isEqualTo("tx-first");
+    assertThat(executions.get()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotBlockOtherKeysWhileAnActionRuns() throws Exception {
+    // Given - "Aa" and "BB" have the same hash code, so both keys share a map bin
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<String> slow =
+          executor.submit(
+              () ->
+                  store
+                      .execute(
+                          "key-Aa",
+                          "request",
+                          () ->
+                              Uni.createFrom()
+                                  .item(
+                                      () -> {
+                                        running.countDown();
+                                        awaitQuietly(release);
+                                        return "tx-slow";
+                                      }))
+                      .await()
+                      .indefinitely());
+      assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+      // When
+      Future<String> fast =
+          executor.submit(
+              () -> store.execute("key-BB", "request", this::createResult).await().indefinitely());
+
+      // Then
+      assertThat(fast.get(5, TimeUnit.SECONDS)).isEqualTo("tx-1");
+      release.countDown();
+      assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("tx-slow");
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void shouldRetryAfterActionThrows() {
+    // Given
+    assertThatThrownBy(
+            () ->
+                store
+                    .execute(
+                        "key-1",
+                        "request",
+                        () -> {
+                          throw new IllegalStateException("repository down");
+                        })
+                    .await()
+                    .indefinitely())
+        .isInstanceOf(IllegalStateException.class);
+
+    // When
+    String retry = store.execute("key-1", "request", this::createResult).await().indefinitely();
+
+    // Then
+    assertThat(retry).isEqualTo("tx-1");
+  }
+
+  @Test
+  void shouldRetryAfterFailure() {
+    // Given
+    Uni<String> failing =
+        store.execute(
+            "key-1",
+            "request",
+            () -> Uni.createFrom().failure(new IllegalStateException("repository down")));
+    assertThatThrownBy(() -> failing.await().indefinitely())
+        .isInstanceOf(IllegalStateException.class);
+
+    // When
+    String retry = store.execute("key-1", "request", this::createResult).await().indefinitely();
+
+    // Then
+    assertThat(retry).isEqualTo("tx-1");
+  }
+
+  @Test
+  void shouldRejectKeyReusedForDifferentRequest() {
+    // Given
+    store.execute("key-1", "request", this::createResult).await().indefinitely();
+
+    // When / Then
+    assertThatThrownBy(
+            () -> store.execute("key-1", "other", this::createResult).await().indefinitely())
+        .isInstanceOf(ValidationException.class)
+        .hasMessageContaining("different request");
+    assertThat(executions.get()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRejectBlankAndOversizedKeys() {
+    assertThatThrownBy(() -> store.execute(" ", "request", this::createResult))
+        .isInstanceOf(ValidationException.class);
+    assertThatThrownBy(
+            () ->
+                store.execute(
+                    "k".repeat(IdempotencyStore.MAX_KEY_LENGTH + 1), "request", this::createResult))
+        .isInstanceOf(ValidationException.class);
+  }
+
+  private Uni<String> createResult() {
+    return Uni.createFrom().item(() -> "tx-" + executions.incrementAndGet());
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private record TestIdempotencyConfig(long maximumSize, Duration ttl)
+      implements IdempotencyConfig {}
+}
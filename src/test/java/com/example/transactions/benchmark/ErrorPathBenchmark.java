@@ -0,0 +1,60 @@
+package com.example.transactions.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.core.Response;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.transactions.application.shared.exceptions.ValidationException;
+import com.example.transactions.config.GlobalExceptionMapper;
+import com.example.transactions.domain.transaction.exceptions.TransactionNotFoundException;
+import com.example.transactions.infrastructure.services.SystemClockAdapter;
+
+/**
+ * Cost of the error path of a request: throwing a domain exception and turning it into a JSON error
+ * response. Compare with {@code TransactionJsonBenchmark} for the cost of a successful body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+  private static final List<String> VIOLATIONS =
+      List.of("Amount must be positive", "Currency must be a 3-character code");
+
+  private final GlobalExceptionMapper mapper =
+      new GlobalExceptionMapper(new SystemClockAdapter(), new SimpleMeterRegistry());
+
+  @Benchmark
+  public Response notFound() {
+    try {
+      throw new TransactionNotFoundException("0192f5d2-6c1e-7a3b-8f00-0000deadbeef");
+    } catch (TransactionNotFoundException e) {
+      return mapper.toResponse(e);
+    }
+  }
+
+  @Benchmark
+  public Response validation() {
+    try {
+      throw new ValidationException(VIOLATIONS);
+    } catch (ValidationException e) {
+      return mapper.toResponse(e);
+    }
+  }
+}
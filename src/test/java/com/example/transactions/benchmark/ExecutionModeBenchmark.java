@@ -0,0 +1,200 @@
+package com.example.transactions.benchmark;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.example.transactions.config.ExecutionMode;
+import com.example.transactions.domain.shared.valueobjects.Money;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.infrastructure.repositories.InMemoryTransactionRepositoryAdapter;
+import com.example.transactions.infrastructure.repositories.ReactiveTransactionRepositoryAdapter;
+
+/**
+ * Compares the worker-pool and virtual-thread execution modes for a blocking repository.
+ *
+ * <p>Each of {@code connections} simulated clients sends {@code requestsPerConnection} saves back
+ * to back (closed loop) through {@link ReactiveTransactionRepositoryAdapter}. The repository
+ * simulates a JDBC round trip by sleeping {@code latencyMillis} per call. The worker pool has
+ * {@code workerThreads} platform threads, like the Quarkus default of {@code max(200, 8 * cpus)}.
+ * Results are printed as one JSON object per mode.
+ *
+ * <p>Run after {@code mvn test-compile}:
+ *
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath \
+ *     -Dmdep.outputFile=/dev/stdout) \
+ *     com.example.transactions.benchmark.ExecutionModeBenchmark 2000 20 5 200
+ * </pre>
+ */
+public final class ExecutionModeBenchmark {
+
+  private static final Instant BASE_TIME = Instant.parse("2025-01-01T12:00:00Z");
+
+  private ExecutionModeBenchmark() {}
+
+  public static void main(String[] args) throws InterruptedException {
+    int connections = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+    int requestsPerConnection = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+    int latencyMillis = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+    int workerThreads = args.length > 3 ? Integer.parseInt(args[3]) : 200;
+
+    for (ExecutionMode mode : ExecutionMode.values()) {
+      // Warm up with a short run, then measure
+      run(mode, connections / 10, requestsPerConnection, latencyMillis, workerThreads);
+      Result result = run(mode, connections, requestsPerConnection, latencyMillis, workerThreads);
+      System.out.println(result.toJson());
+    }
+  }
+
+  private static Result run(
+      ExecutionMode mode,
+      int connections,
+      int requestsPerConnection,
+      int latencyMillis,
+      int workerThreads)
+      throws InterruptedException {
+    ExecutorService executor =
+        mode == ExecutionMode.VIRTUAL_THREADS
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(workerThreads);
+    ReactiveTransactionRepositoryAdapter repository =
+        new ReactiveTransactionRepositoryAdapter(new SlowRepository(latencyMillis), executor);
+
+    int total = connections * requestsPerConnection;
+    long[] latencies = new long[total];
+    AtomicInteger recorded = new AtomicInteger();
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    CountDownLatch done = new CountDownLatch(connections);
+
+    long start = System.nanoTime();
+    for (int connection = 0; connection < connections; connection++) {
+      new Client(connection, requestsPerConnection, repository, latencies, recorded, failure, done)
+          .next();
+    }
+    done.await();
+    long elapsed = System.nanoTime() - start;
+
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.MINUTES);
+    if (failure.get() != null) {
+      throw new IllegalStateException("Benchmark request failed", failure.get());
+    }
+    Arrays.sort(latencies);
+    return new Result(mode, connections, total, elapsed, latencies);
+  }
+
+  /** One simulated connection: sends its next request when the previous one completes. */
+  private static final class Client {
+
+    private final int id;
+    private final int requests;
+    private final ReactiveTransactionRepositoryAdapter repository;
+    private final long[] latencies;
+    private final AtomicInteger recorded;
+    private final AtomicReference<Throwable> failure;
+    private final CountDownLatch done;
+    private int sent;
+
+    Client(
+        int id,
+        int requests,
+        ReactiveTransactionRepositoryAdapter repository,
+        long[] latencies,
+        AtomicInteger recorded,
+        AtomicReference<Throwable> failure,
+        CountDownLatch done) {
+      this.id = id;
+      this.requests = requests;
+      this.repository = repository;
+      this.latencies = latencies;
+      this.recorded = recorded;
+      this.failure = failure;
+      this.done = done;
+    }
+
+    void next() {
+      long start = System.nanoTime();
+      Transaction transaction =
+          Transaction.createPending(
+              "tx-" + id + "-" + sent,
+              Money.of(new BigDecimal("10.00"), "USD"),
+              "ACC-12345678",
+              "ACC-87654321",
+              BASE_TIME.plusNanos(sent * 1_000L));
+      repository
+          .save(transaction)
+          .subscribe()
+          .with(
+              saved -> {
+                latencies[recorded.getAndIncrement()] = System.nanoTime() - start;
+                if (++sent < requests) {
+                  next();
+                } else {
+                  done.countDown();
+                }
+              },
+              error -> {
+                failure.compareAndSet(null, error);
+                done.countDown();
+              });
+    }
+  }
+
+  /** In-memory store that blocks like a JDBC round trip on every save. */
+  private static final class SlowRepository extends InMemoryTransactionRepositoryAdapter {
+
+    private final int latencyMillis;
+
+    SlowRepository(int latencyMillis) {
+      this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public Transaction save(Transaction transaction) {
+      try {
+        Thread.sleep(latencyMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      }
+      return super.save(transaction);
+    }
+
+    @Override
+    public boolean isNonBlocking() {
+      return false;
+    }
+  }
+
+  private record Result(
+      ExecutionMode mode, int connections, int requests, long elapsedNanos, long[] latencies) {
+
+    String toJson() {
+      return String.format(
+          Locale.ROOT,
+          "{\"mode\":\"%s\",\"connections\":%d,\"requests\":%d,\"throughputPerSec\":%.1f,"
+              + "\"p50Ms\":%.2f,\"p99Ms\":%.2f,\"p999Ms\":%.2f,\"maxMs\":%.2f}",
+          mode.name().toLowerCase(Locale.ROOT),
+          connections,
+          requests,
+          requests / (elapsedNanos / 1e9),
+          percentile(0.50),
+          percentile(0.99),
+          percentile(0.999),
+          latencies[latencies.length - 1] / 1e6);
+    }
+
+    private double percentile(double quantile) {
+      int index = (int) Math.ceil(quantile * latencies.length) - 1;
+      return latencies[Math.max(0, index)] / 1e6;
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.example.transactions.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.transactions.infrastructure.services.UuidGeneratorAdapter;
+import com.example.transactions.infrastructure.services.UuidV7GeneratorAdapter;
+
+/**
+ * Throughput of the ID generators. Both share one instance across threads, as the application does,
+ * so running with {@code -Djmh.threads=N} shows how each behaves under contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+  private final UuidGeneratorAdapter randomUuid = new UuidGeneratorAdapter();
+  private final UuidV7GeneratorAdapter timeOrderedUuid =
+      new UuidV7GeneratorAdapter(1, System::currentTimeMillis);
+
+  @Benchmark
+  public String randomUuid() {
+    return randomUuid.generateId();
+  }
+
+  @Benchmark
+  public String timeOrderedUuid() {
+    return timeOrderedUuid.generateId();
+  }
+}
@@ -0,0 +1,96 @@
+package com.example.transactions.benchmark;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.transactions.domain.shared.valueobjects.Money;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionCursor;
+import com.example.transactions.infrastructure.repositories.InMemoryTransactionRepositoryAdapter;
+
+/**
+ * Latency of the in-memory repository operations at several data sizes.
+ *
+ * <p>The repository is shared by all benchmark threads, so {@code -Djmh.threads=N} measures the
+ * same operations under contention. Saves overwrite existing transactions with a new status, which
+ * keeps the size constant and exercises the index update, the same path a status change takes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InMemoryRepositoryBenchmark {
+
+  private static final Instant BASE_TIME = Instant.parse("2025-01-01T12:00:00Z");
+  private static final int PAGE_SIZE = 20;
+
+  @Param({"1000", "100000"})
+  private int size;
+
+  private InMemoryTransactionRepositoryAdapter repository;
+  private Transaction[] transactions;
+  private TransactionCursor middleCursor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    repository = new InMemoryTransactionRepositoryAdapter();
+    transactions = new Transaction[size];
+    for (int i = 0; i < size; i++) {
+      transactions[i] =
+          Transaction.createPending(
+              "tx-" + i,
+              Money.of(new BigDecimal("10.00"), "USD"),
+              "ACC-12345678",
+              "ACC-87654321",
+              BASE_TIME.plusNanos(i * 1_000L));
+      repository.save(transactions[i]);
+    }
+    middleCursor = TransactionCursor.after(transactions[size / 2]);
+  }
+
+  @Benchmark
+  public Transaction save() {
+    Transaction transaction = transactions[ThreadLocalRandom.current().nextInt(size)];
+    return repository.save(
+        ThreadLocalRandom.current().nextBoolean() ? transaction.complete() : transaction);
+  }
+
+  @Benchmark
+  public Optional<Transaction> findById() {
+    return repository.findById(transactions[ThreadLocalRandom.current().nextInt(size)].getId());
+  }
+
+  @Benchmark
+  public List<Transaction> findAllFirstPage() {
+    return repository.findAll(0, PAGE_SIZE);
+  }
+
+  @Benchmark
+  public List<Transaction> findAllMiddlePage() {
+    return repository.findAll(size / 2, PAGE_SIZE);
+  }
+
+  @Benchmark
+  public List<Transaction> findAfterMiddleCursor() {
+    return repository.findAfter(middleCursor, PAGE_SIZE);
+  }
+}
@@ -0,0 +1,379 @@
+package com.example.transactions.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * HTTP load test of the running service with an open (constant arrival rate) workload.
+ *
+ * <p>The harness starts the packaged application with the chosen {@code app.repository.type} on a
+ * free port, or targets {@code --url} if given. It seeds {@code --seed} transactions through the
+ * batch endpoint, then sends a weighted mix of POST /transactions, GET /transactions/{id} and GET
+ * /transactions at {@code --rate} requests per second. Requests are scheduled at fixed intervals
+ * whatever the response times, and each latency is measured from the request's intended start, so a
+ * stalled server shows up in the percentiles instead of silently lowering the load (coordinated
+ * omission). At most {@code --connections} requests are in flight; time spent waiting for a free
+ * connection counts as latency too.
+ *
+ * <p>After a {@code --warmup} phase whose results are discarded, the load runs for {@code
+ * --duration} seconds. Latencies are recorded in HdrHistograms and printed as one JSON object per
+ * operation plus one for the whole mix, with throughput and p50/p90/p99/p99.9/max.
+ *
+ * <p>Run with {@code mvn -Pload-test package}, which packages the application first, or by hand
+ * after {@code mvn package}:
+ *
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath \
+ *     -Dmdep.outputFile=/dev/stdout) \
+ *     com.example.transactions.benchmark.LoadTestHarness --repository=offheap --rate=5000 \
+ *     --duration=60 --mix=create:10,get:70,list:20
+ * </pre>
+ */
+public final class LoadTestHarness {
+
+  private static final String TRANSACTIONS_PATH = "/api/v1/transactions";
+  private static final int SEED_BATCH_SIZE = 1000;
+  private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+  private static final ObjectMapper JSON = new ObjectMapper();
+
+  private LoadTestHarness() {}
+
+  /** The requests sent by the load test. */
+  enum Operation {
+    CREATE(201),
+    GET(200),
+    LIST(200);
+
+    private final int expectedStatus;
+
+    Operation(int expectedStatus) {
+      this.expectedStatus = expectedStatus;
+    }
+  }
+
+  /** Command line options, given as {@code --name=value}. */
+  record Options(
+      String repository,
+      String url,
+      Path jar,
+      int seed,
+      int rate,
+      int durationSeconds,
+      int warmupSeconds,
+      int connections,
+      Map<Operation, Integer> mix) {
+
+    static Options parse(String[] args) {
+      Map<String, String> values = new HashMap<>();
+      for (String arg : args) {
+        if (!arg.startsWith("--") || !arg.contains("=")) {
+          throw new IllegalArgumentException("Expected --name=value but got " + arg);
+        }
+        values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+      }
+      return new Options(
+          values.getOrDefault("repository", "in-memory"),
+          values.get("url"),
+          Path.of(values.getOrDefault("jar", "target/quarkus-app/quarkus-run.jar")),
+          Integer.parseInt(values.getOrDefault("seed", "10000")),
+          Integer.parseInt(values.getOrDefault("rate", "1000")),
+          Integer.parseInt(values.getOrDefault("duration", "30")),
+          Integer.parseInt(values.getOrDefault("warmup", "5")),
+          Integer.parseInt(values.getOrDefault("connections", "256")),
+          parseMix(values.getOrDefault("mix", "create:10,get:70,list:20")));
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+      Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+      for (String entry : mix.split(",")) {
+        String[] parts = entry.split(":");
+        weights.put(
+            Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)),
+            Integer.parseInt(parts[1].trim()));
+      }
+      return weights;
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options options = Options.parse(args);
+    if (options.mix().containsKey(Operation.GET) && options.seed() < 1) {
+      throw new IllegalArgumentException("GET needs at least one seeded transaction");
+    }
+    HttpClient client =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    Process application = null;
+    URI baseUri;
+    if (options.url() != null) {
+      baseUri = URI.create(options.url());
+    } else {
+      int port = freePort();
+      application = startApplication(options, port);
+      baseUri = URI.create("http://localhost:" + port);
+    }
+
+    try {
+      waitUntilReady(client, baseUri);
+      List<String> ids = seed(client, baseUri, options.seed());
+
+      run(client, baseUri, ids, options, options.warmupSeconds());
+      Map<Operation, Result> results =
+          run(client, baseUri, ids, options, options.durationSeconds());
+
+      Histogram all = new Histogram(3);
+      long errors = 0;
+      for (Map.Entry<Operation, Result> entry : results.entrySet()) {
+        print(options, entry.getKey().name().toLowerCase(Locale.ROOT), entry.getValue());
+        all.add(entry.getValue().latencies());
+        errors += entry.getValue().errors();
+      }
+      print(
+          options,
+          "all",
+          new Result(all, errors, results.values().iterator().next().elapsedNanos()));
+    } finally {
+      if (application != null) {
+        application.destroy();
+        if (!application.waitFor(10, TimeUnit.SECONDS)) {
+          application.destroyForcibly();
+        }
+      }
+    }
+  }
+
+  /** The latencies and errors of one operation over one run. */
+  record Result(Histogram latencies, long errors, long elapsedNanos) {}
+
+  private static Map<Operation, Result> run(
+      HttpClient client, URI baseUri, List<String> ids, Options options, int seconds)
+      throws InterruptedException {
+    Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+    for (Operation operation : options.mix().keySet()) {
+      recorders.put(operation, new Recorder(3));
+      errors.put(operation, new AtomicLong());
+    }
+    Operation[] weighted = weightedOperations(options.mix());
+    Semaphore connections = new Semaphore(options.connections());
+
+    long start = System.nanoTime();
+    long end = start + TimeUnit.SECONDS.toNanos(seconds);
+    try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (long sent = 0; ; sent++) {
+        long intended = start + sent * 1_000_000_000L / options.rate();
+        if (intended >= end) {
+          break;
+        }
+        long delay = intended - System.nanoTime();
+        if (delay > 0) {
+          LockSupport.parkNanos(delay);
+        }
+        Operation operation = weighted[ThreadLocalRandom.current().nextInt(weighted.length)];
+        HttpRequest request = request(operation, baseUri, ids);
+        requests.execute(
+            () -> {
+              boolean ok = send(client, request, operation, connections);
+              // Measured from the intended start: includes any wait for the generator or a
+              // connection
+              recorders
+                  .get(operation)
+                  .recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended));
+              if (!ok) {
+                errors.get(operation).incrementAndGet();
+              }
+            });
+      }
+    }
+    long elapsed = System.nanoTime() - start;
+
+    Map<Operation, Result> results = new EnumMap<>(Operation.class);
+    for (Operation operation : recorders.keySet()) {
+      results.put(
+          operation,
+          new Result(
+              recorders.get(operation).getIntervalHistogram(),
+              errors.get(operation).get(),
+              elapsed));
+    }
+    return results;
+  }
+
+  private static boolean send(
+      HttpClient client, HttpRequest request, Operation operation, Semaphore connections) {
+    try {
+      connections.acquire();
+      try {
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() == operation.expectedStatus;
+      } finally {
+        connections.release();
+      }
+    } catch (IOException e) {
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static HttpRequest request(Operation operation, URI baseUri, List<String> ids) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    return switch (operation) {
+      case CREATE -> HttpRequest.newBuilder(baseUri.resolve(TRANSACTIONS_PATH))
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofString(createBody(random.nextInt(1, 100_000))))
+          .build();
+      case GET -> HttpRequest.newBuilder(
+              baseUri.resolve(TRANSACTIONS_PATH + "/" + ids.get(random.nextInt(ids.size()))))
+          .GET()
+          .build();
+      case LIST -> HttpRequest.newBuilder(baseUri.resolve(TRANSACTIONS_PATH + "?limit=20"))
+          .GET()
+          .build();
+    };
+  }
+
+  private static List<String> seed(HttpClient client, URI baseUri, int count)
+      throws IOException, InterruptedException {
+    List<String> ids = new ArrayList<>(count);
+    while (ids.size() < count) {
+      int batchSize = Math.min(SEED_BATCH_SIZE, count - ids.size());
+      StringBuilder body = new StringBuilder("[");
+      for (int i = 0; i < batchSize; i++) {
+        body.append(i == 0 ? "" : ",").append(createBody(ids.size() + i + 1));
+      }
+      HttpResponse<String> response =
+          client.send(
+              HttpRequest.newBuilder(baseUri.resolve(TRANSACTIONS_PATH + "/batch"))
+                  .header("Content-Type", "application/json")
+                  .POST(HttpRequest.BodyPublishers.ofString(body.append(']').toString()))
+                  .build(),
+              HttpResponse.BodyHandlers.ofString());
+      if (response.statusCode() != 200) {
+        throw new IllegalStateException("Seeding failed with status " + response.statusCode());
+      }
+      for (JsonNode item : JSON.readTree(response.body()).get("results")) {
+        ids.add(item.get("transaction").get("id").asText());
+      }
+    }
+    return ids;
+  }
+
+  private static String createBody(int cents) {
+    return String.format(
+        Locale.ROOT,
+        "{\"amount\":%d.%02d,\"currency\":\"USD\",\"originAccountNumber\":\"ACC-123456789\","
+            + "\"destinationAccountNumber\":\"ACC-987654321\"}",
+        cents / 100 + 1,
+        cents % 100);
+  }
+
+  private static Operation[] weightedOperations(Map<Operation, Integer> mix) {
+    List<Operation> operations = new ArrayList<>();
+    mix.forEach(
+        (operation, weight) -> {
+          for (int i = 0; i < weight; i++) {
+            operations.add(operation);
+          }
+        });
+    return operations.toArray(Operation[]::new);
+  }
+
+  private static Process startApplication(Options options, int port) throws IOException {
+    if (!Files.exists(options.jar())) {
+      throw new IllegalStateException(
+          options.jar() + " not found; run mvn package first or pass --url");
+    }
+    String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    File log = Path.of("target", "load-test-" + options.repository() + ".log").toFile();
+    return new ProcessBuilder(
+            java,
+            "-Dapp.repository.type=" + options.repository(),
+            "-Dquarkus.http.port=" + port,
+            "-Dquarkus.management.port=" + freePort(),
+            "-Dquarkus.log.level=WARN",
+            "-jar",
+            options.jar().toString())
+        .redirectErrorStream(true)
+        .redirectOutput(log)
+        .start();
+  }
+
+  private static void waitUntilReady(HttpClient client, URI baseUri) throws InterruptedException {
+    long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+    // The health checks are on the management port; a listing answers once the API is up
+    HttpRequest ready =
+        HttpRequest.newBuilder(baseUri.resolve("/api/v1/transactions?limit=1")).GET().build();
+    while (System.nanoTime() < deadline) {
+      try {
+        if (client.send(ready, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+          return;
+        }
+      } catch (IOException e) {
+        // Not listening yet
+      }
+      Thread.sleep(200);
+    }
+    throw new IllegalStateException("Application not ready after " + STARTUP_TIMEOUT);
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private static void print(Options options, String operation, Result result) {
+    Histogram latencies = result.latencies();
+    double seconds = result.elapsedNanos() / 1e9;
+    System.out.printf(
+        Locale.ROOT,
+        "{\"repository\":\"%s\",\"operation\":\"%s\",\"rate\":%d,\"connections\":%d,"
+            + "\"requests\":%d,\"errors\":%d,\"throughput\":%.1f,"
+            + "\"p50Ms\":%.3f,\"p90Ms\":%.3f,\"p99Ms\":%.3f,\"p999Ms\":%.3f,\"maxMs\":%.3f}%n",
+        options.url() != null ? options.url() : options.repository(),
+        operation,
+        options.rate(),
+        options.connections(),
+        latencies.getTotalCount(),
+        result.errors(),
+        latencies.getTotalCount() / seconds,
+        latencies.getValueAtPercentile(50) / 1000.0,
+        latencies.getValueAtPercentile(90) / 1000.0,
+        latencies.getValueAtPercentile(99) / 1000.0,
+        latencies.getValueAtPercentile(99.9) / 1000.0,
+        latencies.getMaxValue() / 1000.0);
+  }
+}
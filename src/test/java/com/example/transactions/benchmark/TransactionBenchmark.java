@@ -0,0 +1,64 @@
+package com.example.transactions.benchmark;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.transactions.domain.shared.valueobjects.Money;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionStatus;
+
+/**
+ * Cost of building a {@link Transaction}, which validates every field in its constructor.
+ *
+ * <p>Inputs are read from non-final state fields so the JIT cannot fold the validation away.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionBenchmark {
+
+  private String id = "0192f3a4-5b6c-7d8e-9f01-23456789abcd";
+  private Money amount = Money.of(new BigDecimal("100.50"), "USD");
+  private String originAccountNumber = "ACC-123456789";
+  private String destinationAccountNumber = "ACC-987654321";
+  private Instant createdAt = Instant.parse("2025-01-01T12:00:00Z");
+  private Transaction pending =
+      Transaction.createPending(
+          id, amount, originAccountNumber, destinationAccountNumber, createdAt);
+
+  @Benchmark
+  public Transaction construct() {
+    return new Transaction(
+        id,
+        amount,
+        originAccountNumber,
+        destinationAccountNumber,
+        TransactionStatus.PENDING,
+        createdAt);
+  }
+
+  @Benchmark
+  public Transaction createPending() {
+    return Transaction.createPending(
+        id, amount, originAccountNumber, destinationAccountNumber, createdAt);
+  }
+
+  @Benchmark
+  public Transaction complete() {
+    return pending.complete();
+  }
+}
@@ -0,0 +1,71 @@
+package com.example.transactions.benchmark;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.transactions.domain.shared.valueobjects.Money;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.presentation.dto.TransactionResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Cost of turning a transaction into the JSON body of GET /transactions/{id}.
+ *
+ * <p>The mapper is configured like the Quarkus one (ISO dates, not timestamps). {@code toResponse}
+ * isolates the DTO mapping, {@code serialize} the Jackson write of a ready DTO, and {@code toJson}
+ * is the whole path a request takes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionJsonBenchmark {
+
+  private final ObjectWriter writer =
+      new ObjectMapper()
+          .registerModule(new JavaTimeModule())
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+          .writerFor(TransactionResponse.class);
+
+  private final Transaction transaction =
+      Transaction.createPending(
+          "0192f3a4-5b6c-7d8e-9f01-23456789abcd",
+          Money.of(new BigDecimal("100.50"), "USD"),
+          "ACC-123456789",
+          "ACC-987654321",
+          Instant.parse("2025-01-01T12:00:00.123456Z"));
+
+  private final TransactionResponse response = TransactionResponse.fromDomain(transaction);
+
+  @Benchmark
+  public TransactionResponse toResponse() {
+    return TransactionResponse.fromDomain(transaction);
+  }
+
+  @Benchmark
+  public byte[] serialize() throws IOException {
+    return writer.writeValueAsBytes(response);
+  }
+
+  @Benchmark
+  public byte[] toJson() throws IOException {
+    return writer.writeValueAsBytes(TransactionResponse.fromDomain(transaction));
+  }
+}
@@ -0,0 +1,131 @@
+package com.example.transactions.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.transactions.application.shared.exceptions.ValidationException;
+import com.example.transactions.domain.shared.ports.ClockPort;
+import com.example.transactions.domain.transaction.exceptions.InvalidTransactionException;
+import com.example.transactions.domain.transaction.exceptions.TransactionNotFoundException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class GlobalExceptionMapperTest {
+
+  private static final long NOW = ClockPort.toMicros(Instant.parse("2025-01-01T12:00:00.123456Z"));
+  private static final ClockPort CLOCK = () -> NOW;
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final GlobalExceptionMapper mapper = new GlobalExceptionMapper(CLOCK, registry);
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void shouldRenderNotFoundFromTemplate() throws Exception {
+    // When
+    Response response = mapper.toResponse(new TransactionNotFoundException("abc"));
+
+    // Then
+    assertThat(response.getStatus()).isEqualTo(404);
+    assertThat(response.getMediaType()).isEqualTo(MediaType.APPLICATION_JSON_TYPE);
+    JsonNode body = body(response);
+    assertThat(body.get("error").asText()).isEqualTo("Transacción no encontrada");
+    assertThat(body.get("code").asText()).isEqualTo("TRANSACTION_NOT_FOUND");
+    assertThat(body.get("status").asInt()).isEqualTo(404);
+    assertThat(body.get("message").asText()).isEqualTo("Transaction not found with ID: abc");
+    assertThat(body.get("timestamp").asText()).isEqualTo("2025-01-01T12:00:00.123000Z");
+    assertThat(body.has("violations")).isFalse();
+  }
+
+  @Test
+  void shouldEscapeMessagesAndListViolations() throws Exception {
+    // Given
+    List<String> violations = List.of("quote \" and \\ backslash", "line\nbreak\u0001");
+
+    // When
+    Response response = mapper.toResponse(new ValidationException(violations));
+
+    // Then
+    assertThat(response.getStatus()).isEqualTo(400);
+    JsonNode body = body(response);
+    assertThat(body.get("code").asText()).isEqualTo("VALIDATION_ERROR");
+    assertThat(body.get("message").asText()).isEqualTo(String.join("; ", violations));
+    assertThat(objectMapper.convertValue(body.get("violations"), List.class)).isEqualTo(violations);
+  }
+
+  @Test
+  void shouldReportEveryViolationOfAnInvalidTransaction() throws Exception {
+    // Given
+    List<String> violations =
+        List.of("Amount must be positive", "Destination account number cannot be null or empty");
+
+    // When
+    Response response = mapper.toResponse(new InvalidTransactionException(violations));
+
+    // Then
+    assertThat(response.getStatus()).isEqualTo(400);
+    JsonNode body = body(response);
+    assertThat(body.get("code").asText()).isEqualTo("VALIDATION_ERROR");
+    assertThat(objectMapper.convertValue(body.get("violations"), List.class)).isEqualTo(violations);
+  }
+
+  @Test
+  void shouldMapUnexpectedFailuresToInternalError() throws Exception {
+    // When
+    Response response = mapper.toResponse(new IllegalStateException());
+
+    // Then
+    assertThat(response.getStatus()).isEqualTo(500);
+    JsonNode body = body(response);
+    assertThat(body.get("code").asText()).isEqualTo("INTERNAL_SERVER_ERROR");
+    assertThat(body.get("message").asText()).isEqualTo("Error desconocido");
+  }
+
+  @Test
+  void shouldRenderNullMessageAsJsonNull() throws Exception {
+    // When
+    Response response = mapper.toResponse(new IllegalArgumentException());
+
+    // Then
+    assertThat(response.getStatus()).isEqualTo(400);
+    assertThat(body(response).get("message").isNull()).isTrue();
+  }
+
+  @Test
+  void shouldCountErrorsByCode() {
+    // When
+    mapper.toResponse(new TransactionNotFoundException("abc"));
+    mapper.toResponse(new TransactionNotFoundException("def"));
+    mapper.toResponse(new IllegalStateException());
+
+    // Then
+    assertThat(errors("TRANSACTION_NOT_FOUND")).isEqualTo(2.0);
+    assertThat(errors("INTERNAL_SERVER_ERROR")).isEqualTo(1.0);
+    assertThat(errors("VALIDATION_ERROR")).isZero();
+    assertThat(registry.get("transactions.errors").tag("status", "404").counter().count())
+        .isEqualTo(2.0);
+  }
+
+  @Test
+  void shouldCreateDomainExceptionsWithoutStackTrace() {
+    assertThat(new TransactionNotFoundException("abc").getStackTrace()).isEmpty();
+    assertThat(new ValidationException("invalid", new IllegalStateException()).getStackTrace())
+        .isEmpty();
+  }
+
+  private double errors(String code) {
+    return registry.get("transactions.errors").tag("code", code).counter().count();
+  }
+
+  private JsonNode body(Response response) throws Exception {
+    return objectMapper.readTree((byte[]) response.getEntity());
+  }
+}
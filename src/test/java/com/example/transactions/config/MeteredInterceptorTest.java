@@ -0,0 +1,129 @@
+package com.example.transactions.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.interceptor.InvocationContext;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.transactions.infrastructure.jfr.UseCaseExecutionEvent;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class MeteredInterceptorTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final MeteredInterceptor interceptor = new MeteredInterceptor(registry, "in-memory");
+
+  @Test
+  void shouldTimeSynchronousCall() throws Exception {
+    // Given
+    InvocationContext context = context("find", "tx-1");
+
+    // When
+    Object result = interceptor.time(context);
+
+    // Then
+    assertThat(result).isEqualTo("tx-1");
+    assertThat(timer("find").count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldTimeReactiveCallFromSubscription() throws Exception {
+    // Given
+    InvocationContext context = context("findAsync", Uni.createFrom().item("tx-1"));
+
+    // When
+    Uni<?> uni = (Uni<?>) interceptor.time(context);
+    Thread.sleep(200);
+
+    // Then - nothing is timed until subscription, and the wait before it is not counted
+    assertThat(timer("findAsync").count()).isZero();
+    assertThat(uni.await().indefinitely()).isEqualTo("tx-1");
+    assertThat(timer("findAsync").count()).isEqualTo(1);
+    assertThat(timer("findAsync").totalTime(TimeUnit.MILLISECONDS)).isLessThan(200);
+  }
+
+  @Test
+  void shouldTimeEachSubscription() throws Exception {
+    // Given
+    InvocationContext context = context("findAsync", Uni.createFrom().item("tx-1"));
+    Uni<?> uni = (Uni<?>) interceptor.time(context);
+
+    // When
+    uni.await().indefinitely();
+    uni.await().indefinitely();
+
+    // Then
+    assertThat(timer("findAsync").count()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldEmitExecutionEventsOnlyWhileRecording() throws Exception {
+    // Given
+    Path file = Files.createTempFile("usecase-", ".jfr");
+    interceptor.time(context("find", "tx-1"));
+
+    try (Recording recording = new Recording()) {
+      recording.enable(UseCaseExecutionEvent.class);
+      recording.start();
+
+      // When
+      interceptor.time(context("find", "tx-1"));
+      ((Uni<?>) interceptor.time(context("findAsync", Uni.createFrom().item("tx-1"))))
+          .await()
+          .indefinitely();
+      recording.stop();
+      recording.dump(file);
+
+      // Then
+      List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+      assertThat(events)
+          .extracting(e -> e.getString("method"))
+          .containsExactly("find", "findAsync");
+      assertThat(events.get(1).getString("useCase")).isEqualTo("SampleUseCase");
+      assertThat(events.get(1).getBoolean("failed")).isFalse();
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private InvocationContext context(String method, Object result) throws Exception {
+    InvocationContext context = mock(InvocationContext.class);
+    when(context.getMethod()).thenReturn(SampleUseCase.class.getDeclaredMethod(method));
+    when(context.proceed()).thenReturn(result);
+    return context;
+  }
+
+  private Timer timer(String method) {
+    return registry
+        .get(MeteredInterceptor.TIMER_NAME)
+        .tag("usecase", "SampleUseCase")
+        .tag("method", method)
+        .timer();
+  }
+
+  private static final class SampleUseCase {
+
+    String find() {
+      return "tx-1";
+    }
+
+    Uni<String> findAsync() {
+      return Uni.createFrom().item("tx-1");
+    }
+  }
+}
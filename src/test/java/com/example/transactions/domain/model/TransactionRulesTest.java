@@ -0,0 +1,115 @@
+package com.example.transactions.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.transactions.domain.shared.valueobjects.Money;
+import com.example.transactions.domain.transaction.model.TransactionRules;
+import com.example.transactions.domain.transaction.model.TransactionRules.AccountField;
+
+class TransactionRulesTest {
+
+  @Test
+  void shouldReturnSharedEmptyListForValidTransaction() {
+    // When
+    List<String> violations =
+        TransactionRules.validate(
+            new BigDecimal("100.50"), "usd", " ACC-123456789 ", "ACC-987654321");
+
+    // Then
+    assertThat(violations).isEmpty();
+    assertThat(violations).isSameAs(List.of());
+  }
+
+  @Test
+  void shouldReportEveryInvalidFieldOnce() {
+    // When
+    List<String> violations =
+        TransactionRules.validate(new BigDecimal("-10"), "INVALID", "SHORT", null);
+
+    // Then
+    assertThat(violations)
+        .containsExactly(
+            "Amount must be positive",
+            "Currency must be a 3-character code",
+            "Origin account number must be between 8 and 20 characters",
+            "Destination account number cannot be null or empty");
+  }
+
+  @Test
+  void shouldRejectAmountsBelowOneCent() {
+    assertThat(TransactionRules.checkAmount(new BigDecimal("0.001")))
+        .isEqualTo("Amount must be at least 0.01");
+    assertThat(TransactionRules.checkAmount(new BigDecimal("0.01"))).isNull();
+  }
+
+  @Test
+  void shouldCheckCharactersWithoutRegex() {
+    assertThat(TransactionRules.checkCurrency("U5D"))
+        .isEqualTo("Currency can only contain letters");
+    assertThat(TransactionRules.checkAccountNumber("ACC_12345678", AccountField.ORIGIN))
+        .isEqualTo("Origin account number can only contain letters, numbers, and hyphens");
+    assertThat(TransactionRules.checkAccountNumber("acc-12345678", AccountField.DESTINATION))
+        .isNull();
+  }
+
+  @Test
+  void shouldMeasureLengthWithoutSurroundingWhitespace() {
+    assertThat(TransactionRules.checkCurrency("  EUR\t")).isNull();
+    assertThat(TransactionRules.checkAccountNumber("   ", AccountField.ORIGIN))
+        .isEqualTo("Origin account number cannot be null or empty");
+    assertThat(TransactionRules.checkAccountNumber(" 1234567 ", AccountField.ORIGIN))
+        .isEqualTo("Origin account number must be between 8 and 20 characters");
+  }
+
+  @Test
+  void shouldRejectMoreDecimalPlacesThanTheCurrencyHas() {
+    // When
+    List<String> violations =
+        TransactionRules.validate(new BigDecimal("10.5"), "JPY", "ACC-123456789", "ACC-987654321");
+
+    // Then
+    assertThat(violations)
+        .containsExactly("Amount cannot have more than 0 decimal places for its currency");
+  }
+
+  @Test
+  void shouldCheckOnlyWhatMoneyNeeds() {
+    assertThat(TransactionRules.checkMoney(new BigDecimal("10.50"), "usd")).isNull();
+    assertThat(TransactionRules.checkMoney(null, "USD")).isEqualTo("Amount cannot be null");
+    assertThat(TransactionRules.checkMoney(BigDecimal.TEN, "U5D"))
+        .isEqualTo("Currency can only contain letters");
+    assertThat(TransactionRules.checkMoney(new BigDecimal("10.5"), "JPY"))
+        .isEqualTo("Amount cannot have more than 0 decimal places for its currency");
+  }
+
+  @Test
+  void shouldReportEveryInvalidFieldOfATransactionWithMoney() {
+    // When
+    List<String> violations =
+        TransactionRules.validate(Money.of(new BigDecimal("-1"), "USD"), "SHORT", null);
+
+    // Then
+    assertThat(violations)
+        .containsExactly(
+            "Amount must be positive",
+            "Origin account number must be between 8 and 20 characters",
+            "Destination account number cannot be null or empty");
+    assertThat(TransactionRules.validate(Money.of(BigDecimal.ONE, "USD"), "ACC-1234", "ACC-5678"))
+        .isSameAs(List.of())
+        .isEmpty();
+  }
+
+  @Test
+  void shouldCheckPagingBounds() {
+    assertThat(TransactionRules.checkOffset(-1)).isEqualTo("Offset cannot be negative");
+    assertThat(TransactionRules.checkOffset(0)).isNull();
+    assertThat(TransactionRules.checkLimit(0)).isEqualTo("Limit must be between 1 and 100");
+    assertThat(TransactionRules.checkLimit(101)).isEqualTo("Limit must be between 1 and 100");
+    assertThat(TransactionRules.checkLimit(100)).isNull();
+  }
+}
@@ -4,10 +4,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.time.Duration;
+import java.time.Instant;
 
 import org.junit.jupiter.api.Test;
 
+import com.example.transactions.domain.shared.valueobjects.Money;
+import com.example.transactions.domain.transaction.exceptions.InvalidTransactionException;
 import com.example.transactions.domain.transaction.model.Transaction;
 import com.example.transactions.domain.transaction.model.TransactionStatus;
 
@@ -17,28 +20,43 @@ class TransactionTest {
   void shouldCreatePendingTransaction() {
     // Given
     String id = "test-id";
-    BigDecimal amount = new BigDecimal("100.00");
-    String currency = "USD";
+    Money amount = Money.of(new BigDecimal("100.00"), "USD");
     String originAccount = "ACC-12345678";
     String destinationAccount = "ACC-87654321";
-    LocalDateTime createdAt = LocalDateTime.now();
+    Instant createdAt = Instant.parse("2025-01-01T12:00:00.123456Z");
 
     // When
     Transaction transaction =
-        Transaction.createPending(
-            id, amount, currency, originAccount, destinationAccount, createdAt);
+        Transaction.createPending(id, amount, originAccount, destinationAccount, createdAt);
 
     // Then
     assertThat(transaction.getId()).isEqualTo(id);
     assertThat(transaction.getAmount()).isEqualTo(amount);
-    assertThat(transaction.getCurrency()).isEqualTo(currency);
+    assertThat(transaction.getAmountMinorUnits()).isEqualTo(10_000);
+    assertThat(transaction.getCurrency()).isEqualTo("USD");
     assertThat(transaction.getOriginAccountNumber()).isEqualTo(originAccount);
     assertThat(transaction.getDestinationAccountNumber()).isEqualTo(destinationAccount);
     assertThat(transaction.getStatus()).isEqualTo(TransactionStatus.PENDING);
     assertThat(transaction.getCreatedAt()).isEqualTo(createdAt);
+    assertThat(transaction.getCreatedAtMicros()).isEqualTo(1_735_732_800_123_456L);
     assertThat(transaction.isFinal()).isFalse();
   }
 
+  @Test
+  void shouldTruncateCreationTimeToMicroseconds() {
+    // When
+    Transaction transaction =
+        Transaction.createPending(
+            "test-id",
+            Money.of(BigDecimal.TEN, "USD"),
+            "ACC-12345678",
+            "ACC-87654321",
+            Instant.parse("2025-01-01T12:00:00.123456789Z"));
+
+    // Then
+    assertThat(transaction.getCreatedAt()).isEqualTo(Instant.parse("2025-01-01T12:00:00.123456Z"));
+  }
+
   @Test
   void shouldCompleteTransaction() {
     // Given
@@ -74,11 +92,10 @@ class TransactionTest {
             () ->
                 Transaction.createPending(
                     null,
-                    BigDecimal.TEN,
-                    "USD",
+                    Money.of(BigDecimal.TEN, "USD"),
                     "ACC-12345678",
                     "ACC-87654321",
-                    LocalDateTime.now()))
+                    Instant.now()))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("Transaction ID cannot be null or empty");
   }
@@ -89,7 +106,11 @@ class TransactionTest {
     assertThatThrownBy(
             () ->
                 Transaction.createPending(
-                    "", BigDecimal.TEN, "USD", "ACC-12345678", "ACC-87654321", LocalDateTime.now()))
+                    "",
+                    Money.of(BigDecimal.TEN, "USD"),
+                    "ACC-12345678",
+                    "ACC-87654321",
+                    Instant.now()))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("Transaction ID cannot be null or empty");
   }
@@ -100,7 +121,7 @@ class TransactionTest {
     assertThatThrownBy(
             () ->
                 Transaction.createPending(
-                    "id", null, "USD", "ACC-12345678", "ACC-87654321", LocalDateTime.now()))
+                    "id", null, "ACC-12345678", "ACC-87654321", Instant.now()))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("Amount cannot be null");
   }
@@ -112,11 +133,10 @@ class TransactionTest {
             () ->
                 Transaction.createPending(
                     "id",
-                    new BigDecimal("-1"),
-                    "USD",
+                    Money.of(new BigDecimal("-1"), "USD"),
                     "ACC-12345678",
                     "ACC-87654321",
-                    LocalDateTime.now()))
+                    Instant.now()))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("Amount must be positive");
   }
@@ -128,11 +148,10 @@ class TransactionTest {
             () ->
                 Transaction.createPending(
                     "id",
-                    BigDecimal.TEN,
-                    "INVALID",
+                    Money.of(BigDecimal.TEN, "INVALID"),
                     "ACC-12345678",
                     "ACC-87654321",
-                    LocalDateTime.now()))
+                    Instant.now()))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("Currency must be a 3-character code");
   }
@@ -143,7 +162,7 @@ class TransactionTest {
     assertThatThrownBy(
             () ->
                 Transaction.createPending(
-                    "id", BigDecimal.TEN, "USD", "SHORT", "ACC-87654321", LocalDateTime.now()))
+                    "id", Money.of(BigDecimal.TEN, "USD"), "SHORT", "ACC-87654321", Instant.now()))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("Origin account number must be between 8 and 20 characters");
   }
@@ -154,17 +173,50 @@ class TransactionTest {
     assertThatThrownBy(
             () ->
                 Transaction.createPending(
-                    "id", BigDecimal.TEN, "USD", "ACC-12345678", null, LocalDateTime.now()))
+                    "id", Money.of(BigDecimal.TEN, "USD"), "ACC-12345678", null, Instant.now()))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("Destination account number cannot be null or empty");
   }
 
+  @Test
+  void shouldReportEveryInvalidField() {
+    // Given/When/Then
+    assertThatThrownBy(
+            () ->
+                Transaction.createPending(
+                    "id", Money.of(new BigDecimal("-1"), "USD"), "SHORT", null, Instant.now()))
+        .isInstanceOfSatisfying(
+            InvalidTransactionException.class,
+            e ->
+                assertThat(e.getViolations())
+                    .containsExactly(
+                        "Amount must be positive",
+                        "Origin account number must be between 8 and 20 characters",
+                        "Destination account number cannot be null or empty"));
+  }
+
+  @Test
+  void shouldTrimAccountNumbers() {
+    // When
+    Transaction transaction =
+        Transaction.createPending(
+            "id",
+            Money.of(BigDecimal.TEN, "USD"),
+            " ACC-12345678",
+            "ACC-87654321\t",
+            Instant.now());
+
+    // Then
+    assertThat(transaction.getOriginAccountNumber()).isEqualTo("ACC-12345678");
+    assertThat(transaction.getDestinationAccountNumber()).isEqualTo("ACC-87654321");
+  }
+
   @Test
   void shouldNormalizeCurrencyToUpperCase() {
     // Given/When
     Transaction transaction =
         Transaction.createPending(
-            "id", BigDecimal.TEN, "usd", "ACC-12345678", "ACC-87654321", LocalDateTime.now());
+            "id", Money.of(BigDecimal.TEN, "usd"), "ACC-12345678", "ACC-87654321", Instant.now());
 
     // Then
     assertThat(transaction.getCurrency()).isEqualTo("USD");
@@ -173,21 +225,20 @@ class TransactionTest {
   @Test
   void shouldImplementEqualsBasedOnId() {
     // Given
-    LocalDateTime now = LocalDateTime.now();
+    Instant now = Instant.now();
     Transaction tx1 =
         Transaction.createPending(
-            "same-id", BigDecimal.TEN, "USD", "ACC-12345678", "ACC-87654321", now);
+            "same-id", Money.of(BigDecimal.TEN, "USD"), "ACC-12345678", "ACC-87654321", now);
     Transaction tx2 =
         Transaction.createPending(
             "same-id",
-            new BigDecimal("20"),
-            "EUR",
+            Money.of(new BigDecimal("20"), "EUR"),
             "ACC-11111111",
             "ACC-22222222",
-            now.plusMinutes(1));
+            now.plus(Duration.ofMinutes(1)));
     Transaction tx3 =
         Transaction.createPending(
-            "different-id", BigDecimal.TEN, "USD", "ACC-12345678", "ACC-87654321", now);
+            "different-id", Money.of(BigDecimal.TEN, "USD"), "ACC-12345678", "ACC-87654321", now);
 
     // Then
     assertThat(tx1).isEqualTo(tx2);
@@ -198,11 +249,10 @@ class TransactionTest {
   private Transaction createTestTransaction(TransactionStatus status) {
     return new Transaction(
         "test-id",
-        new BigDecimal("100.00"),
-        "USD",
+        Money.of(new BigDecimal("100.00"), "USD"),
         "ACC-12345678",
         "ACC-87654321",
         status,
-        LocalDateTime.now());
+        Instant.now());
   }
 }
@@ -0,0 +1,65 @@
+package com.example.transactions.domain.shared.valueobjects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+  @Test
+  void shouldConvertExactlyToMinorUnitsAndBack() {
+    // When
+    Money money = Money.of(new BigDecimal("100.5"), " usd ");
+
+    // Then
+    assertThat(money.minorUnits()).isEqualTo(10_050);
+    assertThat(money.currency()).isEqualTo("USD");
+    assertThat(money.toBigDecimal()).isEqualByComparingTo("100.50").hasScaleOf(2);
+    assertThat(money).isEqualTo(Money.of(new BigDecimal("100.500"), "USD"));
+  }
+
+  @Test
+  void shouldShareCurrencyCodeInstances() {
+    // When
+    Money first = Money.of(BigDecimal.ONE, new String("eur"));
+    Money second = Money.ofMinor(5, new String("EUR"));
+
+    // Then
+    assertThat(first.currency()).isSameAs(second.currency());
+  }
+
+  @Test
+  void shouldUseDecimalPlacesOfEachCurrency() {
+    assertThat(Money.of(new BigDecimal("1500"), "JPY").minorUnits()).isEqualTo(1500);
+    assertThat(Money.of(new BigDecimal("1.234"), "BHD").minorUnits()).isEqualTo(1234);
+    assertThat(Money.fractionDigits("ABC")).isEqualTo(Money.DEFAULT_FRACTION_DIGITS);
+  }
+
+  @Test
+  void shouldRejectAmountsThatDoNotConvertExactly() {
+    assertThatThrownBy(() -> Money.of(new BigDecimal("100.505"), "USD"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("2 decimal places");
+    assertThatThrownBy(() -> Money.of(new BigDecimal("1.5"), "JPY"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Money.of(new BigDecimal("123456789012345678901234567890"), "USD"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Amount is too large");
+  }
+
+  @Test
+  void shouldAddAndCompareWithinOneCurrency() {
+    // Given
+    Money ten = Money.ofMinor(1_000, "USD");
+    Money twenty = Money.ofMinor(2_000, "USD");
+
+    // Then
+    assertThat(ten.plus(ten)).isEqualTo(twenty);
+    assertThat(ten).isLessThan(twenty);
+    assertThatThrownBy(() -> ten.plus(Money.ofMinor(1_000, "EUR")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,524 @@
+package com.example.transactions.infrastructure.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.transactions.domain.shared.valueobjects.Money;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionCursor;
+import com.example.transactions.domain.transaction.model.TransactionFilter;
+import com.example.transactions.domain.transaction.model.TransactionSlice;
+import com.example.transactions.domain.transaction.model.TransactionStatus;
+import com.example.transactions.infrastructure.repositories.TransactionFilterIndex.Access;
+import com.example.transactions.infrastructure.repositories.journal.DurabilityMode;
+import com.example.transactions.infrastructure.repositories.journal.TransactionJournal;
+
+class InMemoryTransactionRepositoryAdapterTest {
+
+  private static final Instant BASE_TIME = Instant.parse("2025-01-01T12:00:00Z");
+
+  private InMemoryTransactionRepositoryAdapter repository;
+
+  @BeforeEach
+  void setUp() {
+    repository = new InMemoryTransactionRepositoryAdapter();
+  }
+
+  @Test
+  void shouldListNewestFirst() {
+    // Given
+    repository.save(transaction("tx-1", BASE_TIME));
+    repository.save(transaction("tx-3", BASE_TIME.plus(Duration.ofMinutes(2))));
+    repository.save(transaction("tx-2", BASE_TIME.plus(Duration.ofMinutes(1))));
+
+    // When
+    List<Transaction> page = repository.findAll(0, 10);
+
+    // Then
+    assertThat(page).extracting(Transaction::getId).containsExactly("tx-3", "tx-2", "tx-1");
+  }
+
+  @Test
+  void shouldBreakCreatedAtTiesById() {
+    // Given
+    repository.save(transaction("tx-a", BASE_TIME));
+    repository.save(transaction("tx-b", BASE_TIME));
+
+    // When
+    List<Transaction> page = repository.findAll(0, 10);
+    List<Transaction> after = repository.findAfter(TransactionCursor.after(page.get(0)), 10);
+
+    // Then
+    assertThat(page).extracting(Transaction::getId).containsExactly("tx-b", "tx-a");
+    assertThat(after).extracting(Transaction::getId).containsExactly("tx-a");
+  }
+
+  @Test
+  void shouldReturnPagesMatchingFullSort() {
+    // Given
+    List<Transaction> expected = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      Transaction transaction = transaction("tx-" + i, BASE_TIME.plusSeconds(i % 37));
+      expected.add(transaction);
+      repository.save(transaction);
+    }
+    expected.sort(TransactionCreatedAtIndex.ORDER);
+
+    // When/Then
+    for (int offset = 0; offset < 520; offset += 45) {
+      int end = Math.min(offset + 45, expected.size());
+      List<Transaction> expectedPage =
+          offset < expected.size() ? expected.subList(offset, end) : List.of();
+      assertThat(repository.findAll(offset, 45)).containsExactlyElementsOf(expectedPage);
+    }
+  }
+
+  @Test
+  void shouldReindexWhenTransactionIsReplaced() {
+    // Given
+    Transaction pending = transaction("tx-1", BASE_TIME);
+    repository.save(pending);
+    repository.save(transaction("tx-2", BASE_TIME.plus(Duration.ofMinutes(1))));
+
+    // When
+    repository.save(pending.complete());
+
+    // Then
+    List<Transaction> page = repository.findAll(0, 10);
+    assertThat(page).hasSize(2);
+    assertThat(page.get(1).isFinal()).isTrue();
+    assertThat(repository.count()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldSeekAfterCursor() {
+    // Given
+    for (int i = 0; i < 100; i++) {
+      repository.save(transaction("tx-" + i, BASE_TIME.plusSeconds(i % 7)));
+    }
+    List<Transaction> expected = repository.findAll(0, 100);
+
+    // When
+    List<Transaction> walked = new ArrayList<>();
+    TransactionCursor cursor = null;
+    List<Transaction> page;
+    do {
+      page = repository.findAfter(cursor, 9);
+      walked.addAll(page);
+      cursor = page.isEmpty() ? cursor : TransactionCursor.after(page.get(page.size() - 1));
+    } while (!page.isEmpty());
+
+    // Then
+    assertThat(walked).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  void shouldKeepCursorPagesStableWhileInserting() {
+    // Given
+    repository.save(transaction("tx-1", BASE_TIME));
+    repository.save(transaction("tx-2", BASE_TIME.plus(Duration.ofMinutes(1))));
+    TransactionCursor cursor = TransactionCursor.after(repository.findAll(0, 1).get(0));
+
+    // When
+    repository.save(transaction("tx-3", BASE_TIME.plus(Duration.ofMinutes(2))));
+
+    // Then
+    assertThat(repository.findAfter(cursor, 10))
+        .extracting(Transaction::getId)
+        .containsExactly("tx-1");
+  }
+
+  @Test
+  void shouldReturnPageAndTotalTogether() {
+    // Given
+    for (int i = 0; i < 5; i++) {
+      repository.save(transaction("tx-" + i, BASE_TIME.plus(Duration.ofMinutes(i))));
+    }
+
+    // When
+    TransactionSlice slice = repository.findAllWithTotal(1, 2);
+
+    // Then
+    assertThat(slice.transactions()).extracting(Transaction::getId).containsExactly("tx-3", "tx-2");
+    assertThat(slice.total()).isEqualTo(5);
+  }
+
+  @Test
+  void shouldKeepIndexSnapshotUnchangedByLaterWrites() {
+    // Given
+    TransactionCreatedAtIndex index = new TransactionCreatedAtIndex();
+    Transaction first = transaction("tx-1", BASE_TIME);
+    index.insert(first);
+    index.insert(transaction("tx-2", BASE_TIME.plus(Duration.ofMinutes(1))));
+    TransactionCreatedAtIndex snapshot = index.snapshot();
+
+    // When
+    index.insert(transaction("tx-3", BASE_TIME.plus(Duration.ofMinutes(2))));
+    index.remove(first);
+
+    // Then
+    assertThat(snapshot.page(0, 10)).extracting(Transaction::getId).containsExactly("tx-2", "tx-1");
+    assertThat(index.page(0, 10)).extracting(Transaction::getId).containsExactly("tx-3", "tx-2");
+  }
+
+  @Test
+  void shouldServeConsistentPagesWhileWritersRun() throws Exception {
+    // Given
+    int writers = 4;
+    int writesPerThread = 2_000;
+    ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+    try {
+      List<Future<?>> writes = new ArrayList<>();
+      for (int w = 0; w < writers; w++) {
+        int thread = w;
+        writes.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < writesPerThread; i++) {
+                    repository.save(transaction("tx-" + thread + "-" + i, BASE_TIME.plusMillis(i)));
+                  }
+                }));
+      }
+
+      // When
+      Future<Integer> reads =
+          executor.submit(
+              () -> {
+                int checked = 0;
+                while (writes.stream().anyMatch(write -> !write.isDone())) {
+                  TransactionSlice slice = repository.findAllWithTotal(0, 50);
+                  assertThat(slice.transactions())
+                      .isSortedAccordingTo(TransactionCreatedAtIndex.ORDER);
+                  assertThat(slice.total()).isGreaterThanOrEqualTo(slice.transactions().size());
+                  checked++;
+                }
+                return checked;
+              });
+      for (Future<?> write : writes) {
+        write.get();
+      }
+
+      // Then
+      assertThat(reads.get()).isPositive();
+      assertThat(repository.findAllWithTotal(0, 1).total()).isEqualTo(writers * writesPerThread);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void shouldSaveBatchInOneCall() {
+    // Given
+    repository.save(transaction("tx-1", BASE_TIME));
+    List<Transaction> batch =
+        List.of(
+            transaction("tx-1", BASE_TIME.plus(Duration.ofMinutes(3))),
+            transaction("tx-2", BASE_TIME.plus(Duration.ofMinutes(1))),
+            transaction("tx-3", BASE_TIME.plus(Duration.ofMinutes(2))));
+
+    // When
+    List<Transaction> saved = repository.saveAll(batch);
+
+    // Then
+    assertThat(saved).containsExactlyElementsOf(batch);
+    assertThat(repository.count()).isEqualTo(3);
+    assertThat(repository.findAll(0, 10))
+        .extracting(Transaction::getId)
+        .containsExactly("tx-1", "tx-3", "tx-2");
+  }
+
+  @Test
+  void shouldStreamAllInChunks() {
+    // Given
+    for (int i = 0; i < 100; i++) {
+      repository.save(transaction("tx-" + i, BASE_TIME.plusSeconds(i % 7)));
+    }
+
+    // When
+    List<Transaction> streamed;
+    try (Stream<Transaction> stream = repository.streamAll(9)) {
+      streamed = stream.toList();
+    }
+
+    // Then
+    assertThat(streamed).containsExactlyElementsOf(repository.findAll(0, 100));
+  }
+
+  @Test
+  void shouldReturnEmptyPageBeyondEnd() {
+    // Given
+    repository.save(transaction("tx-1", BASE_TIME));
+
+    // When/Then
+    assertThat(repository.findAll(5, 10)).isEmpty();
+  }
+
+  @Test
+  void shouldPageAccountHistorySentAndReceived() {
+    // Given
+    repository.save(transfer("tx-1", BASE_TIME, "ACC-AAAAAAAA", "ACC-BBBBBBBB"));
+    repository.save(transfer("tx-2", BASE_TIME.plusSeconds(1), "ACC-BBBBBBBB", "ACC-CCCCCCCC"));
+    repository.save(transfer("tx-3", BASE_TIME.plusSeconds(2), "ACC-CCCCCCCC", "ACC-AAAAAAAA"));
+    repository.save(transfer("tx-4", BASE_TIME.plusSeconds(2), "ACC-AAAAAAAA", "ACC-AAAAAAAA"));
+    repository.save(transfer("tx-5", BASE_TIME.plusSeconds(3), "ACC-AAAAAAAA", "ACC-CCCCCCCC"));
+
+    // When
+    List<Transaction> walked = new ArrayList<>();
+    TransactionCursor cursor = null;
+    List<Transaction> page;
+    do {
+      page = repository.findByAccountAfter("ACC-AAAAAAAA", cursor, 2);
+      walked.addAll(page);
+      cursor = page.isEmpty() ? cursor : TransactionCursor.after(page.get(page.size() - 1));
+    } while (!page.isEmpty());
+
+    // Then
+    assertThat(walked)
+        .extracting(Transaction::getId)
+        .containsExactly("tx-5", "tx-4", "tx-3", "tx-1");
+    assertThat(repository.findByAccountAfter("ACC-DDDDDDDD", null, 10)).isEmpty();
+    assertThat(repository.indexSize("origin-account")).isEqualTo(3);
+    assertThat(repository.indexSize("destination-account")).isEqualTo(3);
+  }
+
+  @Test
+  void shouldMoveReplacedTransactionBetweenAccounts() {
+    // Given
+    repository.save(transfer("tx-1", BASE_TIME, "ACC-AAAAAAAA", "ACC-BBBBBBBB"));
+
+    // When
+    repository.save(transfer("tx-1", BASE_TIME, "ACC-CCCCCCCC", "ACC-BBBBBBBB"));
+
+    // Then
+    assertThat(repository.findByAccountAfter("ACC-AAAAAAAA", null, 10)).isEmpty();
+    assertThat(repository.findByAccountAfter("ACC-CCCCCCCC", null, 10)).hasSize(1);
+    assertThat(repository.findByAccountAfter("ACC-BBBBBBBB", null, 10)).hasSize(1);
+    assertThat(repository.indexSize("origin-account")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldPageFilteredListingsLikeAFullScan() {
+    // Given
+    List<Transaction> all = new ArrayList<>();
+    for (int i = 0; i < 600; i++) {
+      Transaction transaction = varied(i);
+      repository.save(transaction);
+      all.add(transaction);
+    }
+    all.sort(TransactionCreatedAtIndex.ORDER);
+    List<TransactionFilter> filters =
+        List.of(
+            TransactionFilter.builder().statuses(Set.of(TransactionStatus.FAILED)).build(),
+            TransactionFilter.builder().currency("eur").build(),
+            TransactionFilter.builder()
+                .currency("USD")
+                .minAmount(new BigDecimal("10.00"))
+                .maxAmount(new BigDecimal("12.00"))
+                .build(),
+            TransactionFilter.builder()
+                .statuses(Set.of(TransactionStatus.PENDING, TransactionStatus.COMPLETED))
+                .currency("GBP")
+                .createdFrom(BASE_TIME.plusSeconds(100))
+                .createdTo(BASE_TIME.plusSeconds(400))
+                .build(),
+            TransactionFilter.builder()
+                .createdFrom(BASE_TIME.plusSeconds(250))
+                .createdTo(BASE_TIME.plusSeconds(260))
+                .build());
+
+    for (TransactionFilter filter : filters) {
+      // When
+      List<Transaction> walked = new ArrayList<>();
+      TransactionCursor cursor = null;
+      List<Transaction> page;
+      do {
+        page = repository.findMatchingAfter(filter, cursor, 7);
+        walked.addAll(page);
+        cursor = page.isEmpty() ? cursor : TransactionCursor.after(page.get(page.size() - 1));
+      } while (page.size() == 7);
+
+      // Then
+      assertThat(walked)
+          .isNotEmpty()
+          .containsExactlyElementsOf(all.stream().filter(filter::matches).toList());
+    }
+  }
+
+  @Test
+  void shouldPlanTheMostSelectiveIndex() {
+    // Given
+    TransactionCreatedAtIndex createdAt = new TransactionCreatedAtIndex();
+    TransactionFilterIndex index = new TransactionFilterIndex(createdAt);
+    for (int i = 0; i < 1000; i++) {
+      Transaction transaction =
+          i % 200 == 0
+              ? Transaction.createPending(
+                      "tx-" + i,
+                      Money.of(new BigDecimal("99.00"), "EUR"),
+                      "ACC-12345678",
+                      "ACC-87654321",
+                      BASE_TIME.plusSeconds(i))
+                  .fail()
+              : transaction("tx-" + i, BASE_TIME.plusSeconds(i));
+      createdAt.insert(transaction);
+      index.insert(transaction);
+    }
+
+    // When/Then
+    assertThat(plan(index, TransactionFilter.builder().statuses(Set.of(TransactionStatus.FAILED))))
+        .isEqualTo(Access.STATUS);
+    assertThat(plan(index, TransactionFilter.builder().currency("USD")))
+        .isEqualTo(Access.CREATED_AT);
+    assertThat(
+            plan(
+                index,
+                TransactionFilter.builder()
+                    .statuses(Set.of(TransactionStatus.PENDING))
+                    .currency("EUR")))
+        .isEqualTo(Access.CURRENCY);
+    assertThat(
+            plan(
+                index,
+                TransactionFilter.builder()
+                    .currency("USD")
+                    .minAmount(new BigDecimal("10.01"))
+                    .maxAmount(new BigDecimal("20.00"))))
+        .isEqualTo(Access.AMOUNT);
+    assertThat(
+            index
+                .plan(
+                    TransactionFilter.builder()
+                        .statuses(Set.of(TransactionStatus.FAILED))
+                        .createdFrom(BASE_TIME.plusSeconds(998))
+                        .build(),
+                    null,
+                    20)
+                .access())
+        .isEqualTo(Access.CREATED_AT);
+  }
+
+  @Test
+  void shouldProbeInListingOrderWhenRowsArriveOutOfOrder() {
+    // Given - one transaction in 50 fails, and one in seven is saved after newer ones
+    TransactionCreatedAtIndex createdAt = new TransactionCreatedAtIndex();
+    TransactionFilterIndex index = new TransactionFilterIndex(createdAt);
+    List<Transaction> failed = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      int second = i % 7 == 0 ? i - 50 : i;
+      Transaction transaction = transaction("tx-" + i, BASE_TIME.plusSeconds(second));
+      if (i % 50 == 0) {
+        transaction = transaction.fail();
+        failed.add(transaction);
+      }
+      createdAt.insert(transaction);
+      index.insert(transaction);
+    }
+    failed.sort(TransactionCreatedAtIndex.ORDER);
+    TransactionFilter filter =
+        TransactionFilter.builder().statuses(Set.of(TransactionStatus.FAILED)).build();
+
+    // When
+    Access access = index.plan(filter, null, 3).access();
+    List<Transaction> walked = new ArrayList<>();
+    TransactionCursor cursor = null;
+    List<Transaction> page;
+    do {
+      page = index.find(filter, cursor, 3);
+      walked.addAll(page);
+      cursor = page.isEmpty() ? cursor : TransactionCursor.after(page.get(page.size() - 1));
+    } while (!page.isEmpty());
+
+    // Then
+    assertThat(access).isEqualTo(Access.STATUS);
+    assertThat(walked).containsExactlyElementsOf(failed);
+  }
+
+  @Test
+  void shouldKeepFilterRowsInListingOrderAfterRecoveringFromSnapshot(@TempDir Path directory) {
+    // Given - a snapshot every 1000 writes, so most rows are recovered from snapshots
+    InMemoryTransactionRepositoryAdapter first =
+        new InMemoryTransactionRepositoryAdapter(
+            TransactionJournal.open(directory, DurabilityMode.NONE, Duration.ofMillis(5), 1000));
+    for (int i = 0; i < 5000; i++) {
+      first.save(transaction("tx-" + i, BASE_TIME.plusSeconds(i)));
+    }
+    first.close();
+
+    // When
+    InMemoryTransactionRepositoryAdapter recovered =
+        new InMemoryTransactionRepositoryAdapter(
+            TransactionJournal.open(directory, DurabilityMode.NONE, Duration.ofMillis(5), 1000));
+
+    // Then
+    assertThat(recovered.count()).isEqualTo(5000);
+    assertThat(recovered.displacedRows()).isZero();
+    recovered.close();
+  }
+
+  @Test
+  void shouldReindexStatusWhenTransactionIsReplaced() {
+    // Given
+    Transaction pending = transaction("tx-1", BASE_TIME);
+    repository.save(pending);
+    TransactionFilter completed =
+        TransactionFilter.builder().statuses(Set.of(TransactionStatus.COMPLETED)).build();
+    TransactionFilter stillPending =
+        TransactionFilter.builder().statuses(Set.of(TransactionStatus.PENDING)).build();
+
+    // When
+    repository.save(pending.complete());
+
+    // Then
+    assertThat(repository.findMatchingAfter(completed, null, 10))
+        .extracting(Transaction::getId)
+        .containsExactly("tx-1");
+    assertThat(repository.findMatchingAfter(stillPending, null, 10)).isEmpty();
+    assertThat(repository.indexSize("status")).isEqualTo(1);
+  }
+
+  private static Access plan(TransactionFilterIndex index, TransactionFilter.Builder filter) {
+    return index.plan(filter.build(), null, 20).access();
+  }
+
+  // Spreads statuses, currencies, amounts and creation times so every criterion is selective
+  private Transaction varied(int i) {
+    String currency = List.of("USD", "EUR", "GBP").get(i % 3);
+    Transaction pending =
+        Transaction.createPending(
+            "tx-" + i,
+            Money.ofMinor(500 + (i * 37L) % 1500, currency),
+            "ACC-12345678",
+            "ACC-87654321",
+            BASE_TIME.plusSeconds(i / 2));
+    return switch (i % 7) {
+      case 0 -> pending.fail();
+      case 1, 2, 3 -> pending.complete();
+      default -> pending;
+    };
+  }
+
+  private Transaction transaction(String id, Instant createdAt) {
+    return Transaction.createPending(
+        id, Money.of(new BigDecimal("10.00"), "USD"), "ACC-12345678", "ACC-87654321", createdAt);
+  }
+
+  private Transaction transfer(String id, Instant createdAt, String origin, String destination) {
+    return Transaction.createPending(
+        id, Money.of(new BigDecimal("10.00"), "USD"), origin, destination, createdAt);
+  }
+}
@@ -0,0 +1,107 @@
+package com.example.transactions.infrastructure.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.transactions.domain.shared.valueobjects.Money;
+import com.example.transactions.domain.transaction.model.Transaction;
+
+class ReactiveTransactionRepositoryAdapterTest {
+
+  private static final Instant BASE_TIME = Instant.parse("2025-01-01T12:00:00Z");
+
+  private final ExecutorService workerPool =
+      Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "test-worker"));
+
+  @AfterEach
+  void tearDown() {
+    workerPool.shutdownNow();
+  }
+
+  @Test
+  void shouldRunInlineForNonBlockingAdapter() {
+    // Given
+    InMemoryTransactionRepositoryAdapter delegate = new InMemoryTransactionRepositoryAdapter();
+    ReactiveTransactionRepositoryAdapter repository =
+        new ReactiveTransactionRepositoryAdapter(delegate, workerPool);
+    AtomicReference<String> thread = new AtomicReference<>();
+
+    // When
+    repository
+        .save(transaction("tx-1", BASE_TIME))
+        .invoke(() -> thread.set(Thread.currentThread().getName()))
+        .await()
+        .indefinitely();
+
+    // Then
+    assertThat(thread.get()).isEqualTo(Thread.currentThread().getName());
+    assertThat(repository.findById("tx-1").await().indefinitely()).isPresent();
+  }
+
+  @Test
+  void shouldOffloadBlockingAdapterToWorkerPool() {
+    // Given
+    InMemoryTransactionRepositoryAdapter delegate =
+        new InMemoryTransactionRepositoryAdapter() {
+          @Override
+          public boolean isNonBlocking() {
+            return false;
+          }
+        };
+    ReactiveTransactionRepositoryAdapter repository =
+        new ReactiveTransactionRepositoryAdapter(delegate, workerPool);
+    AtomicReference<String> thread = new AtomicReference<>();
+
+    // When
+    long count =
+        repository
+            .count()
+            .invoke(() -> thread.set(Thread.currentThread().getName()))
+            .await()
+            .indefinitely();
+
+    // Then
+    assertThat(count).isZero();
+    assertThat(thread.get()).isEqualTo("test-worker");
+  }
+
+  @Test
+  void shouldStreamOnDemand() {
+    // Given
+    InMemoryTransactionRepositoryAdapter delegate = new InMemoryTransactionRepositoryAdapter();
+    for (int i = 0; i < 25; i++) {
+      delegate.save(transaction("tx-" + i, BASE_TIME.plusSeconds(i)));
+    }
+    ReactiveTransactionRepositoryAdapter repository =
+        new ReactiveTransactionRepositoryAdapter(delegate, workerPool);
+
+    // When
+    AssertSubscriber<Transaction> subscriber =
+        repository.streamAll(4).subscribe().withSubscriber(AssertSubscriber.create(3));
+
+    // Then
+    subscriber.assertItems(
+        delegate.findAll(0, 3).get(0),
+        delegate.findAll(0, 3).get(1),
+        delegate.findAll(0, 3).get(2));
+    subscriber.request(100).assertCompleted();
+    List<Transaction> all = subscriber.getItems();
+    assertThat(all).containsExactlyElementsOf(delegate.findAll(0, 25));
+  }
+
+  private Transaction transaction(String id, Instant createdAt) {
+    return Transaction.createPending(
+        id, Money.of(new BigDecimal("10.00"), "USD"), "ACC-12345678", "ACC-87654321", createdAt);
+  }
+}
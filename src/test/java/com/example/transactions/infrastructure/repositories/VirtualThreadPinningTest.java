@@ -0,0 +1,144 @@
+package com.example.transactions.infrastructure.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.transactions.domain.shared.valueobjects.Money;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.ports.TransactionRepositoryPort;
+import com.example.transactions.infrastructure.repositories.journal.DurabilityMode;
+import com.example.transactions.infrastructure.repositories.journal.TransactionJournal;
+import com.example.transactions.infrastructure.repositories.offheap.OffHeapTransactionRepositoryAdapter;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Checks that the adapters never pin a virtual thread to its carrier.
+ *
+ * <p>A virtual thread that blocks while holding a monitor keeps its carrier thread blocked, which
+ * silently caps concurrency in virtual-thread mode. JFR reports every park inside a monitor (I/O,
+ * sleeps, j.u.c. locks) as {@code jdk.VirtualThreadPinned}; with the threshold at zero any
+ * occurrence fails. {@code Object.wait} and contended monitor entry pin without an event on JDK 21,
+ * so the adapter sources are also checked for monitors directly.
+ */
+class VirtualThreadPinningTest {
+
+  private static final Instant BASE_TIME = Instant.parse("2025-01-01T12:00:00Z");
+  private static final int THREADS = 200;
+  private static final int WRITES_PER_THREAD = 20;
+  private static final Pattern MONITOR_USAGE =
+      Pattern.compile("\\bsynchronized\\b|\\.wait\\(|\\.notify(All)?\\(");
+
+  @TempDir Path journalDirectory;
+
+  @Test
+  void journaledInMemoryAdapterShouldNotPin() throws Exception {
+    InMemoryTransactionRepositoryAdapter repository =
+        new InMemoryTransactionRepositoryAdapter(
+            TransactionJournal.open(
+                journalDirectory, DurabilityMode.SYNC, Duration.ofMillis(10), 500));
+    try {
+      assertThat(pinnedEventsWhileHammering(repository)).isEmpty();
+    } finally {
+      repository.close();
+    }
+  }
+
+  @Test
+  void offHeapAdapterShouldNotPin() throws Exception {
+    OffHeapTransactionRepositoryAdapter repository = new OffHeapTransactionRepositoryAdapter();
+    try {
+      assertThat(pinnedEventsWhileHammering(repository)).isEmpty();
+    } finally {
+      repository.clear();
+    }
+  }
+
+  @Test
+  void repositorySourcesShouldNotUseMonitors() throws IOException {
+    Path sources = Path.of("src/main/java/com/example/transactions/infrastructure/repositories");
+    List<String> offenders;
+    try (Stream<Path> files = Files.walk(sources)) {
+      offenders =
+          files
+              .filter(file -> file.toString().endsWith(".java"))
+              .filter(file -> MONITOR_USAGE.matcher(read(file)).find())
+              .map(file -> sources.relativize(file).toString())
+              .toList();
+    }
+    assertThat(offenders).isEmpty();
+  }
+
+  private List<String> pinnedEventsWhileHammering(TransactionRepositoryPort repository)
+      throws Exception {
+    List<String> pinned = new CopyOnWriteArrayList<>();
+    try (RecordingStream recording = new RecordingStream()) {
+      recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+      recording.onEvent("jdk.VirtualThreadPinned", event -> pinned.add(describe(event)));
+      recording.startAsync();
+
+      try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        List<Future<?>> futures =
+            IntStream.range(0, THREADS)
+                .<Future<?>>mapToObj(
+                    thread ->
+                        executor.submit(
+                            () -> {
+                              for (int i = 0; i < WRITES_PER_THREAD; i++) {
+                                repository.save(transaction("tx-" + thread + "-" + i, i));
+                                repository.findAfter(null, 10);
+                              }
+                            }))
+                .toList();
+        for (Future<?> future : futures) {
+          future.get();
+        }
+      }
+      recording.stop();
+    }
+    assertThat(repository.count()).isEqualTo((long) THREADS * WRITES_PER_THREAD);
+    return pinned;
+  }
+
+  private static String read(Path file) {
+    try {
+      return Files.readString(file);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String describe(RecordedEvent event) {
+    return event.getStackTrace() != null
+        ? event.getStackTrace().getFrames().get(0).getMethod().getName()
+        : event.toString();
+  }
+
+  private static Transaction transaction(String id, int second) {
+    return Transaction.createPending(
+        id,
+        Money.of(new BigDecimal("10.00"), "USD"),
+        "ACC-12345678",
+        "ACC-87654321",
+        BASE_TIME.plusSeconds(second));
+  }
+}
@@ -0,0 +1,145 @@
+package com.example.transactions.infrastructure.repositories.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.transactions.domain.shared.valueobjects.Money;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionStatus;
+import com.example.transactions.infrastructure.repositories.InMemoryTransactionRepositoryAdapter;
+
+class CachingTransactionRepositoryAdapterTest {
+
+  private static final Instant BASE_TIME = Instant.parse("2025-01-01T12:00:00Z");
+
+  private CountingRepository delegate;
+  private AtomicLong nanos;
+  private CachingTransactionRepositoryAdapter repository;
+
+  @BeforeEach
+  void setUp() {
+    delegate = new CountingRepository();
+    nanos = new AtomicLong();
+    repository =
+        new CachingTransactionRepositoryAdapter(
+            delegate,
+            new TestCacheConfig(100, Duration.ofSeconds(30), Duration.ofMinutes(10)),
+            nanos::get);
+  }
+
+  @Test
+  void shouldServeRepeatedLookupsFromCache() {
+    // Given
+    repository.save(transaction("tx-1"));
+
+    // When
+    repository.findById("tx-1");
+    repository.findById("tx-1");
+    Optional<Transaction> found = repository.findById("tx-1");
+
+    // Then
+    assertThat(found).isPresent();
+    assertThat(delegate.lookups.get()).isEqualTo(1);
+    assertThat(repository.stats().hitCount()).isEqualTo(2);
+    assertThat(repository.stats().missCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldInvalidateOnSave() {
+    // Given
+    Transaction pending = transaction("tx-1");
+    repository.save(pending);
+    repository.findById("tx-1");
+
+    // When
+    repository.save(pending.complete());
+
+    // Then
+    assertThat(repository.findById("tx-1"))
+        .get()
+        .extracting(Transaction::getStatus)
+        .isEqualTo(TransactionStatus.COMPLETED);
+    assertThat(delegate.lookups.get()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldInvalidateOnSaveAll() {
+    // Given
+    repository.saveAll(List.of(transaction("tx-1"), transaction("tx-2")));
+    repository.findById("tx-1");
+    repository.findById("tx-2");
+
+    // When
+    repository.saveAll(List.of(transaction("tx-1").fail(), transaction("tx-2").complete()));
+
+    // Then
+    assertThat(repository.findById("tx-1").map(Transaction::getStatus))
+        .contains(TransactionStatus.FAILED);
+    assertThat(repository.findById("tx-2").map(Transaction::getStatus))
+        .contains(TransactionStatus.COMPLETED);
+    assertThat(delegate.lookups.get()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldNotCacheMissingIds() {
+    // When
+    repository.findById("missing");
+    repository.save(transaction("missing"));
+
+    // Then
+    assertThat(repository.findById("missing")).isPresent();
+    assertThat(repository.estimatedSize()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldKeepFinalTransactionsLongerThanPendingOnes() {
+    // Given
+    repository.save(transaction("tx-pending"));
+    repository.save(transaction("tx-final").complete());
+    repository.findById("tx-pending");
+    repository.findById("tx-final");
+
+    // When
+    nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+    repository.findById("tx-pending");
+    repository.findById("tx-final");
+
+    // Then
+    assertThat(delegate.lookups.get()).isEqualTo(3);
+  }
+
+  private Transaction transaction(String id) {
+    return Transaction.createPending(
+        id, Money.of(new BigDecimal("10.00"), "USD"), "ACC-12345678", "ACC-87654321", BASE_TIME);
+  }
+
+  private static final class CountingRepository extends InMemoryTransactionRepositoryAdapter {
+
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    @Override
+    public Optional<Transaction> findById(String id) {
+      lookups.incrementAndGet();
+      return super.findById(id);
+    }
+  }
+
+  private record TestCacheConfig(long maximumSize, Duration ttl, Duration finalTtl)
+      implements CacheConfig {
+
+    @Override
+    public boolean enabled() {
+      return true;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.example.transactions.infrastructure.repositories.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.transactions.domain.shared.valueobjects.Money;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.infrastructure.jfr.RepositoryCallEvent;
+import com.example.transactions.infrastructure.repositories.InMemoryTransactionRepositoryAdapter;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class FlightRecorderTransactionRepositoryAdapterTest {
+
+  private static final Instant BASE_TIME = Instant.parse("2025-01-01T12:00:00Z");
+
+  @Test
+  void shouldRecordRepositoryCallsWithRowCounts() throws Exception {
+    // Given
+    FlightRecorderTransactionRepositoryAdapter repository =
+        new FlightRecorderTransactionRepositoryAdapter(
+            new InMemoryTransactionRepositoryAdapter(), "in-memory");
+    Path file = Files.createTempFile("repository-", ".jfr");
+
+    try (Recording recording = new Recording()) {
+      recording.enable(RepositoryCallEvent.class);
+      recording.start();
+
+      // When
+      repository.save(transaction("tx-1"));
+      repository.save(transaction("tx-2"));
+      repository.findAll(0, 10);
+      repository.findById("missing");
+      recording.stop();
+      recording.dump(file);
+
+      // Then
+      List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+      assertThat(events)
+          .extracting(e -> e.getString("method"))
+          .containsExactly("save", "save", "findAll", "findById");
+      RecordedEvent findAll = events.get(2);
+      assertThat(findAll.getInt("rows")).isEqualTo(2);
+      assertThat(findAll.getString("adapter")).isEqualTo("in-memory");
+      assertThat(findAll.getBoolean("failed")).isFalse();
+      assertThat(events.get(3).getInt("rows")).isZero();
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private Transaction transaction(String id) {
+    return Transaction.createPending(
+        id, Money.of(new BigDecimal("10.00"), "USD"), "ACC-12345678", "ACC-87654321", BASE_TIME);
+  }
+}
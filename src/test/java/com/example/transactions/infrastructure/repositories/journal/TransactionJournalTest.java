@@ -0,0 +1,177 @@
+package com.example.transactions.infrastructure.repositories.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.transactions.domain.shared.valueobjects.Money;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionStatus;
+import com.example.transactions.infrastructure.repositories.InMemoryTransactionRepositoryAdapter;
+
+class TransactionJournalTest {
+
+  private static final Instant BASE_TIME = Instant.parse("2025-01-01T12:00:00.987654Z");
+
+  @TempDir Path directory;
+
+  @Test
+  void shouldRecoverWritesAfterRestart() {
+    // Given
+    InMemoryTransactionRepositoryAdapter first = open(DurabilityMode.SYNC, 1_000);
+    Transaction pending = transaction("tx-1", BASE_TIME);
+    first.save(pending);
+    first.save(transaction("tx-2", BASE_TIME.plus(Duration.ofMinutes(1))));
+    first.save(pending.complete());
+    first.close();
+
+    // When
+    InMemoryTransactionRepositoryAdapter recovered = open(DurabilityMode.SYNC, 1_000);
+
+    // Then
+    assertThat(recovered.count()).isEqualTo(2);
+    Transaction restored = recovered.findById("tx-1").orElseThrow();
+    assertThat(restored.getStatus()).isEqualTo(TransactionStatus.COMPLETED);
+    assertThat(restored.getAmount()).isEqualTo(Money.of(new BigDecimal("10.25"), "USD"));
+    assertThat(restored.getCreatedAt()).isEqualTo(BASE_TIME);
+    assertThat(recovered.findAll(0, 10))
+        .extracting(Transaction::getId)
+        .containsExactly("tx-2", "tx-1");
+  }
+
+  @Test
+  void shouldRecoverFromSnapshotAndLogTail() throws Exception {
+    // Given - snapshots every 10 writes, then a tail that is only in the log
+    InMemoryTransactionRepositoryAdapter first = open(DurabilityMode.NONE, 10);
+    for (int i = 0; i < 25; i++) {
+      first.save(transaction("tx-" + i, BASE_TIME.plusSeconds(i)));
+    }
+    first.close();
+
+    // Then - older segments were compacted away
+    try (Stream<Path> files = Files.list(directory)) {
+      assertThat(files.map(file -> file.getFileName().toString()))
+          .anyMatch(name -> name.startsWith("snapshot-"))
+          .noneMatch(name -> name.equals("wal-000000000000.log"));
+    }
+
+    // When
+    InMemoryTransactionRepositoryAdapter recovered = open(DurabilityMode.NONE, 10);
+
+    // Then
+    assertThat(recovered.count()).isEqualTo(25);
+    assertThat(recovered.findAll(0, 1).get(0).getId()).isEqualTo("tx-24");
+  }
+
+  @Test
+  void shouldTruncateTornTail() throws IOException {
+    // Given
+    InMemoryTransactionRepositoryAdapter first = open(DurabilityMode.SYNC, 1_000);
+    first.save(transaction("tx-1", BASE_TIME));
+    first.save(transaction("tx-2", BASE_TIME.plusSeconds(1)));
+    first.close();
+    Path segment = directory.resolve("wal-000000000000.log");
+    try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+      channel.truncate(channel.size() - 3);
+    }
+
+    // When
+    InMemoryTransactionRepositoryAdapter recovered = open(DurabilityMode.SYNC, 1_000);
+    recovered.save(transaction("tx-3", BASE_TIME.plusSeconds(2)));
+    recovered.close();
+
+    // Then - the torn record is dropped and later writes survive another restart
+    InMemoryTransactionRepositoryAdapter again = open(DurabilityMode.SYNC, 1_000);
+    assertThat(again.existsById("tx-1")).isTrue();
+    assertThat(again.existsById("tx-2")).isFalse();
+    assertThat(again.existsById("tx-3")).isTrue();
+  }
+
+  @Test
+  void shouldGroupCommitConcurrentSaves() throws Exception {
+    // Given
+    InMemoryTransactionRepositoryAdapter repository = open(DurabilityMode.SYNC, 100_000);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    // When
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      int thread = t;
+      futures.add(
+          executor.submit(
+              () -> {
+                for (int i = 0; i < 50; i++) {
+                  repository.save(transaction("tx-" + thread + "-" + i, BASE_TIME.plusSeconds(i)));
+                }
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+    repository.close();
+
+    // Then
+    assertThat(open(DurabilityMode.SYNC, 100_000).count()).isEqualTo(400);
+  }
+
+  @Test
+  void shouldSnapshotWhileConcurrentSavesKeepCommitting() throws Exception {
+    // Given - a snapshot is due every 25 writes while 8 threads wait on group commits
+    InMemoryTransactionRepositoryAdapter repository = open(DurabilityMode.SYNC, 25);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    // When
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      int thread = t;
+      futures.add(
+          executor.submit(
+              () -> {
+                for (int i = 0; i < 50; i++) {
+                  repository.save(transaction("tx-" + thread + "-" + i, BASE_TIME.plusSeconds(i)));
+                }
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+    repository.close();
+
+    // Then - every write survives, whichever side of a rotation it landed on
+    InMemoryTransactionRepositoryAdapter recovered = open(DurabilityMode.SYNC, 25);
+    assertThat(recovered.count()).isEqualTo(400);
+    assertThat(recovered.existsById("tx-7-49")).isTrue();
+    try (Stream<Path> files = Files.list(directory)) {
+      assertThat(files.map(file -> file.getFileName().toString()))
+          .anyMatch(name -> name.startsWith("snapshot-"));
+    }
+  }
+
+  private InMemoryTransactionRepositoryAdapter open(DurabilityMode mode, int snapshotEvery) {
+    return new InMemoryTransactionRepositoryAdapter(
+        TransactionJournal.open(directory, mode, Duration.ofMillis(5), snapshotEvery));
+  }
+
+  private Transaction transaction(String id, Instant createdAt) {
+    return Transaction.createPending(
+        id, Money.of(new BigDecimal("10.25"), "USD"), "ACC-12345678", "ACC-87654321", createdAt);
+  }
+}
@@ -0,0 +1,154 @@
+package com.example.transactions.infrastructure.repositories.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.transactions.domain.shared.valueobjects.Money;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.ports.TransactionRepositoryPort;
+import com.example.transactions.infrastructure.repositories.InMemoryTransactionRepositoryAdapter;
+import com.example.transactions.infrastructure.repositories.cache.CacheConfig;
+import com.example.transactions.infrastructure.repositories.cache.CachingTransactionRepositoryAdapter;
+
+class MeteredTransactionRepositoryAdapterTest {
+
+  private static final Instant BASE_TIME = Instant.parse("2025-01-01T12:00:00Z");
+
+  private SimpleMeterRegistry registry;
+  private InMemoryTransactionRepositoryAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    adapter = new InMemoryTransactionRepositoryAdapter();
+  }
+
+  @Test
+  void shouldTimeEachPortMethodTaggedByAdapter() {
+    // Given
+    MeteredTransactionRepositoryAdapter repository =
+        new MeteredTransactionRepositoryAdapter(adapter, registry, "in-memory");
+
+    // When
+    repository.save(transaction("tx-1"));
+    repository.findById("tx-1");
+    repository.findById("missing");
+    repository.findAll(0, 10);
+
+    // Then
+    assertThat(timer("save").count()).isEqualTo(1);
+    assertThat(timer("findById").count()).isEqualTo(2);
+    assertThat(timer("findAll").count()).isEqualTo(1);
+    assertThat(timer("count").count()).isZero();
+  }
+
+  @Test
+  void shouldReportRepositoryAndIndexSizes() {
+    // Given
+    new MeteredTransactionRepositoryAdapter(adapter, registry, "in-memory");
+
+    // When
+    adapter.save(transaction("tx-1"));
+    adapter.save(transaction("tx-2"));
+
+    // Then
+    assertThat(registry.get("transactions.repository.size").gauge().value()).isEqualTo(2.0);
+    assertThat(
+            registry
+                .get("transactions.repository.index.size")
+                .tag("index", "created-at")
+                .gauge()
+                .value())
+        .isEqualTo(2.0);
+    assertThat(registry.get("transactions.repository.index.size").gauges()).hasSize(7);
+  }
+
+  @Test
+  void shouldNotCountOnScrapeWhenAdapterHasNoIndexes() {
+    // Given
+    TransactionRepositoryPort database = mock(TransactionRepositoryPort.class);
+
+    // When
+    new MeteredTransactionRepositoryAdapter(database, registry, "oracle");
+
+    // Then
+    assertThat(registry.find("transactions.repository.size").gauge()).isNull();
+    assertThat(registry.find("transactions.repository.index.size").gauges()).isEmpty();
+    verifyNoInteractions(database);
+  }
+
+  @Test
+  void shouldReportCacheHitsAndIndexesBehindTheCache() {
+    // Given
+    CachingTransactionRepositoryAdapter cache =
+        new CachingTransactionRepositoryAdapter(adapter, new TestCacheConfig());
+    MeteredTransactionRepositoryAdapter repository =
+        new MeteredTransactionRepositoryAdapter(cache, registry, "in-memory");
+    repository.save(transaction("tx-1"));
+
+    // When
+    repository.findById("tx-1");
+    repository.findById("tx-1");
+
+    // Then
+    assertThat(cacheRequests("hit")).isEqualTo(1.0);
+    assertThat(cacheRequests("miss")).isEqualTo(1.0);
+    assertThat(registry.get("transactions.repository.cache.size").gauge().value()).isEqualTo(1.0);
+    assertThat(registry.get("transactions.repository.index.size").gauges()).hasSize(7);
+  }
+
+  private Timer timer(String method) {
+    return registry
+        .get(MeteredTransactionRepositoryAdapter.TIMER_NAME)
+        .tag("adapter", "in-memory")
+        .tag("method", method)
+        .timer();
+  }
+
+  private double cacheRequests(String result) {
+    return registry
+        .get("transactions.repository.cache.requests")
+        .tag("result", result)
+        .functionCounter()
+        .count();
+  }
+
+  private Transaction transaction(String id) {
+    return Transaction.createPending(
+        id, Money.of(new BigDecimal("10.00"), "USD"), "ACC-12345678", "ACC-87654321", BASE_TIME);
+  }
+
+  private record TestCacheConfig() implements CacheConfig {
+
+    @Override
+    public boolean enabled() {
+      return true;
+    }
+
+    @Override
+    public long maximumSize() {
+      return 100;
+    }
+
+    @Override
+    public Duration ttl() {
+      return Duration.ofSeconds(30);
+    }
+
+    @Override
+    public Duration finalTtl() {
+      return Duration.ofMinutes(10);
+    }
+  }
+}
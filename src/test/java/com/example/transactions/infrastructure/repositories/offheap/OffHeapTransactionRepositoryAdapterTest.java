@@ -0,0 +1,235 @@
+package com.example.transactions.infrastructure.repositories.offheap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.transactions.domain.shared.valueobjects.Money;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionCursor;
+import com.example.transactions.domain.transaction.model.TransactionFilter;
+import com.example.transactions.domain.transaction.model.TransactionStatus;
+import com.example.transactions.infrastructure.repositories.InMemoryTransactionRepositoryAdapter;
+
+class OffHeapTransactionRepositoryAdapterTest {
+
+  private static final Instant BASE_TIME = Instant.parse("2025-01-01T12:00:00.123456Z");
+
+  private OffHeapTransactionRepositoryAdapter repository;
+
+  @BeforeEach
+  void setUp() {
+    repository = new OffHeapTransactionRepositoryAdapter();
+  }
+
+  @Test
+  void shouldRoundTripAllFields() {
+    // Given
+    Transaction transaction =
+        new Transaction(
+            "tx-1",
+            Money.of(new BigDecimal("1234.50"), "EUR"),
+            "ACC-11111111",
+            "ACC-22222222",
+            TransactionStatus.COMPLETED,
+            BASE_TIME);
+
+    // When
+    repository.save(transaction);
+
+    // Then
+    Transaction stored = repository.findById("tx-1").orElseThrow();
+    assertThat(stored.getAmount()).isEqualTo(Money.of(new BigDecimal("1234.50"), "EUR"));
+    assertThat(stored.getCurrency()).isEqualTo("EUR");
+    assertThat(stored.getOriginAccountNumber()).isEqualTo("ACC-11111111");
+    assertThat(stored.getDestinationAccountNumber()).isEqualTo("ACC-22222222");
+    assertThat(stored.getStatus()).isEqualTo(TransactionStatus.COMPLETED);
+    assertThat(stored.getCreatedAt()).isEqualTo(BASE_TIME);
+    assertThat(repository.existsById("tx-1")).isTrue();
+    assertThat(repository.findById("tx-2")).isEmpty();
+  }
+
+  @Test
+  void shouldOverwriteExistingTransaction() {
+    // Given
+    Transaction pending = transaction("tx-1", BASE_TIME);
+    repository.save(pending);
+
+    // When
+    repository.save(pending.complete());
+
+    // Then
+    assertThat(repository.count()).isEqualTo(1);
+    assertThat(repository.findById("tx-1").orElseThrow().getStatus())
+        .isEqualTo(TransactionStatus.COMPLETED);
+  }
+
+  @Test
+  void shouldKeepRowIndexedWhenUpdateOverflowsDictionary() {
+    // Given
+    OffHeapTransactionStore store = new OffHeapTransactionStore(Short.MAX_VALUE, 2);
+    Transaction pending = transaction("tx-1", BASE_TIME);
+    store.put(pending);
+    Transaction moved =
+        new Transaction(
+            "tx-1",
+            pending.getAmount(),
+            "ACC-99999999",
+            pending.getDestinationAccountNumber(),
+            TransactionStatus.COMPLETED,
+            BASE_TIME.plusSeconds(1));
+
+    // When
+    assertThatThrownBy(() -> store.put(moved)).isInstanceOf(IllegalStateException.class);
+
+    // Then
+    Transaction stored = store.get("tx-1");
+    assertThat(stored.getStatus()).isEqualTo(TransactionStatus.PENDING);
+    assertThat(stored.getOriginAccountNumber()).isEqualTo("ACC-12345678");
+    assertThat(ids(store.page(0, 10))).containsExactly("tx-1");
+    assertThat(ids(store.byAccount("ACC-12345678", null, 10))).containsExactly("tx-1");
+    assertThat(ids(store.byAccount("ACC-87654321", null, 10))).containsExactly("tx-1");
+    store.clear();
+  }
+
+  @Test
+  void shouldMatchInMemoryOrderingAcrossChunks() {
+    // Given - enough rows to span several column chunks and resize the ID table
+    InMemoryTransactionRepositoryAdapter reference = new InMemoryTransactionRepositoryAdapter();
+    for (int i = 0; i < 70_000; i++) {
+      Transaction transaction = transaction("tx-" + i, BASE_TIME.plusSeconds(i % 997));
+      repository.save(transaction);
+      reference.save(transaction);
+    }
+
+    // When/Then
+    assertThat(repository.count()).isEqualTo(70_000);
+    assertThat(repository.findById("tx-69999")).isPresent();
+    for (int offset : new int[] {0, 1_000, 35_123, 69_990}) {
+      assertThat(repository.findAll(offset, 25))
+          .extracting(Transaction::getId)
+          .containsExactlyElementsOf(ids(reference.findAll(offset, 25)));
+    }
+  }
+
+  @Test
+  void shouldSeekAfterCursor() {
+    // Given
+    for (int i = 0; i < 50; i++) {
+      repository.save(transaction("tx-" + i, BASE_TIME.plusSeconds(i % 5)));
+    }
+    List<Transaction> expected = repository.findAll(0, 50);
+
+    // When
+    List<Transaction> walked = new ArrayList<>();
+    TransactionCursor cursor = null;
+    List<Transaction> page;
+    do {
+      page = repository.findAfter(cursor, 7);
+      walked.addAll(page);
+      cursor = page.isEmpty() ? cursor : TransactionCursor.after(page.get(page.size() - 1));
+    } while (!page.isEmpty());
+
+    // Then
+    assertThat(ids(walked)).containsExactlyElementsOf(ids(expected));
+  }
+
+  @Test
+  void shouldMatchInMemoryAccountHistory() {
+    // Given
+    InMemoryTransactionRepositoryAdapter reference = new InMemoryTransactionRepositoryAdapter();
+    for (int i = 0; i < 3_000; i++) {
+      String origin = "ACC-" + (10_000_000 + i % 7);
+      String destination = "ACC-" + (10_000_000 + i % 11);
+      Transaction transaction =
+          Transaction.createPending(
+              "tx-" + i,
+              Money.of(new BigDecimal("10.00"), "USD"),
+              origin,
+              destination,
+              BASE_TIME.plusSeconds(i % 13));
+      repository.save(transaction);
+      reference.save(transaction);
+    }
+    // Overwriting a row moves it to the new accounts' trees
+    Transaction moved =
+        Transaction.createPending(
+            "tx-0",
+            Money.of(new BigDecimal("10.00"), "USD"),
+            "ACC-99999999",
+            "ACC-10000000",
+            BASE_TIME.plusSeconds(100));
+    repository.save(moved);
+    reference.save(moved);
+
+    // When/Then
+    for (String account : List.of("ACC-10000000", "ACC-10000006", "ACC-10000010", "ACC-99999999")) {
+      TransactionCursor cursor = null;
+      List<Transaction> page;
+      do {
+        page = repository.findByAccountAfter(account, cursor, 50);
+        assertThat(ids(page))
+            .containsExactlyElementsOf(ids(reference.findByAccountAfter(account, cursor, 50)));
+        cursor = page.isEmpty() ? cursor : TransactionCursor.after(page.get(page.size() - 1));
+      } while (!page.isEmpty());
+    }
+    assertThat(repository.findByAccountAfter("ACC-UNKNOWN1", null, 10)).isEmpty();
+  }
+
+  @Test
+  void shouldMatchInMemoryFilteredPages() {
+    // Given
+    InMemoryTransactionRepositoryAdapter reference = new InMemoryTransactionRepositoryAdapter();
+    for (int i = 0; i < 3_000; i++) {
+      Transaction transaction =
+          Transaction.createPending(
+              "tx-" + i,
+              Money.ofMinor(100 + i % 97, i % 4 == 0 ? "EUR" : "USD"),
+              "ACC-12345678",
+              "ACC-87654321",
+              BASE_TIME.plusSeconds(i % 13));
+      transaction = i % 5 == 0 ? transaction.fail() : transaction;
+      repository.save(transaction);
+      reference.save(transaction);
+    }
+    List<TransactionFilter> filters =
+        List.of(
+            TransactionFilter.builder().statuses(Set.of(TransactionStatus.FAILED)).build(),
+            TransactionFilter.builder()
+                .currency("EUR")
+                .minAmount(new BigDecimal("1.20"))
+                .maxAmount(new BigDecimal("1.50"))
+                .createdTo(BASE_TIME.plusSeconds(8))
+                .build(),
+            TransactionFilter.builder().currency("JPY").build());
+
+    // When/Then
+    for (TransactionFilter filter : filters) {
+      TransactionCursor cursor = null;
+      List<Transaction> page;
+      do {
+        page = repository.findMatchingAfter(filter, cursor, 50);
+        assertThat(ids(page))
+            .containsExactlyElementsOf(ids(reference.findMatchingAfter(filter, cursor, 50)));
+        cursor = page.isEmpty() ? cursor : TransactionCursor.after(page.get(page.size() - 1));
+      } while (!page.isEmpty());
+    }
+  }
+
+  private Transaction transaction(String id, Instant createdAt) {
+    return Transaction.createPending(
+        id, Money.of(new BigDecimal("10.00"), "USD"), "ACC-12345678", "ACC-87654321", createdAt);
+  }
+
+  private List<String> ids(List<Transaction> transactions) {
+    return transactions.stream().map(Transaction::getId).toList();
+  }
+}
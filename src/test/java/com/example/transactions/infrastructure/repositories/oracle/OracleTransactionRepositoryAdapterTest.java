@@ -0,0 +1,278 @@
+package com.example.transactions.infrastructure.repositories.oracle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.transactions.domain.shared.valueobjects.Money;
+import com.example.transactions.domain.transaction.model.Transaction;
+import com.example.transactions.domain.transaction.model.TransactionCursor;
+import com.example.transactions.domain.transaction.model.TransactionFilter;
+import com.example.transactions.domain.transaction.model.TransactionSlice;
+import com.example.transactions.domain.transaction.model.TransactionStatus;
+
+/** Runs the adapter's SQL against H2 in Oracle compatibility mode with the Flyway schema. */
+class OracleTransactionRepositoryAdapterTest {
+
+  private static final Instant BASE_TIME = Instant.parse("2025-01-01T12:00:00Z");
+
+  private JdbcDataSource dataSource;
+  private OracleTransactionRepositoryAdapter repository;
+
+  @BeforeEach
+  void setUp() throws SQLException, IOException {
+    dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:transactions;MODE=Oracle;DB_CLOSE_DELAY=-1");
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      for (String sql : migrationStatements()) {
+        statement.execute(sql);
+      }
+    }
+    repository = new OracleTransactionRepositoryAdapter(dataSource, 50);
+  }
+
+  @AfterEach
+  void tearDown() throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("DROP ALL OBJECTS");
+    }
+  }
+
+  @Test
+  void shouldSaveAndFindById() {
+    // Given
+    Transaction transaction = transaction("tx-1", BASE_TIME.plusNanos(123_456_000));
+
+    // When
+    repository.save(transaction);
+
+    // Then
+    assertThat(repository.findById("tx-1")).contains(transaction);
+    assertThat(repository.findById("missing")).isEmpty();
+  }
+
+  @Test
+  void shouldUpdateExistingTransactionOnSave() {
+    // Given
+    Transaction pending = transaction("tx-1", BASE_TIME);
+    repository.save(pending);
+
+    // When
+    repository.save(pending.complete());
+
+    // Then
+    assertThat(repository.count()).isEqualTo(1);
+    assertThat(repository.findById("tx-1")).get().matches(Transaction::isFinal);
+  }
+
+  @Test
+  void shouldListNewestFirstWithIdTieBreak() {
+    // Given
+    repository.save(transaction("tx-b", BASE_TIME));
+    repository.save(transaction("tx-a", BASE_TIME));
+    repository.save(transaction("tx-c", BASE_TIME.plus(Duration.ofMinutes(1))));
+
+    // When
+    List<Transaction> page = repository.findAll(0, 10);
+
+    // Then
+    assertThat(page).extracting(Transaction::getId).containsExactly("tx-c", "tx-b", "tx-a");
+    assertThat(repository.findAll(1, 1)).extracting(Transaction::getId).containsExactly("tx-b");
+    assertThat(repository.findAfter(TransactionCursor.after(page.get(1)), 10))
+        .extracting(Transaction::getId)
+        .containsExactly("tx-a");
+  }
+
+  @Test
+  void shouldSeekAfterCursor() {
+    // Given
+    List<Transaction> batch = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      batch.add(transaction("tx-" + i, BASE_TIME.plusSeconds(i % 7)));
+    }
+    repository.saveAll(batch);
+    List<Transaction> expected = repository.findAll(0, 40);
+
+    // When
+    List<Transaction> walked = new ArrayList<>();
+    TransactionCursor cursor = null;
+    List<Transaction> page;
+    do {
+      page = repository.findAfter(cursor, 6);
+      walked.addAll(page);
+      cursor = page.isEmpty() ? cursor : TransactionCursor.after(page.get(page.size() - 1));
+    } while (!page.isEmpty());
+
+    // Then
+    assertThat(walked).hasSize(40).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  void shouldReturnPageAndTotalTogether() {
+    // Given
+    for (int i = 0; i < 5; i++) {
+      repository.save(transaction("tx-" + i, BASE_TIME.plus(Duration.ofMinutes(i))));
+    }
+
+    // When
+    TransactionSlice slice = repository.findAllWithTotal(1, 2);
+    TransactionSlice beyondEnd = repository.findAllWithTotal(10, 2);
+
+    // Then
+    assertThat(slice.transactions()).extracting(Transaction::getId).containsExactly("tx-3", "tx-2");
+    assertThat(slice.total()).isEqualTo(5);
+    assertThat(beyondEnd.transactions()).isEmpty();
+    assertThat(beyondEnd.total()).isEqualTo(5);
+  }
+
+  @Test
+  void shouldReturnKeysetPageAndTotalOfTheWholeTable() {
+    // Given
+    for (int i = 0; i < 5; i++) {
+      repository.save(transaction("tx-" + i, BASE_TIME.plus(Duration.ofMinutes(i))));
+    }
+    TransactionSlice first = repository.findAfterWithTotal(null, 2);
+
+    // When
+    TransactionSlice next =
+        repository.findAfterWithTotal(TransactionCursor.after(first.transactions().get(1)), 2);
+    TransactionSlice beyondEnd =
+        repository.findAfterWithTotal(TransactionCursor.after(transaction("tx-0", BASE_TIME)), 2);
+
+    // Then
+    assertThat(first.transactions()).extracting(Transaction::getId).containsExactly("tx-4", "tx-3");
+    assertThat(first.total()).isEqualTo(5);
+    assertThat(next.transactions()).extracting(Transaction::getId).containsExactly("tx-2", "tx-1");
+    assertThat(next.total()).isEqualTo(5);
+    assertThat(beyondEnd.transactions()).isEmpty();
+    assertThat(beyondEnd.total()).isEqualTo(5);
+  }
+
+  @Test
+  void shouldCheckExistenceAndCount() {
+    // Given
+    repository.saveAll(
+        List.of(
+            transaction("tx-1", BASE_TIME),
+            transaction("tx-2", BASE_TIME.plus(Duration.ofMinutes(1)))));
+
+    // When/Then
+    assertThat(repository.existsById("tx-2")).isTrue();
+    assertThat(repository.existsById("tx-3")).isFalse();
+    assertThat(repository.count()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldPageAccountHistoryFromBothIndexes() {
+    // Given
+    repository.saveAll(
+        List.of(
+            transfer("tx-1", BASE_TIME, "ACC-AAAAAAAA", "ACC-BBBBBBBB"),
+            transfer("tx-2", BASE_TIME.plusSeconds(1), "ACC-BBBBBBBB", "ACC-CCCCCCCC"),
+            transfer("tx-3", BASE_TIME.plusSeconds(2), "ACC-CCCCCCCC", "ACC-AAAAAAAA"),
+            transfer("tx-4", BASE_TIME.plusSeconds(2), "ACC-AAAAAAAA", "ACC-AAAAAAAA"),
+            transfer("tx-5", BASE_TIME.plusSeconds(3), "ACC-AAAAAAAA", "ACC-CCCCCCCC")));
+
+    // When
+    List<Transaction> first = repository.findByAccountAfter("ACC-AAAAAAAA", null, 3);
+    List<Transaction> second =
+        repository.findByAccountAfter("ACC-AAAAAAAA", TransactionCursor.after(first.get(2)), 3);
+
+    // Then
+    assertThat(first).extracting(Transaction::getId).containsExactly("tx-5", "tx-4", "tx-3");
+    assertThat(second).extracting(Transaction::getId).containsExactly("tx-1");
+    assertThat(repository.findByAccountAfter("ACC-DDDDDDDD", null, 3)).isEmpty();
+  }
+
+  @Test
+  void shouldFilterByStatusCurrencyAmountAndTime() {
+    // Given
+    repository.saveAll(
+        List.of(
+            transaction("tx-1", BASE_TIME),
+            transaction("tx-2", BASE_TIME.plusSeconds(1)).fail(),
+            Transaction.createPending(
+                "tx-3",
+                Money.of(new BigDecimal("250.00"), "EUR"),
+                "ACC-12345678",
+                "ACC-87654321",
+                BASE_TIME.plusSeconds(2)),
+            transaction("tx-4", BASE_TIME.plusSeconds(3)).fail()));
+    TransactionFilter failedUsd =
+        TransactionFilter.builder()
+            .statuses(Set.of(TransactionStatus.FAILED))
+            .currency("USD")
+            .maxAmount(new BigDecimal("10.00"))
+            .createdTo(BASE_TIME.plusSeconds(3))
+            .build();
+
+    // When
+    List<Transaction> first = repository.findMatchingAfter(failedUsd, null, 1);
+    List<Transaction> second =
+        repository.findMatchingAfter(failedUsd, TransactionCursor.after(first.get(0)), 1);
+
+    // Then
+    assertThat(first).extracting(Transaction::getId).containsExactly("tx-4");
+    assertThat(second).extracting(Transaction::getId).containsExactly("tx-2");
+    assertThat(
+            repository.findMatchingAfter(
+                TransactionFilter.builder()
+                    .currency("EUR")
+                    .minAmount(new BigDecimal("100"))
+                    .createdFrom(BASE_TIME.plusSeconds(1))
+                    .build(),
+                null,
+                10))
+        .extracting(Transaction::getId)
+        .containsExactly("tx-3");
+  }
+
+  private static List<String> migrationStatements() throws IOException {
+    List<String> statements = new ArrayList<>();
+    for (String migration :
+        List.of(
+            "V1__create_transactions_table.sql",
+            "V2__index_transactions_by_account.sql",
+            "V3__index_transactions_for_filters.sql")) {
+      try (InputStream in =
+          OracleTransactionRepositoryAdapterTest.class.getResourceAsStream(
+              "/db/migration/" + migration)) {
+        String script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        for (String sql : script.replaceAll("(?m)^--.*$", "").split(";")) {
+          if (!sql.isBlank()) {
+            statements.add(sql.trim());
+          }
+        }
+      }
+    }
+    return statements;
+  }
+
+  private Transaction transaction(String id, Instant createdAt) {
+    return Transaction.createPending(
+        id, Money.of(new BigDecimal("10.00"), "USD"), "ACC-12345678", "ACC-87654321", createdAt);
+  }
+
+  private Transaction transfer(String id, Instant createdAt, String origin, String destination) {
+    return Transaction.createPending(
+        id, Money.of(new BigDecimal("10.00"), "USD"), origin, destination, createdAt);
+  }
+}
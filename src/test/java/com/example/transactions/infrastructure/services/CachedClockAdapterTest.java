@@ -0,0 +1,74 @@
+package com.example.transactions.infrastructure.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class CachedClockAdapterTest {
+
+  private static final long NOW = 1_735_732_800_000_000L; // 2025-01-01T12:00:00Z
+
+  @Test
+  void shouldServeCachedTimeUntilRefreshed() {
+    // Given
+    AtomicLong source = new AtomicLong(NOW);
+    CachedClockAdapter clock = new CachedClockAdapter(source::get, Duration.ofMillis(1));
+
+    // When
+    source.set(NOW + 500);
+
+    // Then
+    assertThat(clock.currentTimeMicros()).isEqualTo(NOW);
+    clock.refresh();
+    assertThat(clock.currentTimeMicros()).isEqualTo(NOW + 500);
+    assertThat(clock.instant()).isEqualTo(Instant.parse("2025-01-01T12:00:00.000500Z"));
+  }
+
+  @Test
+  void shouldNotGoBackwardsWhenSourceDoes() {
+    // Given
+    AtomicLong source = new AtomicLong(NOW);
+    CachedClockAdapter clock = new CachedClockAdapter(source::get, Duration.ofMillis(1));
+
+    // When
+    source.set(NOW - 1_000);
+    clock.refresh();
+
+    // Then
+    assertThat(clock.currentTimeMicros()).isEqualTo(NOW);
+  }
+
+  @Test
+  void shouldTickInBackground() throws Exception {
+    // Given
+    AtomicLong source = new AtomicLong(NOW);
+    CachedClockAdapter clock = new CachedClockAdapter(source::get, Duration.ofMillis(1));
+    clock.start();
+
+    try {
+      // When
+      source.set(NOW + 1_000);
+      long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+      while (clock.currentTimeMicros() == NOW && System.nanoTime() < deadline) {
+        Thread.sleep(1);
+      }
+
+      // Then
+      assertThat(clock.currentTimeMicros()).isEqualTo(NOW + 1_000);
+    } finally {
+      clock.stop();
+    }
+  }
+
+  @Test
+  void shouldRejectNonPositiveTick() {
+    assertThatThrownBy(() -> new CachedClockAdapter(() -> NOW, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Clock tick must be positive");
+  }
+}
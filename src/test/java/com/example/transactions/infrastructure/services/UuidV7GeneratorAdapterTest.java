@@ -0,0 +1,96 @@
+package com.example.transactions.infrastructure.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorAdapterTest {
+
+  private static final long NOW = 1_735_732_800_000L; // 2025-01-01T12:00:00Z
+
+  @Test
+  void shouldProduceVersion7UuidsCarryingTimestampAndNode() {
+    // Given
+    UuidV7GeneratorAdapter generator = new UuidV7GeneratorAdapter(0xBEEF, () -> NOW);
+
+    // When
+    UUID id = UUID.fromString(generator.generateId());
+
+    // Then
+    assertThat(id.version()).isEqualTo(7);
+    assertThat(id.variant()).isEqualTo(2);
+    assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(NOW);
+    assertThat((id.getLeastSignificantBits() >>> 36) & 0xFFFF).isEqualTo(0xBEEF);
+  }
+
+  @Test
+  void shouldIncreaseWithinOneMillisecondAndWhenClockGoesBack() {
+    // Given
+    AtomicLong clock = new AtomicLong(NOW);
+    UuidV7GeneratorAdapter generator = new UuidV7GeneratorAdapter(1, clock::get);
+    List<String> ids = new ArrayList<>();
+
+    // When
+    for (int i = 0; i < 10_000; i++) {
+      ids.add(generator.generateId());
+    }
+    clock.set(NOW - 5_000);
+    for (int i = 0; i < 100; i++) {
+      ids.add(generator.generateId());
+    }
+    clock.set(NOW + 1);
+    ids.add(generator.generateId());
+
+    // Then
+    assertThat(ids).isSorted().doesNotHaveDuplicates();
+  }
+
+  @Test
+  void shouldStayUniqueAcrossThreadsAndNodes() throws Exception {
+    // Given
+    List<UuidV7GeneratorAdapter> nodes =
+        List.of(new UuidV7GeneratorAdapter(1, () -> NOW), new UuidV7GeneratorAdapter(2, () -> NOW));
+    Set<String> ids = ConcurrentHashMap.newKeySet();
+    List<Future<?>> tasks = new ArrayList<>();
+
+    // When
+    try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+      for (int t = 0; t < 8; t++) {
+        UuidV7GeneratorAdapter generator = nodes.get(t % 2);
+        tasks.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < 20_000; i++) {
+                    ids.add(generator.generateId());
+                  }
+                }));
+      }
+      for (Future<?> task : tasks) {
+        task.get();
+      }
+    }
+
+    // Then
+    assertThat(ids).hasSize(8 * 20_000);
+  }
+
+  @Test
+  void shouldRejectNodeIdOutOfRange() {
+    assertThatThrownBy(() -> new UuidV7GeneratorAdapter(-1, () -> NOW))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+            () -> new UuidV7GeneratorAdapter(UuidV7GeneratorAdapter.MAX_NODE_ID + 1, () -> NOW))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,55 @@
+package com.example.transactions.presentation.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.transactions.domain.shared.ports.ClockPort;
+
+class IsoInstantFormatTest {
+
+  private static final DateTimeFormatter REFERENCE =
+      DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSSSS'Z'").withZone(ZoneOffset.UTC);
+
+  @Test
+  void shouldFormatWithSixFractionDigitsInUtc() {
+    assertThat(IsoInstantFormat.format(0)).isEqualTo("1970-01-01T00:00:00.000000Z");
+    assertThat(IsoInstantFormat.format(ClockPort.toMicros(Instant.parse("2024-02-29T23:59:59.5Z"))))
+        .isEqualTo("2024-02-29T23:59:59.500000Z");
+    assertThat(IsoInstantFormat.format(-1)).isEqualTo("1969-12-31T23:59:59.999999Z");
+  }
+
+  @Test
+  void shouldMatchJavaTimeAcrossSupportedYears() {
+    // Given
+    SplittableRandom random = new SplittableRandom(42);
+    long min = ClockPort.toMicros(Instant.parse("0000-01-01T00:00:00Z"));
+    long max = ClockPort.toMicros(Instant.parse("9999-12-31T23:59:59.999999Z"));
+
+    for (int i = 0; i < 100_000; i++) {
+      // When
+      long micros = random.nextLong(min, max + 1);
+
+      // Then
+      Instant instant = ClockPort.toInstant(micros);
+      assertThat(IsoInstantFormat.format(micros)).isEqualTo(REFERENCE.format(instant));
+    }
+  }
+
+  @Test
+  void shouldFallBackOutsideFourDigitYears() {
+    // Given
+    Instant instant = Instant.parse("+10000-01-01T00:00:00Z").truncatedTo(ChronoUnit.MICROS);
+    char[] buffer = new char[IsoInstantFormat.LENGTH];
+
+    // Then
+    assertThat(IsoInstantFormat.format(ClockPort.toMicros(instant), buffer)).isEqualTo(-1);
+    assertThat(IsoInstantFormat.format(ClockPort.toMicros(instant))).isEqualTo(instant.toString());
+  }
+}
@@ -0,0 +1,102 @@
+package com.example.transactions.presentation.rest;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.ws.rs.core.MediaType;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+class AccountResourceTest {
+
+  private static final String TRANSACTIONS = "/api/v1/transactions";
+  private static final String ACCOUNTS = "/api/v1/accounts";
+
+  @Test
+  void shouldPageHistorySentAndReceived() {
+    // Given
+    List<String> ids = new ArrayList<>();
+    ids.add(create("ACC-HIST-0001", "ACC-HIST-0002"));
+    ids.add(create("ACC-HIST-0003", "ACC-HIST-0001"));
+    ids.add(create("ACC-HIST-0002", "ACC-HIST-0003"));
+    ids.add(create("ACC-HIST-0001", "ACC-HIST-0003"));
+
+    // When
+    String cursor =
+        given()
+            .queryParam("limit", 2)
+            .when()
+            .get(ACCOUNTS + "/ACC-HIST-0001/transactions")
+            .then()
+            .statusCode(200)
+            .body("transactions.id", contains(ids.get(3), ids.get(1)))
+            .body("hasNext", equalTo(true))
+            .body("total", nullValue())
+            .body("nextCursor", notNullValue())
+            .extract()
+            .path("nextCursor");
+
+    // Then
+    given()
+        .queryParam("limit", 2)
+        .queryParam("cursor", cursor)
+        .when()
+        .get(ACCOUNTS + "/ACC-HIST-0001/transactions")
+        .then()
+        .statusCode(200)
+        .body("transactions.id", contains(ids.get(0)))
+        .body("hasNext", equalTo(false));
+  }
+
+  @Test
+  void shouldReturnEmptyHistoryForUnknownAccount() {
+    given()
+        .when()
+        .get(ACCOUNTS + "/ACC-NOBODY-01/transactions")
+        .then()
+        .statusCode(200)
+        .body("transactions", hasSize(0))
+        .body("hasNext", equalTo(false));
+  }
+
+  @Test
+  void shouldRejectMalformedAccountNumber() {
+    given()
+        .when()
+        .get(ACCOUNTS + "/ACC_1/transactions")
+        .then()
+        .statusCode(400)
+        .body("code", equalTo("VALIDATION_ERROR"));
+  }
+
+  private static String create(String origin, String destination) {
+    return given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(
+            """
+            {
+                "amount": 10.00,
+                "currency": "USD",
+                "originAccountNumber": "%s",
+                "destinationAccountNumber": "%s"
+            }
+            """
+                .formatted(origin, destination))
+        .when()
+        .post(TRANSACTIONS)
+        .then()
+        .statusCode(201)
+        .extract()
+        .path("id");
+  }
+}
@@ -0,0 +1,103 @@
+package com.example.transactions.presentation.rest;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.ws.rs.core.MediaType;
+
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+@QuarkusTest
+class ProfilingRoutesTest {
+
+  @TestHTTPResource(value = "/admin/profiling/recording", management = true)
+  String recording;
+
+  @Test
+  void shouldRecordStopAndDownload() throws Exception {
+    given()
+        .queryParam("durationSeconds", 30)
+        .when()
+        .post(recording)
+        .then()
+        .statusCode(201)
+        .body("state", equalTo("RUNNING"))
+        .body("durationSeconds", equalTo(30))
+        .body("startedAt", notNullValue());
+    given().when().post(recording).then().statusCode(409).body("state", equalTo("RUNNING"));
+
+    // Traffic to record: a created transaction, its lookup and a mapped exception
+    String id =
+        given()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(
+                """
+                {
+                    "amount": 10.00,
+                    "currency": "USD",
+                    "originAccountNumber": "ACC-123456789",
+                    "destinationAccountNumber": "ACC-987654321"
+                }
+                """)
+            .when()
+            .post("/api/v1/transactions")
+            .then()
+            .statusCode(201)
+            .extract()
+            .path("id");
+    given().when().get("/api/v1/transactions/" + id).then().statusCode(200);
+    given().when().get("/api/v1/transactions/missing").then().statusCode(404);
+
+    given()
+        .when()
+        .post(recording + "/stop")
+        .then()
+        .statusCode(200)
+        .body("state", equalTo("STOPPED"));
+    given().when().post(recording + "/stop").then().statusCode(409);
+    given().when().get(recording).then().statusCode(200).body("stoppedAt", notNullValue());
+
+    byte[] downloaded =
+        given().when().get(recording + "/file").then().statusCode(200).extract().asByteArray();
+    assertThat(eventNames(downloaded))
+        .contains(
+            "com.example.transactions.UseCaseExecution",
+            "com.example.transactions.RepositoryCall",
+            "com.example.transactions.ExceptionMapped");
+  }
+
+  @Test
+  void shouldRejectNonPositiveDuration() {
+    given().queryParam("durationSeconds", 0).when().post(recording).then().statusCode(400);
+  }
+
+  @Test
+  void shouldNotServeProfilingOnThePublicPort() {
+    given().when().get("/admin/profiling/recording").then().statusCode(404);
+  }
+
+  private static Set<String> eventNames(byte[] recording) throws Exception {
+    Path file = Files.createTempFile("downloaded-", ".jfr");
+    try {
+      Files.write(file, recording);
+      List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+      return events.stream().map(e -> e.getEventType().getName()).collect(Collectors.toSet());
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+}
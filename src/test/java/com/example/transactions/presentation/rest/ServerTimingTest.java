@@ -0,0 +1,72 @@
+package com.example.transactions.presentation.rest;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import jakarta.ws.rs.core.MediaType;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+class ServerTimingTest {
+
+  private static final String TRANSACTIONS = "/api/v1/transactions";
+  private static final String REQUEST_HEADER = "X-Server-Timing";
+
+  @Test
+  void shouldSplitTimingOfRequestsThatAskForIt() {
+    // When
+    String create =
+        given()
+            .header(REQUEST_HEADER, "1")
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(
+                """
+                {
+                    "amount": 10.00,
+                    "currency": "USD",
+                    "originAccountNumber": "ACC-123456789",
+                    "destinationAccountNumber": "ACC-987654321"
+                }
+                """)
+            .when()
+            .post(TRANSACTIONS)
+            .then()
+            .statusCode(201)
+            .body("currency", equalTo("USD"))
+            .extract()
+            .header("Server-Timing");
+
+    // Then
+    assertThat(create)
+        .contains("parse;dur=", "usecase;dur=", "repo;dur=", "ser;dur=", "total;dur=")
+        .doesNotContain("error;");
+  }
+
+  @Test
+  void shouldTimeTheErrorPath() {
+    // When
+    String notFound =
+        given()
+            .header(REQUEST_HEADER, "1")
+            .when()
+            .get(TRANSACTIONS + "/missing")
+            .then()
+            .statusCode(404)
+            .body("code", equalTo("TRANSACTION_NOT_FOUND"))
+            .extract()
+            .header("Server-Timing");
+
+    // Then
+    assertThat(notFound).contains("usecase;dur=", "repo;dur=", "error;dur=", "total;dur=");
+  }
+
+  @Test
+  void shouldNotTimeOtherRequests() {
+    given().when().get(TRANSACTIONS).then().statusCode(200).header("Server-Timing", nullValue());
+  }
+}
@@ -2,6 +2,7 @@ package com.example.transactions.presentation.rest;
 
 import static io.restassured.RestAssured.given;
 
+import io.quarkus.test.common.http.TestHTTPResource;
 import io.quarkus.test.junit.QuarkusTest;
 
 import org.junit.jupiter.api.Test;
@@ -9,8 +10,11 @@ import org.junit.jupiter.api.Test;
 @QuarkusTest
 class SimpleTransactionResourceTest {
 
+  @TestHTTPResource(value = "/q/health/ready", management = true)
+  String readiness;
+
   @Test
   void shouldReturnHealthCheck() {
-    given().when().get("/q/health/ready").then().statusCode(200);
+    given().when().get(readiness).then().statusCode(200);
   }
 }
@@ -1,13 +1,27 @@
 package com.example.transactions.presentation.rest;
 
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
 import jakarta.ws.rs.core.MediaType;
 
+import io.quarkus.test.common.http.TestHTTPResource;
 import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
 
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
@@ -18,6 +32,12 @@ import org.junit.jupiter.api.TestMethodOrder;
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class TransactionResourceTest {
 
+  @TestHTTPResource(value = "/q/health/ready", management = true)
+  String readiness;
+
+  @TestHTTPResource(value = "/q/metrics", management = true)
+  String metrics;
+
   @Test
   @Order(1)
   void shouldCreateTransaction() {
@@ -43,13 +63,13 @@ class TransactionResourceTest {
         .body("originAccountNumber", equalTo("ACC-123456789"))
         .body("destinationAccountNumber", equalTo("ACC-987654321"))
         .body("status", equalTo("PENDING"))
-        .body("createdAt", notNullValue());
+        .body("createdAt", matchesPattern("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}\\.\\d{6}Z"));
   }
 
   @Test
   @Order(0)
   void shouldReturnHealthCheck() {
-    given().when().get("/q/health/ready").then().statusCode(200);
+    given().when().get(readiness).then().statusCode(200);
   }
 
   @Test
@@ -198,4 +218,445 @@ class TransactionResourceTest {
         .body("limit", equalTo(2))
         .body("hasNext", equalTo(true));
   }
+
+  @Test
+  @Order(7)
+  void shouldPaginateWithCursor() {
+    for (int i = 0; i < 3; i++) {
+      given()
+          .contentType(MediaType.APPLICATION_JSON)
+          .body(
+              String.format(
+                  """
+                        {
+                            "amount": %d.00,
+                            "currency": "USD",
+                            "originAccountNumber": "ACC-%09d",
+                            "destinationAccountNumber": "ACC-%09d"
+                        }
+                        """,
+                  (i + 1) * 10, 500000000 + i, 600000000 + i))
+          .when()
+          .post("/api/v1/transactions")
+          .then()
+          .statusCode(201);
+    }
+
+    // First page by offset returns a cursor for the next one
+    String secondId =
+        given()
+            .queryParam("limit", 2)
+            .when()
+            .get("/api/v1/transactions")
+            .then()
+            .statusCode(200)
+            .extract()
+            .path("transactions[1].id");
+    String cursor =
+        given()
+            .queryParam("limit", 1)
+            .when()
+            .get("/api/v1/transactions")
+            .then()
+            .statusCode(200)
+            .body("hasNext", equalTo(true))
+            .body("nextCursor", notNullValue())
+            .extract()
+            .path("nextCursor");
+
+    // The cursor page continues right after the first transaction
+    given()
+        .queryParam("limit", 1)
+        .queryParam("cursor", cursor)
+        .when()
+        .get("/api/v1/transactions")
+        .then()
+        .statusCode(200)
+        .body("transactions", hasSize(1))
+        .body("transactions[0].id", equalTo(secondId))
+        .body("offset", equalTo(0));
+  }
+
+  @Test
+  @Order(8)
+  void shouldRejectMalformedCursor() {
+    given()
+        .queryParam("cursor", "not-a-cursor")
+        .when()
+        .get("/api/v1/transactions")
+        .then()
+        .statusCode(400);
+  }
+
+  @Test
+  @Order(9)
+  void shouldSkipTotalWhenNotRequested() {
+    given()
+        .queryParam("limit", 1)
+        .queryParam("includeTotal", false)
+        .when()
+        .get("/api/v1/transactions")
+        .then()
+        .statusCode(200)
+        .body("transactions", hasSize(1))
+        .body("total", nullValue())
+        .body("hasNext", equalTo(true));
+  }
+
+  @Test
+  @Order(10)
+  void shouldCreateBatchAndReportEachItem() {
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(
+            """
+                    [
+                        {
+                            "amount": 10.00,
+                            "currency": "USD",
+                            "originAccountNumber": "ACC-123456789",
+                            "destinationAccountNumber": "ACC-987654321"
+                        },
+                        {
+                            "amount": -1,
+                            "currency": "USD",
+                            "originAccountNumber": "ACC-123456789",
+                            "destinationAccountNumber": "ACC-987654321"
+                        },
+                        {
+                            "amount": 20.00,
+                            "currency": "EUR",
+                            "originAccountNumber": "ACC-123456789",
+                            "destinationAccountNumber": "ACC-987654321"
+                        }
+                    ]
+                    """)
+        .when()
+        .post("/api/v1/transactions/batch")
+        .then()
+        .statusCode(200)
+        .body("created", equalTo(2))
+        .body("rejected", equalTo(1))
+        .body("results", hasSize(3))
+        .body("results[0].status", equalTo(201))
+        .body("results[0].transaction.id", notNullValue())
+        .body("results[1].status", equalTo(400))
+        .body("results[1].transaction", nullValue())
+        .body("results[1].errors", hasSize(1))
+        .body("results[2].transaction.currency", equalTo("EUR"));
+  }
+
+  @Test
+  @Order(11)
+  void shouldRejectEmptyBatch() {
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body("[]")
+        .when()
+        .post("/api/v1/transactions/batch")
+        .then()
+        .statusCode(400);
+  }
+
+  @Test
+  @Order(12)
+  void shouldExportAllTransactionsAsNdjson() {
+    int total =
+        given()
+            .queryParam("limit", 1)
+            .when()
+            .get("/api/v1/transactions")
+            .then()
+            .extract()
+            .path("total");
+
+    String body =
+        given()
+            .when()
+            .get("/api/v1/transactions/export")
+            .then()
+            .statusCode(200)
+            .contentType("application/x-ndjson")
+            .extract()
+            .asString();
+
+    String[] lines = body.split("\n");
+    assertThat(lines).hasSize(total);
+    assertThat(lines).allSatisfy(line -> assertThat(line).startsWith("{\"id\":"));
+  }
+
+  @Test
+  @Order(13)
+  void shouldAnswerConditionalGetWithNotModified() {
+    String location =
+        given()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(
+                """
+                    {
+                        "amount": 12.00,
+                        "currency": "USD",
+                        "originAccountNumber": "ACC-123456789",
+                        "destinationAccountNumber": "ACC-987654321"
+                    }
+                    """)
+            .when()
+            .post("/api/v1/transactions")
+            .then()
+            .statusCode(201)
+            .header("ETag", notNullValue())
+            .extract()
+            .header("Location");
+
+    String etag =
+        given()
+            .when()
+            .get(location)
+            .then()
+            .statusCode(200)
+            .header("Cache-Control", equalTo("private, no-cache"))
+            .extract()
+            .header("ETag");
+
+    String body =
+        given()
+            .header("If-None-Match", etag)
+            .when()
+            .get(location)
+            .then()
+            .statusCode(304)
+            .header("ETag", equalTo(etag))
+            .extract()
+            .asString();
+    assertThat(body).isEmpty();
+
+    given().header("If-None-Match", "\"stale\"").when().get(location).then().statusCode(200);
+  }
+
+  @Test
+  @Order(14)
+  void shouldChangeListEtagWhenPageChanges() {
+    String etag =
+        given()
+            .queryParam("limit", 5)
+            .when()
+            .get("/api/v1/transactions")
+            .then()
+            .statusCode(200)
+            .extract()
+            .header("ETag");
+
+    given()
+        .queryParam("limit", 5)
+        .header("If-None-Match", etag)
+        .when()
+        .get("/api/v1/transactions")
+        .then()
+        .statusCode(304);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(
+            """
+                {
+                    "amount": 13.00,
+                    "currency": "USD",
+                    "originAccountNumber": "ACC-123456789",
+                    "destinationAccountNumber": "ACC-987654321"
+                }
+                """)
+        .when()
+        .post("/api/v1/transactions")
+        .then()
+        .statusCode(201);
+
+    given()
+        .queryParam("limit", 5)
+        .header("If-None-Match", etag)
+        .when()
+        .get("/api/v1/transactions")
+        .then()
+        .statusCode(200)
+        .header("ETag", not(equalTo(etag)));
+  }
+
+  @Test
+  @Order(15)
+  void shouldReplayCreationForRepeatedIdempotencyKey() {
+    String request =
+        """
+            {
+                "amount": 42.00,
+                "currency": "USD",
+                "originAccountNumber": "ACC-123456789",
+                "destinationAccountNumber": "ACC-987654321"
+            }
+            """;
+    String key = UUID.randomUUID().toString();
+
+    String firstId =
+        given()
+            .contentType(MediaType.APPLICATION_JSON)
+            .header("Idempotency-Key", key)
+            .body(request)
+            .when()
+            .post("/api/v1/transactions")
+            .then()
+            .statusCode(201)
+            .extract()
+            .path("id");
+    int totalAfterFirst =
+        given()
+            .queryParam("limit", 1)
+            .when()
+            .get("/api/v1/transactions")
+            .then()
+            .extract()
+            .path("total");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header("Idempotency-Key", key)
+        .body(request)
+        .when()
+        .post("/api/v1/transactions")
+        .then()
+        .statusCode(201)
+        .header("Location", endsWith("/" + firstId))
+        .body("id", equalTo(firstId));
+    given()
+        .queryParam("limit", 1)
+        .when()
+        .get("/api/v1/transactions")
+        .then()
+        .body("total", equalTo(totalAfterFirst));
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header("Idempotency-Key", key)
+        .body(request.replace("42.00", "43.00"))
+        .when()
+        .post("/api/v1/transactions")
+        .then()
+        .statusCode(400);
+  }
+
+  @Test
+  @Order(16)
+  void shouldFilterListingByCurrencyAndAmount() {
+    // Given
+    String small = createSek("5.00");
+    String medium = createSek("50.00");
+    String large = createSek("500.00");
+
+    // When/Then
+    given()
+        .queryParam("currency", "sek")
+        .queryParam("minAmount", "10")
+        .queryParam("maxAmount", "100")
+        .when()
+        .get("/api/v1/transactions")
+        .then()
+        .statusCode(200)
+        .body("transactions.id", contains(medium))
+        .body("total", nullValue());
+
+    ExtractableResponse<Response> first =
+        given()
+            .queryParam("status", "pending")
+            .queryParam("currency", "SEK")
+            .queryParam("limit", 2)
+            .when()
+            .get("/api/v1/transactions")
+            .then()
+            .statusCode(200)
+            .body("transactions", hasSize(2))
+            .body("hasNext", equalTo(true))
+            .extract();
+    ExtractableResponse<Response> second =
+        given()
+            .queryParam("status", "PENDING")
+            .queryParam("currency", "SEK")
+            .queryParam("limit", 2)
+            .queryParam("cursor", first.<String>path("nextCursor"))
+            .when()
+            .get("/api/v1/transactions")
+            .then()
+            .statusCode(200)
+            .body("transactions", hasSize(1))
+            .body("hasNext", equalTo(false))
+            .extract();
+    List<String> walked = new ArrayList<>(first.<List<String>>path("transactions.id"));
+    walked.addAll(second.path("transactions.id"));
+    assertThat(walked).containsExactlyInAnyOrder(small, medium, large);
+  }
+
+  @Test
+  @Order(17)
+  void shouldRejectInvalidFilters() {
+    given()
+        .queryParam("status", "LOST")
+        .when()
+        .get("/api/v1/transactions")
+        .then()
+        .statusCode(400)
+        .body("code", equalTo("VALIDATION_ERROR"));
+    given()
+        .queryParam("minAmount", "10")
+        .when()
+        .get("/api/v1/transactions")
+        .then()
+        .statusCode(400)
+        .body("message", containsString("Amount range requires a currency"));
+    given()
+        .queryParam("createdFrom", "yesterday")
+        .when()
+        .get("/api/v1/transactions")
+        .then()
+        .statusCode(400);
+    given()
+        .queryParam("currency", "SEK")
+        .queryParam("offset", 5)
+        .when()
+        .get("/api/v1/transactions")
+        .then()
+        .statusCode(400)
+        .body("message", containsString("paged by cursor"));
+  }
+
+  @Test
+  @Order(18)
+  void shouldExposeMetrics() {
+    given()
+        .when()
+        .get(metrics)
+        .then()
+        .statusCode(200)
+        .body(containsString("transactions_usecase_seconds_count{"))
+        .body(containsString("usecase=\"ReactiveCreateTransactionUseCase\""))
+        .body(containsString("transactions_repository_seconds_bucket{"))
+        .body(containsString("transactions_repository_index_size{"))
+        .body(containsString("transactions_errors_total{"));
+  }
+
+  private static String createSek(String amount) {
+    return given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(
+            """
+            {
+                "amount": %s,
+                "currency": "SEK",
+                "originAccountNumber": "ACC-SEK-0001",
+                "destinationAccountNumber": "ACC-SEK-0002"
+            }
+            """
+                .formatted(amount))
+        .when()
+        .post("/api/v1/transactions")
+        .then()
+        .statusCode(201)
+        .extract()
+        .path("id");
+  }
 }